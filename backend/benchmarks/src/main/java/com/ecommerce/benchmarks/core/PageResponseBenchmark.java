@@ -0,0 +1,42 @@
+package com.ecommerce.benchmarks.core;
+
+import com.ecommerce.common.response.PageResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * PageResponse.from with a mapper over a typical page of results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Page<UUID> page;
+
+    @Setup
+    public void setUp() {
+        List<UUID> content = IntStream.range(0, pageSize)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public PageResponse<String> fromWithMapper() {
+        return PageResponse.from(page, UUID::toString);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecommerce.benchmarks.mapper;
+
+import com.ecommerce.order.application.dto.response.OrderResponse;
+import com.ecommerce.order.application.mapper.OrderMapper;
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderItem;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.Product;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Entity to response mapping with the generated MapStruct mappers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapStructMapperBenchmark {
+
+    private final OrderMapper orderMapper = Mappers.getMapper(OrderMapper.class);
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+    private final CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
+    private Order order;
+    private Product product;
+    private List<Product> products;
+    private Category category;
+
+    @Setup
+    public void setUp() {
+        Address address = Address.builder()
+                .street("1 Market St")
+                .city("San Francisco")
+                .state("CA")
+                .zipCode("94105")
+                .country("US")
+                .build();
+        List<OrderItem> items = IntStream.range(0, 5)
+                .mapToObj(i -> OrderItem.create(UUID.randomUUID(), "SKU-" + i, "Item " + i,
+                        "https://cdn.example.com/items/" + i + ".jpg", i + 1, new BigDecimal("19.99")))
+                .toList();
+        order = Order.create(UUID.randomUUID(), "ORD-20240101-000001", items, address, address);
+
+        category = Category.createRoot("Electronics", "electronics", "Electronic devices");
+        IntStream.range(0, 10).forEach(i ->
+                category.createSubcategory("Sub " + i, "sub-" + i, "Subcategory " + i));
+
+        product = newProduct(0);
+        products = IntStream.range(0, 20).mapToObj(this::newProduct).toList();
+    }
+
+    @Benchmark
+    public OrderResponse orderToResponse() {
+        return orderMapper.toResponse(order);
+    }
+
+    @Benchmark
+    public ProductResponse productToResponse() {
+        return productMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public List<ProductResponse> productPageToResponses() {
+        return productMapper.toResponseList(products);
+    }
+
+    @Benchmark
+    public CategoryResponse categoryToResponse() {
+        return categoryMapper.toResponse(category);
+    }
+
+    private Product newProduct(int i) {
+        Product newProduct = Product.create("SKU-" + i, "Product " + i, "Description of product " + i,
+                new BigDecimal("99.99"), category, UUID.randomUUID());
+        newProduct.setBrand("Acme");
+        newProduct.setImageUrls(Set.of("https://cdn.example.com/p/" + i + "-1.jpg",
+                "https://cdn.example.com/p/" + i + "-2.jpg"));
+        newProduct.setTags(Set.of("new", "sale"));
+        return newProduct;
+    }
+}
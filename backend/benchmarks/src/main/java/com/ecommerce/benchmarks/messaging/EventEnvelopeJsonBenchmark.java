@@ -0,0 +1,72 @@
+package com.ecommerce.benchmarks.messaging;
+
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.messaging.event.EventEnvelope;
+import com.ecommerce.common.util.JsonUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils serialization of an event envelope, as done when publishing and consuming events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventEnvelopeJsonBenchmark {
+
+    private static final TypeReference<EventEnvelope<SampleOrderEvent>> ENVELOPE_TYPE = new TypeReference<>() {
+    };
+
+    private EventEnvelope<DomainEvent> envelope;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        SampleOrderEvent event = new SampleOrderEvent(
+                UUID.randomUUID(), "ORD-20240101-000001", UUID.randomUUID(), new BigDecimal("149.97"));
+        envelope = EventEnvelope.wrap(event, event.getEventType(), "order-service",
+                Map.of("correlationId", UUID.randomUUID().toString()));
+        json = JsonUtils.toJson(envelope);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(envelope);
+    }
+
+    @Benchmark
+    public EventEnvelope<SampleOrderEvent> fromJson() {
+        return JsonUtils.fromJson(json, ENVELOPE_TYPE);
+    }
+
+    /**
+     * Order event shaped like the services' events, with a default constructor for Jackson.
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class SampleOrderEvent extends DomainEvent {
+
+        private UUID orderId;
+        private String orderNumber;
+        private UUID userId;
+        private BigDecimal totalAmount;
+
+        public SampleOrderEvent(UUID orderId, String orderNumber, UUID userId, BigDecimal totalAmount) {
+            super("ORDER_CREATED", orderId.toString());
+            this.orderId = orderId;
+            this.orderNumber = orderNumber;
+            this.userId = userId;
+            this.totalAmount = totalAmount;
+        }
+    }
+}
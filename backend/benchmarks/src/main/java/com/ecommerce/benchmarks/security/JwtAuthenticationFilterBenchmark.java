@@ -0,0 +1,157 @@
+package com.ecommerce.benchmarks.security;
+
+import com.ecommerce.common.security.filter.JwtAuthenticationFilter;
+import com.ecommerce.common.security.jwt.JwtProperties;
+import com.ecommerce.common.security.jwt.JwtTokenProvider;
+import com.ecommerce.common.security.jwt.RevokedTokenIndex;
+import com.ecommerce.common.security.jwt.TokenBlacklistService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * JwtAuthenticationFilter end to end: header extraction, verification,
+ * blacklist check and security context population.
+ * Redis is replaced by an in-memory stub that holds a set of revoked tokens, none of them
+ * the benchmarked one. With the local filter enabled the revoked token index is seeded from
+ * the stub and started, so the check is answered by the Bloom filter; without it every
+ * request asks the stub.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String BLACKLIST_PREFIX = "token:blacklist:";
+    private static final int REVOKED_TOKENS = 1000;
+    private static final long READY_TIMEOUT_MILLIS = 5000;
+
+    @Param({"10000", "0"})
+    private long verifiedTokenCacheSize;
+
+    @Param({"true", "false"})
+    private boolean localFilterEnabled;
+
+    private RevokedTokenIndex revokedTokenIndex;
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        JwtTokenProvider tokenProvider = JwtTokenProviderBenchmark.newProvider(verifiedTokenCacheSize);
+        Set<String> revokedKeys = IntStream.range(0, REVOKED_TOKENS)
+                .mapToObj(i -> BLACKLIST_PREFIX + UUID.randomUUID())
+                .collect(Collectors.toUnmodifiableSet());
+        StringRedisTemplate redisTemplate = new StringRedisTemplate() {
+            @Override
+            public Boolean hasKey(String key) {
+                return revokedKeys.contains(key);
+            }
+
+            @Override
+            public Cursor<String> scan(ScanOptions options) {
+                return cursor(revokedKeys.iterator());
+            }
+        };
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getBlacklist().setLocalFilterEnabled(localFilterEnabled);
+        revokedTokenIndex = new RevokedTokenIndex(redisTemplate, null, jwtProperties) {
+            @Override
+            protected RedisMessageListenerContainer createListenerContainer() {
+                return new RedisMessageListenerContainer() {
+                    @Override
+                    public void afterPropertiesSet() {
+                    }
+
+                    @Override
+                    public void start() {
+                    }
+
+                    @Override
+                    public void destroy() {
+                    }
+                };
+            }
+        };
+        revokedTokenIndex.start();
+        if (localFilterEnabled) {
+            // The subscription triggers the seeding scan; wait until the filter answers on its own
+            revokedTokenIndex.onChannelSubscribed(
+                    revokedTokenIndex.getChannel().getBytes(StandardCharsets.UTF_8), 1);
+            awaitReady();
+        }
+        TokenBlacklistService blacklistService =
+                new TokenBlacklistService(redisTemplate, tokenProvider, revokedTokenIndex);
+
+        filter = new JwtAuthenticationFilter(tokenProvider, blacklistService);
+        authorizationHeader = "Bearer " + tokenProvider.generateAccessToken(
+                UUID.randomUUID(), "bench@example.com", "CUSTOMER");
+    }
+
+    @TearDown
+    public void tearDown() {
+        revokedTokenIndex.stop();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    private void awaitReady() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + READY_TIMEOUT_MILLIS;
+        while (revokedTokenIndex.lookup(UUID.randomUUID().toString()) != Boolean.FALSE) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Revoked token index was not seeded");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Cursor over in-memory keys; only iteration and close are supported.
+     */
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(Iterator<String> keys) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            return switch (method.getName()) {
+                case "hasNext" -> keys.hasNext();
+                case "next" -> keys.next();
+                case "close" -> null;
+                case "isClosed" -> !keys.hasNext();
+                default -> throw new UnsupportedOperationException(method.getName());
+            };
+        };
+        return (Cursor<String>) Proxy.newProxyInstance(Cursor.class.getClassLoader(),
+                new Class<?>[]{Cursor.class}, handler);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.benchmarks.security;
+
+import com.ecommerce.common.security.jwt.JwtProperties;
+import com.ecommerce.common.security.jwt.JwtTokenProvider;
+import com.ecommerce.common.security.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token generation and parsing in JwtTokenProvider.
+ * Compares a raw parse with verifyToken(), with and without the verified token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private JwtTokenProvider cachingProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        cachingProvider = newProvider(10000);
+        uncachedProvider = newProvider(0);
+        accessToken = cachingProvider.generateAccessToken(userId, "bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return cachingProvider.generateAccessToken(userId, "bench@example.com", "CUSTOMER");
+    }
+
+    @Benchmark
+    public UUID parseUserId() {
+        return uncachedProvider.getUserIdFromToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyTokenUncached() {
+        return uncachedProvider.verifyToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyTokenCached() {
+        return cachingProvider.verifyToken(accessToken);
+    }
+
+    static JwtTokenProvider newProvider(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-at-least-32-characters");
+        properties.setVerifiedTokenCacheSize(cacheSize);
+
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.benchmarks.validation;
+
+import com.ecommerce.common.util.ValidationUtils;
+import com.ecommerce.user.application.validation.PasswordValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex based validation in ValidationUtils and the user-service PasswordValidator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private final PasswordValidator passwordValidator = new PasswordValidator();
+
+    private String email = "john.doe+orders@example.com";
+    private String phone = "+14155552671";
+    private String sku = "ELEC-LAPTOP-001";
+    private String password = "Passw0rd!23";
+    private String weakPassword = "password";
+
+    @Benchmark
+    public boolean email() {
+        return ValidationUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return ValidationUtils.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean sku() {
+        return ValidationUtils.isValidSku(sku);
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return passwordValidator.isValid(password, null);
+    }
+
+    @Benchmark
+    public boolean weakPassword() {
+        return passwordValidator.isValid(weakPassword, null);
+    }
+}
@@ -19,7 +19,6 @@ import java.util.List;
 @NoArgsConstructor
 public abstract class AggregateRoot extends BaseEntity {
 
-    @Getter(onMethod_ = @DomainEvents)
     private final transient List<Object> domainEvents = new ArrayList<>();
 
     /**
@@ -38,8 +37,9 @@ public abstract class AggregateRoot extends BaseEntity {
     }
 
     /**
-     * Get unmodifiable list of registered events.
+     * Get unmodifiable list of registered events; Spring Data publishes them when the aggregate is saved.
      */
+    @DomainEvents
     public List<Object> getDomainEvents() {
         return Collections.unmodifiableList(domainEvents);
     }
@@ -20,6 +20,7 @@ import java.util.UUID;
 /**
  * Base entity with common audit fields.
  * All domain entities should extend this class.
+ * An ID assigned by a factory is kept on insert; entities created without one get a random UUID.
  */
 @Getter
 @Setter
@@ -31,7 +32,7 @@ import java.util.UUID;
 public abstract class BaseEntity implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @AssignableUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
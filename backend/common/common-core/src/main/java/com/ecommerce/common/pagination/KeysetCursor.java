@@ -0,0 +1,62 @@
+package com.ecommerce.common.pagination;
+
+import com.ecommerce.common.exception.ValidationException;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by creation time, newest first, with the ID breaking ties.
+ *
+ * Clients get it as an opaque URL-safe string and send it back to fetch the rows that follow.
+ * The next slice is then found by seeking past (createdAt, id) in the index instead of counting
+ * and skipping an offset, so deep positions are as cheap as the first one.
+ */
+@Value
+public class KeysetCursor {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    Instant createdAt;
+    UUID id;
+
+    /**
+     * Encode this cursor as an opaque URL-safe string.
+     */
+    public String encode() {
+        byte[] bytes = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}.
+     *
+     * @return the cursor, or null for a blank value, which stands for the start of the listing
+     * @throws ValidationException if the value is not a valid cursor
+     */
+    public static KeysetCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(value);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new KeysetCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+}
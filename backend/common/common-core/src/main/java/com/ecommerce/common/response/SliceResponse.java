@@ -0,0 +1,49 @@
+package com.ecommerce.common.response;
+
+import com.ecommerce.common.pagination.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-paginated response wrapper.
+ *
+ * Unlike {@link PageResponse} it carries no totals, so producing it needs no count query;
+ * clients pass {@code nextCursor} back to get the following slice until {@code hasNext} is false.
+ *
+ * @param <T> the type of content
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SliceResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    private boolean empty;
+
+    /**
+     * Create a SliceResponse from a Spring Data Slice, taking the next cursor from its last element.
+     */
+    public static <T> SliceResponse<T> from(Slice<T> slice, Function<T, KeysetCursor> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return SliceResponse.<T>builder()
+                .content(content)
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .empty(slice.isEmpty())
+                .build();
+    }
+}
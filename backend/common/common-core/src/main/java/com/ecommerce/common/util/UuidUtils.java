@@ -0,0 +1,38 @@
+package com.ecommerce.common.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID conversion utility methods.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class UuidUtils {
+
+    /**
+     * Convert UUID to the BINARY(16) layout Hibernate uses for UUID columns.
+     */
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Convert a BINARY(16) column value back to UUID.
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.common.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the HTTP caching of {@link HttpCacheable} endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(HttpCacheProperties.class)
+@RequiredArgsConstructor
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+    private final HttpCacheProperties properties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.http.cache", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<HttpCacheEtagFilter> httpCacheEtagFilter() {
+        return new FilterRegistrationBean<>(new HttpCacheEtagFilter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.isEnabled()) {
+            registry.addInterceptor(new HttpCacheInterceptor(properties));
+        }
+    }
+}
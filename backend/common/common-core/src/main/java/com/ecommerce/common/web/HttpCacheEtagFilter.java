@@ -0,0 +1,34 @@
+package com.ecommerce.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.io.InputStream;
+
+/**
+ * Gives successful GET responses of {@link HttpCacheable} endpoints an ETag hashed from the
+ * bytes written, unless the handler set one, and answers 304 without a body when the request's
+ * If-None-Match matches it.
+ *
+ * The body is serialized once, into the buffer the hash is computed from. The hash changes
+ * exactly when the content does, including fields copied from other aggregates, such as a
+ * product's category name, that leave the listed entities' versions alone. Only GET requests
+ * are buffered at all, and {@link HttpCacheInterceptor} turns buffering off for the handlers
+ * that are not cacheable, so their responses stream as before.
+ */
+public class HttpCacheEtagFilter extends ShallowEtagHeaderFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected boolean isEligibleForEtag(HttpServletRequest request, HttpServletResponse response,
+                                        int responseStatusCode, InputStream inputStream) {
+        return HttpCacheInterceptor.isCacheable(request)
+                && super.isEligibleForEtag(request, response, responseStatusCode, inputStream);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.common.web;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the Cache-Control policy to GET and HEAD requests handled by {@link HttpCacheable}
+ * endpoints, and flags them for {@link HttpCacheResponseAdvice} and {@link HttpCacheEtagFilter}.
+ * Other handlers have the filter's buffering turned off.
+ *
+ * The header is set before the handler runs, so it is also on the 304 responses Spring sends
+ * on its own for handlers that return a ResponseEntity with an ETag.
+ */
+public class HttpCacheInterceptor implements HandlerInterceptor {
+
+    private static final String CACHEABLE_ATTRIBUTE = HttpCacheInterceptor.class.getName() + ".cacheable";
+
+    private final String cacheControl;
+
+    public HttpCacheInterceptor(HttpCacheProperties properties) {
+        this.cacheControl = CacheControl.maxAge(properties.getMaxAge())
+                .cachePublic()
+                .staleWhileRevalidate(properties.getStaleWhileRevalidate())
+                .getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isCacheableHandler(request, handler)) {
+            request.setAttribute(CACHEABLE_ATTRIBUTE, Boolean.TRUE);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        } else {
+            ShallowEtagHeaderFilter.disableContentCaching(request);
+        }
+        return true;
+    }
+
+    /**
+     * Whether the request is handled by a cacheable endpoint, as flagged by this interceptor.
+     */
+    static boolean isCacheable(ServletRequest request) {
+        return request.getAttribute(CACHEABLE_ATTRIBUTE) != null;
+    }
+
+    private static boolean isCacheableHandler(HttpServletRequest request, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return false;
+        }
+        return handler instanceof HandlerMethod handlerMethod
+                && (handlerMethod.hasMethodAnnotation(HttpCacheable.class)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), HttpCacheable.class));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.common.web;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for HTTP caching of {@link HttpCacheable} endpoints.
+ *
+ * Registered by {@link HttpCacheConfig} rather than as a component, so that web slice tests,
+ * which skip plain components, still get it along with the MVC configuration.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.http.cache")
+public class HttpCacheProperties {
+
+    /**
+     * Whether cacheable endpoints get Cache-Control headers and ETags.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long browsers and shared caches may serve a response without revalidating it.
+     */
+    private Duration maxAge = Duration.ofSeconds(60);
+
+    /**
+     * How long past max-age a cache may keep serving a response while it revalidates it
+     * in the background.
+     */
+    private Duration staleWhileRevalidate = Duration.ofMinutes(5);
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.common.web;
+
+import com.ecommerce.common.response.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Prepares the bodies of {@link HttpCacheable} endpoints for {@link HttpCacheEtagFilter}.
+ *
+ * Successful responses leave out the envelope's timestamp, so that the same content serializes
+ * to the same bytes and keeps its ETag; when a cached response was generated is what the Date
+ * and Age headers are for. Error responses are marked no-store so that shared caches do not
+ * keep them, which also keeps the filter from giving them an ETag.
+ */
+@RestControllerAdvice
+public class HttpCacheResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || !HttpCacheInterceptor.isCacheable(servletRequest.getServletRequest())) {
+            return body;
+        }
+
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (!HttpStatusCode.valueOf(httpResponse.getStatus()).is2xxSuccessful()) {
+            httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+        } else if (body instanceof ApiResponse<?> apiResponse) {
+            apiResponse.setTimestamp(null);
+        }
+        return body;
+    }
+}
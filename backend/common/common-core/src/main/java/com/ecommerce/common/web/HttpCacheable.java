@@ -0,0 +1,21 @@
+package com.ecommerce.common.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint, or every GET endpoint of a controller, whose responses are the same
+ * for every caller and may be kept by browsers and shared caches such as a CDN.
+ *
+ * Responses get the Cache-Control policy of {@link HttpCacheProperties} and an ETag; a request
+ * whose If-None-Match still matches gets a 304 without a body. Their ApiResponse envelope has no
+ * timestamp, so that unchanged content keeps its ETag.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HttpCacheable {
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.common.pagination;
+
+import com.ecommerce.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("should decode the cursor it encoded")
+    void shouldRoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2024-05-01T10:15:30Z"), UUID.randomUUID());
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("should keep the nanoseconds of the creation time")
+    void shouldKeepNanoseconds() {
+        // Given
+        Instant createdAt = Instant.ofEpochSecond(1_714_558_530L, 123_456_789);
+        KeysetCursor cursor = new KeysetCursor(createdAt, UUID.randomUUID());
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getCreatedAt().getNano()).isEqualTo(123_456_789);
+    }
+
+    @Test
+    @DisplayName("should encode to a URL-safe string without padding")
+    void shouldEncodeUrlSafe() {
+        // Given: IDs made of bits that turn into '+' and '/' in plain Base64
+        KeysetCursor cursor = new KeysetCursor(Instant.EPOCH, new UUID(-1L, -1L));
+
+        // When
+        String encoded = cursor.encode();
+
+        // Then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"", "   "})
+    @DisplayName("should read a blank cursor as the start of the listing")
+    void shouldDecodeBlankAsStart(String value) {
+        assertThat(KeysetCursor.decode(value)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "****", "AAAA=AAAA"})
+    @DisplayName("should reject a value that is not Base64")
+    void shouldRejectMalformed(String value) {
+        assertThatThrownBy(() -> KeysetCursor.decode(value))
+                .isInstanceOf(ValidationException.class)
+                .satisfies(e -> assertThat(((ValidationException) e).getErrors()).containsKey("cursor"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 27, 29, 64})
+    @DisplayName("should reject a value of the wrong length")
+    void shouldRejectWrongLength(int length) {
+        // Given
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[length]);
+
+        // When / Then
+        assertThatThrownBy(() -> KeysetCursor.decode(value))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("should reject a creation time out of range")
+    void shouldRejectOutOfRangeInstant() {
+        // Given
+        byte[] bytes = ByteBuffer.allocate(28)
+                .putLong(Long.MAX_VALUE)
+                .putInt(0)
+                .putLong(1L)
+                .putLong(2L)
+                .array();
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        // When / Then
+        assertThatThrownBy(() -> KeysetCursor.decode(value))
+                .isInstanceOf(ValidationException.class);
+    }
+}
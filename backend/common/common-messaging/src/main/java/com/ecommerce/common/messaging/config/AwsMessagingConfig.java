@@ -1,11 +1,13 @@
 package com.ecommerce.common.messaging.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
 import software.amazon.awssdk.services.sns.SnsClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
@@ -42,6 +44,21 @@ public class AwsMessagingConfig {
         return builder.build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "app.messaging.sns.batching", name = "enabled", havingValue = "true")
+    public SnsAsyncClient snsAsyncClient(AwsCredentialsProvider credentialsProvider) {
+        var builder = SnsAsyncClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(credentialsProvider);
+
+        // For LocalStack or local development
+        if (endpointOverride != null && !endpointOverride.isBlank()) {
+            builder.endpointOverride(URI.create(endpointOverride));
+        }
+
+        return builder.build();
+    }
+
     @Bean
     public SqsClient sqsClient(AwsCredentialsProvider credentialsProvider) {
         var builder = SqsClient.builder()
@@ -0,0 +1,47 @@
+package com.ecommerce.common.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the consumer idempotency store.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.messaging.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Skip messages whose message ID or event ID was already processed.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of recently processed IDs kept in memory.
+     */
+    private long recentWindowSize = 100000;
+
+    /**
+     * How long processed IDs stay in the in-memory window.
+     */
+    private Duration recentWindowTtl = Duration.ofMinutes(10);
+
+    /**
+     * How long processed IDs are kept in the database.
+     * Should exceed the longest possible redelivery delay (queue retention).
+     */
+    private Duration retention = Duration.ofDays(7);
+
+    /**
+     * How often expired rows are purged.
+     */
+    private Duration purgeInterval = Duration.ofHours(1);
+
+    /**
+     * Rows deleted per purge statement, to keep each delete short.
+     */
+    private int purgeBatchSize = 5000;
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.common.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for the transactional outbox.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.messaging.outbox")
+public class OutboxProperties {
+
+    /**
+     * Write domain events to the outbox table and relay them to SNS.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Topic for events without an explicit mapping in {@link #topics}.
+     */
+    private String defaultTopic;
+
+    /**
+     * Topic per event type (e.g. ORDER_CREATED: order-events).
+     */
+    private Map<String, String> topics = new HashMap<>();
+
+    /**
+     * Number of shards; events of one aggregate always land in the same shard
+     * and are relayed in insertion order. Changing this reorders in-flight events.
+     */
+    private int shards = 16;
+
+    /**
+     * Maximum rows relayed per shard claim.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Pause between polls when no shard had pending events.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * How long a shard claim is valid; must be well above the time to relay one batch.
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Relay attempts after which an event SNS keeps rejecting is moved to outbox_dead_letters.
+     * Events SNS marks as sender faults are moved right away; throttling and SNS being unavailable
+     * do not count as attempts.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Use the aggregate ID as SNS message group (for FIFO topics).
+     */
+    private boolean fifo = false;
+}
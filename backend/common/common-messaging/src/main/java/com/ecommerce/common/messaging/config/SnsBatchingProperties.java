@@ -0,0 +1,63 @@
+package com.ecommerce.common.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the batching SNS publisher.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.messaging.sns.batching")
+public class SnsBatchingProperties {
+
+    /**
+     * Publish through a background PublishBatch pipeline instead of one blocking call per event.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum entries per PublishBatch call (SNS allows at most 10).
+     */
+    private int batchSize = 10;
+
+    /**
+     * How long the first event of a batch may wait for more events to the same topic.
+     */
+    private Duration linger = Duration.ofMillis(20);
+
+    /**
+     * Capacity of the in-memory queue between callers and the drainer.
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * How long a caller waits for queue space before its event goes to the undelivered event
+     * handler instead.
+     */
+    private Duration enqueueTimeout = Duration.ofMillis(50);
+
+    /**
+     * Maximum number of PublishBatch calls in flight at once.
+     */
+    private int maxInFlightBatches = 16;
+
+    /**
+     * Attempts per entry, including the first, for retryable failures.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Initial delay before retrying a failed entry; doubles on each attempt.
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * How long shutdown waits for queued and in-flight events to be published; events still
+     * queued afterwards go to the undelivered event handler.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
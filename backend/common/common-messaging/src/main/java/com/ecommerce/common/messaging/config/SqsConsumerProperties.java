@@ -0,0 +1,59 @@
+package com.ecommerce.common.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for the SQS consumer container.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.messaging.sqs.consumer")
+public class SqsConsumerProperties {
+
+    /**
+     * Poll the configured queues and dispatch messages to EventHandler beans.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Queue names or URLs to consume from.
+     */
+    private List<String> queues = new ArrayList<>();
+
+    /**
+     * Maximum number of messages handled at the same time per queue.
+     */
+    private int maxConcurrency = 50;
+
+    /**
+     * Long polling wait time per ReceiveMessage call (SQS allows at most 20 seconds).
+     */
+    private Duration waitTime = Duration.ofSeconds(20);
+
+    /**
+     * Visibility timeout requested on receive and on each extension.
+     */
+    private Duration visibilityTimeout = Duration.ofSeconds(30);
+
+    /**
+     * How often the visibility of in-flight messages is extended.
+     * Must be comfortably shorter than the visibility timeout.
+     */
+    private Duration visibilityExtensionInterval = Duration.ofSeconds(10);
+
+    /**
+     * How often handled messages are deleted with DeleteMessageBatch.
+     */
+    private Duration ackInterval = Duration.ofMillis(100);
+
+    /**
+     * How long shutdown waits for in-flight handlers to finish.
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
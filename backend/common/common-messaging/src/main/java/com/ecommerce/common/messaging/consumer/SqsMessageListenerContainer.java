@@ -0,0 +1,460 @@
+package com.ecommerce.common.messaging.consumer;
+
+import com.ecommerce.common.messaging.config.SqsConsumerProperties;
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.messaging.event.EventEnvelope;
+import com.ecommerce.common.messaging.idempotency.IdempotencyStore;
+import com.ecommerce.common.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueUrlRequest;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls SQS queues and dispatches messages to EventHandler beans.
+ *
+ * Each queue has one poller thread that long-polls with ReceiveMessage, asking for at most as
+ * many messages (up to 10) as the queue has free handler slots, so a burst never buffers more
+ * messages than can be worked on. Messages are routed by event type and handled on virtual
+ * threads.
+ *
+ * Handled messages are deleted in DeleteMessageBatch calls. Messages whose handler fails, and
+ * messages with no handler for their event type, are left on the queue and become visible again
+ * after the visibility timeout, so the queue's redrive policy decides when they go to a DLQ.
+ * While a handler runs, its message's visibility is extended with ChangeMessageVisibilityBatch.
+ *
+ * When an IdempotencyStore is available, messages already processed (by envelope message ID or
+ * domain event ID) are acknowledged without running the handler again. Each message is then
+ * handled in a transaction that first records it in the store and then runs the handler, so
+ * the record and the handler's side effects commit together, or roll back together and leave
+ * the message for redelivery. Handlers join that transaction with the default propagation.
+ *
+ * Enabled with {@code app.messaging.sqs.consumer.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.messaging.sqs.consumer", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SqsMessageListenerContainer implements SmartLifecycle {
+
+    /**
+     * SQS limit for ReceiveMessage and the batch APIs.
+     */
+    private static final int MAX_BATCH_ENTRIES = 10;
+
+    private static final String METRIC_PREFIX = "messaging.sqs.consumer";
+
+    private final SqsClient sqsClient;
+    private final SqsConsumerProperties properties;
+    private final ObjectProvider<EventHandler<?>> eventHandlers;
+    private final ObjectProvider<IdempotencyStore> idempotencyStoreProvider;
+    private final ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+    private final MeterRegistry meterRegistry;
+
+    private Map<String, EventHandler<?>> handlersByType;
+    private IdempotencyStore idempotencyStore;
+    private TransactionTemplate handlerTransaction;
+    private List<QueueConsumer> consumers;
+    private ExecutorService handlerExecutor;
+    private ScheduledExecutorService maintenanceExecutor;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        handlersByType = new HashMap<>();
+        eventHandlers.orderedStream().forEach(handler -> {
+            EventHandler<?> existing = handlersByType.putIfAbsent(handler.getEventTypeName(), handler);
+            if (existing != null) {
+                throw new IllegalStateException("Multiple handlers registered for event type "
+                        + handler.getEventTypeName() + ": " + existing.getClass().getName()
+                        + ", " + handler.getClass().getName());
+            }
+        });
+
+        idempotencyStore = idempotencyStoreProvider.getIfAvailable();
+        if (idempotencyStore != null) {
+            PlatformTransactionManager transactionManager = transactionManagerProvider.getIfAvailable();
+            if (transactionManager == null) {
+                throw new IllegalStateException("The idempotency store needs a transaction manager to record "
+                        + "messages together with their handlers' side effects");
+            }
+            handlerTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        handlerExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sqs-handler-", 0).factory());
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sqs-consumer-maintenance").daemon(true).factory());
+
+        consumers = properties.getQueues().stream()
+                .map(queue -> new QueueConsumer(queue, resolveQueueUrl(queue)))
+                .toList();
+
+        running = true;
+        consumers.forEach(QueueConsumer::start);
+
+        long ackMillis = properties.getAckInterval().toMillis();
+        long extensionMillis = properties.getVisibilityExtensionInterval().toMillis();
+        maintenanceExecutor.scheduleWithFixedDelay(this::flushAcknowledgements, ackMillis, ackMillis, TimeUnit.MILLISECONDS);
+        maintenanceExecutor.scheduleWithFixedDelay(this::extendVisibility, extensionMillis, extensionMillis, TimeUnit.MILLISECONDS);
+
+        log.info("SQS consumer started for queues {} with {} event handlers", properties.getQueues(), handlersByType.size());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        // Stop polling first, then let in-flight handlers finish and acknowledge them
+        for (QueueConsumer consumer : consumers) {
+            consumer.poller.interrupt();
+        }
+        handlerExecutor.shutdown();
+        try {
+            if (!handlerExecutor.awaitTermination(properties.getShutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("SQS handlers still running after {}; their messages will be redelivered",
+                        properties.getShutdownTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        maintenanceExecutor.shutdownNow();
+        flushAcknowledgements();
+        log.info("SQS consumer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ========== Dispatch ==========
+
+    private void process(QueueConsumer consumer, Message message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            EventEnvelope<JsonNode> envelope = SqsMessages.decode(message);
+            EventHandler<?> handler = handlersByType.get(envelope.getEventType());
+
+            if (handler == null) {
+                // Not deleted: the redrive policy moves it to the DLQ instead of it being lost
+                log.error("No handler for event type {} on {}, leaving message {} on the queue",
+                        envelope.getEventType(), consumer.queueName, message.messageId());
+                consumer.unhandledCounter.increment();
+                return;
+            }
+            handle(consumer, handler, envelope);
+            consumer.acknowledgements.add(message);
+        } catch (Exception e) {
+            log.error("Failed to handle message {} from {}", message.messageId(), consumer.queueName, e);
+            consumer.failedCounter.increment();
+        } finally {
+            sample.stop(consumer.handlerTimer);
+            consumer.inFlight.remove(message.messageId());
+            consumer.permits.release();
+        }
+    }
+
+    private void handle(QueueConsumer consumer, EventHandler<?> handler, EventEnvelope<JsonNode> envelope) {
+        if (idempotencyStore == null) {
+            dispatch(handler, envelope.getPayload());
+            consumer.handledCounter.increment();
+            return;
+        }
+
+        UUID messageId = envelope.getMessageId();
+        UUID eventId = eventIdOf(envelope.getPayload());
+        if (idempotencyStore.isProcessed(messageId, eventId)) {
+            log.debug("Skipping already processed {} (message {}, event {})",
+                    envelope.getEventType(), messageId, eventId);
+            consumer.duplicateCounter.increment();
+            return;
+        }
+
+        // Recorded first: a copy handled at the same time waits on the record until this commits
+        boolean handled = Boolean.TRUE.equals(handlerTransaction.execute(status -> {
+            if (!idempotencyStore.markProcessed(messageId, eventId)) {
+                return false;
+            }
+            dispatch(handler, envelope.getPayload());
+            return true;
+        }));
+        if (handled) {
+            consumer.handledCounter.increment();
+        } else {
+            log.debug("Skipping {} processed concurrently (message {}, event {})",
+                    envelope.getEventType(), messageId, eventId);
+            consumer.duplicateCounter.increment();
+        }
+    }
+
+    private static UUID eventIdOf(JsonNode payload) {
+        String eventId = payload != null ? payload.path("eventId").asText(null) : null;
+        if (eventId == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private <T extends DomainEvent> void dispatch(EventHandler<T> handler, JsonNode payload) {
+        T event;
+        try {
+            event = JsonUtils.getObjectMapper().treeToValue(payload, handler.getEventType());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot decode " + handler.getEventTypeName() + " payload", e);
+        }
+        handler.handle(event);
+    }
+
+    // ========== Acknowledgement and visibility ==========
+
+    private void flushAcknowledgements() {
+        for (QueueConsumer consumer : consumers) {
+            try {
+                consumer.flushAcknowledgements();
+            } catch (Exception e) {
+                log.warn("Failed to delete handled messages from {}: {}", consumer.queueName, e.getMessage());
+            }
+        }
+    }
+
+    private void extendVisibility() {
+        long threshold = System.nanoTime() - properties.getVisibilityExtensionInterval().toNanos();
+        for (QueueConsumer consumer : consumers) {
+            try {
+                consumer.extendVisibility(threshold);
+            } catch (Exception e) {
+                log.warn("Failed to extend visibility on {}: {}", consumer.queueName, e.getMessage());
+            }
+        }
+    }
+
+    private String resolveQueueUrl(String queue) {
+        if (queue.startsWith("https://") || queue.startsWith("http://")) {
+            return queue;
+        }
+        return sqsClient.getQueueUrl(GetQueueUrlRequest.builder().queueName(queue).build()).queueUrl();
+    }
+
+    /**
+     * Receipt handle and receive time of a message being handled.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static final class InFlight {
+
+        private final String receiptHandle;
+        private final long receivedAt;
+    }
+
+    /**
+     * Poller and bookkeeping for one queue.
+     */
+    private final class QueueConsumer {
+
+        private final String queueName;
+        private final String queueUrl;
+        private final Semaphore permits;
+        private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+        private final Queue<Message> acknowledgements = new ConcurrentLinkedQueue<>();
+        private final Thread poller;
+
+        private final Counter handledCounter;
+        private final Counter unhandledCounter;
+        private final Counter duplicateCounter;
+        private final Counter failedCounter;
+        private final Timer handlerTimer;
+
+        QueueConsumer(String queueName, String queueUrl) {
+            this.queueName = queueName;
+            this.queueUrl = queueUrl;
+            this.permits = new Semaphore(properties.getMaxConcurrency());
+            this.poller = Thread.ofPlatform().name("sqs-poller-" + queueName).daemon(true).unstarted(this::pollLoop);
+
+            this.handledCounter = messageCounter("handled");
+            this.unhandledCounter = messageCounter("unhandled");
+            this.duplicateCounter = messageCounter("duplicate");
+            this.failedCounter = messageCounter("failed");
+            this.handlerTimer = Timer.builder(METRIC_PREFIX + ".handler.latency")
+                    .tag("queue", queueName)
+                    .register(meterRegistry);
+            Gauge.builder(METRIC_PREFIX + ".in-flight", inFlight, Map::size)
+                    .tag("queue", queueName)
+                    .register(meterRegistry);
+        }
+
+        void start() {
+            poller.start();
+        }
+
+        private void pollLoop() {
+            while (running) {
+                int requested = 0;
+                try {
+                    // Wait for one free slot, then take whatever else is free up to a full batch
+                    permits.acquire();
+                    requested = 1;
+                    while (requested < MAX_BATCH_ENTRIES && permits.tryAcquire()) {
+                        requested++;
+                    }
+
+                    List<Message> messages = sqsClient.receiveMessage(ReceiveMessageRequest.builder()
+                            .queueUrl(queueUrl)
+                            .maxNumberOfMessages(requested)
+                            .waitTimeSeconds((int) properties.getWaitTime().toSeconds())
+                            .visibilityTimeout((int) properties.getVisibilityTimeout().toSeconds())
+                            .messageAttributeNames("All")
+                            .build()).messages();
+
+                    permits.release(requested - messages.size());
+                    requested = 0;
+                    for (Message message : messages) {
+                        submit(message);
+                    }
+                } catch (InterruptedException e) {
+                    permits.release(requested);
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    permits.release(requested);
+                    if (!running) {
+                        return;
+                    }
+                    log.warn("Failed to receive messages from {}: {}", queueName, e.getMessage());
+                    sleepBeforeRetry();
+                }
+            }
+        }
+
+        private void submit(Message message) {
+            inFlight.put(message.messageId(), new InFlight(message.receiptHandle(), System.nanoTime()));
+            try {
+                handlerExecutor.execute(() -> process(this, message));
+            } catch (RejectedExecutionException e) {
+                // Shutting down: leave the message for redelivery
+                inFlight.remove(message.messageId());
+                permits.release();
+            }
+        }
+
+        void flushAcknowledgements() {
+            List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+            Message message;
+            while ((message = acknowledgements.poll()) != null) {
+                entries.add(DeleteMessageBatchRequestEntry.builder()
+                        .id(String.valueOf(entries.size()))
+                        .receiptHandle(message.receiptHandle())
+                        .build());
+                if (entries.size() == MAX_BATCH_ENTRIES) {
+                    deleteBatch(entries);
+                    entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+                }
+            }
+            if (!entries.isEmpty()) {
+                deleteBatch(entries);
+            }
+        }
+
+        private void deleteBatch(List<DeleteMessageBatchRequestEntry> entries) {
+            DeleteMessageBatchResponse response = sqsClient.deleteMessageBatch(DeleteMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+            if (response.hasFailed()) {
+                for (BatchResultErrorEntry failure : response.failed()) {
+                    log.warn("Failed to delete message from {}: {} {}", queueName, failure.code(), failure.message());
+                }
+            }
+        }
+
+        void extendVisibility(long receivedBefore) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+            int timeoutSeconds = (int) properties.getVisibilityTimeout().toSeconds();
+
+            for (InFlight message : inFlight.values()) {
+                if (message.getReceivedAt() > receivedBefore) {
+                    continue;
+                }
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                        .id(String.valueOf(entries.size()))
+                        .receiptHandle(message.getReceiptHandle())
+                        .visibilityTimeout(timeoutSeconds)
+                        .build());
+                if (entries.size() == MAX_BATCH_ENTRIES) {
+                    changeVisibilityBatch(entries);
+                    entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+                }
+            }
+            if (!entries.isEmpty()) {
+                changeVisibilityBatch(entries);
+            }
+        }
+
+        private void changeVisibilityBatch(List<ChangeMessageVisibilityBatchRequestEntry> entries) {
+            var response = sqsClient.changeMessageVisibilityBatch(ChangeMessageVisibilityBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+            if (response.hasFailed()) {
+                for (BatchResultErrorEntry failure : response.failed()) {
+                    log.warn("Failed to extend visibility on {}: {} {}", queueName, failure.code(), failure.message());
+                }
+            }
+        }
+
+        private Counter messageCounter(String outcome) {
+            return Counter.builder(METRIC_PREFIX + ".messages")
+                    .tag("queue", queueName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private void sleepBeforeRetry() {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
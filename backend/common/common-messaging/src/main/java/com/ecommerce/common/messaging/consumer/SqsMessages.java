@@ -0,0 +1,67 @@
+package com.ecommerce.common.messaging.consumer;
+
+import com.ecommerce.common.messaging.event.EventEnvelope;
+import com.ecommerce.common.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+
+/**
+ * Decoding of SQS messages into event envelopes.
+ *
+ * Handles both raw message delivery (the body is the envelope) and the default SNS
+ * notification wrapper (the envelope is the "Message" field of the notification).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SqsMessages {
+
+    private static final String EVENT_TYPE_ATTRIBUTE = "eventType";
+    private static final String SNS_NOTIFICATION = "Notification";
+
+    private static final TypeReference<EventEnvelope<JsonNode>> ENVELOPE_TYPE = new TypeReference<>() {
+    };
+
+    /**
+     * Decode the envelope of a message, leaving the payload as a JSON tree.
+     * The event type is taken from the message attributes when present, so routing does not
+     * depend on the envelope format.
+     *
+     * @throws IllegalArgumentException if the body is not a valid envelope
+     */
+    public static EventEnvelope<JsonNode> decode(Message message) {
+        ObjectMapper mapper = JsonUtils.getObjectMapper();
+        try {
+            JsonNode root = mapper.readTree(message.body());
+            String eventType = stringAttribute(message, EVENT_TYPE_ATTRIBUTE);
+
+            JsonNode envelopeNode = root;
+            if (SNS_NOTIFICATION.equals(root.path("Type").asText()) && root.hasNonNull("Message")) {
+                if (eventType == null) {
+                    eventType = root.path("MessageAttributes").path(EVENT_TYPE_ATTRIBUTE).path("Value").asText(null);
+                }
+                envelopeNode = mapper.readTree(root.get("Message").asText());
+            }
+
+            EventEnvelope<JsonNode> envelope = mapper.convertValue(envelopeNode, ENVELOPE_TYPE);
+            if (eventType != null) {
+                envelope.setEventType(eventType);
+            }
+            return envelope;
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cannot decode message " + message.messageId() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String stringAttribute(Message message, String name) {
+        if (!message.hasMessageAttributes()) {
+            return null;
+        }
+        MessageAttributeValue value = message.messageAttributes().get(name);
+        return value != null ? value.stringValue() : null;
+    }
+}
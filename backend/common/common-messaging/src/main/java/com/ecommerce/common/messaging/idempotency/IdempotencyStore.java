@@ -0,0 +1,28 @@
+package com.ecommerce.common.messaging.idempotency;
+
+import java.util.UUID;
+
+/**
+ * Records which messages a consumer has already processed,
+ * so redelivered messages do not run their side effects twice.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Check whether a message was already processed, by message ID or event ID.
+     *
+     * @param messageId the envelope message ID (may be null)
+     * @param eventId   the domain event ID (may be null)
+     */
+    boolean isProcessed(UUID messageId, UUID eventId);
+
+    /**
+     * Record a message as processed. Call in the transaction that applies the handler's side
+     * effects, before them, so a rollback also un-marks the message.
+     *
+     * @param messageId the envelope message ID (may be null)
+     * @param eventId   the domain event ID (may be null)
+     * @return false if the message was already recorded, by this call's transaction or another
+     */
+    boolean markProcessed(UUID messageId, UUID eventId);
+}
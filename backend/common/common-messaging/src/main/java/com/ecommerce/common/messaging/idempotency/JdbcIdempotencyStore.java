@@ -0,0 +1,167 @@
+package com.ecommerce.common.messaging.idempotency;
+
+import com.ecommerce.common.messaging.config.IdempotencyProperties;
+import com.ecommerce.common.util.UuidUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idempotency store backed by the processed_messages table, with an in-memory window of
+ * recently processed IDs in front of it.
+ *
+ * Redeliveries usually arrive within the visibility timeout, so most duplicates are answered
+ * from memory. Otherwise a plain SELECT (a consistent read, no row locks) is done against the
+ * table. IDs are recorded with INSERT IGNORE in the caller's transaction, before the handler's
+ * side effects: the row commits or rolls back with them, and a second copy of the message
+ * handled at the same time waits on the row's key until the first one's transaction ends, then
+ * finds it recorded. IDs enter the in-memory window only once that transaction has committed.
+ * Rows are purged once their retention has passed. Expiry times come from the application
+ * clock, on both the insert and the purge.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.messaging.idempotency", name = "enabled", havingValue = "true")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String SELECT_BY_MESSAGE_OR_EVENT =
+            "SELECT COUNT(*) FROM processed_messages WHERE message_id = ? OR event_id = ?";
+
+    private static final String SELECT_BY_MESSAGE = "SELECT COUNT(*) FROM processed_messages WHERE message_id = ?";
+
+    private static final String INSERT_PROCESSED = """
+            INSERT IGNORE INTO processed_messages (message_id, event_id, expires_at)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String PURGE_EXPIRED = "DELETE FROM processed_messages WHERE expires_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    private final AtomicLong nextPurgeAt = new AtomicLong();
+    private final AtomicBoolean purging = new AtomicBoolean();
+
+    private Cache<UUID, Boolean> recentlyProcessed;
+
+    @PostConstruct
+    public void init() {
+        recentlyProcessed = Caffeine.newBuilder()
+                .maximumSize(properties.getRecentWindowSize())
+                .expireAfterWrite(properties.getRecentWindowTtl())
+                .build();
+    }
+
+    @Override
+    public boolean isProcessed(UUID messageId, UUID eventId) {
+        if (isRecent(messageId) || isRecent(eventId)) {
+            return true;
+        }
+
+        // Rows are keyed by message ID; an event without one is stored under its event ID
+        UUID key = messageId != null ? messageId : eventId;
+        if (key == null) {
+            return false;
+        }
+
+        Integer count = eventId != null
+                ? jdbcTemplate.queryForObject(SELECT_BY_MESSAGE_OR_EVENT, Integer.class,
+                        UuidUtils.toBytes(key), UuidUtils.toBytes(eventId))
+                : jdbcTemplate.queryForObject(SELECT_BY_MESSAGE, Integer.class, UuidUtils.toBytes(key));
+
+        boolean processed = count != null && count > 0;
+        if (processed) {
+            remember(messageId, eventId);
+        }
+        return processed;
+    }
+
+    @Override
+    public boolean markProcessed(UUID messageId, UUID eventId) {
+        UUID key = messageId != null ? messageId : eventId;
+        if (key == null) {
+            return true;
+        }
+
+        int inserted = jdbcTemplate.update(INSERT_PROCESSED,
+                UuidUtils.toBytes(key),
+                UuidUtils.toBytes(eventId),
+                Timestamp.from(Instant.now().plus(properties.getRetention())));
+        if (inserted == 0) {
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(messageId, eventId);
+                }
+            });
+        } else {
+            remember(messageId, eventId);
+        }
+        purgeIfDue();
+        return true;
+    }
+
+    private boolean isRecent(UUID id) {
+        return id != null && recentlyProcessed.getIfPresent(id) != null;
+    }
+
+    private void remember(UUID messageId, UUID eventId) {
+        if (messageId != null) {
+            recentlyProcessed.put(messageId, Boolean.TRUE);
+        }
+        if (eventId != null) {
+            recentlyProcessed.put(eventId, Boolean.TRUE);
+        }
+    }
+
+    // ========== Purge ==========
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        long due = nextPurgeAt.get();
+        if (now < due || !nextPurgeAt.compareAndSet(due, now + properties.getPurgeInterval().toMillis())) {
+            return;
+        }
+        if (purging.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("idempotency-purge").start(this::purgeExpired);
+        }
+    }
+
+    private void purgeExpired() {
+        try {
+            Timestamp now = Timestamp.from(Instant.now());
+            int total = 0;
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_EXPIRED, now, properties.getPurgeBatchSize());
+                total += deleted;
+            } while (deleted == properties.getPurgeBatchSize());
+
+            if (total > 0) {
+                log.debug("Purged {} expired processed message records", total);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to purge processed message records: {}", e.getMessage());
+        } finally {
+            purging.set(false);
+        }
+    }
+}
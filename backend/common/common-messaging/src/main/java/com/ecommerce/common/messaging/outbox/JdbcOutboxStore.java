@@ -0,0 +1,157 @@
+package com.ecommerce.common.messaging.outbox;
+
+import com.ecommerce.common.util.UuidUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC access to the outbox tables (outbox_events, outbox_dead_letters, outbox_leases).
+ * Plain JDBC keeps the outbox independent of each service's JPA entity scan.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.messaging.outbox", name = "enabled", havingValue = "true")
+public class JdbcOutboxStore {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_events
+                (shard, event_id, event_type, aggregate_id, aggregate_type, correlation_id, topic, payload)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_PENDING = """
+            SELECT id, shard, event_id, event_type, aggregate_id, aggregate_type, correlation_id, topic, payload, attempts
+            FROM outbox_events
+            WHERE shard = ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String RECORD_FAILURE =
+            "UPDATE outbox_events SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    private static final String COPY_TO_DEAD_LETTERS = """
+            INSERT IGNORE INTO outbox_dead_letters
+                (id, shard, event_id, event_type, aggregate_id, aggregate_type, correlation_id, topic, payload,
+                 created_at, attempts, last_error)
+            SELECT id, shard, event_id, event_type, aggregate_id, aggregate_type, correlation_id, topic, payload,
+                   created_at, attempts + 1, ?
+            FROM outbox_events
+            WHERE id = ?
+            """;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_LEASE = "INSERT IGNORE INTO outbox_leases (shard) VALUES (?)";
+
+    private static final String CLAIM_LEASE = """
+            UPDATE outbox_leases
+            SET owner = ?, leased_until = DATE_ADD(NOW(6), INTERVAL ? MICROSECOND)
+            WHERE shard = ? AND (owner = ? OR owner IS NULL OR leased_until < NOW(6))
+            """;
+
+    private static final String RELEASE_LEASE =
+            "UPDATE outbox_leases SET owner = NULL, leased_until = NULL WHERE shard = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<OutboxMessage> rowMapper = (rs, rowNum) -> OutboxMessage.builder()
+            .id(rs.getLong("id"))
+            .shard(rs.getInt("shard"))
+            .eventId(UuidUtils.fromBytes(rs.getBytes("event_id")))
+            .eventType(rs.getString("event_type"))
+            .aggregateId(UuidUtils.fromBytes(rs.getBytes("aggregate_id")))
+            .aggregateType(rs.getString("aggregate_type"))
+            .correlationId(rs.getString("correlation_id"))
+            .topic(rs.getString("topic"))
+            .payload(rs.getString("payload"))
+            .attempts(rs.getInt("attempts"))
+            .build();
+
+    /**
+     * Insert an event; joins the caller's transaction.
+     */
+    public void insert(OutboxMessage message) {
+        jdbcTemplate.update(INSERT_EVENT,
+                message.getShard(),
+                UuidUtils.toBytes(message.getEventId()),
+                message.getEventType(),
+                UuidUtils.toBytes(message.getAggregateId()),
+                message.getAggregateType(),
+                message.getCorrelationId(),
+                message.getTopic(),
+                message.getPayload());
+    }
+
+    /**
+     * Oldest pending events of a shard, in insertion order.
+     */
+    public List<OutboxMessage> findPending(int shard, int limit) {
+        return jdbcTemplate.query(SELECT_PENDING, rowMapper, shard, limit);
+    }
+
+    /**
+     * Delete relayed events in one statement.
+     */
+    public void deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    /**
+     * Count a failed relay attempt against an event that stays pending.
+     */
+    public void recordFailure(long id, String error) {
+        jdbcTemplate.update(RECORD_FAILURE, truncate(error), id);
+    }
+
+    /**
+     * Move an event that cannot be relayed to outbox_dead_letters so the rest of its shard can proceed.
+     * The copy is idempotent, so a move interrupted between the two statements is simply repeated.
+     */
+    public void moveToDeadLetters(long id, String error) {
+        jdbcTemplate.update(COPY_TO_DEAD_LETTERS, truncate(error), id);
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id = ?", id);
+    }
+
+    /**
+     * Make sure a lease row exists for every shard.
+     */
+    public void ensureLeases(int shards) {
+        List<Object[]> rows = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            rows.add(new Object[]{shard});
+        }
+        jdbcTemplate.batchUpdate(INSERT_LEASE, rows);
+    }
+
+    /**
+     * Claim or renew the lease of a shard. Uses database time so instances need no clock sync.
+     *
+     * @return true if this owner now holds the lease
+     */
+    public boolean claimLease(int shard, String owner, long leaseMicros) {
+        return jdbcTemplate.update(CLAIM_LEASE, owner, leaseMicros, shard, owner) == 1;
+    }
+
+    /**
+     * Give up a lease so another instance can pick the shard up immediately.
+     */
+    public void releaseLease(int shard, String owner) {
+        jdbcTemplate.update(RELEASE_LEASE, shard, owner);
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.common.messaging.outbox;
+
+import com.ecommerce.common.messaging.config.OutboxProperties;
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.messaging.publisher.SnsMessages;
+import com.ecommerce.common.messaging.publisher.UndeliveredEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes domain events registered on aggregates into the outbox table.
+ *
+ * Spring Data publishes {@code @DomainEvents} when an aggregate is saved; this listener
+ * stores them just before the surrounding transaction commits, so the events are persisted
+ * atomically with the aggregate and never published for a rolled back change.
+ * {@link OutboxRelay} delivers them to SNS afterwards.
+ *
+ * It also takes over events the batching publisher gave up on, so they are relayed once SNS
+ * accepts them again instead of being lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.messaging.outbox", name = "enabled", havingValue = "true")
+public class OutboxEventWriter implements UndeliveredEventHandler {
+
+    private final JdbcOutboxStore outboxStore;
+    private final OutboxProperties properties;
+
+    @Value("${spring.application.name:unknown}")
+    private String serviceName;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        String topic = properties.getTopics().getOrDefault(event.getEventType(), properties.getDefaultTopic());
+        if (topic == null) {
+            log.warn("No outbox topic configured for event {}, skipping", event.getEventType());
+            return;
+        }
+        write(topic, event);
+    }
+
+    /**
+     * Usually runs outside of any transaction, long after the change the event describes
+     * committed. An event the publisher's full queue turned away is written in the caller's
+     * transaction, if there is one, and commits with the change.
+     */
+    @Override
+    public void handleUndelivered(String topicName, DomainEvent event) {
+        write(topicName, event);
+        log.info("Stored undelivered event {} for aggregate {} in outbox", event.getEventType(), event.getAggregateId());
+    }
+
+    private void write(String topic, DomainEvent event) {
+        outboxStore.insert(OutboxMessage.builder()
+                .shard(shardOf(event))
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .aggregateId(event.getAggregateId())
+                .aggregateType(event.getAggregateType())
+                .correlationId(event.getCorrelationId())
+                .topic(topic)
+                .payload(SnsMessages.toMessageBody(event, serviceName))
+                .build());
+
+        log.debug("Stored event {} for aggregate {} in outbox", event.getEventType(), event.getAggregateId());
+    }
+
+    private int shardOf(DomainEvent event) {
+        if (event.getAggregateId() == null) {
+            return 0;
+        }
+        return Math.floorMod(event.getAggregateId().hashCode(), properties.getShards());
+    }
+}
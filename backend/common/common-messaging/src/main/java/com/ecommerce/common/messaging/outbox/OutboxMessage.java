@@ -0,0 +1,29 @@
+package com.ecommerce.common.messaging.outbox;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * A serialized domain event stored in the outbox table.
+ */
+@Value
+@Builder
+public class OutboxMessage {
+
+    Long id;
+    int shard;
+    UUID eventId;
+    String eventType;
+    UUID aggregateId;
+    String aggregateType;
+    String correlationId;
+    String topic;
+    String payload;
+
+    /**
+     * Failed relay attempts so far.
+     */
+    int attempts;
+}
@@ -0,0 +1,323 @@
+package com.ecommerce.common.messaging.outbox;
+
+import com.ecommerce.common.messaging.config.OutboxProperties;
+import com.ecommerce.common.messaging.publisher.SnsMessages;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relays outbox events to SNS.
+ *
+ * The outbox is split into shards by aggregate ID. An instance must hold a shard's lease
+ * (a row in outbox_leases with an expiry in database time) before relaying it, so several
+ * instances can run the relay concurrently without sending the same events twice.
+ *
+ * Within a shard events are published in insertion order with PublishBatch (up to 10
+ * consecutive events per topic per call). On the first failed entry the relay stops for that
+ * shard, deletes only what was published before it, and retries the rest on the next poll,
+ * which keeps per-aggregate ordering. Delivery is at-least-once; consumers must be idempotent.
+ *
+ * An event SNS will never accept would hold up its shard for good, so failures are counted per
+ * row. Sender faults, and events rejected {@code maxAttempts} times, are moved to
+ * outbox_dead_letters and the shard carries on. Throttling and SNS being unavailable say nothing
+ * about the event and are not counted. The {@code messaging.outbox.relay.shards.stuck} gauge
+ * shows how many shards are currently held up by a failing event.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.messaging.outbox", name = "enabled", havingValue = "true")
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final int MAX_BATCH_ENTRIES = 10;
+
+    private static final String METRIC_PREFIX = "messaging.outbox.relay";
+
+    private final JdbcOutboxStore outboxStore;
+    private final SnsClient snsClient;
+    private final OutboxProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.messaging.sns.topic-arn-prefix:}")
+    private String topicArnPrefix;
+
+    @Value("${spring.application.name:unknown}")
+    private String serviceName;
+
+    private String owner;
+    private Thread worker;
+    private volatile boolean running;
+
+    private final Set<Integer> stuckShards = ConcurrentHashMap.newKeySet();
+    private Counter relayedCounter;
+    private Counter failedCounter;
+    private Counter deadLetteredCounter;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder(METRIC_PREFIX + ".shards.stuck", stuckShards, Set::size)
+                .description("Shards held up by an event that failed its last relay attempt")
+                .register(meterRegistry);
+        relayedCounter = eventCounter("relayed");
+        failedCounter = eventCounter("failed");
+        deadLetteredCounter = eventCounter("dead_lettered");
+    }
+
+    @Override
+    public void start() {
+        owner = serviceName + ":" + UUID.randomUUID();
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("outbox-relay")
+                .daemon(true)
+                .start(this::relayLoop);
+        log.info("Outbox relay started as {} over {} shards", owner, properties.getShards());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        boolean leasesReady = false;
+        while (running) {
+            try {
+                if (!leasesReady) {
+                    outboxStore.ensureLeases(properties.getShards());
+                    leasesReady = true;
+                }
+                if (relayAllShards() == 0) {
+                    Thread.sleep(properties.getPollInterval().toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Outbox relay iteration failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    int relayAllShards() {
+        int shards = properties.getShards();
+        int offset = ThreadLocalRandom.current().nextInt(shards);
+        long leaseMicros = TimeUnit.MILLISECONDS.toMicros(properties.getLeaseDuration().toMillis());
+        int relayed = 0;
+
+        // Start at a random shard so instances do not all contend for shard 0 first
+        for (int i = 0; i < shards && running; i++) {
+            int shard = (offset + i) % shards;
+            if (!outboxStore.claimLease(shard, owner, leaseMicros)) {
+                // Another instance relays this shard and reports on it
+                stuckShards.remove(shard);
+                continue;
+            }
+            try {
+                relayed += relayShard(shard);
+            } finally {
+                outboxStore.releaseLease(shard, owner);
+            }
+        }
+        return relayed;
+    }
+
+    private int relayShard(int shard) {
+        List<OutboxMessage> pending = outboxStore.findPending(shard, properties.getBatchSize());
+        List<Long> published = new ArrayList<>(pending.size());
+        boolean stuck = false;
+
+        int start = 0;
+        while (start < pending.size()) {
+            // Consecutive events for the same topic, up to the PublishBatch limit
+            String topic = pending.get(start).getTopic();
+            int end = start + 1;
+            while (end < pending.size() && end - start < MAX_BATCH_ENTRIES
+                    && pending.get(end).getTopic().equals(topic)) {
+                end++;
+            }
+
+            List<OutboxMessage> batch = pending.subList(start, end);
+            BatchResult result = publishBatch(topic, batch);
+            if (result.failure() == Failure.REJECTED && batch.size() > 1) {
+                // The request as a whole was refused; send the oldest event alone to find out if it is at fault
+                batch = pending.subList(start, start + 1);
+                result = publishBatch(topic, batch);
+            }
+
+            for (int i = 0; i < result.succeeded(); i++) {
+                published.add(batch.get(i).getId());
+            }
+            start += result.succeeded();
+            if (result.failure() == Failure.NONE) {
+                continue;
+            }
+
+            if (!handleFailure(pending.get(start), result)) {
+                stuck = true;
+                break;
+            }
+            start++;
+        }
+
+        outboxStore.deleteByIds(published);
+        relayedCounter.increment(published.size());
+        if (stuck) {
+            stuckShards.add(shard);
+        } else {
+            stuckShards.remove(shard);
+        }
+        if (!published.isEmpty()) {
+            log.debug("Relayed {} outbox events from shard {}", published.size(), shard);
+        }
+        return published.size();
+    }
+
+    /**
+     * Count the failure against the event or move it to the dead letters.
+     *
+     * @return true if the event was moved out of the way of its shard
+     */
+    private boolean handleFailure(OutboxMessage message, BatchResult result) {
+        failedCounter.increment();
+        if (result.failure() == Failure.TRANSIENT) {
+            return false;
+        }
+
+        int attempts = message.getAttempts() + 1;
+        if (result.failure() == Failure.PERMANENT || attempts >= properties.getMaxAttempts()) {
+            outboxStore.moveToDeadLetters(message.getId(), result.error());
+            deadLetteredCounter.increment();
+            log.error("Moved outbox event {} ({}) for {} to dead letters after {} attempts: {}",
+                    message.getId(), message.getEventType(), message.getTopic(), attempts, result.error());
+            return true;
+        }
+
+        outboxStore.recordFailure(message.getId(), result.error());
+        return false;
+    }
+
+    /**
+     * Publish a batch and report how many leading entries were accepted and why the next one was not.
+     */
+    private BatchResult publishBatch(String topic, List<OutboxMessage> batch) {
+        List<PublishBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(toRequestEntry(String.valueOf(i), batch.get(i)));
+        }
+
+        try {
+            PublishBatchResponse response = snsClient.publishBatch(PublishBatchRequest.builder()
+                    .topicArn(SnsMessages.resolveTopicArn(topicArnPrefix, topic))
+                    .publishBatchRequestEntries(entries)
+                    .build());
+
+            if (!response.hasFailed() || response.failed().isEmpty()) {
+                return new BatchResult(batch.size(), Failure.NONE, null);
+            }
+
+            BatchResultErrorEntry firstFailure = response.failed().stream()
+                    .min(Comparator.comparingInt(failure -> Integer.parseInt(failure.id())))
+                    .orElseThrow();
+            OutboxMessage failed = batch.get(Integer.parseInt(firstFailure.id()));
+            String error = firstFailure.code() + " " + firstFailure.message();
+            log.warn("Failed to relay outbox event {} ({}) to {}: {}",
+                    failed.getId(), failed.getEventType(), topic, error);
+            // Sender faults are about the entry itself and fail the same way on every retry
+            Failure failure = Boolean.TRUE.equals(firstFailure.senderFault()) ? Failure.PERMANENT : Failure.TRANSIENT;
+            return new BatchResult(Integer.parseInt(firstFailure.id()), failure, error);
+        } catch (Exception e) {
+            log.warn("Failed to relay {} outbox events to {}: {}", batch.size(), topic, e.getMessage());
+            return new BatchResult(0, isRejection(e) ? Failure.REJECTED : Failure.TRANSIENT, e.getMessage());
+        }
+    }
+
+    /**
+     * Whether SNS refused the request itself (bad topic, request too large, ...), as opposed to
+     * throttling it or failing on its side.
+     */
+    private static boolean isRejection(Exception e) {
+        return e instanceof AwsServiceException service
+                && !service.isThrottlingException()
+                && service.statusCode() < 500;
+    }
+
+    private PublishBatchRequestEntry toRequestEntry(String id, OutboxMessage message) {
+        PublishBatchRequestEntry.Builder entry = PublishBatchRequestEntry.builder()
+                .id(id)
+                .message(message.getPayload())
+                .messageAttributes(SnsMessages.buildMessageAttributes(
+                        message.getEventType(), message.getAggregateType(), serviceName, message.getCorrelationId()));
+
+        if (properties.isFifo() && message.getAggregateId() != null) {
+            entry.messageGroupId(message.getAggregateId().toString());
+            entry.messageDeduplicationId(message.getEventId().toString());
+        }
+        return entry.build();
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(properties.getPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private enum Failure {
+        /** Every entry was accepted. */
+        NONE,
+        /** Throttled, SNS unavailable, or a failure SNS does not blame on the entry; not counted. */
+        TRANSIENT,
+        /** The request was refused; counted against the oldest event of the batch. */
+        REJECTED,
+        /** SNS reported a sender fault for the entry. */
+        PERMANENT
+    }
+
+    private record BatchResult(int succeeded, Failure failure, String error) {
+    }
+}
@@ -0,0 +1,476 @@
+package com.ecommerce.common.messaging.publisher;
+
+import com.ecommerce.common.messaging.config.SnsBatchingProperties;
+import com.ecommerce.common.messaging.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batching SNS implementation of EventPublisher.
+ *
+ * Callers only serialize the event and put it on a bounded queue. A background drainer
+ * groups queued events per topic and sends them with PublishBatch through the async client,
+ * flushing a topic when it has a full batch or its oldest event has waited for the linger time.
+ * Entries that fail inside a partially successful batch are retried individually with backoff.
+ *
+ * Callers never call SNS and never fail because of it. When the queue stays full for longer
+ * than the enqueue timeout, the event is handed to the {@link UndeliveredEventHandler} (the
+ * outbox, when it is enabled) on the caller's thread and counted as overflow, so a publish
+ * costs at most the enqueue timeout plus that handover. Retried entries may be delivered out
+ * of order relative to later events.
+ *
+ * Events that fail every attempt or that SNS rejects as malformed, retries that find the queue
+ * full, and events still queued when shutdown times out go to the same handler rather than
+ * being dropped. Without one they are only logged.
+ *
+ * Enabled with {@code app.messaging.sns.batching.enabled=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.messaging.sns.batching", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class BatchingSnsEventPublisher implements EventPublisher, SmartLifecycle {
+
+    /**
+     * SNS limits for a single PublishBatch call.
+     */
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final int MAX_BATCH_PAYLOAD_BYTES = 256 * 1024;
+
+    private static final String METRIC_PREFIX = "messaging.sns.publisher";
+
+    private final SnsAsyncClient snsAsyncClient;
+    private final SnsBatchingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<UndeliveredEventHandler> undeliveredEventHandlers;
+
+    @Value("${app.messaging.sns.topic-arn-prefix:}")
+    private String topicArnPrefix;
+
+    @Value("${spring.application.name:unknown}")
+    private String serviceName;
+
+    private UndeliveredEventHandler undeliveredEventHandler;
+    private BlockingQueue<PendingEntry> queue;
+    private Semaphore inFlightBatches;
+    private Thread drainer;
+    private volatile boolean running;
+
+    private Counter publishedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Counter overflowCounter;
+    private Counter undeliveredCounter;
+    private Timer enqueueWaitTimer;
+    private Timer batchLatencyTimer;
+    private DistributionSummary batchSizeSummary;
+
+    @Override
+    public void publish(String topicName, DomainEvent event) {
+        publish(topicName, event, null);
+    }
+
+    @Override
+    public void publish(String topicName, DomainEvent event, String messageGroupId) {
+        PendingEntry entry = new PendingEntry(
+                topicName,
+                SnsMessages.resolveTopicArn(topicArnPrefix, topicName),
+                event,
+                SnsMessages.toMessageBody(event, serviceName),
+                SnsMessages.buildMessageAttributes(event, serviceName),
+                messageGroupId,
+                messageGroupId != null ? event.getEventId().toString() : null
+        );
+
+        if (running && enqueue(entry)) {
+            if (!running) {
+                // stop() may have drained the queue before this entry landed in it
+                handOverQueued();
+            }
+            return;
+        }
+
+        // Queue is full (or the pipeline is stopped): keep the event without calling SNS
+        overflowCounter.increment();
+        handOver(entry);
+    }
+
+    private boolean enqueue(PendingEntry entry) {
+        long start = System.nanoTime();
+        try {
+            return queue.offer(entry, properties.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            enqueueWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // ========== Drainer ==========
+
+    private void drainLoop() {
+        Map<String, TopicBatch> batches = new LinkedHashMap<>();
+        long lingerNanos = properties.getLinger().toNanos();
+
+        while (running || !queue.isEmpty() || !batches.isEmpty()) {
+            try {
+                long waitNanos = batches.isEmpty()
+                        ? lingerNanos
+                        : nextDeadline(batches, lingerNanos) - System.nanoTime();
+
+                PendingEntry entry = running
+                        ? queue.poll(Math.max(waitNanos, 0), TimeUnit.NANOSECONDS)
+                        : queue.poll();
+
+                if (entry != null) {
+                    addToBatch(batches, entry);
+                }
+                flushDue(batches, lingerNanos, !running && queue.isEmpty());
+            } catch (InterruptedException e) {
+                if (running) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                // Woken up by stop(): keep going to flush what is left without blocking
+            } catch (Exception e) {
+                log.error("Unexpected error in SNS publish drainer", e);
+            }
+        }
+    }
+
+    private void addToBatch(Map<String, TopicBatch> batches, PendingEntry entry) {
+        TopicBatch batch = batches.get(entry.getTopicArn());
+        if (batch != null && !batch.fits(entry)) {
+            batches.remove(entry.getTopicArn());
+            send(batch);
+            batch = null;
+        }
+        if (batch == null) {
+            batch = new TopicBatch(entry.getTopicArn());
+            batches.put(entry.getTopicArn(), batch);
+        }
+
+        batch.add(entry);
+        if (batch.size() >= batchSize()) {
+            batches.remove(entry.getTopicArn());
+            send(batch);
+        }
+    }
+
+    private void flushDue(Map<String, TopicBatch> batches, long lingerNanos, boolean flushAll) {
+        long now = System.nanoTime();
+        Iterator<TopicBatch> iterator = batches.values().iterator();
+        while (iterator.hasNext()) {
+            TopicBatch batch = iterator.next();
+            if (flushAll || now - batch.getCreatedAt() >= lingerNanos) {
+                iterator.remove();
+                send(batch);
+            }
+        }
+    }
+
+    private long nextDeadline(Map<String, TopicBatch> batches, long lingerNanos) {
+        long oldest = Long.MAX_VALUE;
+        for (TopicBatch batch : batches.values()) {
+            oldest = Math.min(oldest, batch.getCreatedAt());
+        }
+        return oldest + lingerNanos;
+    }
+
+    private void send(TopicBatch batch) {
+        // Bounds concurrent requests; while saturated the queue fills up and callers feel backpressure.
+        // Not interruptible, so the interrupt from stop() cannot drop a batch already taken off the map.
+        inFlightBatches.acquireUninterruptibly();
+
+        List<PendingEntry> entries = batch.getEntries();
+        List<PublishBatchRequestEntry> requestEntries = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            requestEntries.add(entries.get(i).toRequestEntry(String.valueOf(i)));
+        }
+
+        PublishBatchRequest request = PublishBatchRequest.builder()
+                .topicArn(batch.getTopicArn())
+                .publishBatchRequestEntries(requestEntries)
+                .build();
+
+        batchSizeSummary.record(entries.size());
+        long start = System.nanoTime();
+
+        CompletableFuture<PublishBatchResponse> future;
+        try {
+            future = snsAsyncClient.publishBatch(request);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((response, error) -> {
+            try {
+                batchLatencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error != null) {
+                    log.warn("PublishBatch to {} failed: {}", batch.getTopicArn(), error.getMessage());
+                    entries.forEach(this::retryOrFail);
+                } else {
+                    handleResponse(entries, response);
+                }
+            } finally {
+                inFlightBatches.release();
+            }
+        });
+    }
+
+    private void handleResponse(List<PendingEntry> entries, PublishBatchResponse response) {
+        publishedCounter.increment(response.successful().size());
+
+        for (BatchResultErrorEntry failure : response.failed()) {
+            PendingEntry entry = entries.get(Integer.parseInt(failure.id()));
+            if (Boolean.TRUE.equals(failure.senderFault())) {
+                // Malformed entry; retrying would fail the same way
+                failedCounter.increment();
+                log.error("SNS rejected event {} for topic {}: {} {}",
+                        entry.getEventType(), entry.getTopicArn(), failure.code(), failure.message());
+                handOver(entry);
+            } else {
+                retryOrFail(entry);
+            }
+        }
+    }
+
+    private void retryOrFail(PendingEntry entry) {
+        int attempt = entry.nextAttempt();
+        if (attempt >= properties.getMaxAttempts()) {
+            failedCounter.increment();
+            log.error("Giving up on event {} for topic {} after {} attempts",
+                    entry.getEventType(), entry.getTopicArn(), attempt);
+            handOver(entry);
+            return;
+        }
+
+        retriedCounter.increment();
+        long delayMillis = properties.getRetryBackoff().toMillis() << (attempt - 1);
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!running || !queue.offer(entry)) {
+                overflowCounter.increment();
+                handOver(entry);
+            }
+        });
+    }
+
+    private void handOver(PendingEntry entry) {
+        try {
+            undeliveredEventHandler.handleUndelivered(entry.getTopicName(), entry.getEvent());
+            undeliveredCounter.increment();
+        } catch (Exception e) {
+            log.error("Lost event {} ({}) for topic {}", entry.getEvent().getEventId(),
+                    entry.getEventType(), entry.getTopicArn(), e);
+        }
+    }
+
+    private void handOverQueued() {
+        List<PendingEntry> unpublished = new ArrayList<>();
+        queue.drainTo(unpublished);
+        if (!unpublished.isEmpty()) {
+            log.warn("Batching SNS publisher stopped with {} unpublished events", unpublished.size());
+            unpublished.forEach(this::handOver);
+        }
+    }
+
+    private int batchSize() {
+        return Math.clamp(properties.getBatchSize(), 1, MAX_BATCH_ENTRIES);
+    }
+
+    // ========== Lifecycle ==========
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        inFlightBatches = new Semaphore(properties.getMaxInFlightBatches());
+        undeliveredEventHandler = undeliveredEventHandlers.getIfAvailable(() -> (topicName, event) ->
+                log.error("No handler for undelivered event {} ({}) for topic {}",
+                        event.getEventId(), event.getEventType(), topicName));
+        registerMetrics();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        drainer = Thread.ofPlatform()
+                .name("sns-publish-drainer")
+                .daemon(true)
+                .start(this::drainLoop);
+        log.info("Batching SNS publisher started (batchSize={}, linger={}, queueCapacity={})",
+                batchSize(), properties.getLinger(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        if (drainer == null) {
+            return;
+        }
+        running = false;
+        // Wake the drainer from a linger wait so it flushes the remaining batches right away
+        drainer.interrupt();
+        try {
+            long timeoutMillis = properties.getShutdownTimeout().toMillis();
+            drainer.join(timeoutMillis);
+            // Wait for in-flight batches by taking every permit
+            if (inFlightBatches.tryAcquire(properties.getMaxInFlightBatches(), timeoutMillis, TimeUnit.MILLISECONDS)) {
+                inFlightBatches.release(properties.getMaxInFlightBatches());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handOverQueued();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void registerMetrics() {
+        Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size)
+                .description("Events waiting to be batched")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the publish queue")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".batches.in-flight", inFlightBatches,
+                        semaphore -> properties.getMaxInFlightBatches() - semaphore.availablePermits())
+                .register(meterRegistry);
+
+        publishedCounter = eventCounter("published");
+        retriedCounter = eventCounter("retried");
+        failedCounter = eventCounter("failed");
+        overflowCounter = eventCounter("overflow");
+        undeliveredCounter = eventCounter("handed_over");
+
+        enqueueWaitTimer = Timer.builder(METRIC_PREFIX + ".enqueue.wait")
+                .description("Time callers spent waiting for queue space")
+                .register(meterRegistry);
+        batchLatencyTimer = Timer.builder(METRIC_PREFIX + ".batch.latency")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .register(meterRegistry);
+    }
+
+    private Counter eventCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".events")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A serialized event waiting to be published.
+     */
+    @Getter
+    private static final class PendingEntry {
+
+        private final String topicName;
+        private final String topicArn;
+        private final DomainEvent event;
+        private final String eventType;
+        private final String message;
+        private final Map<String, MessageAttributeValue> attributes;
+        private final String messageGroupId;
+        private final String deduplicationId;
+        private final int payloadBytes;
+        private int attempts;
+
+        PendingEntry(String topicName, String topicArn, DomainEvent event, String message,
+                     Map<String, MessageAttributeValue> attributes,
+                     String messageGroupId, String deduplicationId) {
+            this.topicName = topicName;
+            this.topicArn = topicArn;
+            this.event = event;
+            this.eventType = event.getEventType();
+            this.message = message;
+            this.attributes = attributes;
+            this.messageGroupId = messageGroupId;
+            this.deduplicationId = deduplicationId;
+            this.payloadBytes = computePayloadBytes(message, attributes);
+        }
+
+        int nextAttempt() {
+            return ++attempts;
+        }
+
+        private static int computePayloadBytes(String message, Map<String, MessageAttributeValue> attributes) {
+            int size = message.getBytes(StandardCharsets.UTF_8).length;
+            for (Map.Entry<String, MessageAttributeValue> attribute : attributes.entrySet()) {
+                size += attribute.getKey().length() + attribute.getValue().dataType().length()
+                        + attribute.getValue().stringValue().getBytes(StandardCharsets.UTF_8).length;
+            }
+            return size;
+        }
+
+        PublishBatchRequestEntry toRequestEntry(String id) {
+            return PublishBatchRequestEntry.builder()
+                    .id(id)
+                    .message(message)
+                    .messageAttributes(attributes)
+                    .messageGroupId(messageGroupId)
+                    .messageDeduplicationId(deduplicationId)
+                    .build();
+        }
+    }
+
+    /**
+     * Entries collected for one topic, limited by the SNS batch payload size.
+     */
+    @Getter
+    private static final class TopicBatch {
+
+        private final String topicArn;
+        private final long createdAt = System.nanoTime();
+        private final List<PendingEntry> entries = new ArrayList<>(MAX_BATCH_ENTRIES);
+        private int payloadBytes;
+
+        TopicBatch(String topicArn) {
+            this.topicArn = topicArn;
+        }
+
+        boolean fits(PendingEntry entry) {
+            return payloadBytes + entry.getPayloadBytes() <= MAX_BATCH_PAYLOAD_BYTES;
+        }
+
+        void add(PendingEntry entry) {
+            entries.add(entry);
+            payloadBytes += entry.getPayloadBytes();
+        }
+
+        int size() {
+            return entries.size();
+        }
+    }
+}
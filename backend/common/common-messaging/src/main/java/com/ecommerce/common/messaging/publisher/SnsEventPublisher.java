@@ -1,31 +1,27 @@
 package com.ecommerce.common.messaging.publisher;
 
 import com.ecommerce.common.messaging.event.DomainEvent;
-import com.ecommerce.common.messaging.event.EventEnvelope;
-import com.ecommerce.common.util.JsonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.sns.SnsClient;
-import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sns.model.PublishRequest;
 import software.amazon.awssdk.services.sns.model.PublishResponse;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * SNS implementation of EventPublisher.
  * Publishes domain events to SNS topics for fan-out to multiple consumers.
+ * Each event is published with a blocking call on the caller's thread;
+ * see {@link BatchingSnsEventPublisher} for the batched alternative.
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "app.messaging.sns.batching", name = "enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SnsEventPublisher implements EventPublisher {
 
-    private static final String DATA_TYPE_STRING = "String";
-
     private final SnsClient snsClient;
 
     @Value("${app.messaging.sns.topic-arn-prefix:}")
@@ -42,19 +38,13 @@ public class SnsEventPublisher implements EventPublisher {
     @Override
     public void publish(String topicName, DomainEvent event, String messageGroupId) {
         try {
-            EventEnvelope<DomainEvent> envelope = EventEnvelope.wrap(
-                    event,
-                    event.getEventType(),
-                    serviceName
-            );
-
-            String messageBody = JsonUtils.toJson(envelope);
-            String topicArn = resolveTopicArn(topicName);
+            String messageBody = SnsMessages.toMessageBody(event, serviceName);
+            String topicArn = SnsMessages.resolveTopicArn(topicArnPrefix, topicName);
 
             PublishRequest.Builder requestBuilder = PublishRequest.builder()
                     .topicArn(topicArn)
                     .message(messageBody)
-                    .messageAttributes(buildMessageAttributes(event));
+                    .messageAttributes(SnsMessages.buildMessageAttributes(event, serviceName));
 
             // Add message group ID for FIFO topics
             if (messageGroupId != null) {
@@ -73,39 +63,4 @@ public class SnsEventPublisher implements EventPublisher {
             throw new RuntimeException("Failed to publish event", e);
         }
     }
-
-    private String resolveTopicArn(String topicName) {
-        if (topicName.startsWith("arn:aws:sns:")) {
-            return topicName;
-        }
-        return topicArnPrefix + topicName;
-    }
-
-    private Map<String, MessageAttributeValue> buildMessageAttributes(DomainEvent event) {
-        Map<String, MessageAttributeValue> attributes = new HashMap<>();
-
-        attributes.put("eventType", MessageAttributeValue.builder()
-                .dataType(DATA_TYPE_STRING)
-                .stringValue(event.getEventType())
-                .build());
-
-        attributes.put("aggregateType", MessageAttributeValue.builder()
-                .dataType(DATA_TYPE_STRING)
-                .stringValue(event.getAggregateType())
-                .build());
-
-        attributes.put("source", MessageAttributeValue.builder()
-                .dataType(DATA_TYPE_STRING)
-                .stringValue(serviceName)
-                .build());
-
-        if (event.getCorrelationId() != null) {
-            attributes.put("correlationId", MessageAttributeValue.builder()
-                    .dataType(DATA_TYPE_STRING)
-                    .stringValue(event.getCorrelationId())
-                    .build());
-        }
-
-        return attributes;
-    }
 }
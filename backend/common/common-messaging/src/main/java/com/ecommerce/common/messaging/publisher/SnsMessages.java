@@ -0,0 +1,85 @@
+package com.ecommerce.common.messaging.publisher;
+
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.messaging.event.EventEnvelope;
+import com.ecommerce.common.util.JsonUtils;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.services.sns.model.MessageAttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Message body and attribute building shared by the SNS publishers and the outbox relay.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SnsMessages {
+
+    private static final String DATA_TYPE_STRING = "String";
+    private static final String TOPIC_ARN_PREFIX = "arn:aws:sns:";
+
+    /**
+     * Wrap the event in an envelope and serialize it.
+     */
+    public static String toMessageBody(DomainEvent event, String serviceName) {
+        EventEnvelope<DomainEvent> envelope = EventEnvelope.wrap(
+                event,
+                event.getEventType(),
+                serviceName
+        );
+        return JsonUtils.toJson(envelope);
+    }
+
+    /**
+     * Resolve a topic name to its ARN, unless it already is one.
+     */
+    public static String resolveTopicArn(String topicArnPrefix, String topicName) {
+        if (topicName.startsWith(TOPIC_ARN_PREFIX)) {
+            return topicName;
+        }
+        return topicArnPrefix + topicName;
+    }
+
+    /**
+     * Message attributes used by subscribers for filtering and routing.
+     */
+    public static Map<String, MessageAttributeValue> buildMessageAttributes(DomainEvent event, String serviceName) {
+        return buildMessageAttributes(event.getEventType(), event.getAggregateType(),
+                serviceName, event.getCorrelationId());
+    }
+
+    /**
+     * Message attributes from already extracted event metadata.
+     */
+    public static Map<String, MessageAttributeValue> buildMessageAttributes(String eventType, String aggregateType,
+                                                                          String source, String correlationId) {
+        Map<String, MessageAttributeValue> attributes = new HashMap<>();
+
+        attributes.put("eventType", MessageAttributeValue.builder()
+                .dataType(DATA_TYPE_STRING)
+                .stringValue(eventType)
+                .build());
+
+        if (aggregateType != null) {
+            attributes.put("aggregateType", MessageAttributeValue.builder()
+                    .dataType(DATA_TYPE_STRING)
+                    .stringValue(aggregateType)
+                    .build());
+        }
+
+        attributes.put("source", MessageAttributeValue.builder()
+                .dataType(DATA_TYPE_STRING)
+                .stringValue(source)
+                .build());
+
+        if (correlationId != null) {
+            attributes.put("correlationId", MessageAttributeValue.builder()
+                    .dataType(DATA_TYPE_STRING)
+                    .stringValue(correlationId)
+                    .build());
+        }
+
+        return attributes;
+    }
+}
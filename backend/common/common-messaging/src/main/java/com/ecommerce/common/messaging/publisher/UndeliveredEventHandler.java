@@ -0,0 +1,18 @@
+package com.ecommerce.common.messaging.publisher;
+
+import com.ecommerce.common.messaging.event.DomainEvent;
+
+/**
+ * Takes over events an asynchronous publisher could not deliver, either because they failed
+ * every attempt or because the publisher stopped before sending them.
+ */
+public interface UndeliveredEventHandler {
+
+    /**
+     * Keep the event for later delivery to the given topic.
+     *
+     * @param topicName the topic name or ARN the event was published to
+     * @param event     the undelivered event
+     */
+    void handleUndelivered(String topicName, DomainEvent event);
+}
@@ -0,0 +1,375 @@
+package com.ecommerce.common.messaging.consumer;
+
+import com.ecommerce.common.messaging.config.SqsConsumerProperties;
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.messaging.event.EventEnvelope;
+import com.ecommerce.common.messaging.idempotency.IdempotencyStore;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.common.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SqsMessageListenerContainer Tests")
+class SqsMessageListenerContainerTest extends BaseUnitTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/000000000000/test-queue";
+
+    @Mock
+    private SqsClient sqsClient;
+
+    @Mock
+    private ObjectProvider<EventHandler<?>> eventHandlers;
+
+    @Mock
+    private ObjectProvider<IdempotencyStore> idempotencyStoreProvider;
+
+    @Mock
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final BlockingQueue<List<Message>> receiveResponses = new LinkedBlockingQueue<>();
+    private final List<TestEvent> handled = new ArrayList<>();
+
+    private SqsConsumerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private SqsMessageListenerContainer container;
+    private Consumer<TestEvent> handlerBehaviour;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqsConsumerProperties();
+        properties.setQueues(List.of(QUEUE_URL));
+        properties.setAckInterval(Duration.ofMinutes(1));
+        properties.setShutdownTimeout(Duration.ofSeconds(2));
+        meterRegistry = new SimpleMeterRegistry();
+        handlerBehaviour = event -> { };
+
+        lenient().when(eventHandlers.orderedStream()).thenAnswer(invocation -> Stream.of(new TestEventHandler()));
+        lenient().when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class))).thenAnswer(invocation -> {
+            // Stands in for a long poll: returns what the test queued, or nothing after a short wait
+            List<Message> messages;
+            try {
+                messages = receiveResponses.poll(50, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                messages = null;
+            }
+            return ReceiveMessageResponse.builder().messages(messages != null ? messages : List.of()).build();
+        });
+        lenient().when(sqsClient.deleteMessageBatch(any(DeleteMessageBatchRequest.class)))
+                .thenReturn(DeleteMessageBatchResponse.builder().build());
+        lenient().when(sqsClient.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class)))
+                .thenReturn(ChangeMessageVisibilityBatchResponse.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null && container.isRunning()) {
+            container.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should only ask for as many messages as there are free handler slots")
+    void shouldLimitBatchToFreePermits() {
+        // Given: three slots, two of them taken by handlers that do not finish
+        properties.setMaxConcurrency(3);
+        CountDownLatch release = new CountDownLatch(1);
+        handlerBehaviour = event -> awaitQuietly(release);
+        receiveResponses.add(List.of(message("TEST_EVENT"), message("TEST_EVENT")));
+
+        // When
+        start();
+
+        // Then
+        verify(sqsClient, timeout(2000)).receiveMessage(argThat((ReceiveMessageRequest request) ->
+                request.maxNumberOfMessages() == 3));
+        verify(sqsClient, timeout(2000).atLeastOnce()).receiveMessage(argThat((ReceiveMessageRequest request) ->
+                request.maxNumberOfMessages() == 1));
+        verify(sqsClient, never()).receiveMessage(argThat((ReceiveMessageRequest request) ->
+                request.maxNumberOfMessages() == 2));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("should delete handled messages in batches of at most ten")
+    void shouldDeleteHandledMessagesInBatches() {
+        // Given
+        List<Message> messages = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            messages.add(message("TEST_EVENT"));
+        }
+        receiveResponses.add(messages.subList(0, 10));
+        receiveResponses.add(messages.subList(10, 12));
+        start();
+        await().atMost(Duration.ofSeconds(2)).until(() -> handledCount() == 12);
+
+        // When
+        container.stop();
+
+        // Then
+        ArgumentCaptor<DeleteMessageBatchRequest> requests = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(sqsClient, times(2)).deleteMessageBatch(requests.capture());
+        assertThat(requests.getAllValues()).extracting(request -> request.entries().size()).containsExactly(10, 2);
+        assertThat(requests.getAllValues().stream()
+                .flatMap(request -> request.entries().stream())
+                .map(DeleteMessageBatchRequestEntry::receiptHandle))
+                .containsExactlyInAnyOrderElementsOf(messages.stream().map(Message::receiptHandle).toList());
+    }
+
+    @Test
+    @DisplayName("should extend the visibility of a message whose handler is still running")
+    void shouldExtendVisibilityForSlowHandler() {
+        // Given
+        properties.setVisibilityExtensionInterval(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        handlerBehaviour = event -> awaitQuietly(release);
+        Message message = message("TEST_EVENT");
+        receiveResponses.add(List.of(message));
+
+        // When
+        start();
+
+        // Then
+        ArgumentCaptor<ChangeMessageVisibilityBatchRequest> request =
+                ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+        verify(sqsClient, timeout(2000).atLeastOnce()).changeMessageVisibilityBatch(request.capture());
+        ChangeMessageVisibilityBatchRequestEntry entry = request.getValue().entries().get(0);
+        assertThat(entry.receiptHandle()).isEqualTo(message.receiptHandle());
+        assertThat(entry.visibilityTimeout()).isEqualTo((int) properties.getVisibilityTimeout().toSeconds());
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("should leave a message on the queue when its handler fails")
+    void shouldLeaveFailedMessageForRedelivery() {
+        // Given
+        handlerBehaviour = event -> {
+            throw new IllegalStateException("boom");
+        };
+        receiveResponses.add(List.of(message("TEST_EVENT")));
+        start();
+        await().atMost(Duration.ofSeconds(2)).until(() -> messageCount("failed") == 1);
+
+        // When
+        container.stop();
+
+        // Then
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("should leave a message without a handler on the queue for the redrive policy")
+    void shouldLeaveUnhandledMessageOnQueue() {
+        // Given
+        receiveResponses.add(List.of(message("UNKNOWN_EVENT")));
+        start();
+        await().atMost(Duration.ofSeconds(2)).until(() -> messageCount("unhandled") == 1);
+
+        // When
+        container.stop();
+
+        // Then
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+        assertThat(handledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should record a message in the handler's transaction and roll both back when the handler fails")
+    void shouldRollBackRecordWithFailedHandler() {
+        // Given
+        useIdempotencyStore();
+        when(idempotencyStore.markProcessed(any(), any())).thenReturn(true);
+        handlerBehaviour = event -> {
+            throw new IllegalStateException("boom");
+        };
+        receiveResponses.add(List.of(message("TEST_EVENT")));
+        start();
+        await().atMost(Duration.ofSeconds(2)).until(() -> messageCount("failed") == 1);
+
+        // When
+        container.stop();
+
+        // Then
+        InOrder inOrder = inOrder(transactionManager, idempotencyStore);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(idempotencyStore).markProcessed(any(), any());
+        inOrder.verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(sqsClient, never()).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("should acknowledge without handling a message another copy recorded first")
+    void shouldSkipMessageRecordedConcurrently() {
+        // Given: the check passes, but another copy's transaction recorded it meanwhile
+        useIdempotencyStore();
+        when(idempotencyStore.markProcessed(any(), any())).thenReturn(false);
+        Message message = message("TEST_EVENT");
+        receiveResponses.add(List.of(message));
+        start();
+        await().atMost(Duration.ofSeconds(2)).until(() -> messageCount("duplicate") == 1);
+
+        // When
+        container.stop();
+
+        // Then
+        assertThat(handledCount()).isZero();
+        verify(transactionManager).commit(any());
+        ArgumentCaptor<DeleteMessageBatchRequest> request = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(sqsClient).deleteMessageBatch(request.capture());
+        assertThat(request.getValue().entries()).extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+                .containsExactly(message.receiptHandle());
+    }
+
+    @Test
+    @DisplayName("should stop polling, wait for running handlers and delete their messages on stop")
+    void shouldShutDownCleanly() throws InterruptedException {
+        // Given: a handler that is still running when stop() is called
+        CountDownLatch started = new CountDownLatch(1);
+        handlerBehaviour = event -> {
+            started.countDown();
+            sleep(200);
+        };
+        Message message = message("TEST_EVENT");
+        receiveResponses.add(List.of(message));
+        start();
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        container.stop();
+
+        // Then
+        assertThat(container.isRunning()).isFalse();
+        assertThat(handledCount()).isEqualTo(1);
+        ArgumentCaptor<DeleteMessageBatchRequest> request = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(sqsClient).deleteMessageBatch(request.capture());
+        assertThat(request.getValue().entries()).extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+                .containsExactly(message.receiptHandle());
+
+        clearInvocations(sqsClient);
+        sleep(200);
+        verify(sqsClient, never()).receiveMessage(any(ReceiveMessageRequest.class));
+    }
+
+    private void start() {
+        container = new SqsMessageListenerContainer(sqsClient, properties, eventHandlers,
+                idempotencyStoreProvider, transactionManagerProvider, meterRegistry);
+        container.start();
+    }
+
+    private void useIdempotencyStore() {
+        when(idempotencyStoreProvider.getIfAvailable()).thenReturn(idempotencyStore);
+        when(transactionManagerProvider.getIfAvailable()).thenReturn(transactionManager);
+        when(idempotencyStore.isProcessed(any(), any())).thenReturn(false);
+    }
+
+    private synchronized int handledCount() {
+        return handled.size();
+    }
+
+    private double messageCount(String outcome) {
+        return meterRegistry.get("messaging.sqs.consumer.messages").tag("outcome", outcome).counter().count();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Message message(String eventType) {
+        TestEvent event = new TestEvent(eventType);
+        try {
+            return Message.builder()
+                    .messageId(UUID.randomUUID().toString())
+                    .receiptHandle("receipt-" + UUID.randomUUID())
+                    .body(JsonUtils.getObjectMapper().writeValueAsString(EventEnvelope.wrap(event, eventType, "test")))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class TestEventHandler implements EventHandler<TestEvent> {
+
+        @Override
+        public void handle(TestEvent event) {
+            handlerBehaviour.accept(event);
+            synchronized (SqsMessageListenerContainerTest.this) {
+                handled.add(event);
+            }
+        }
+
+        @Override
+        public Class<TestEvent> getEventType() {
+            return TestEvent.class;
+        }
+
+        @Override
+        public String getEventTypeName() {
+            return "TEST_EVENT";
+        }
+    }
+
+    private static final class TestEvent extends DomainEvent {
+
+        private TestEvent() {
+        }
+
+        TestEvent(String eventType) {
+            super(eventType, UUID.randomUUID().toString());
+        }
+    }
+}
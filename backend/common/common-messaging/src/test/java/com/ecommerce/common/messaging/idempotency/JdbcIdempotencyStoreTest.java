@@ -0,0 +1,204 @@
+package com.ecommerce.common.messaging.idempotency;
+
+import com.ecommerce.common.messaging.config.IdempotencyProperties;
+import com.ecommerce.common.util.UuidUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the store against the services' processed_messages migrations on an in-memory database
+ * in MySQL mode.
+ */
+@DisplayName("JdbcIdempotencyStore Tests")
+class JdbcIdempotencyStoreTest {
+
+    /**
+     * Relative to this module, where the tests run.
+     */
+    private static final String ORDER_SERVICE_MIGRATION =
+            "../../order-service/src/main/resources/db/migration/V3__create_processed_messages_table.sql";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private IdempotencyProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+    }
+
+    @Test
+    @DisplayName("should report a message as processed only after it was marked")
+    void shouldReportProcessedAfterMark() {
+        // Given
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        UUID messageId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        assertThat(store.isProcessed(messageId, eventId)).isFalse();
+
+        // When
+        store.markProcessed(messageId, eventId);
+
+        // Then
+        assertThat(store.isProcessed(messageId, eventId)).isTrue();
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should catch a duplicate from the in-memory window without the table")
+    void shouldCatchDuplicateInRecentWindow() {
+        // Given
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        UUID messageId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        store.markProcessed(messageId, eventId);
+
+        // When: the row is gone, so only the window can answer
+        jdbcTemplate.update("DELETE FROM processed_messages");
+
+        // Then
+        assertThat(store.isProcessed(messageId, eventId)).isTrue();
+        assertThat(store.isProcessed(UUID.randomUUID(), eventId)).isTrue();
+        assertThat(store.isProcessed(UUID.randomUUID(), UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("should catch a duplicate from the table once the window has expired")
+    void shouldCatchDuplicateAfterWindowExpired() {
+        // Given: a window that keeps nothing
+        properties.setRecentWindowTtl(Duration.ZERO);
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        UUID messageId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        store.markProcessed(messageId, eventId);
+
+        // When: redelivered, and republished in a new envelope, then marked again
+        boolean redelivered = store.isProcessed(messageId, eventId);
+        boolean republished = store.isProcessed(UUID.randomUUID(), eventId);
+        store.markProcessed(messageId, eventId);
+        store.markProcessed(UUID.randomUUID(), eventId);
+
+        // Then: the duplicate inserts are ignored
+        assertThat(redelivered).isTrue();
+        assertThat(republished).isTrue();
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should un-mark a message when the handler's transaction rolls back")
+    void shouldUnmarkOnRollback() {
+        // Given
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        UUID messageId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+
+        // When: marked, then the handler fails
+        transaction.executeWithoutResult(status -> {
+            assertThat(store.markProcessed(messageId, eventId)).isTrue();
+            status.setRollbackOnly();
+        });
+
+        // Then: neither the table nor the in-memory window remembers it
+        assertThat(countRows()).isZero();
+        assertThat(store.isProcessed(messageId, eventId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("should report a message already recorded by a committed transaction")
+    void shouldReportAlreadyMarked() {
+        // Given
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        UUID eventId = UUID.randomUUID();
+        transaction.executeWithoutResult(status -> store.markProcessed(UUID.randomUUID(), eventId));
+
+        // When: the same event republished in a new envelope
+        Boolean marked = transaction.execute(status -> store.markProcessed(UUID.randomUUID(), eventId));
+
+        // Then
+        assertThat(marked).isFalse();
+        assertThat(store.isProcessed(null, eventId)).isTrue();
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should purge expired rows in batches and keep the rest")
+    void shouldPurgeExpiredRows() {
+        // Given: five expired rows and a purge batch smaller than that
+        properties.setPurgeBatchSize(2);
+        JdbcIdempotencyStore store = createStore(ORDER_SERVICE_MIGRATION);
+        Timestamp expired = Timestamp.from(Instant.now().minus(Duration.ofHours(1)));
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO processed_messages (message_id, event_id, expires_at) VALUES (?, ?, ?)",
+                    UuidUtils.toBytes(UUID.randomUUID()), UuidUtils.toBytes(UUID.randomUUID()), expired);
+        }
+        UUID messageId = UUID.randomUUID();
+
+        // When: the first mark starts a purge
+        store.markProcessed(messageId, null);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> countRows() == 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_messages WHERE message_id = ?",
+                Integer.class, UuidUtils.toBytes(messageId))).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "../../inventory-service/src/main/resources/db/migration/V3__create_processed_messages_table.sql",
+            "../../notification-service/src/main/resources/db/migration/V2__create_processed_messages_table.sql",
+            ORDER_SERVICE_MIGRATION,
+            "../../payment-service/src/main/resources/db/migration/V3__create_processed_messages_table.sql"
+    })
+    @DisplayName("should work on the table each service's migration creates")
+    void shouldWorkOnEachServiceMigration(String migration) {
+        // Given
+        properties.setRecentWindowTtl(Duration.ZERO);
+        JdbcIdempotencyStore store = createStore(migration);
+        UUID messageId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+
+        // When
+        store.markProcessed(messageId, eventId);
+        store.markProcessed(messageId, eventId);
+
+        // Then
+        assertThat(store.isProcessed(messageId, null)).isTrue();
+        assertThat(store.isProcessed(UUID.randomUUID(), eventId)).isTrue();
+        assertThat(countRows()).isEqualTo(1);
+    }
+
+    private JdbcIdempotencyStore createStore(String migration) {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:idempotency-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new FileSystemResource(Path.of(migration))).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        JdbcIdempotencyStore store = new JdbcIdempotencyStore(jdbcTemplate, properties);
+        store.init();
+        return store;
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_messages", Integer.class);
+    }
+}
@@ -0,0 +1,280 @@
+package com.ecommerce.common.messaging.outbox;
+
+import com.ecommerce.common.messaging.config.OutboxProperties;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.NotFoundException;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest extends BaseUnitTest {
+
+    private static final String TOPIC = "product-events";
+
+    @Mock
+    private JdbcOutboxStore outboxStore;
+
+    @Mock
+    private SnsClient snsClient;
+
+    private OutboxProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxProperties();
+        properties.setShards(1);
+        properties.setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+
+        relay = new OutboxRelay(outboxStore, snsClient, properties, meterRegistry);
+        ReflectionTestUtils.setField(relay, "topicArnPrefix", "arn:aws:sns:us-east-1:000000000000:");
+        ReflectionTestUtils.setField(relay, "serviceName", "test-service");
+        ReflectionTestUtils.setField(relay, "running", true);
+        relay.init();
+
+        lenient().when(outboxStore.claimLease(eq(0), any(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("should publish pending events in one batch and delete them")
+    void shouldPublishAndDeletePendingEvents() {
+        // Given
+        List<OutboxMessage> pending = messages(3);
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(pending);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenAnswer(invocation ->
+                succeeded(invocation.getArgument(0)));
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isEqualTo(3);
+        verify(outboxStore).deleteByIds(List.of(1L, 2L, 3L));
+        verify(outboxStore).releaseLease(eq(0), any());
+        assertThat(stuckShards()).isZero();
+    }
+
+    @Test
+    @DisplayName("should delete only the events before a failed entry and leave the shard stuck")
+    void shouldStopAtFirstFailedEntry() {
+        // Given: SNS fails the second entry on its side
+        List<OutboxMessage> pending = messages(3);
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(pending);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenReturn(failedAt(1, false, "InternalError"));
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isEqualTo(1);
+        verify(outboxStore).deleteByIds(List.of(1L));
+        verify(outboxStore, never()).recordFailure(anyLong(), anyString());
+        verify(outboxStore, never()).moveToDeadLetters(anyLong(), anyString());
+        assertThat(stuckShards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should move a sender fault to the dead letters and relay the rest of the shard")
+    void shouldDeadLetterSenderFaultAndContinue() {
+        // Given: the second entry can never be accepted, the retry of the rest succeeds
+        List<OutboxMessage> pending = messages(3);
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(pending);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenReturn(failedAt(1, true, "InvalidParameter"))
+                .thenAnswer(invocation -> succeeded(invocation.getArgument(0)));
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxStore).moveToDeadLetters(eq(2L), contains("InvalidParameter"));
+        verify(outboxStore).deleteByIds(List.of(1L, 3L));
+        assertThat(publishedMessages()).containsExactly(
+                List.of("payload-1", "payload-2", "payload-3"), List.of("payload-3"));
+        assertThat(deadLettered()).isEqualTo(1.0);
+        assertThat(stuckShards()).isZero();
+    }
+
+    @Test
+    @DisplayName("should send the oldest event alone when a batch is refused and count the attempt")
+    void shouldIsolateOldestEventWhenBatchIsRefused() {
+        // Given
+        List<OutboxMessage> pending = messages(3);
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(pending);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class))).thenThrow(NotFoundException.builder()
+                .message("Topic does not exist").statusCode(404).build());
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isZero();
+        assertThat(publishedMessages()).containsExactly(
+                List.of("payload-1", "payload-2", "payload-3"), List.of("payload-1"));
+        verify(outboxStore).recordFailure(eq(1L), contains("Topic does not exist"));
+        verify(outboxStore, never()).moveToDeadLetters(anyLong(), anyString());
+        assertThat(stuckShards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should move an event to the dead letters on its last attempt")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // Given: the oldest event already failed twice and is refused once more
+        List<OutboxMessage> pending = new ArrayList<>(List.of(message(1, properties.getMaxAttempts() - 1)));
+        pending.addAll(messages(2, 3));
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(pending);
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenThrow(SnsException.builder().message("Request too long").statusCode(400).build())
+                .thenThrow(SnsException.builder().message("Request too long").statusCode(400).build())
+                .thenAnswer(invocation -> succeeded(invocation.getArgument(0)));
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isEqualTo(2);
+        verify(outboxStore).moveToDeadLetters(eq(1L), contains("Request too long"));
+        verify(outboxStore, never()).recordFailure(anyLong(), anyString());
+        verify(outboxStore).deleteByIds(List.of(2L, 3L));
+        assertThat(stuckShards()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not count throttling or SNS errors against the event")
+    void shouldNotCountTransientErrors() {
+        // Given
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(messages(2));
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenThrow(SnsException.builder().message("Service unavailable").statusCode(503).build());
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isZero();
+        verify(snsClient, times(1)).publishBatch(any(PublishBatchRequest.class));
+        verify(outboxStore, never()).recordFailure(anyLong(), anyString());
+        verify(outboxStore, never()).moveToDeadLetters(anyLong(), anyString());
+        assertThat(stuckShards()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should clear the stuck gauge once the shard makes progress again")
+    void shouldClearStuckShardOnProgress() {
+        // Given
+        when(outboxStore.findPending(0, properties.getBatchSize())).thenReturn(messages(1));
+        when(snsClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenReturn(failedAt(0, false, "InternalError"))
+                .thenAnswer(invocation -> succeeded(invocation.getArgument(0)));
+        relay.relayAllShards();
+        assertThat(stuckShards()).isEqualTo(1);
+
+        // When
+        relay.relayAllShards();
+
+        // Then
+        assertThat(stuckShards()).isZero();
+    }
+
+    @Test
+    @DisplayName("should skip shards leased by another instance")
+    void shouldSkipShardWithoutLease() {
+        // Given
+        when(outboxStore.claimLease(eq(0), any(), anyLong())).thenReturn(false);
+
+        // When
+        int relayed = relay.relayAllShards();
+
+        // Then
+        assertThat(relayed).isZero();
+        verify(outboxStore, never()).findPending(anyInt(), anyInt());
+        verify(outboxStore, never()).releaseLease(anyInt(), any());
+    }
+
+    private double stuckShards() {
+        return meterRegistry.get("messaging.outbox.relay.shards.stuck").gauge().value();
+    }
+
+    private double deadLettered() {
+        return meterRegistry.get("messaging.outbox.relay.events").tag("outcome", "dead_lettered").counter().count();
+    }
+
+    private List<List<String>> publishedMessages() {
+        ArgumentCaptor<PublishBatchRequest> requests = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(snsClient, atLeastOnce()).publishBatch(requests.capture());
+        return requests.getAllValues().stream()
+                .map(request -> request.publishBatchRequestEntries().stream()
+                        .map(PublishBatchRequestEntry::message)
+                        .toList())
+                .toList();
+    }
+
+    private static List<OutboxMessage> messages(int count) {
+        return messages(1, count);
+    }
+
+    private static List<OutboxMessage> messages(int fromId, int toId) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (int id = fromId; id <= toId; id++) {
+            messages.add(message(id, 0));
+        }
+        return messages;
+    }
+
+    private static OutboxMessage message(long id, int attempts) {
+        return OutboxMessage.builder()
+                .id(id)
+                .shard(0)
+                .eventId(UUID.randomUUID())
+                .eventType("PRODUCT_UPDATED")
+                .aggregateId(UUID.randomUUID())
+                .aggregateType("Product")
+                .topic(TOPIC)
+                .payload("payload-" + id)
+                .attempts(attempts)
+                .build();
+    }
+
+    private static PublishBatchResponse succeeded(PublishBatchRequest request) {
+        return PublishBatchResponse.builder()
+                .successful(request.publishBatchRequestEntries().stream()
+                        .map(entry -> PublishBatchResultEntry.builder().id(entry.id()).messageId(UUID.randomUUID().toString()).build())
+                        .toList())
+                .build();
+    }
+
+    private static PublishBatchResponse failedAt(int index, boolean senderFault, String code) {
+        return PublishBatchResponse.builder()
+                .failed(BatchResultErrorEntry.builder()
+                        .id(String.valueOf(index)).code(code).message("rejected").senderFault(senderFault).build())
+                .build();
+    }
+}
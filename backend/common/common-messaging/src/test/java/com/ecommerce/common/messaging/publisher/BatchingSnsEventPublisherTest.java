@@ -0,0 +1,271 @@
+package com.ecommerce.common.messaging.publisher;
+
+import com.ecommerce.common.messaging.config.SnsBatchingProperties;
+import com.ecommerce.common.messaging.event.DomainEvent;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BatchingSnsEventPublisher Tests")
+class BatchingSnsEventPublisherTest extends BaseUnitTest {
+
+    private static final String TOPIC = "product-events";
+    private static final String TOPIC_ARN = "arn:aws:sns:us-east-1:000000000000:" + TOPIC;
+
+    @Mock
+    private SnsAsyncClient snsAsyncClient;
+
+    @Mock
+    private ObjectProvider<UndeliveredEventHandler> undeliveredEventHandlers;
+
+    @Mock
+    private UndeliveredEventHandler undeliveredEventHandler;
+
+    private SnsBatchingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchingSnsEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SnsBatchingProperties();
+        properties.setLinger(Duration.ofMillis(20));
+        properties.setRetryBackoff(Duration.ofMillis(10));
+        properties.setShutdownTimeout(Duration.ofSeconds(2));
+        lenient().when(undeliveredEventHandlers.getIfAvailable(any())).thenReturn(undeliveredEventHandler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null && publisher.isRunning()) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("should send events to the same topic as one PublishBatch")
+    void shouldSendOneBatchPerTopic() {
+        // Given
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(succeeded(invocation.getArgument(0))));
+        start();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(TOPIC, new TestEvent());
+        }
+
+        // Then
+        ArgumentCaptor<PublishBatchRequest> request = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(snsAsyncClient, timeout(2000)).publishBatch(request.capture());
+        assertThat(request.getValue().topicArn()).isEqualTo(TOPIC_ARN);
+        assertThat(request.getValue().publishBatchRequestEntries()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("should retry an entry that failed inside a batch")
+    void shouldRetryFailedEntry() {
+        // Given
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PublishBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder()
+                                .id("0").code("Throttled").senderFault(false).build())
+                        .build()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(succeeded(invocation.getArgument(0))));
+        start();
+
+        // When
+        publisher.publish(TOPIC, new TestEvent());
+
+        // Then
+        verify(snsAsyncClient, timeout(2000).times(2)).publishBatch(any(PublishBatchRequest.class));
+        verifyNoInteractions(undeliveredEventHandler);
+    }
+
+    @Test
+    @DisplayName("should hand an event over once it failed every attempt")
+    void shouldHandOverAfterLastAttempt() {
+        // Given
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(SnsException.builder().message("down").build()));
+        start();
+        TestEvent event = new TestEvent();
+
+        // When
+        publisher.publish(TOPIC, event);
+
+        // Then
+        verify(undeliveredEventHandler, timeout(2000)).handleUndelivered(TOPIC, event);
+        verify(snsAsyncClient, times(properties.getMaxAttempts())).publishBatch(any(PublishBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("should hand over an entry SNS rejects as malformed without retrying it")
+    void shouldHandOverSenderFault() {
+        // Given
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(PublishBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder()
+                                .id("0").code("InvalidParameter").senderFault(true).build())
+                        .build()));
+        start();
+        TestEvent event = new TestEvent();
+
+        // When
+        publisher.publish(TOPIC, event);
+
+        // Then
+        verify(undeliveredEventHandler, timeout(2000)).handleUndelivered(TOPIC, event);
+        verify(snsAsyncClient, times(1)).publishBatch(any(PublishBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("should publish queued events when stopped")
+    void shouldDrainQueueOnStop() {
+        // Given
+        properties.setLinger(Duration.ofMinutes(1));
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(succeeded(invocation.getArgument(0))));
+        start();
+        publisher.publish(TOPIC, new TestEvent());
+        publisher.publish(TOPIC, new TestEvent());
+
+        // When
+        publisher.stop();
+
+        // Then
+        ArgumentCaptor<PublishBatchRequest> request = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(snsAsyncClient).publishBatch(request.capture());
+        assertThat(request.getValue().publishBatchRequestEntries()).hasSize(2);
+        verifyNoInteractions(undeliveredEventHandler);
+    }
+
+    @Test
+    @DisplayName("should hand over events still queued when shutdown times out")
+    void shouldHandOverQueuedEventsWhenShutdownTimesOut() {
+        // Given: one batch at a time, and the first one never completes
+        properties.setBatchSize(1);
+        properties.setMaxInFlightBatches(1);
+        properties.setShutdownTimeout(Duration.ofMillis(200));
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(new CompletableFuture<>());
+        start();
+        List<TestEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TestEvent event = new TestEvent();
+            events.add(event);
+            publisher.publish(TOPIC, event);
+        }
+
+        // When
+        publisher.stop();
+
+        // Then: the first event is in flight and the drainer holds the second waiting for a slot
+        verify(undeliveredEventHandler, times(3)).handleUndelivered(eq(TOPIC), any(DomainEvent.class));
+        verify(undeliveredEventHandler).handleUndelivered(TOPIC, events.get(4));
+    }
+
+    @Test
+    @DisplayName("should hand over an event enqueued after stop drained the queue")
+    void shouldHandOverEventEnqueuedDuringStop() {
+        // Given: the first batch never completes, the drainer waits for a slot with the second,
+        // the third fills the queue and a fourth caller waits for queue space
+        properties.setBatchSize(1);
+        properties.setMaxInFlightBatches(1);
+        properties.setQueueCapacity(1);
+        properties.setEnqueueTimeout(Duration.ofSeconds(5));
+        properties.setShutdownTimeout(Duration.ofMillis(200));
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(new CompletableFuture<>());
+        start();
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(TOPIC, new TestEvent());
+        }
+        TestEvent late = new TestEvent();
+        Thread caller = Thread.ofPlatform().start(() -> publisher.publish(TOPIC, late));
+        await().atMost(Duration.ofSeconds(2)).until(() -> caller.getState() == Thread.State.TIMED_WAITING);
+
+        // When: stop() drains the queue, which lets the waiting caller in
+        publisher.stop();
+
+        // Then
+        verify(undeliveredEventHandler, timeout(2000)).handleUndelivered(TOPIC, late);
+    }
+
+    @Test
+    @DisplayName("should hand over an event the full queue turns away, without failing the caller")
+    void shouldHandOverOverflowOnCallerThread() {
+        // Given: the first batch never completes, the drainer waits for a slot with the second
+        // and the third fills the queue
+        properties.setBatchSize(1);
+        properties.setMaxInFlightBatches(1);
+        properties.setQueueCapacity(1);
+        properties.setEnqueueTimeout(Duration.ofMillis(10));
+        when(snsAsyncClient.publishBatch(any(PublishBatchRequest.class))).thenReturn(new CompletableFuture<>());
+        start();
+        publisher.publish(TOPIC, new TestEvent());
+        verify(snsAsyncClient, timeout(2000)).publishBatch(any(PublishBatchRequest.class));
+        publisher.publish(TOPIC, new TestEvent());
+        await().atMost(Duration.ofSeconds(2)).until(() -> meterRegistry.get("messaging.sns.publisher.queue.size")
+                .gauge().value() == 0);
+        publisher.publish(TOPIC, new TestEvent());
+        TestEvent overflow = new TestEvent();
+        doThrow(new IllegalStateException("outbox down")).when(undeliveredEventHandler)
+                .handleUndelivered(TOPIC, overflow);
+
+        // When
+        publisher.publish(TOPIC, overflow);
+
+        // Then: handed over before publish returned, and its failure was not rethrown
+        verify(undeliveredEventHandler).handleUndelivered(TOPIC, overflow);
+        assertThat(meterRegistry.get("messaging.sns.publisher.events").tag("outcome", "overflow")
+                .counter().count()).isEqualTo(1);
+    }
+
+    private void start() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new BatchingSnsEventPublisher(snsAsyncClient, properties,
+                meterRegistry, undeliveredEventHandlers);
+        ReflectionTestUtils.setField(publisher, "topicArnPrefix", "arn:aws:sns:us-east-1:000000000000:");
+        ReflectionTestUtils.setField(publisher, "serviceName", "test-service");
+        publisher.init();
+        publisher.start();
+    }
+
+    private static PublishBatchResponse succeeded(PublishBatchRequest request) {
+        return PublishBatchResponse.builder()
+                .successful(request.publishBatchRequestEntries().stream()
+                        .map(entry -> PublishBatchResultEntry.builder().id(entry.id()).messageId(UUID.randomUUID().toString()).build())
+                        .toList())
+                .build();
+    }
+
+    private static final class TestEvent extends DomainEvent {
+
+        TestEvent() {
+            super("TEST_EVENT", UUID.randomUUID().toString());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.common.security.filter;
 import com.ecommerce.common.security.UserPrincipal;
 import com.ecommerce.common.security.jwt.JwtTokenProvider;
 import com.ecommerce.common.security.jwt.TokenBlacklistService;
+import com.ecommerce.common.security.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,7 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.Optional;
 
 /**
  * JWT authentication filter that validates tokens and sets security context.
@@ -41,12 +42,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+            // Parse and verify once; all claims come from the verified token
+            Optional<VerifiedToken> verified = StringUtils.hasText(token)
+                    ? jwtTokenProvider.verifyToken(token)
+                    : Optional.empty();
+
+            if (verified.isPresent()) {
                 // Check if token is blacklisted (logged out)
-                if (tokenBlacklistService.isBlacklisted(token)) {
+                if (tokenBlacklistService.isBlacklisted(verified.get())) {
                     log.debug("Token is blacklisted");
                 } else {
-                    setAuthentication(token, request);
+                    setAuthentication(verified.get(), request);
                 }
             }
         } catch (Exception e) {
@@ -61,12 +67,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return jwtTokenProvider.extractTokenFromHeader(bearerToken);
     }
 
-    private void setAuthentication(String token, HttpServletRequest request) {
-        UUID userId = jwtTokenProvider.getUserIdFromToken(token);
-        String email = jwtTokenProvider.getEmailFromToken(token);
-        String role = jwtTokenProvider.getRoleFromToken(token);
-
-        UserPrincipal userPrincipal = UserPrincipal.fromToken(userId, email, role);
+    private void setAuthentication(VerifiedToken token, HttpServletRequest request) {
+        UserPrincipal userPrincipal = UserPrincipal.fromToken(
+                token.getUserId(), token.getEmail(), token.getRole());
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
@@ -78,6 +81,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("Set authentication for user: {}", email);
+        log.debug("Set authentication for user: {}", token.getEmail());
     }
 }
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * JWT configuration properties.
  */
@@ -44,4 +46,54 @@ public class JwtProperties {
      * Token prefix (e.g., "Bearer ").
      */
     private String tokenPrefix = "Bearer ";
+
+    /**
+     * Maximum number of verified tokens kept in the local cache.
+     * Entries expire at the token's own expiration. Set to 0 to disable.
+     */
+    private long verifiedTokenCacheSize = 10000;
+
+    /**
+     * Local tiers in front of the Redis token blacklist.
+     */
+    private Blacklist blacklist = new Blacklist();
+
+    @Data
+    public static class Blacklist {
+
+        /**
+         * Check revocations against an in-process Bloom filter before asking Redis.
+         */
+        private boolean localFilterEnabled = true;
+
+        /**
+         * Redis pub/sub channel used to broadcast revoked token IDs.
+         */
+        private String channel = "token:blacklist:events";
+
+        /**
+         * Expected number of revoked tokens alive at the same time.
+         */
+        private int expectedInsertions = 100000;
+
+        /**
+         * Bloom filter false positive probability.
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * How long Redis answers for "maybe revoked" tokens are cached locally.
+         */
+        private Duration cacheTtl = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of cached Redis answers.
+         */
+        private long cacheSize = 10000;
+
+        /**
+         * How often the filter is rebuilt from Redis to drop expired entries.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(5);
+    }
 }
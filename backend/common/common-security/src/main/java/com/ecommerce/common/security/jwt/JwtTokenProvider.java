@@ -1,16 +1,24 @@
 package com.ecommerce.common.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -23,12 +31,22 @@ public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
     private SecretKey secretKey;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(Expiry.creating((String key, VerifiedToken token) ->
+                        Duration.between(Instant.now(), token.getExpiresAt())))
+                .build();
     }
 
     /**
@@ -73,6 +91,39 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verify the token signature and read all claims from a single parse.
+     * Verified tokens are cached by token hash until their own expiration,
+     * so repeated requests with the same token skip the signature check.
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String key = hashToken(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parseToken(token);
+            if (!StringUtils.hasText(claims.getSubject())) {
+                log.warn("Invalid JWT token: no subject");
+                return Optional.empty();
+            }
+            VerifiedToken verified = toVerifiedToken(claims);
+            if (verified.getExpiresAt() != null) {
+                verifiedTokens.put(key, verified);
+            }
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extract user ID from token.
      */
@@ -109,13 +160,7 @@ public class JwtTokenProvider {
      * Validate token and return true if valid.
      */
     public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
-        }
+        return verifyToken(token).isPresent();
     }
 
     /**
@@ -135,11 +180,26 @@ public class JwtTokenProvider {
     }
 
     private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        return VerifiedToken.builder()
+                .jti(claims.getId())
+                .userId(UUID.fromString(claims.getSubject()))
+                .email(claims.get("email", String.class))
+                .role(claims.get("role", String.class))
+                .issuedAt(toInstant(claims.getIssuedAt()))
+                .expiresAt(toInstant(claims.getExpiration()))
+                .build();
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static String hashToken(String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
     }
 
     /**
@@ -0,0 +1,264 @@
+package com.ecommerce.common.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process index of revoked token IDs (jti) in front of the Redis blacklist.
+ *
+ * A Bloom filter answers "definitely not revoked" for almost every request without
+ * a Redis round trip. Only when the filter says "maybe" is Redis consulted, and that
+ * answer is kept in a small TTL cache. The filter is seeded from Redis and kept in
+ * sync through a pub/sub channel that {@link TokenBlacklistService} publishes to.
+ *
+ * Until the filter has been seeded after a (re)subscription, every lookup falls back
+ * to Redis so that no revocation can be missed while the channel was not listening.
+ * The filter is also rebuilt periodically, which drops expired entries and bounds the
+ * effect of any lost pub/sub message to the refresh interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenIndex implements MessageListener, SubscriptionListener, SmartLifecycle {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(10);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final JwtProperties jwtProperties;
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicLong subscriptionGeneration = new AtomicLong();
+
+    private volatile BloomFilter<CharSequence> filter;
+    private volatile List<String> revokedDuringRebuild;
+    private volatile boolean subscribed;
+    private volatile boolean ready;
+    private volatile long lastRebuildAttempt;
+    private volatile Cache<String, Boolean> recentLookups;
+    private volatile RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * Answer from the local tiers for the given jti.
+     *
+     * @return {@code FALSE} if the jti is definitely not revoked, {@code TRUE} if it is
+     * known to be revoked, or {@code null} if Redis must be asked
+     */
+    public Boolean lookup(String jti) {
+        if (!isEnabled() || !isRunning()) {
+            return null;
+        }
+        refreshIfStale();
+
+        if (ready && !filter.mightContain(jti)) {
+            return Boolean.FALSE;
+        }
+        return recentLookups.getIfPresent(jti);
+    }
+
+    /**
+     * Remember the Redis answer for a jti the filter could not rule out.
+     * A "not revoked" answer never replaces a revocation that arrived while Redis was being asked.
+     */
+    public void record(String jti, boolean revoked) {
+        if (!isRunning()) {
+            return;
+        }
+        if (revoked) {
+            recentLookups.put(jti, Boolean.TRUE);
+        } else {
+            recentLookups.asMap().putIfAbsent(jti, Boolean.FALSE);
+        }
+    }
+
+    /**
+     * Add a revoked jti to the local index.
+     */
+    public synchronized void markRevoked(String jti) {
+        if (!isRunning()) {
+            return;
+        }
+        filter.put(jti);
+        if (revokedDuringRebuild != null) {
+            revokedDuringRebuild.add(jti);
+        }
+        recentLookups.put(jti, Boolean.TRUE);
+    }
+
+    /**
+     * Channel name used to broadcast revocations between instances.
+     */
+    public String getChannel() {
+        return jwtProperties.getBlacklist().getChannel();
+    }
+
+    public boolean isEnabled() {
+        return jwtProperties.getBlacklist().isLocalFilterEnabled();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        markRevoked(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        // Revocations published while we were not listening are only visible in Redis
+        subscriptionGeneration.incrementAndGet();
+        subscribed = true;
+        ready = false;
+        requestRebuild();
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        ready = false;
+    }
+
+    @Override
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        JwtProperties.Blacklist properties = jwtProperties.getBlacklist();
+        this.filter = newFilter(properties.getExpectedInsertions());
+        this.recentLookups = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+
+        RedisMessageListenerContainer container = createListenerContainer();
+        container.addMessageListener(this, new ChannelTopic(getChannel()));
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainer = container;
+    }
+
+    @Override
+    public void stop() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to stop token blacklist listener", e);
+            }
+            listenerContainer = null;
+        }
+        subscribed = false;
+        ready = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listenerContainer != null;
+    }
+
+    /**
+     * Container that delivers the revocation channel; overridden where no Redis server is available.
+     */
+    protected RedisMessageListenerContainer createListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private void refreshIfStale() {
+        long sinceLastAttempt = System.currentTimeMillis() - lastRebuildAttempt;
+        Duration interval = ready ? jwtProperties.getBlacklist().getRefreshInterval() : RETRY_DELAY;
+        if (subscribed && sinceLastAttempt > interval.toMillis()) {
+            requestRebuild();
+        }
+    }
+
+    private void requestRebuild() {
+        rebuildRequested.set(true);
+        if (rebuildRunning.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("token-blacklist-rebuild").start(this::runRebuilds);
+        }
+    }
+
+    private void runRebuilds() {
+        try {
+            while (rebuildRequested.getAndSet(false)) {
+                long generation = subscriptionGeneration.get();
+                lastRebuildAttempt = System.currentTimeMillis();
+                try {
+                    rebuild();
+                    ready = subscribed && generation == subscriptionGeneration.get();
+                } catch (Exception e) {
+                    ready = false;
+                    log.warn("Failed to rebuild token blacklist filter: {}", e.getMessage());
+                }
+            }
+        } finally {
+            rebuildRunning.set(false);
+        }
+        // A request may have arrived after the loop ended but before the flag was cleared
+        if (rebuildRequested.get()) {
+            requestRebuild();
+        }
+    }
+
+    private void rebuild() {
+        synchronized (this) {
+            revokedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<String> jtis = scanRevokedJtis();
+            int expected = Math.max(jwtProperties.getBlacklist().getExpectedInsertions(), jtis.size() * 2);
+            BloomFilter<CharSequence> rebuilt = newFilter(expected);
+            jtis.forEach(rebuilt::put);
+
+            synchronized (this) {
+                revokedDuringRebuild.forEach(rebuilt::put);
+                filter = rebuilt;
+            }
+            log.debug("Token blacklist filter rebuilt with {} revoked tokens", jtis.size());
+        } finally {
+            synchronized (this) {
+                revokedDuringRebuild = null;
+            }
+        }
+    }
+
+    private List<String> scanRevokedJtis() {
+        String prefix = TokenBlacklistService.BLACKLIST_PREFIX;
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        List<String> jtis = new ArrayList<>();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> jtis.add(key.substring(prefix.length())));
+        }
+        return jtis;
+    }
+
+    private BloomFilter<CharSequence> newFilter(int expectedInsertions) {
+        return BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8),
+                expectedInsertions,
+                jwtProperties.getBlacklist().getFalsePositiveRate());
+    }
+}
@@ -11,16 +11,18 @@ import java.util.Date;
 /**
  * Service for managing token blacklist in Redis.
  * Used for logout and token revocation.
+ * Lookups go through {@link RevokedTokenIndex} so most requests never reach Redis.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
-    private static final String BLACKLIST_PREFIX = "token:blacklist:";
+    static final String BLACKLIST_PREFIX = "token:blacklist:";
 
     private final StringRedisTemplate redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenIndex revokedTokenIndex;
 
     /**
      * Add a token to the blacklist.
@@ -35,6 +37,10 @@ public class TokenBlacklistService {
             if (ttlMillis > 0) {
                 String key = BLACKLIST_PREFIX + jti;
                 redisTemplate.opsForValue().set(key, "revoked", Duration.ofMillis(ttlMillis));
+                revokedTokenIndex.markRevoked(jti);
+                if (revokedTokenIndex.isEnabled()) {
+                    redisTemplate.convertAndSend(revokedTokenIndex.getChannel(), jti);
+                }
                 log.debug("Token blacklisted: {}", jti);
             }
         } catch (Exception e) {
@@ -47,12 +53,35 @@ public class TokenBlacklistService {
      */
     public boolean isBlacklisted(String token) {
         try {
-            String jti = jwtTokenProvider.getJtiFromToken(token);
-            String key = BLACKLIST_PREFIX + jti;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            return isJtiBlacklisted(jwtTokenProvider.getJtiFromToken(token));
+        } catch (Exception e) {
+            log.error("Failed to check token blacklist", e);
+            return false;
+        }
+    }
+
+    /**
+     * Check if an already verified token is blacklisted, without re-parsing it.
+     */
+    public boolean isBlacklisted(VerifiedToken token) {
+        try {
+            return isJtiBlacklisted(token.getJti());
         } catch (Exception e) {
             log.error("Failed to check token blacklist", e);
             return false;
         }
     }
+
+    private boolean isJtiBlacklisted(String jti) {
+        // Local filter and cache first; Redis only when they cannot rule the token out
+        Boolean local = revokedTokenIndex.lookup(jti);
+        if (local != null) {
+            return local;
+        }
+
+        String key = BLACKLIST_PREFIX + jti;
+        boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        revokedTokenIndex.record(jti, revoked);
+        return revoked;
+    }
 }
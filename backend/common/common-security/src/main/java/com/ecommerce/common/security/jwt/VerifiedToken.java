@@ -0,0 +1,27 @@
+package com.ecommerce.common.security.jwt;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature has already been verified.
+ * Read once from a single parse so callers never need to re-parse the token.
+ */
+@Value
+@Builder
+public class VerifiedToken {
+
+    String jti;
+    UUID userId;
+    String email;
+    String role;
+    Instant issuedAt;
+    Instant expiresAt;
+
+    public boolean isExpired() {
+        return expiresAt != null && !expiresAt.isAfter(Instant.now());
+    }
+}
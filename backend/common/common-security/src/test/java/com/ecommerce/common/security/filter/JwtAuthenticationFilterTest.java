@@ -0,0 +1,126 @@
+package com.ecommerce.common.security.filter;
+
+import com.ecommerce.common.security.UserPrincipal;
+import com.ecommerce.common.security.jwt.JwtProperties;
+import com.ecommerce.common.security.jwt.JwtTokenProvider;
+import com.ecommerce.common.security.jwt.TokenBlacklistService;
+import com.ecommerce.common.security.jwt.VerifiedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Tests")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-only-must-be-at-least-256-bits";
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private MockFilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        tokenProvider = spy(new JwtTokenProvider(properties));
+        tokenProvider.init();
+        filter = new JwtAuthenticationFilter(tokenProvider, tokenBlacklistService);
+        filterChain = new MockFilterChain();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("should authenticate from a single parse of the token")
+    void shouldAuthenticateFromVerifiedToken() throws Exception {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = tokenProvider.generateAccessToken(userId, "user@example.com", "CUSTOMER");
+        when(tokenBlacklistService.isBlacklisted(any(VerifiedToken.class))).thenReturn(false);
+
+        // When
+        filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(userId);
+        assertThat(principal.getEmail()).isEqualTo("user@example.com");
+        assertThat(principal.getRole()).isEqualTo("CUSTOMER");
+
+        verify(tokenProvider, times(1)).verifyToken(token);
+        verify(tokenProvider, never()).getUserIdFromToken(anyString());
+        verify(tokenProvider, never()).getJtiFromToken(anyString());
+        verify(tokenBlacklistService, never()).isBlacklisted(anyString());
+        assertThat(filterChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should not authenticate a blacklisted token")
+    void shouldRejectBlacklistedToken() throws Exception {
+        // Given
+        String token = tokenProvider.generateAccessToken(UUID.randomUUID(), "user@example.com", "CUSTOMER");
+        when(tokenBlacklistService.isBlacklisted(any(VerifiedToken.class))).thenReturn(true);
+
+        // When
+        filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filterChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should pass an invalid token on without authentication")
+    void shouldIgnoreInvalidToken() throws Exception {
+        // When
+        filter.doFilter(request("Bearer not-a-jwt"), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filterChain.getRequest()).isNotNull();
+        verifyNoInteractions(tokenBlacklistService);
+    }
+
+    @Test
+    @DisplayName("should not parse anything when there is no bearer token")
+    void shouldSkipRequestWithoutToken() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(filterChain.getRequest()).isNotNull();
+        verify(tokenProvider, never()).verifyToken(any());
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
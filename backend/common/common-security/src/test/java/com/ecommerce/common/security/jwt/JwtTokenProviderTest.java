@@ -0,0 +1,171 @@
+package com.ecommerce.common.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-only-must-be-at-least-256-bits";
+
+    private final SecretKey secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        tokenProvider = new JwtTokenProvider(properties);
+        tokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("should read every claim from a valid token")
+    void shouldVerifyValidToken() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = tokenProvider.generateAccessToken(userId, "user@example.com", "CUSTOMER");
+
+        // When
+        Optional<VerifiedToken> verified = tokenProvider.verifyToken(token);
+
+        // Then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getUserId()).isEqualTo(userId);
+        assertThat(verified.get().getEmail()).isEqualTo("user@example.com");
+        assertThat(verified.get().getRole()).isEqualTo("CUSTOMER");
+        assertThat(verified.get().getJti()).isNotBlank();
+        assertThat(verified.get().getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("should answer a repeated token from the cache")
+    void shouldCacheVerifiedToken() {
+        // Given
+        String token = tokenProvider.generateAccessToken(UUID.randomUUID(), "user@example.com", "CUSTOMER");
+        VerifiedToken first = tokenProvider.verifyToken(token).orElseThrow();
+
+        // When
+        VerifiedToken second = tokenProvider.verifyToken(token).orElseThrow();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("should key the cache on the whole token, signature included")
+    void shouldNotServeTamperedTokenFromCache() {
+        // Given: a verified token, and the same header and claims with another signature
+        String token = tokenProvider.generateAccessToken(UUID.randomUUID(), "user@example.com", "CUSTOMER");
+        tokenProvider.verifyToken(token).orElseThrow();
+        String forged = token.substring(0, token.lastIndexOf('.') + 1) + "forged-signature";
+
+        // When
+        Optional<VerifiedToken> verified = tokenProvider.verifyToken(forged);
+
+        // Then
+        assertThat(verified).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject a token whose claims were changed")
+    void shouldRejectTamperedClaims() {
+        // Given: the payload of one token with the signature of another
+        String token = tokenProvider.generateAccessToken(UUID.randomUUID(), "user@example.com", "CUSTOMER");
+        String admin = tokenProvider.generateAccessToken(UUID.randomUUID(), "user@example.com", "ADMIN");
+        String[] tokenParts = token.split("\\.");
+        String[] adminParts = admin.split("\\.");
+        String tampered = tokenParts[0] + "." + adminParts[1] + "." + tokenParts[2];
+
+        // When / Then
+        assertThat(tokenProvider.verifyToken(tampered)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject a token signed with another key")
+    void shouldRejectForeignSignature() {
+        // Given
+        SecretKey otherKey = Keys.hmacShaKeyFor("another-secret-key-that-is-also-at-least-256-bits-long"
+                .getBytes(StandardCharsets.UTF_8));
+        String token = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .expiration(Date.from(Instant.now().plus(15, ChronoUnit.MINUTES)))
+                .signWith(otherKey)
+                .compact();
+
+        // When / Then
+        assertThat(tokenProvider.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject an expired token")
+    void shouldRejectExpiredToken() {
+        // Given
+        String token = token(UUID.randomUUID().toString(), Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        // When / Then
+        assertThat(tokenProvider.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should stop accepting a cached token at its expiration")
+    void shouldExpireCachedTokenAtExp() {
+        // Given: a token that expires in about a second, verified and cached
+        Instant expiresAt = Instant.now().plusSeconds(2).truncatedTo(ChronoUnit.SECONDS);
+        String token = token(UUID.randomUUID().toString(), expiresAt);
+        assertThat(tokenProvider.verifyToken(token)).isPresent();
+
+        // When / Then
+        await().atMost(Duration.ofSeconds(4)).until(() -> tokenProvider.verifyToken(token).isEmpty());
+        assertThat(Instant.now()).isAfterOrEqualTo(expiresAt);
+    }
+
+    @Test
+    @DisplayName("should reject a validly signed token without a subject")
+    void shouldRejectTokenWithoutSubject() {
+        // Given
+        String token = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .expiration(Date.from(Instant.now().plus(15, ChronoUnit.MINUTES)))
+                .signWith(secretKey)
+                .compact();
+
+        // When / Then
+        assertThat(tokenProvider.verifyToken(token)).isEmpty();
+        assertThat(tokenProvider.verifyToken(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reject blank tokens")
+    void shouldRejectBlankToken() {
+        assertThat(tokenProvider.verifyToken(null)).isEmpty();
+        assertThat(tokenProvider.verifyToken(" ")).isEmpty();
+    }
+
+    private String token(String subject, Instant expiresAt) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("email", "user@example.com")
+                .claim("role", "CUSTOMER")
+                .id(UUID.randomUUID().toString())
+                .expiration(Date.from(expiresAt))
+                .signWith(secretKey)
+                .compact();
+    }
+}
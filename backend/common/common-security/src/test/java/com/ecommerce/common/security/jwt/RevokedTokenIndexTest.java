@@ -0,0 +1,175 @@
+package com.ecommerce.common.security.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevokedTokenIndex Tests")
+class RevokedTokenIndexTest {
+
+    private static final byte[] CHANNEL = "token:blacklist:events".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private RevokedTokenIndex index;
+    private TokenBlacklistService blacklistService;
+
+    @BeforeEach
+    void setUp() {
+        index = new RevokedTokenIndex(redisTemplate, connectionFactory, new JwtProperties()) {
+            @Override
+            protected RedisMessageListenerContainer createListenerContainer() {
+                return mock(RedisMessageListenerContainer.class);
+            }
+        };
+        index.start();
+        blacklistService = new TokenBlacklistService(redisTemplate, jwtTokenProvider, index);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    @DisplayName("should cache the Redis answer for a token the filter cannot rule out")
+    void shouldCacheRedisAnswer() {
+        // Given
+        when(redisTemplate.hasKey("token:blacklist:jti-1")).thenReturn(false);
+
+        // When
+        blacklistService.isBlacklisted(token("jti-1"));
+        boolean secondCheck = blacklistService.isBlacklisted(token("jti-1"));
+
+        // Then
+        assertThat(secondCheck).isFalse();
+        verify(redisTemplate, times(1)).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("should keep a revocation that arrives while Redis is being asked")
+    void shouldKeepRevocationRacingRedisLookup() {
+        // Given: the revocation is broadcast after Redis answered "not revoked"
+        when(redisTemplate.hasKey("token:blacklist:jti-1")).thenAnswer(invocation -> {
+            index.markRevoked("jti-1");
+            return false;
+        });
+
+        // When
+        boolean firstCheck = blacklistService.isBlacklisted(token("jti-1"));
+
+        // Then
+        assertThat(firstCheck).isFalse();
+        assertThat(index.lookup("jti-1")).isTrue();
+        assertThat(blacklistService.isBlacklisted(token("jti-1"))).isTrue();
+        verify(redisTemplate, times(1)).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("should replace a cached not-revoked answer with a revocation")
+    void shouldReplaceCachedAnswerWithRevocation() {
+        // Given
+        index.record("jti-1", false);
+
+        // When
+        index.markRevoked("jti-1");
+
+        // Then
+        assertThat(index.lookup("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep revocations received while the filter is being rebuilt")
+    void shouldKeepRevocationsDuringRebuild() {
+        // Given: a revocation is broadcast while the scan of Redis is running
+        when(redisTemplate.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+            index.markRevoked("jti-new");
+            return cursor("token:blacklist:jti-old");
+        });
+
+        // When
+        index.onChannelSubscribed(CHANNEL, 1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> index.lookup("jti-unknown") == Boolean.FALSE);
+
+        // Then: both are in the rebuilt filter; only the one seen locally is known to be revoked
+        assertThat(index.lookup("jti-new")).isTrue();
+        assertThat(index.lookup("jti-old")).isNull();
+    }
+
+    @Test
+    @DisplayName("should fall back to Redis while the filter cannot be rebuilt")
+    void shouldFallBackToRedisWhenRebuildFails() {
+        // Given
+        when(redisTemplate.scan(any(ScanOptions.class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // When
+        index.onChannelSubscribed(CHANNEL, 1);
+        verify(redisTemplate, timeout(5000)).scan(any(ScanOptions.class));
+
+        // Then
+        assertThat(index.lookup("jti-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("should not cache a failed Redis lookup")
+    void shouldNotCacheRedisError() {
+        // Given
+        when(redisTemplate.hasKey("token:blacklist:jti-1"))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"))
+                .thenReturn(true);
+
+        // When
+        boolean duringOutage = blacklistService.isBlacklisted(token("jti-1"));
+        boolean afterOutage = blacklistService.isBlacklisted(token("jti-1"));
+
+        // Then
+        assertThat(duringOutage).isFalse();
+        assertThat(afterOutage).isTrue();
+        verify(redisTemplate, times(2)).hasKey(anyString());
+    }
+
+    private static VerifiedToken token(String jti) {
+        return VerifiedToken.builder().jti(jti).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cursor<String> cursor(String... keys) {
+        Cursor<String> cursor = mock(Cursor.class);
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            List.of(keys).forEach(action);
+            return null;
+        }).when(cursor).forEachRemaining(any());
+        return cursor;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.common.test.jpa;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Counts the JDBC statements Hibernate prepares, to pin down how many queries a code path runs.
+ *
+ * <pre>
+ * QueryCounter queries = QueryCounter.of(entityManagerFactory);
+ * long statements = queries.count(() -&gt; listProducts(page));
+ * assertThat(statements).isEqualTo(4);
+ * </pre>
+ *
+ * Statistics are global to the EntityManagerFactory, so counts include statements run by other
+ * threads sharing it.
+ */
+public final class QueryCounter {
+
+    private final Statistics statistics;
+
+    private QueryCounter(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Create a counter for the given EntityManagerFactory, enabling its statistics.
+     */
+    public static QueryCounter of(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        return new QueryCounter(statistics);
+    }
+
+    /**
+     * Reset the count to zero.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Get the number of statements prepared since the last reset.
+     */
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Run the given action and get the number of statements it prepared.
+     */
+    public long count(Runnable action) {
+        reset();
+        action.run();
+        return count();
+    }
+}
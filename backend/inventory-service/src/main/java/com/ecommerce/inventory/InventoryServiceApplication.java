@@ -2,10 +2,14 @@ package com.ecommerce.inventory;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ComponentScan(basePackages = {"com.ecommerce.inventory", "com.ecommerce.common.messaging"})
 @EnableJpaAuditing
+@EnableScheduling
 public class InventoryServiceApplication {
 
     public static void main(String[] args) {
@@ -4,18 +4,27 @@ import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.inventory.application.dto.request.ReserveStockRequest;
 import com.ecommerce.inventory.application.dto.response.InventoryResponse;
 import com.ecommerce.inventory.application.dto.response.ReservationResponse;
+import com.ecommerce.inventory.application.dto.response.StockAvailabilityResponse;
+import com.ecommerce.inventory.application.usecase.GetInventoryUseCase;
+import com.ecommerce.inventory.application.usecase.GetStockAvailabilityUseCase;
 import com.ecommerce.inventory.application.usecase.ReserveStockUseCase;
-import com.ecommerce.inventory.domain.model.InventoryItem;
-import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.application.usecase.StreamLowStockUseCase;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,28 +35,54 @@ import java.util.UUID;
 public class InventoryController {
 
     private final ReserveStockUseCase reserveStockUseCase;
-    private final InventoryRepository inventoryRepository;
-    // TODO: Add other use cases (GetInventory, UpdateStock, ReleaseReservation)
+    private final GetInventoryUseCase getInventoryUseCase;
+    private final GetStockAvailabilityUseCase getStockAvailabilityUseCase;
+    private final StreamLowStockUseCase streamLowStockUseCase;
+    private final ObjectMapper objectMapper;
+    // TODO: Add other use cases (UpdateStock, ReleaseReservation)
 
     @GetMapping("/product/{productId}")
-    @Operation(summary = "Get inventory for a product")
-    public ResponseEntity<ApiResponse<InventoryResponse>> getInventory(@PathVariable UUID productId) {
-        // TODO: Move to GetInventoryUseCase
-        InventoryItem item = inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new RuntimeException("Inventory not found"));
-
-        InventoryResponse response = InventoryResponse.builder()
-                .productId(item.getProductId())
-                .sku(item.getSku())
-                .quantityAvailable(item.getQuantityAvailable())
-                .quantityReserved(item.getQuantityReserved())
-                .inStock(item.isInStock())
-                .lowStock(item.needsReorder())
-                .build();
+    @Operation(summary = "Get inventory for a product",
+            description = "Served from a short-lived cache unless consistent=true")
+    public ResponseEntity<ApiResponse<InventoryResponse>> getInventory(
+            @PathVariable UUID productId,
+            @RequestParam(defaultValue = "false") boolean consistent) {
+        InventoryResponse response = getInventoryUseCase.execute(productId, consistent);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 
+    @GetMapping(value = "/availability", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Get stock availability for up to 100 products",
+            description = "Send Accept: application/cbor for a compact binary response")
+    public ResponseEntity<ApiResponse<List<StockAvailabilityResponse>>> getAvailability(
+            @RequestParam List<UUID> productIds) {
+        List<StockAvailabilityResponse> response = getStockAvailabilityUseCase.execute(productIds);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping(value = "/low-stock", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream items at or below their reorder level (Admin only)",
+            description = "One JSON object per line, written as the items are read")
+    public ResponseEntity<StreamingResponseBody> getLowStock() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                streamLowStockUseCase.execute(item -> {
+                    try {
+                        generator.writeObject(item);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @PostMapping("/reserve")
     @Operation(summary = "Reserve stock for an order")
     public ResponseEntity<ApiResponse<ReservationResponse>> reserveStock(
@@ -0,0 +1,36 @@
+package com.ecommerce.inventory.application.cache;
+
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of inventory read models, keyed by product ID.
+ *
+ * Reservations and releases evict the products they change once they commit. Totals rolled up
+ * from warehouse rows and stock held by the ledger change without an eviction and show up when
+ * the entries expire, so entries are only fit for display. Anything that decides whether stock
+ * can be sold reads the repository.
+ */
+public interface InventoryCache {
+
+    /**
+     * Get the cached entries, loading the missing ones with a single call.
+     *
+     * @param loader loads the given product IDs; products it does not return are not cached
+     * @return the entries found, keyed by product ID
+     */
+    Map<UUID, InventoryResponse> getAll(Collection<UUID> productIds,
+                                        Function<Set<UUID>, Map<UUID, InventoryResponse>> loader);
+
+    /**
+     * Drop the entries of products whose stock changed, here and on the other instances.
+     * Within a transaction, takes effect only once it commits, so a read in between cannot
+     * cache the old quantities again.
+     */
+    void evict(Collection<UUID> productIds);
+}
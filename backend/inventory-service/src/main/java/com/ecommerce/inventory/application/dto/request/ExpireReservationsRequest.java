@@ -0,0 +1,37 @@
+package com.ecommerce.inventory.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpireReservationsRequest {
+
+    /**
+     * Reservations that expired before this instant are released.
+     */
+    private Instant expiredBefore;
+
+    private int batchSize;
+
+    /**
+     * Keyset cursor: the expiry and ID of the last reservation of the previous batch,
+     * or null for the first batch.
+     */
+    private Instant afterExpiresAt;
+    private UUID afterReservationId;
+
+    /**
+     * Expire only these reservations (if still active and expired) instead of
+     * walking the cursor.
+     */
+    private List<UUID> reservationIds;
+}
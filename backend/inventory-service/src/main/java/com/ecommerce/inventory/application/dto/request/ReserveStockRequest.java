@@ -1,6 +1,9 @@
 package com.ecommerce.inventory.application.dto.request;
 
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -24,6 +27,23 @@ public class ReserveStockRequest {
     @Valid
     private List<ReservationItem> items;
 
+    /**
+     * Keep the items that could be reserved when others cannot.
+     * By default a reservation is all-or-nothing.
+     */
+    private boolean allowPartial;
+
+    /**
+     * How to spread products stocked in several warehouses; the configured default if null.
+     */
+    private AllocationStrategy allocationStrategy;
+
+    /**
+     * Delivery destination, used by the NEAREST strategy.
+     */
+    @Valid
+    private Destination destination;
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -34,4 +54,19 @@ public class ReserveStockRequest {
         @NotNull
         private Integer quantity;
     }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Destination {
+        @NotNull
+        @DecimalMin("-90.0")
+        @DecimalMax("90.0")
+        private Double latitude;
+        @NotNull
+        @DecimalMin("-180.0")
+        @DecimalMax("180.0")
+        private Double longitude;
+    }
 }
@@ -0,0 +1,26 @@
+package com.ecommerce.inventory.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpireReservationsResponse {
+
+    private int expiredCount;
+    private int releasedProducts;
+    private boolean hasMore;
+
+    /**
+     * Cursor for the next batch.
+     */
+    private Instant lastExpiresAt;
+    private UUID lastReservationId;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.inventory.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LowStockItemResponse {
+
+    private UUID productId;
+    private String sku;
+    private int quantityAvailable;
+    private int quantityReserved;
+    private int reorderLevel;
+    private int reorderQuantity;
+    private String warehouseLocation;
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.inventory.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestReordersResponse {
+
+    private int requestedItems;
+    private int publishedEvents;
+}
@@ -30,5 +30,19 @@ public class ReservationResponse {
         private int quantityReserved;
         private boolean reserved;
         private String failureReason;
+
+        /**
+         * Warehouses the quantity was taken from; null for products not stocked per warehouse.
+         */
+        private List<AllocatedLocation> locations;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AllocatedLocation {
+        private String warehouseCode;
+        private int quantity;
     }
 }
@@ -0,0 +1,23 @@
+package com.ecommerce.inventory.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Compact stock view of a product for listing and cart pages.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAvailabilityResponse {
+
+    private UUID productId;
+    private int quantityAvailable;
+    private boolean inStock;
+    private boolean lowStock;
+}
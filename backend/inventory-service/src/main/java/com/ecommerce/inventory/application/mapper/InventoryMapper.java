@@ -0,0 +1,50 @@
+package com.ecommerce.inventory.application.mapper;
+
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.application.dto.response.LowStockItemResponse;
+import com.ecommerce.inventory.application.dto.response.StockAvailabilityResponse;
+import com.ecommerce.inventory.domain.event.ReorderRequestedEvent;
+import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * MapStruct mapper for InventoryItem entity and DTOs.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface InventoryMapper {
+
+    @Mapping(target = "inStock", expression = "java(item.isInStock())")
+    @Mapping(target = "lowStock", expression = "java(item.needsReorder())")
+    InventoryResponse toResponse(InventoryItem item);
+
+    StockAvailabilityResponse toAvailability(InventoryResponse response);
+
+    /**
+     * Copy of a response with units that were allotted ahead of demand, and are still unused,
+     * moved back from reserved to available. The given response may be cached, so it is left
+     * as it is.
+     */
+    default InventoryResponse withUnusedAllotment(InventoryResponse response, int unused) {
+        if (unused <= 0) {
+            return response;
+        }
+        int available = response.getQuantityAvailable() + unused;
+        return InventoryResponse.builder()
+                .productId(response.getProductId())
+                .sku(response.getSku())
+                .quantityAvailable(available)
+                .quantityReserved(Math.max(0, response.getQuantityReserved() - unused))
+                .inStock(available > 0)
+                .lowStock(response.isLowStock())
+                .warehouseLocation(response.getWarehouseLocation())
+                .build();
+    }
+
+    LowStockItemResponse toLowStockResponse(LowStockItem item);
+
+    @Mapping(target = "quantityOnHand", expression = "java(item.getTotalQuantity())")
+    ReorderRequestedEvent.Item toReorderItem(LowStockItem item);
+}
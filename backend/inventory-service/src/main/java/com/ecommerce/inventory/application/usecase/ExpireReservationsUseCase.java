@@ -0,0 +1,19 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.application.dto.request.ExpireReservationsRequest;
+import com.ecommerce.inventory.application.dto.response.ExpireReservationsResponse;
+
+/**
+ * Use case for expiring reservations that were not confirmed in time
+ * and returning their stock.
+ */
+public interface ExpireReservationsUseCase {
+
+    /**
+     * Expire one batch of reservations.
+     *
+     * @param request the batch to expire
+     * @return the number expired and the cursor for the next batch
+     */
+    ExpireReservationsResponse execute(ExpireReservationsRequest request);
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+
+import java.util.UUID;
+
+/**
+ * Use case for reading the inventory of a single product.
+ */
+public interface GetInventoryUseCase {
+
+    /**
+     * Get the inventory of a product.
+     *
+     * @param productId  the product
+     * @param consistent read the database instead of the cache, for callers that act on the
+     *                   quantities rather than display them
+     * @return the inventory
+     */
+    InventoryResponse execute(UUID productId, boolean consistent);
+}
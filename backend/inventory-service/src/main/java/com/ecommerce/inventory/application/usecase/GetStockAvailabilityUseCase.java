@@ -0,0 +1,26 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.application.dto.response.StockAvailabilityResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for reading the stock of many products at once,
+ * for product listing and cart pages.
+ */
+public interface GetStockAvailabilityUseCase {
+
+    /**
+     * Maximum number of products per request.
+     */
+    int MAX_PRODUCTS = 100;
+
+    /**
+     * Get the availability of the given products.
+     *
+     * @param productIds the products, at most {@link #MAX_PRODUCTS}
+     * @return availability in request order; products without inventory are left out
+     */
+    List<StockAvailabilityResponse> execute(List<UUID> productIds);
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+
+/**
+ * Use case for requesting a restock of every item at or below its reorder level.
+ */
+public interface RequestReordersUseCase {
+
+    /**
+     * Publish ReorderRequested events for all low-stock items.
+     *
+     * @param batchSize items per event
+     * @return the number of items and events published
+     */
+    RequestReordersResponse execute(int batchSize);
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.application.dto.response.LowStockItemResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for reading every item at or below its reorder level without
+ * holding the whole report in memory.
+ */
+public interface StreamLowStockUseCase {
+
+    /**
+     * Pass each low-stock item to the consumer as it is read.
+     *
+     * @param consumer receives the items one by one, in no particular order
+     * @return the number of items read
+     */
+    long execute(Consumer<LowStockItemResponse> consumer);
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.inventory.application.usecase.impl;
+
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.request.ExpireReservationsRequest;
+import com.ecommerce.inventory.application.dto.response.ExpireReservationsResponse;
+import com.ecommerce.inventory.application.usecase.ExpireReservationsUseCase;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.domain.repository.WarehouseStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Implementation of ExpireReservationsUseCase.
+ *
+ * A batch is either the next page of the expiry-ordered cursor (the periodic sweep) or a given
+ * set of reservations whose deadline passed (the timing wheel). It is claimed with SKIP LOCKED,
+ * so instances running the reaper at the same time take different reservations instead of
+ * waiting on each other. The batch is expired with one update, and its quantities are summed
+ * per product and returned with one update per product, in product ID order like the
+ * reservation path. Reservations allocated from a warehouse are returned to that warehouse's
+ * row instead. Products returned to their own row are evicted from the inventory cache once
+ * the transaction commits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ExpireReservationsUseCaseImpl implements ExpireReservationsUseCase {
+
+    private final StockReservationRepository reservationRepository;
+    private final InventoryRepository inventoryRepository;
+    private final WarehouseStockRepository warehouseStockRepository;
+    private final InventoryCache inventoryCache;
+
+    @Override
+    public ExpireReservationsResponse execute(ExpireReservationsRequest request) {
+        boolean byIds = request.getReservationIds() != null;
+        List<StockReservation> expired = byIds
+                ? reservationRepository.claimExpiredByIds(request.getReservationIds(), request.getExpiredBefore())
+                : reservationRepository.claimExpired(
+                        request.getExpiredBefore(),
+                        request.getAfterExpiresAt(),
+                        request.getAfterReservationId(),
+                        request.getBatchSize());
+        if (expired.isEmpty()) {
+            return ExpireReservationsResponse.builder().build();
+        }
+
+        reservationRepository.markExpired(expired.stream().map(StockReservation::getId).toList());
+
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        Map<UUID, Map<String, Integer>> warehouseQuantities = new TreeMap<>();
+        for (StockReservation reservation : expired) {
+            if (reservation.getWarehouseCode() == null) {
+                quantities.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+            } else {
+                warehouseQuantities.computeIfAbsent(reservation.getProductId(), productId -> new TreeMap<>())
+                        .merge(reservation.getWarehouseCode(), reservation.getQuantity(), Integer::sum);
+            }
+        }
+        if (!quantities.isEmpty()) {
+            inventoryRepository.releaseStock(quantities);
+            inventoryCache.evict(quantities.keySet());
+        }
+        if (!warehouseQuantities.isEmpty()) {
+            List<StockAllocation> allocations = new ArrayList<>();
+            warehouseQuantities.forEach((productId, byWarehouse) -> byWarehouse.forEach((warehouseCode, quantity) ->
+                    allocations.add(new StockAllocation(productId, warehouseCode, quantity))));
+            warehouseStockRepository.releaseStock(allocations);
+        }
+        int releasedProducts = quantities.size() + warehouseQuantities.size();
+        log.debug("Expired {} reservations of {} products", expired.size(), releasedProducts);
+
+        StockReservation last = expired.get(expired.size() - 1);
+        return ExpireReservationsResponse.builder()
+                .expiredCount(expired.size())
+                .releasedProducts(releasedProducts)
+                .hasMore(!byIds && expired.size() == request.getBatchSize())
+                .lastExpiresAt(last.getExpiresAt())
+                .lastReservationId(last.getId())
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.inventory.application.usecase.impl;
+
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.GetInventoryUseCase;
+import com.ecommerce.inventory.domain.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of GetInventoryUseCase.
+ *
+ * Display reads are served from the inventory cache, which reservations and releases evict
+ * on commit; other stock changes may lag by the cache TTL. Consistent reads go straight to the
+ * repository. Either way, units allotted to the stock ledger but not yet reserved by an order
+ * are reported as available.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetInventoryUseCaseImpl implements GetInventoryUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryCache inventoryCache;
+    private final InventoryMapper inventoryMapper;
+
+    @Override
+    public InventoryResponse execute(UUID productId, boolean consistent) {
+        InventoryResponse response = consistent ? load(productId) : cached(productId);
+        Map<UUID, Integer> allotments = inventoryRepository.findUnusedAllotments(Set.of(productId));
+        return inventoryMapper.withUnusedAllotment(response, allotments.getOrDefault(productId, 0));
+    }
+
+    private InventoryResponse cached(UUID productId) {
+        InventoryResponse response = inventoryCache.getAll(Set.of(productId), missing -> inventoryRepository
+                        .findByProductId(productId)
+                        .map(item -> Map.of(productId, inventoryMapper.toResponse(item)))
+                        .orElse(Map.of()))
+                .get(productId);
+        if (response == null) {
+            throw new InventoryNotFoundException(productId);
+        }
+        return response;
+    }
+
+    private InventoryResponse load(UUID productId) {
+        return inventoryRepository.findByProductId(productId)
+                .map(inventoryMapper::toResponse)
+                .orElseThrow(() -> new InventoryNotFoundException(productId));
+    }
+}
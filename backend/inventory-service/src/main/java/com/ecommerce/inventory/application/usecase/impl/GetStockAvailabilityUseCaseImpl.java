@@ -0,0 +1,72 @@
+package com.ecommerce.inventory.application.usecase.impl;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.application.dto.response.StockAvailabilityResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.GetStockAvailabilityUseCase;
+import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of GetStockAvailabilityUseCase.
+ *
+ * Products are served from the inventory cache; the ones it misses are read with a single
+ * IN query. Reservations and releases evict the products they change; warehouse rollups may
+ * lag by the cache TTL, which is fine for display. Units allotted to the stock ledger but not
+ * yet reserved by an order change with every grant, so they are added after the cache.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetStockAvailabilityUseCaseImpl implements GetStockAvailabilityUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryCache inventoryCache;
+    private final InventoryMapper inventoryMapper;
+
+    @Override
+    public List<StockAvailabilityResponse> execute(List<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new ValidationException("productIds", "At least one product ID is required");
+        }
+        Set<UUID> unique = new LinkedHashSet<>(productIds);
+        if (unique.size() > MAX_PRODUCTS) {
+            throw new ValidationException("productIds", "At most " + MAX_PRODUCTS + " product IDs are allowed");
+        }
+
+        Map<UUID, InventoryResponse> inventory = inventoryCache.getAll(unique, this::load);
+        Map<UUID, Integer> allotments = inventoryRepository.findUnusedAllotments(inventory.keySet());
+
+        List<StockAvailabilityResponse> result = new ArrayList<>(inventory.size());
+        for (UUID productId : unique) {
+            InventoryResponse item = inventory.get(productId);
+            if (item != null) {
+                result.add(inventoryMapper.toAvailability(
+                        inventoryMapper.withUnusedAllotment(item, allotments.getOrDefault(productId, 0))));
+            }
+        }
+        return result;
+    }
+
+    private Map<UUID, InventoryResponse> load(Set<UUID> productIds) {
+        List<InventoryItem> items = inventoryRepository.findByProductIdIn(List.copyOf(productIds));
+        Map<UUID, InventoryResponse> loaded = new HashMap<>(items.size());
+        for (InventoryItem item : items) {
+            loaded.put(item.getProductId(), inventoryMapper.toResponse(item));
+        }
+        return loaded;
+    }
+}
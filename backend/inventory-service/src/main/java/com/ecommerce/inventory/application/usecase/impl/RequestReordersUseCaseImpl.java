@@ -0,0 +1,148 @@
+package com.ecommerce.inventory.application.usecase.impl;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.RequestReordersUseCase;
+import com.ecommerce.inventory.config.ReorderProperties;
+import com.ecommerce.inventory.domain.event.ReorderRequestedEvent;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.domain.repository.ReorderRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of RequestReordersUseCase.
+ *
+ * The low-stock items are read from a database cursor in a read-only transaction. Every full
+ * batch is published in its own transaction, which stores the event in the outbox and commits
+ * it while the cursor stays open, so memory use is bounded by one batch and a failure only
+ * loses the batch in progress.
+ *
+ * A product is requested once per shortage: the publishing transaction also records the
+ * request, and products with an outstanding request are skipped until their stock is back
+ * above the reorder level or the request is older than the outstanding timeout. Outstanding
+ * requests are looked up for one batch of low-stock products at a time, so their number does
+ * not affect memory use either. The lookup runs on a connection of its own: a streaming result
+ * set must be the only one open on its connection, so no other statement can be issued on the
+ * cursor's while it is read.
+ */
+@Slf4j
+@Service
+public class RequestReordersUseCaseImpl implements RequestReordersUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryMapper inventoryMapper;
+    private final ReorderRequestRepository reorderRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReorderProperties reorderProperties;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate lookupTransaction;
+    private final TransactionTemplate writeTransaction;
+
+    public RequestReordersUseCaseImpl(InventoryRepository inventoryRepository,
+                                      InventoryMapper inventoryMapper,
+                                      ReorderRequestRepository reorderRequestRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      ReorderProperties reorderProperties,
+                                      PlatformTransactionManager transactionManager) {
+        this.inventoryRepository = inventoryRepository;
+        this.inventoryMapper = inventoryMapper;
+        this.reorderRequestRepository = reorderRequestRepository;
+        this.eventPublisher = eventPublisher;
+        this.reorderProperties = reorderProperties;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.lookupTransaction = new TransactionTemplate(transactionManager);
+        this.lookupTransaction.setReadOnly(true);
+        this.lookupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public RequestReordersResponse execute(int batchSize) {
+        if (batchSize <= 0) {
+            throw new ValidationException("batchSize", "Batch size must be positive");
+        }
+        Instant staleBefore = Instant.now().minus(reorderProperties.getOutstandingTimeout());
+        Integer cleared = writeTransaction.execute(status ->
+                reorderRequestRepository.deleteFulfilledOrRequestedBefore(staleBefore));
+        log.debug("Cleared {} fulfilled or stale reorder requests", cleared);
+
+        return readTransaction.execute(status -> {
+            List<LowStockItem> candidates = new ArrayList<>(batchSize);
+            List<ReorderRequestedEvent.Item> batch = new ArrayList<>(batchSize);
+            int items = 0;
+            int events = 0;
+            try (Stream<LowStockItem> lowStock = inventoryRepository.streamLowStock()) {
+                for (LowStockItem item : (Iterable<LowStockItem>) lowStock::iterator) {
+                    candidates.add(item);
+                    if (candidates.size() < batchSize) {
+                        continue;
+                    }
+                    addNotOutstanding(candidates, batch);
+                    if (batch.size() >= batchSize) {
+                        List<ReorderRequestedEvent.Item> full = batch.subList(0, batchSize);
+                        publish(List.copyOf(full));
+                        items += full.size();
+                        events++;
+                        full.clear();
+                    }
+                }
+            }
+            addNotOutstanding(candidates, batch);
+            for (int from = 0; from < batch.size(); from += batchSize) {
+                List<ReorderRequestedEvent.Item> rest = batch.subList(from, Math.min(from + batchSize, batch.size()));
+                publish(List.copyOf(rest));
+                items += rest.size();
+                events++;
+            }
+            log.info("Requested reorder of {} items in {} events", items, events);
+            return RequestReordersResponse.builder()
+                    .requestedItems(items)
+                    .publishedEvents(events)
+                    .build();
+        });
+    }
+
+    /**
+     * Move the candidates without an outstanding request to the batch, checking all of them
+     * with one query outside the cursor's transaction.
+     */
+    private void addNotOutstanding(List<LowStockItem> candidates, List<ReorderRequestedEvent.Item> batch) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        List<UUID> productIds = candidates.stream().map(LowStockItem::getProductId).toList();
+        Set<UUID> outstanding = lookupTransaction.execute(status ->
+                reorderRequestRepository.findOutstandingAmong(productIds));
+        for (LowStockItem candidate : candidates) {
+            if (!outstanding.contains(candidate.getProductId())) {
+                batch.add(inventoryMapper.toReorderItem(candidate));
+            }
+        }
+        candidates.clear();
+    }
+
+    private void publish(List<ReorderRequestedEvent.Item> batch) {
+        ReorderRequestedEvent event = new ReorderRequestedEvent(UUID.randomUUID(), batch);
+        List<UUID> productIds = batch.stream().map(ReorderRequestedEvent.Item::getProductId).toList();
+        writeTransaction.executeWithoutResult(status -> {
+            reorderRequestRepository.saveAll(productIds);
+            eventPublisher.publishEvent(event);
+        });
+    }
+}
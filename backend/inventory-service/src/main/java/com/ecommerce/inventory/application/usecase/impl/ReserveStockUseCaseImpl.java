@@ -1,13 +1,21 @@
 package com.ecommerce.inventory.application.usecase.impl;
 
+import com.ecommerce.inventory.application.cache.InventoryCache;
 import com.ecommerce.inventory.application.dto.request.ReserveStockRequest;
 import com.ecommerce.inventory.application.dto.response.ReservationResponse;
 import com.ecommerce.inventory.application.usecase.ReserveStockUseCase;
-import com.ecommerce.inventory.domain.exception.InsufficientStockException;
+import com.ecommerce.inventory.config.WarehouseProperties;
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
+import com.ecommerce.inventory.domain.model.GeoLocation;
 import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.StockAllocation;
 import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
 import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.domain.repository.WarehouseStockRepository;
+import com.ecommerce.inventory.domain.service.ReservationExpiryScheduler;
+import com.ecommerce.inventory.domain.service.StockAllocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,22 +24,40 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ReserveStockUseCase.
  *
  * This is a critical saga step for order processing:
- * 1. Validate all items have sufficient stock
- * 2. Reserve stock for each item atomically
- * 3. Create reservation records with expiry
+ * 1. Reserve stock for all items with conditional updates
+ * 2. Undo the successful updates if the reservation is all-or-nothing and an item failed
+ * 3. Create reservation records with expiry and schedule their expiry
+ * 4. Evict the reserved products from the inventory cache once the transaction commits
  *
- * TODO: Implement the following business logic:
- * - Distributed locking for concurrent reservations
- * - Reservation expiry handling (scheduled job)
- * - Partial reservation handling (all-or-nothing vs best-effort)
- * - Integration with warehouse management system
+ * Each item is reserved with a single UPDATE that only matches when enough stock is
+ * available, so concurrent reservations of a hot product never read-modify-write the row
+ * and cannot fail on the optimistic lock. Items are processed in product ID order, so two
+ * orders sharing products lock their rows in the same order and cannot deadlock.
+ *
+ * The updates, the failure lookups and the reservation inserts are each sent as one batch,
+ * so the number of database round trips does not grow with the size of the basket.
+ *
+ * When warehouse stock is enabled, products with warehouse_stock rows are reserved from those
+ * rows instead of their inventory item. The allocation service spreads each quantity over
+ * the warehouses, and each warehouse row takes the same kind of conditional update. Then
+ * reservations of a hot product contend on one row per warehouse rather than on one row,
+ * and one reservation record is kept per warehouse.
  */
 @Slf4j
 @Service
@@ -41,6 +67,11 @@ public class ReserveStockUseCaseImpl implements ReserveStockUseCase {
 
     private final InventoryRepository inventoryRepository;
     private final StockReservationRepository reservationRepository;
+    private final ReservationExpiryScheduler expiryScheduler;
+    private final WarehouseStockRepository warehouseStockRepository;
+    private final StockAllocationService allocationService;
+    private final WarehouseProperties warehouseProperties;
+    private final InventoryCache inventoryCache;
 
     private static final int RESERVATION_EXPIRY_MINUTES = 15;
 
@@ -48,66 +79,64 @@ public class ReserveStockUseCaseImpl implements ReserveStockUseCase {
     public ReservationResponse execute(ReserveStockRequest request) {
         log.info("Reserving stock for order: {}", request.getOrderId());
 
-        // TODO: Implement distributed lock for concurrent reservations
-        // distributedLock.acquire("order:" + request.getOrderId());
-
-        List<ReservationResponse.ReservedItem> reservedItems = new ArrayList<>();
+        Map<UUID, Integer> quantities = mergeByProductId(request.getItems());
         Instant expiresAt = Instant.now().plus(RESERVATION_EXPIRY_MINUTES, ChronoUnit.MINUTES);
-        boolean allReserved = true;
-
-        for (ReserveStockRequest.ReservationItem item : request.getItems()) {
-            try {
-                Optional<InventoryItem> inventoryOpt = inventoryRepository.findByProductId(item.getProductId());
-
-                if (inventoryOpt.isEmpty()) {
-                    reservedItems.add(ReservationResponse.ReservedItem.builder()
-                            .productId(item.getProductId())
-                            .quantityReserved(0)
-                            .reserved(false)
-                            .failureReason("Product not found in inventory")
-                            .build());
-                    allReserved = false;
-                    continue;
-                }
 
-                InventoryItem inventory = inventoryOpt.get();
-
-                // Try to reserve
-                inventory.reserve(item.getQuantity());
-                inventoryRepository.save(inventory);
-
-                // Create reservation record
-                StockReservation reservation = StockReservation.create(
-                        request.getOrderId(),
-                        item.getProductId(),
-                        item.getQuantity(),
-                        expiresAt
-                );
-                reservationRepository.save(reservation);
-
-                reservedItems.add(ReservationResponse.ReservedItem.builder()
-                        .productId(item.getProductId())
-                        .quantityReserved(item.getQuantity())
-                        .reserved(true)
-                        .build());
-
-                log.debug("Reserved {} units for product {}", item.getQuantity(), item.getProductId());
-
-            } catch (InsufficientStockException e) {
-                reservedItems.add(ReservationResponse.ReservedItem.builder()
-                        .productId(item.getProductId())
-                        .quantityReserved(0)
-                        .reserved(false)
-                        .failureReason(e.getMessage())
-                        .build());
-                allReserved = false;
-            }
+        WarehouseReservation fromWarehouses = warehouseProperties.isEnabled()
+                ? reserveFromWarehouses(request, quantities)
+                : WarehouseReservation.NONE;
+        Map<UUID, Integer> productLevel = new TreeMap<>(quantities);
+        productLevel.keySet().removeAll(fromWarehouses.stocked);
+
+        Set<UUID> reservedProductLevel = inventoryRepository.reserveStock(productLevel);
+        Set<UUID> reserved = new HashSet<>(reservedProductLevel);
+        reserved.addAll(fromWarehouses.locations.keySet());
+        boolean allReserved = reserved.size() == quantities.size();
+        Map<UUID, String> failureReasons = allReserved
+                ? Collections.emptyMap()
+                : failureReasons(quantities, reserved, fromWarehouses);
+
+        List<ReservationResponse.ReservedItem> reservedItems = new ArrayList<>(quantities.size());
+        for (Map.Entry<UUID, Integer> item : quantities.entrySet()) {
+            boolean itemReserved = reserved.contains(item.getKey());
+            reservedItems.add(ReservationResponse.ReservedItem.builder()
+                    .productId(item.getKey())
+                    .quantityReserved(itemReserved ? item.getValue() : 0)
+                    .reserved(itemReserved)
+                    .failureReason(failureReasons.get(item.getKey()))
+                    .locations(fromWarehouses.locations.get(item.getKey()))
+                    .build());
         }
 
-        // TODO: If not all reserved and using all-or-nothing strategy, rollback
-        // if (!allReserved) {
-        //     rollbackReservations(request.getOrderId());
-        // }
+        if (!allReserved && !request.isAllowPartial()) {
+            rollbackReservations(reservedItems);
+            return ReservationResponse.builder()
+                    .orderId(request.getOrderId())
+                    .success(false)
+                    .message("Some items could not be reserved; no stock was reserved")
+                    .items(reservedItems)
+                    .build();
+        }
+
+        List<StockReservation> reservations = new ArrayList<>(reservedItems.size());
+        for (ReservationResponse.ReservedItem item : reservedItems) {
+            if (!item.isReserved()) {
+                continue;
+            }
+            if (item.getLocations() == null) {
+                reservations.add(StockReservation.create(
+                        request.getOrderId(), item.getProductId(), item.getQuantityReserved(), expiresAt));
+                continue;
+            }
+            for (ReservationResponse.AllocatedLocation location : item.getLocations()) {
+                reservations.add(StockReservation.create(request.getOrderId(), item.getProductId(),
+                        location.getWarehouseCode(), location.getQuantity(), expiresAt));
+            }
+        }
+        reservationRepository.saveAll(reservations);
+        expiryScheduler.schedule(reservations);
+        inventoryCache.evict(reservedProductLevel);
+        log.debug("Reserved {} of {} products for order {}", reserved.size(), quantities.size(), request.getOrderId());
 
         return ReservationResponse.builder()
                 .orderId(request.getOrderId())
@@ -117,4 +146,181 @@ public class ReserveStockUseCaseImpl implements ReserveStockUseCase {
                 .expiresAt(expiresAt)
                 .build();
     }
+
+    /**
+     * Sum quantities of repeated products and order the items by product ID.
+     */
+    private Map<UUID, Integer> mergeByProductId(List<ReserveStockRequest.ReservationItem> items) {
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        for (ReserveStockRequest.ReservationItem item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * The conditional updates do not say why they matched nothing; look the failed items up
+     * in one query to explain. Only runs on the failure path.
+     */
+    private Map<UUID, String> failureReasons(Map<UUID, Integer> quantities, Set<UUID> reserved,
+                                             WarehouseReservation fromWarehouses) {
+        List<UUID> failed = quantities.keySet().stream()
+                .filter(productId -> !reserved.contains(productId))
+                .toList();
+        List<UUID> failedProductLevel = failed.stream()
+                .filter(productId -> !fromWarehouses.stocked.contains(productId))
+                .toList();
+        Map<UUID, InventoryItem> inventory = failedProductLevel.isEmpty()
+                ? Map.of()
+                : inventoryRepository.findByProductIdIn(failedProductLevel).stream()
+                        .collect(Collectors.toMap(InventoryItem::getProductId, Function.identity()));
+
+        Map<UUID, String> reasons = new TreeMap<>();
+        for (UUID productId : failed) {
+            if (fromWarehouses.stocked.contains(productId)) {
+                reasons.put(productId, String.format(
+                        "Insufficient stock for product %s across warehouses: requested %d, available %d",
+                        productId, quantities.get(productId), fromWarehouses.available.getOrDefault(productId, 0)));
+                continue;
+            }
+            InventoryItem item = inventory.get(productId);
+            reasons.put(productId, item == null
+                    ? "Product not found in inventory"
+                    : String.format("Insufficient stock for product %s: requested %d, available %d",
+                            productId, quantities.get(productId), item.getQuantityAvailable()));
+        }
+        return reasons;
+    }
+
+    /**
+     * Give back the stock of the items that were reserved before another item failed.
+     */
+    private void rollbackReservations(List<ReservationResponse.ReservedItem> items) {
+        Map<UUID, Integer> toRelease = new TreeMap<>();
+        List<StockAllocation> allocationsToRelease = new ArrayList<>();
+        for (ReservationResponse.ReservedItem item : items) {
+            if (item.isReserved()) {
+                if (item.getLocations() == null) {
+                    toRelease.put(item.getProductId(), item.getQuantityReserved());
+                } else {
+                    item.getLocations().forEach(location -> allocationsToRelease.add(new StockAllocation(
+                            item.getProductId(), location.getWarehouseCode(), location.getQuantity())));
+                    item.setLocations(null);
+                }
+                item.setReserved(false);
+                item.setQuantityReserved(0);
+                item.setFailureReason("Not reserved because other items could not be reserved");
+            }
+        }
+        inventoryRepository.releaseStock(toRelease);
+        if (!allocationsToRelease.isEmpty()) {
+            warehouseStockRepository.releaseStock(allocationsToRelease);
+        }
+    }
+
+    // ========== Warehouse allocation ==========
+
+    /**
+     * Reserve the products that have warehouse stock rows from those rows.
+     *
+     * Allocations are planned from a snapshot read without locks, so a concurrent reservation
+     * can take the stock a planned row counted on. The quantity those rows could not give is
+     * planned again from a fresh snapshot, a bounded number of times. A product that still
+     * cannot be covered in full gives back what it did get.
+     */
+    private WarehouseReservation reserveFromWarehouses(ReserveStockRequest request, Map<UUID, Integer> quantities) {
+        List<WarehouseStockLevel> levels = warehouseStockRepository.findByProductIdIn(quantities.keySet());
+        if (levels.isEmpty()) {
+            return WarehouseReservation.NONE;
+        }
+        Set<UUID> stocked = levels.stream().map(WarehouseStockLevel::getProductId).collect(Collectors.toSet());
+        AllocationStrategy strategy = request.getAllocationStrategy() != null
+                ? request.getAllocationStrategy()
+                : warehouseProperties.getDefaultStrategy();
+        GeoLocation destination = request.getDestination() == null
+                ? null
+                : new GeoLocation(request.getDestination().getLatitude(), request.getDestination().getLongitude());
+
+        Map<UUID, Integer> remaining = new TreeMap<>();
+        stocked.forEach(productId -> remaining.put(productId, quantities.get(productId)));
+        Map<UUID, Integer> available = new HashMap<>();
+        Map<UUID, List<StockAllocation>> reserved = new HashMap<>();
+
+        for (int attempt = 0; attempt < warehouseProperties.getMaxAllocationAttempts() && !remaining.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                levels = warehouseStockRepository.findByProductIdIn(remaining.keySet());
+            }
+            Map<UUID, Integer> seen = new HashMap<>();
+            for (WarehouseStockLevel level : levels) {
+                if (level.isActive()) {
+                    seen.merge(level.getProductId(), level.getQuantityAvailable(), Integer::sum);
+                }
+            }
+            available.putAll(seen);
+
+            Map<UUID, List<StockAllocation>> plan = allocationService.allocate(remaining, levels, strategy, destination);
+            remaining.keySet().retainAll(plan.keySet());
+            if (plan.isEmpty()) {
+                break;
+            }
+            List<StockAllocation> planned = plan.values().stream().flatMap(List::stream).toList();
+            for (StockAllocation allocation : warehouseStockRepository.reserveStock(planned)) {
+                reserved.computeIfAbsent(allocation.getProductId(), productId -> new ArrayList<>()).add(allocation);
+                remaining.merge(allocation.getProductId(), -allocation.getQuantity(), Integer::sum);
+            }
+            remaining.values().removeIf(quantity -> quantity == 0);
+        }
+
+        Map<UUID, List<ReservationResponse.AllocatedLocation>> locations = new HashMap<>();
+        List<StockAllocation> incomplete = new ArrayList<>();
+        reserved.forEach((productId, allocations) -> {
+            int total = allocations.stream().mapToInt(StockAllocation::getQuantity).sum();
+            if (total == quantities.get(productId)) {
+                locations.put(productId, mergeByWarehouse(allocations));
+            } else {
+                incomplete.addAll(allocations);
+            }
+        });
+        warehouseStockRepository.releaseStock(incomplete);
+        return new WarehouseReservation(stocked, locations, available);
+    }
+
+    /**
+     * Allocations of a product from several attempts can hit the same warehouse twice.
+     */
+    private List<ReservationResponse.AllocatedLocation> mergeByWarehouse(List<StockAllocation> allocations) {
+        Map<String, Integer> byWarehouse = new LinkedHashMap<>();
+        allocations.forEach(allocation ->
+                byWarehouse.merge(allocation.getWarehouseCode(), allocation.getQuantity(), Integer::sum));
+        List<ReservationResponse.AllocatedLocation> locations = new ArrayList<>(byWarehouse.size());
+        byWarehouse.forEach((warehouseCode, quantity) -> locations.add(ReservationResponse.AllocatedLocation.builder()
+                .warehouseCode(warehouseCode)
+                .quantity(quantity)
+                .build()));
+        return locations;
+    }
+
+    /**
+     * Outcome of the warehouse allocation.
+     */
+    @RequiredArgsConstructor
+    private static final class WarehouseReservation {
+
+        private static final WarehouseReservation NONE = new WarehouseReservation(Set.of(), Map.of(), Map.of());
+
+        /**
+         * Products stocked per warehouse, reserved or not.
+         */
+        private final Set<UUID> stocked;
+
+        /**
+         * Where each fully reserved product was taken from.
+         */
+        private final Map<UUID, List<ReservationResponse.AllocatedLocation>> locations;
+
+        /**
+         * Stock last seen for the products that could not be reserved.
+         */
+        private final Map<UUID, Integer> available;
+    }
 }
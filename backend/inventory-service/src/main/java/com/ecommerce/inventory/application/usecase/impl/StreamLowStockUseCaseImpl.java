@@ -0,0 +1,40 @@
+package com.ecommerce.inventory.application.usecase.impl;
+
+import com.ecommerce.inventory.application.dto.response.LowStockItemResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.StreamLowStockUseCase;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of StreamLowStockUseCase.
+ *
+ * The items are read from a database cursor and handed over one at a time, so memory use does
+ * not depend on how many items are low. The transaction stays open until the consumer is done.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StreamLowStockUseCaseImpl implements StreamLowStockUseCase {
+
+    private final InventoryRepository inventoryRepository;
+    private final InventoryMapper inventoryMapper;
+
+    @Override
+    public long execute(Consumer<LowStockItemResponse> consumer) {
+        long count = 0;
+        try (Stream<LowStockItem> items = inventoryRepository.streamLowStock()) {
+            for (LowStockItem item : (Iterable<LowStockItem>) items::iterator) {
+                consumer.accept(inventoryMapper.toLowStockResponse(item));
+                count++;
+            }
+        }
+        return count;
+    }
+}
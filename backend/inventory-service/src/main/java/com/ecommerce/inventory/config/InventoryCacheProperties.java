@@ -0,0 +1,57 @@
+package com.ecommerce.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the inventory read cache.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.inventory.cache")
+public class InventoryCacheProperties {
+
+    /**
+     * How long an entry is served before it is read again; bounds the staleness of
+     * changes that do not evict it.
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of products cached.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Shared second-level cache in Redis.
+     */
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Redis {
+
+        /**
+         * Whether local misses are looked up in Redis before the database.
+         */
+        private boolean enabled = false;
+
+        /**
+         * How long an entry is kept in Redis. A display read can be as stale as this
+         * plus the local TTL.
+         */
+        private Duration ttl = Duration.ofSeconds(10);
+
+        /**
+         * Prefix of the Redis keys, followed by the product ID.
+         */
+        private String keyPrefix = "inventory:item:";
+
+        /**
+         * Pub/sub channel on which evictions are broadcast to the other instances.
+         */
+        private String channel = "inventory:cache:invalidate";
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the job that requests restocks of low-stock items.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.inventory.reorder")
+public class ReorderProperties {
+
+    /**
+     * Run the job on this instance. It may be enabled on every instance; a job lock
+     * in the database lets only one of them run it per cron slot.
+     */
+    private boolean enabled = false;
+
+    /**
+     * When the job runs, as a Spring cron expression.
+     */
+    private String cron = "0 0 2 * * *";
+
+    /**
+     * Items per ReorderRequested event.
+     */
+    private int batchSize = 100;
+
+    /**
+     * How long a run may hold the job lock if its instance dies before releasing it.
+     */
+    private Duration lockAtMostFor = Duration.ofHours(1);
+
+    /**
+     * How long the job lock is held at least, counted from the start of a run, so
+     * instances with slightly late clocks skip the same cron slot.
+     */
+    private Duration lockAtLeastFor = Duration.ofMinutes(5);
+
+    /**
+     * How long a requested product is not requested again while its stock stays low.
+     */
+    private Duration outstandingTimeout = Duration.ofDays(7);
+}
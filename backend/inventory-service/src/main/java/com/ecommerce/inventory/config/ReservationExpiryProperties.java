@@ -0,0 +1,63 @@
+package com.ecommerce.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the reaper that expires unconfirmed stock reservations.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.inventory.reservation-expiry")
+public class ReservationExpiryProperties {
+
+    /**
+     * Run the reaper on this instance.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pause between the end of one sweep and the start of the next.
+     */
+    private Duration sweepInterval = Duration.ofSeconds(5);
+
+    /**
+     * Reservations expired per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Upper bound on batches per sweep, so one sweep cannot run indefinitely.
+     */
+    private int maxBatchesPerSweep = 20;
+
+    /**
+     * Expire reservations at their deadline from an in-memory timing wheel; the sweep then
+     * only catches what the wheel missed.
+     */
+    private boolean wheelEnabled = true;
+
+    /**
+     * Resolution of the timing wheel.
+     */
+    private Duration wheelTick = Duration.ofMillis(100);
+
+    /**
+     * Slots per wheel level.
+     */
+    private int wheelSize = 64;
+
+    /**
+     * Number of wheel levels; with the defaults they cover 64^4 ticks, about 19 days.
+     */
+    private int wheelLevels = 4;
+
+    /**
+     * Delay added to each deadline before the wheel fires, covering the rounding of
+     * expires_at to whole seconds in the database.
+     */
+    private Duration wheelGrace = Duration.ofSeconds(1);
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.inventory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the in-memory hot SKU stock ledger.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.inventory.ledger")
+public class StockLedgerProperties {
+
+    /**
+     * Serve reservations of contended products from memory.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of shards the hot products are spread over.
+     */
+    private int shards = 16;
+
+    /**
+     * Number of counter stripes per hot product; more stripes mean fewer CAS collisions.
+     */
+    private int stripes = 8;
+
+    /**
+     * Units taken from the database row at a time for a hot product.
+     */
+    private int allotmentSize = 200;
+
+    /**
+     * Fraction of the allotment below which more stock is taken from the database.
+     */
+    private double refillThreshold = 0.25;
+
+    /**
+     * Reservation attempts per detection interval that make a product hot.
+     */
+    private int promoteThreshold = 50;
+
+    /**
+     * Reservation attempts per detection interval below which a hot product is cooling down.
+     */
+    private int demoteThreshold = 5;
+
+    /**
+     * Consecutive cool intervals after which a hot product goes back to the database path.
+     */
+    private int cooldownIntervals = 30;
+
+    /**
+     * Length of the contention detection window.
+     */
+    private Duration detectionInterval = Duration.ofSeconds(1);
+
+    /**
+     * How often granted reservations and allotment changes are written to the database.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * Directory of the ledger journal; must be local to the instance.
+     */
+    private String journalDir = "data/ledger";
+
+    /**
+     * Journal size that triggers a compaction.
+     */
+    private long journalCompactBytes = 16 * 1024 * 1024;
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.inventory.config;
+
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for reserving products stocked per warehouse.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.inventory.warehouses")
+public class WarehouseProperties {
+
+    /**
+     * Reserve products that have warehouse_stock rows from those rows. When disabled every
+     * product is reserved from its inventory item.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Strategy used when a reservation does not ask for one.
+     */
+    private AllocationStrategy defaultStrategy = AllocationStrategy.MOST_STOCK;
+
+    /**
+     * How often an allocation is recomputed when concurrent reservations took the stock it
+     * planned on, before the product is reported as out of stock.
+     */
+    private int maxAllocationAttempts = 3;
+
+    /**
+     * How often the warehouse totals are copied into inventory_items, which bounds how stale
+     * the totals shown for warehouse-stocked products can be.
+     */
+    private Duration rollupInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.inventory.domain.event;
+
+import com.ecommerce.common.messaging.event.DomainEvent;
+import lombok.Getter;
+import lombok.Value;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to restock a batch of low-stock items.
+ * The aggregate ID identifies the batch; each item carries its own product ID.
+ */
+@Getter
+public class ReorderRequestedEvent extends DomainEvent {
+
+    private static final String EVENT_TYPE = "ReorderRequested";
+
+    private final List<Item> items;
+
+    public ReorderRequestedEvent(UUID batchId, List<Item> items) {
+        super(EVENT_TYPE, batchId.toString());
+        this.items = List.copyOf(items);
+    }
+
+    @Value
+    public static class Item {
+
+        UUID productId;
+        String sku;
+        int quantityOnHand;
+        int reorderLevel;
+        int reorderQuantity;
+        String warehouseLocation;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.inventory.domain.exception;
+
+import com.ecommerce.common.constant.ErrorCodes;
+import com.ecommerce.common.exception.ResourceNotFoundException;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a product has no inventory record.
+ */
+public class InventoryNotFoundException extends ResourceNotFoundException {
+
+    public InventoryNotFoundException(UUID productId) {
+        super(ErrorCodes.INVENTORY_NOT_FOUND, "Inventory not found for product: %s", productId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.inventory.domain.model;
+
+/**
+ * Order in which warehouses are drawn from when a product is stocked in several.
+ */
+public enum AllocationStrategy {
+
+    /**
+     * Closest to the delivery destination first; needs a destination and warehouse coordinates.
+     */
+    NEAREST,
+
+    /**
+     * Most available stock first, which keeps the number of shipments per order low.
+     */
+    MOST_STOCK
+}
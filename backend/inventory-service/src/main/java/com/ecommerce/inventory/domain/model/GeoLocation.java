@@ -0,0 +1,27 @@
+package com.ecommerce.inventory.domain.model;
+
+import lombok.Value;
+
+/**
+ * Point on the earth's surface, in decimal degrees.
+ */
+@Value
+public class GeoLocation {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    double latitude;
+    double longitude;
+
+    /**
+     * Great-circle distance, by the haversine formula.
+     */
+    public double distanceKmTo(GeoLocation other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(a));
+    }
+}
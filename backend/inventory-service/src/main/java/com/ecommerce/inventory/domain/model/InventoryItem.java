@@ -46,6 +46,13 @@ public class InventoryItem extends AggregateRoot {
     @Column(name = "warehouse_location", length = 100)
     private String warehouseLocation;
 
+    /**
+     * Total quantity minus the reorder level, computed by the database; zero or below
+     * means the item needs reordering. Only current as of the last load.
+     */
+    @Column(name = "reorder_gap", insertable = false, updatable = false)
+    private Integer reorderGap;
+
     /**
      * Create a new inventory item.
      */
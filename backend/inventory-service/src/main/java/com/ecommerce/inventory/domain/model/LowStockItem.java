@@ -0,0 +1,24 @@
+package com.ecommerce.inventory.domain.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Read-only view of an inventory item at or below its reorder level.
+ */
+@Value
+public class LowStockItem {
+
+    UUID productId;
+    String sku;
+    int quantityAvailable;
+    int quantityReserved;
+    int reorderLevel;
+    int reorderQuantity;
+    String warehouseLocation;
+
+    public int getTotalQuantity() {
+        return quantityAvailable + quantityReserved;
+    }
+}
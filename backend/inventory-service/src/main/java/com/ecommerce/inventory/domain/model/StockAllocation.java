@@ -0,0 +1,16 @@
+package com.ecommerce.inventory.domain.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Quantity of a product to take from one warehouse.
+ */
+@Value
+public class StockAllocation {
+
+    UUID productId;
+    String warehouseCode;
+    int quantity;
+}
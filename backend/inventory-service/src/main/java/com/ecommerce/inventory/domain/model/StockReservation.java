@@ -29,6 +29,13 @@ public class StockReservation extends BaseEntity {
     @Column(nullable = false)
     private Integer quantity;
 
+    /**
+     * Warehouse the quantity was allocated from; null when it was reserved from the
+     * product's inventory item.
+     */
+    @Column(name = "warehouse_code", length = 50)
+    private String warehouseCode;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     @Builder.Default
@@ -51,10 +58,16 @@ public class StockReservation extends BaseEntity {
     }
 
     public static StockReservation create(UUID orderId, UUID productId, int quantity, Instant expiresAt) {
+        return create(orderId, productId, null, quantity, expiresAt);
+    }
+
+    public static StockReservation create(UUID orderId, UUID productId, String warehouseCode,
+                                          int quantity, Instant expiresAt) {
+        // No preset ID: the entity stays new, so it is persisted (and batched) rather than merged
         return StockReservation.builder()
-                .id(UUID.randomUUID())
                 .orderId(orderId)
                 .productId(productId)
+                .warehouseCode(warehouseCode)
                 .quantity(quantity)
                 .status(ReservationStatus.ACTIVE)
                 .expiresAt(expiresAt)
@@ -0,0 +1,26 @@
+package com.ecommerce.inventory.domain.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Stock of a product at one warehouse, as read for allocation.
+ */
+@Value
+public class WarehouseStockLevel {
+
+    UUID productId;
+    String warehouseCode;
+    int quantityAvailable;
+
+    /**
+     * Where the warehouse is; null if its coordinates are not known.
+     */
+    GeoLocation location;
+
+    /**
+     * Inactive warehouses keep their stock but are not allocated from.
+     */
+    boolean active;
+}
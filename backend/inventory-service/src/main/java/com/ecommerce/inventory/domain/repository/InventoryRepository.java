@@ -1,10 +1,15 @@
 package com.ecommerce.inventory.domain.repository;
 
 import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.LowStockItem;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface InventoryRepository {
 
@@ -18,7 +23,37 @@ public interface InventoryRepository {
 
     List<InventoryItem> findByProductIdIn(List<UUID> productIds);
 
-    List<InventoryItem> findLowStock();
+    /**
+     * Reserve several products in one round trip, applying the updates in the map's iteration order.
+     *
+     * @param quantities quantity to reserve per product ID
+     * @return the product IDs whose stock was reserved
+     */
+    Set<UUID> reserveStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Release several products in one round trip, applying the updates in the map's iteration order.
+     *
+     * @param quantities quantity to release per product ID
+     */
+    void releaseStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Stream the items at or below their reorder level. Must be called in a transaction and
+     * closed after use; rows are read as the stream is consumed.
+     */
+    Stream<LowStockItem> streamLowStock();
+
+    /**
+     * Units counted in the reserved quantity of these products that no reservation holds yet,
+     * because they were set aside ahead of demand. Reads that report stock add them back to the
+     * available quantity.
+     *
+     * @return the units per product ID; products without any are left out
+     */
+    default Map<UUID, Integer> findUnusedAllotments(Collection<UUID> productIds) {
+        return Map.of();
+    }
 
     boolean existsByProductId(UUID productId);
 
@@ -0,0 +1,31 @@
+package com.ecommerce.inventory.domain.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Products whose restock was requested and not yet received, so a product is requested once
+ * per shortage rather than on every run.
+ */
+public interface ReorderRequestRepository {
+
+    /**
+     * Forget the requests whose product is back above its reorder level, no longer exists, or
+     * was requested before the given time, so those products can be requested again.
+     *
+     * @return the number of requests removed
+     */
+    int deleteFulfilledOrRequestedBefore(Instant requestedBefore);
+
+    /**
+     * Those of the given products that have an outstanding request.
+     */
+    Set<UUID> findOutstandingAmong(Collection<UUID> productIds);
+
+    /**
+     * Record a request for the given products now.
+     */
+    void saveAll(Collection<UUID> productIds);
+}
@@ -11,13 +11,46 @@ public interface StockReservationRepository {
 
     StockReservation save(StockReservation reservation);
 
+    List<StockReservation> saveAll(List<StockReservation> reservations);
+
     Optional<StockReservation> findById(UUID id);
 
     List<StockReservation> findByOrderId(UUID orderId);
 
     List<StockReservation> findActiveByOrderId(UUID orderId);
 
-    List<StockReservation> findExpiredReservations(Instant before);
+    /**
+     * Lock the next batch of active reservations that expired before the given instant,
+     * skipping rows locked by other transactions. Batches are read in (expiresAt, id) order
+     * after the given cursor, so a sweep never rescans what it already passed.
+     *
+     * @param afterExpiresAt expiry of the last reservation of the previous batch, or null
+     * @param afterId        ID of the last reservation of the previous batch, or null
+     */
+    List<StockReservation> claimExpired(Instant before, Instant afterExpiresAt, UUID afterId, int limit);
+
+    /**
+     * Lock the given reservations if they are still active and expired before the given
+     * instant, skipping rows locked by other transactions.
+     */
+    List<StockReservation> claimExpiredByIds(List<UUID> ids, Instant before);
+
+    /**
+     * Read a page of active reservations in (expiresAt, id) order after the given cursor,
+     * without locking them.
+     */
+    List<StockReservation> findActive(Instant afterExpiresAt, UUID afterId, int limit);
+
+    /**
+     * Mark active reservations as expired in one update.
+     *
+     * @return the number of reservations expired
+     */
+    int markExpired(List<UUID> ids);
+
+    long countExpired(Instant before);
+
+    Optional<Instant> findOldestExpiresAt(Instant before);
 
     void deleteByOrderId(UUID orderId);
 }
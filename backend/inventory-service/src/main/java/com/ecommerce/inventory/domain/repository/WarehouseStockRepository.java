@@ -0,0 +1,39 @@
+package com.ecommerce.inventory.domain.repository;
+
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface WarehouseStockRepository {
+
+    /**
+     * All warehouse stock rows of the given products, including inactive warehouses and rows
+     * without stock, so callers can tell which products are stocked per warehouse.
+     */
+    List<WarehouseStockLevel> findByProductIdIn(Collection<UUID> productIds);
+
+    /**
+     * Reserve several allocations in one round trip, in (product ID, warehouse code) order.
+     *
+     * @return the allocations whose warehouse still had enough stock
+     */
+    List<StockAllocation> reserveStock(List<StockAllocation> allocations);
+
+    /**
+     * Release several allocations in one round trip, in (product ID, warehouse code) order.
+     */
+    void releaseStock(List<StockAllocation> allocations);
+
+    /**
+     * Copy the summed warehouse quantities of products whose warehouse rows changed since the
+     * given time into inventory_items.
+     *
+     * @param changedSince lower bound on the rows' update time; null rolls up every product
+     * @return the number of inventory items updated
+     */
+    int rollUpInventoryTotals(Instant changedSince);
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.inventory.domain.service;
+
+import com.ecommerce.inventory.domain.model.StockReservation;
+
+import java.util.Collection;
+
+/**
+ * Schedules the expiry of active reservations at their deadline.
+ *
+ * Scheduling is best effort: a reservation whose expiry is missed (for example because the
+ * instance that created it went down) is still expired by the periodic sweep. A reservation
+ * that is no longer active when its deadline comes is left as it is by the expiry.
+ */
+public interface ReservationExpiryScheduler {
+
+    /**
+     * Schedule the expiry of newly created reservations.
+     * Within a transaction, takes effect only once it commits.
+     */
+    void schedule(Collection<StockReservation> reservations);
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.inventory.domain.service;
+
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
+import com.ecommerce.inventory.domain.model.GeoLocation;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decides which warehouses a reservation is taken from.
+ */
+public interface StockAllocationService {
+
+    /**
+     * Split each requested quantity over the warehouses holding the product.
+     *
+     * @param quantities  quantity to allocate per product ID
+     * @param levels      current stock of the products per warehouse
+     * @param strategy    order in which warehouses are drawn from
+     * @param destination delivery destination; without it NEAREST falls back to MOST_STOCK
+     * @return allocations per product, for the products whose active warehouses hold enough
+     * stock together; products that cannot be allocated in full are left out
+     */
+    Map<UUID, List<StockAllocation>> allocate(Map<UUID, Integer> quantities,
+                                              List<WarehouseStockLevel> levels,
+                                              AllocationStrategy strategy,
+                                              GeoLocation destination);
+}
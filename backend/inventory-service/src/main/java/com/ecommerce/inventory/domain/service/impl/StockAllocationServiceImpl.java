@@ -0,0 +1,80 @@
+package com.ecommerce.inventory.domain.service.impl;
+
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
+import com.ecommerce.inventory.domain.model.GeoLocation;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
+import com.ecommerce.inventory.domain.service.StockAllocationService;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of StockAllocationService.
+ *
+ * Warehouses are ranked by the strategy and drawn from greedily until the quantity is covered.
+ * Ties are broken by warehouse code, so the same stock always gives the same allocation.
+ */
+@Service
+public class StockAllocationServiceImpl implements StockAllocationService {
+
+    @Override
+    public Map<UUID, List<StockAllocation>> allocate(Map<UUID, Integer> quantities,
+                                                     List<WarehouseStockLevel> levels,
+                                                     AllocationStrategy strategy,
+                                                     GeoLocation destination) {
+        Map<UUID, List<WarehouseStockLevel>> byProduct = new HashMap<>();
+        for (WarehouseStockLevel level : levels) {
+            if (level.isActive() && level.getQuantityAvailable() > 0) {
+                byProduct.computeIfAbsent(level.getProductId(), id -> new ArrayList<>()).add(level);
+            }
+        }
+
+        Comparator<WarehouseStockLevel> order = ranking(strategy, destination);
+        Map<UUID, List<StockAllocation>> result = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Integer> request : quantities.entrySet()) {
+            List<WarehouseStockLevel> candidates = byProduct.get(request.getKey());
+            if (candidates == null) {
+                continue;
+            }
+            candidates.sort(order);
+
+            int remaining = request.getValue();
+            List<StockAllocation> allocations = new ArrayList<>();
+            for (WarehouseStockLevel level : candidates) {
+                if (remaining == 0) {
+                    break;
+                }
+                int take = Math.min(remaining, level.getQuantityAvailable());
+                allocations.add(new StockAllocation(request.getKey(), level.getWarehouseCode(), take));
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                result.put(request.getKey(), allocations);
+            }
+        }
+        return result;
+    }
+
+    private Comparator<WarehouseStockLevel> ranking(AllocationStrategy strategy, GeoLocation destination) {
+        Comparator<WarehouseStockLevel> mostStock = Comparator
+                .comparingInt(WarehouseStockLevel::getQuantityAvailable).reversed();
+        Comparator<WarehouseStockLevel> byCode = Comparator.comparing(WarehouseStockLevel::getWarehouseCode);
+
+        if (strategy == AllocationStrategy.NEAREST && destination != null) {
+            // Warehouses without coordinates come last
+            Comparator<WarehouseStockLevel> nearest = Comparator.comparingDouble(level ->
+                    level.getLocation() == null
+                            ? Double.MAX_VALUE
+                            : level.getLocation().distanceKmTo(destination));
+            return nearest.thenComparing(mostStock).thenComparing(byCode);
+        }
+        return mostStock.thenComparing(byCode);
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.inventory.infrastructure.cache;
+
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.config.InventoryCacheProperties;
+import com.ecommerce.inventory.domain.event.StockUpdatedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Local Caffeine cache of inventory read models, optionally backed by Redis.
+ *
+ * Local misses are looked up in Redis when it is enabled, and only the rest is loaded from the
+ * database and written back to both levels. Evictions take effect once the stock change
+ * committed and reach Redis and every instance's local cache; a StockUpdatedEvent evicts its
+ * product the same way.
+ *
+ * Hits, misses and evictions are published as the cache.* meters tagged cache=inventory,
+ * with the local hit ratio as inventory.cache.hit.ratio.
+ */
+@Component
+@RequiredArgsConstructor
+public class CaffeineInventoryCache implements InventoryCache {
+
+    private static final String CACHE_NAME = "inventory";
+
+    private final InventoryCacheProperties properties;
+    private final ObjectProvider<RedisInventoryStore> redisStoreProvider;
+    private final MeterRegistry meterRegistry;
+
+    private Cache<UUID, InventoryResponse> cache;
+    private RedisInventoryStore redisStore;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("inventory.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of inventory lookups served from the local cache")
+                .register(meterRegistry);
+
+        redisStore = redisStoreProvider.getIfAvailable();
+        if (redisStore != null) {
+            redisStore.onInvalidation(cache::invalidate);
+        }
+    }
+
+    @Override
+    public Map<UUID, InventoryResponse> getAll(Collection<UUID> productIds,
+                                               Function<Set<UUID>, Map<UUID, InventoryResponse>> loader) {
+        return cache.getAll(productIds, missing -> load(Set.copyOf(missing), loader));
+    }
+
+    @Override
+    public void evict(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Set<UUID> toEvict = Set.copyOf(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(toEvict);
+                }
+            });
+        } else {
+            invalidate(toEvict);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockUpdated(StockUpdatedEvent event) {
+        invalidate(Set.of(event.getProductId()));
+    }
+
+    private void invalidate(Set<UUID> productIds) {
+        cache.invalidateAll(productIds);
+        if (redisStore != null) {
+            redisStore.evict(productIds);
+        }
+    }
+
+    private Map<UUID, InventoryResponse> load(Set<UUID> productIds,
+                                              Function<Set<UUID>, Map<UUID, InventoryResponse>> loader) {
+        if (redisStore == null) {
+            return loader.apply(productIds);
+        }
+
+        Map<UUID, InventoryResponse> result = new HashMap<>(redisStore.getAll(productIds));
+        Set<UUID> remaining = new HashSet<>(productIds);
+        remaining.removeAll(result.keySet());
+        if (!remaining.isEmpty()) {
+            Map<UUID, InventoryResponse> loaded = loader.apply(Set.copyOf(remaining));
+            redisStore.putAll(loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package com.ecommerce.inventory.infrastructure.cache;
+
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.config.InventoryCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Second-level inventory cache in Redis, shared by all instances.
+ *
+ * Entries are stored as JSON under a per-product key with their own TTL. Evictions are
+ * deleted here and broadcast on a pub/sub channel, one message of comma-separated product IDs
+ * per call, so every instance drops its local entries too. Redis errors are logged and
+ * treated as misses; the database remains the source of truth.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.cache.redis", name = "enabled", havingValue = "true")
+public class RedisInventoryStore implements MessageListener, SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "inventory.cache.redis";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final InventoryCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Consumer<UUID> invalidationListener = productId -> { };
+    private volatile RedisMessageListenerContainer listenerContainer;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder(METRIC_PREFIX + ".gets")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder(METRIC_PREFIX + ".gets")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up the given products.
+     *
+     * @return the entries found, keyed by product ID
+     */
+    public Map<UUID, InventoryResponse> getAll(Collection<UUID> productIds) {
+        List<UUID> ids = List.copyOf(productIds);
+        Map<UUID, InventoryResponse> found = new HashMap<>(ids.size());
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+            for (int i = 0; values != null && i < ids.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    found.put(ids.get(i), objectMapper.readValue(value, InventoryResponse.class));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} inventory entries from Redis: {}", ids.size(), e.getMessage());
+        }
+        hits.increment(found.size());
+        misses.increment(ids.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Store the given entries with the configured TTL, in one round trip.
+     */
+    public void putAll(Map<UUID, InventoryResponse> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Map<byte[], byte[]> serialized = new HashMap<>(entries.size());
+        try {
+            for (Map.Entry<UUID, InventoryResponse> entry : entries.entrySet()) {
+                serialized.put(key(entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(entry.getValue()));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize inventory entries for Redis: {}", e.getMessage());
+            return;
+        }
+
+        Expiration expiration = Expiration.from(properties.getRedis().getTtl());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                serialized.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to write {} inventory entries to Redis: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the products' entries and tell the other instances to drop theirs.
+     */
+    public void evict(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(productIds.stream().map(this::key).toList());
+            redisTemplate.convertAndSend(properties.getRedis().getChannel(),
+                    productIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("Failed to evict {} inventory entries from Redis: {}", productIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Register the callback run for every eviction broadcast, including this instance's own.
+     */
+    public void onInvalidation(Consumer<UUID> listener) {
+        this.invalidationListener = listener;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        for (String productId : new String(message.getBody(), StandardCharsets.UTF_8).split(",")) {
+            try {
+                invalidationListener.accept(UUID.fromString(productId));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed inventory cache invalidation: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getRedis().getChannel()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to stop inventory cache invalidation listener", e);
+            }
+            listenerContainer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listenerContainer != null;
+    }
+
+    private String key(UUID productId) {
+        return properties.getRedis().getKeyPrefix() + productId;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.infrastructure.persistence.InventoryRepositoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Inventory repository that reserves hot products from the stock ledger and everything else
+ * (including hot products whose allotment is short) with the conditional updates of the
+ * database adapter. Reservations from memory only count once their transaction commits.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.ledger", name = "enabled", havingValue = "true")
+public class LedgerInventoryRepository implements InventoryRepository {
+
+    private final InventoryRepositoryAdapter delegate;
+    private final StockLedger ledger;
+
+    @Override
+    public Set<UUID> reserveStock(Map<UUID, Integer> quantities) {
+        // Units from memory are handed back on rollback, so there must be a transaction to follow
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return delegate.reserveStock(quantities);
+        }
+
+        Set<UUID> reserved = new HashSet<>();
+        Map<UUID, Integer> toDatabase = new LinkedHashMap<>();
+        for (Map.Entry<UUID, Integer> item : quantities.entrySet()) {
+            UUID productId = item.getKey();
+            ledger.recordAttempt(productId);
+
+            StripedStockCounter counter = ledger.hotCounter(productId);
+            if (counter != null && ledger.tryReserve(counter, item.getValue())) {
+                LedgerTransaction.current(ledger).acquired(productId, counter, item.getValue());
+                reserved.add(productId);
+            } else {
+                toDatabase.put(productId, item.getValue());
+            }
+        }
+
+        reserved.addAll(delegate.reserveStock(toDatabase));
+        return reserved;
+    }
+
+    @Override
+    public void releaseStock(Map<UUID, Integer> quantities) {
+        LedgerTransaction transaction = LedgerTransaction.existing(ledger);
+        if (transaction == null) {
+            delegate.releaseStock(quantities);
+            return;
+        }
+
+        Map<UUID, Integer> toDatabase = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            int remaining = quantity - transaction.release(productId, quantity);
+            if (remaining > 0) {
+                toDatabase.put(productId, remaining);
+            }
+        });
+        delegate.releaseStock(toDatabase);
+    }
+
+    @Override
+    public InventoryItem save(InventoryItem item) {
+        return delegate.save(item);
+    }
+
+    @Override
+    public Optional<InventoryItem> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<InventoryItem> findByProductId(UUID productId) {
+        return delegate.findByProductId(productId);
+    }
+
+    @Override
+    public Optional<InventoryItem> findBySku(String sku) {
+        return delegate.findBySku(sku);
+    }
+
+    @Override
+    public List<InventoryItem> findByProductIdIn(List<UUID> productIds) {
+        return delegate.findByProductIdIn(productIds);
+    }
+
+    @Override
+    public Stream<LowStockItem> streamLowStock() {
+        return delegate.streamLowStock();
+    }
+
+    /**
+     * Only this instance's allotments are known here; another instance serving the same hot
+     * product still hides up to one allotment of it.
+     */
+    @Override
+    public Map<UUID, Integer> findUnusedAllotments(Collection<UUID> productIds) {
+        Map<UUID, Integer> allotments = new HashMap<>();
+        for (UUID productId : productIds) {
+            int unused = ledger.unusedAllotment(productId);
+            if (unused > 0) {
+                allotments.put(productId, unused);
+            }
+        }
+        return allotments;
+    }
+
+    @Override
+    public boolean existsByProductId(UUID productId) {
+        return delegate.existsByProductId(productId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+    }
+}
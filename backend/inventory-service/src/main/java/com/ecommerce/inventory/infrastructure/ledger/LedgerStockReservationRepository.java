@@ -0,0 +1,120 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.infrastructure.persistence.StockReservationRepositoryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reservation repository that leaves reservations of stock taken from the ledger to its
+ * write-behind flusher instead of inserting them in the caller's transaction.
+ *
+ * Lookups and deletes by order first write that order's pending reservations, so confirming or
+ * releasing an order right after it was reserved still finds them and the flusher cannot bring
+ * deleted ones back.
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.ledger", name = "enabled", havingValue = "true")
+public class LedgerStockReservationRepository implements StockReservationRepository {
+
+    private final StockReservationRepositoryAdapter delegate;
+    private final StockLedger ledger;
+
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        LedgerTransaction transaction = LedgerTransaction.existing(ledger);
+        if (transaction == null) {
+            return delegate.saveAll(reservations);
+        }
+
+        List<StockReservation> toDatabase = new ArrayList<>(reservations.size());
+        List<StockReservation> saved = new ArrayList<>(reservations.size());
+        for (StockReservation reservation : reservations) {
+            if (reservation.getId() == null && reservation.getWarehouseCode() == null
+                    && transaction.isAcquired(reservation.getProductId())) {
+                reservation.setId(UUID.randomUUID());
+                transaction.reserved(new PendingReservation(
+                        reservation.getId(),
+                        reservation.getOrderId(),
+                        reservation.getProductId(),
+                        reservation.getQuantity(),
+                        reservation.getExpiresAt()));
+                saved.add(reservation);
+            } else {
+                toDatabase.add(reservation);
+            }
+        }
+
+        saved.addAll(delegate.saveAll(toDatabase));
+        return saved;
+    }
+
+    @Override
+    public List<StockReservation> findByOrderId(UUID orderId) {
+        ledger.flushOrder(orderId);
+        return delegate.findByOrderId(orderId);
+    }
+
+    @Override
+    public List<StockReservation> findActiveByOrderId(UUID orderId) {
+        ledger.flushOrder(orderId);
+        return delegate.findActiveByOrderId(orderId);
+    }
+
+    @Override
+    public StockReservation save(StockReservation reservation) {
+        return delegate.save(reservation);
+    }
+
+    @Override
+    public Optional<StockReservation> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<StockReservation> claimExpired(Instant before, Instant afterExpiresAt, UUID afterId, int limit) {
+        return delegate.claimExpired(before, afterExpiresAt, afterId, limit);
+    }
+
+    @Override
+    public List<StockReservation> claimExpiredByIds(List<UUID> ids, Instant before) {
+        return delegate.claimExpiredByIds(ids, before);
+    }
+
+    @Override
+    public List<StockReservation> findActive(Instant afterExpiresAt, UUID afterId, int limit) {
+        return delegate.findActive(afterExpiresAt, afterId, limit);
+    }
+
+    @Override
+    public int markExpired(List<UUID> ids) {
+        return delegate.markExpired(ids);
+    }
+
+    @Override
+    public long countExpired(Instant before) {
+        return delegate.countExpired(before);
+    }
+
+    @Override
+    public Optional<Instant> findOldestExpiresAt(Instant before) {
+        return delegate.findOldestExpiresAt(before);
+    }
+
+    @Override
+    public void deleteByOrderId(UUID orderId) {
+        ledger.flushOrder(orderId);
+        delegate.deleteByOrderId(orderId);
+    }
+}
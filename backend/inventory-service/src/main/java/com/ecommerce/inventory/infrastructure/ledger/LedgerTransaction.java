@@ -0,0 +1,114 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Units a transaction took from the ledger and the reservations it created from them.
+ *
+ * Nothing is granted until the transaction commits: the reservations are journaled just before
+ * the commit, so a journal failure rolls the transaction back instead of granting units that a
+ * restart could not account for. On commit the reservations are handed to the ledger for
+ * write-behind and units taken but not reserved go back to their counters; on rollback the
+ * journaled grant is voided and all units go back.
+ */
+class LedgerTransaction implements TransactionSynchronization {
+
+    private final StockLedger ledger;
+    private final Map<UUID, Integer> acquired = new HashMap<>();
+    private final Map<UUID, StripedStockCounter> counters = new HashMap<>();
+    private final List<PendingReservation> reservations = new ArrayList<>();
+    private boolean journaled;
+
+    private LedgerTransaction(StockLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    /**
+     * The ledger state of the current transaction, created on first use.
+     */
+    static LedgerTransaction current(StockLedger ledger) {
+        LedgerTransaction transaction = existing(ledger);
+        if (transaction == null) {
+            transaction = new LedgerTransaction(ledger);
+            TransactionSynchronizationManager.bindResource(ledger, transaction);
+            TransactionSynchronizationManager.registerSynchronization(transaction);
+        }
+        return transaction;
+    }
+
+    /**
+     * The ledger state of the current transaction, or null if it took nothing from the ledger.
+     */
+    static LedgerTransaction existing(StockLedger ledger) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        return (LedgerTransaction) TransactionSynchronizationManager.getResource(ledger);
+    }
+
+    void acquired(UUID productId, StripedStockCounter counter, int quantity) {
+        acquired.merge(productId, quantity, Integer::sum);
+        counters.put(productId, counter);
+    }
+
+    boolean isAcquired(UUID productId) {
+        return acquired.containsKey(productId);
+    }
+
+    /**
+     * Give back units taken in this transaction.
+     *
+     * @return the part of the quantity that came from the ledger
+     */
+    int release(UUID productId, int quantity) {
+        Integer held = acquired.get(productId);
+        if (held == null) {
+            return 0;
+        }
+        int released = Math.min(held, quantity);
+        counters.get(productId).add(released);
+        if (held == released) {
+            acquired.remove(productId);
+        } else {
+            acquired.put(productId, held - released);
+        }
+        return released;
+    }
+
+    void reserved(PendingReservation reservation) {
+        reservations.add(reservation);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        if (!reservations.isEmpty()) {
+            ledger.granting(reservations, counters);
+            journaled = true;
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(ledger);
+
+        Map<UUID, Integer> unused = new HashMap<>(acquired);
+        if (status == STATUS_COMMITTED) {
+            for (PendingReservation reservation : reservations) {
+                unused.merge(reservation.getProductId(), -reservation.getQuantity(), Integer::sum);
+            }
+            if (journaled) {
+                ledger.granted(reservations);
+            }
+        } else if (journaled) {
+            ledger.voided(reservations, counters);
+        }
+        unused.forEach((productId, quantity) -> counters.get(productId).add(quantity));
+    }
+}
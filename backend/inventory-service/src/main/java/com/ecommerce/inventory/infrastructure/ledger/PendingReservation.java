@@ -0,0 +1,19 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A reservation granted from memory and waiting to be written to stock_reservations.
+ */
+@Value
+class PendingReservation {
+
+    UUID reservationId;
+    UUID orderId;
+    UUID productId;
+    int quantity;
+    Instant expiresAt;
+}
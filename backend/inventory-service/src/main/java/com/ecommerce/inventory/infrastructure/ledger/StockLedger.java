@@ -0,0 +1,622 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.inventory.config.StockLedgerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory stock of contended ("hot") products.
+ *
+ * A product becomes hot when its reservation attempts per detection interval reach the
+ * promote threshold. The ledger then takes an allotment of units from its inventory_items row
+ * (moving them from quantity_available to quantity_reserved) and grants reservations from a
+ * striped counter with CAS, without touching the row. Because only allotments leave the row,
+ * several instances can run the ledger side by side and the row never goes below zero.
+ *
+ * Granted reservations are written to stock_reservations by a background flusher in JDBC
+ * batches, or by a lookup of their order in the caller's transaction, whichever comes first.
+ * Allotments are refilled when they run low, and returned to the row when the product has been
+ * quiet for the cooldown intervals or the instance stops. Every change is recorded in a local
+ * journal so a restart can write the pending reservations and give back the units that were
+ * still held.
+ *
+ * Until a reservation takes them, allotted units sit in quantity_reserved without an order
+ * behind them; stock reads add them back with {@link #unusedAllotment(UUID)}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.ledger", name = "enabled", havingValue = "true")
+public class StockLedger implements SmartLifecycle {
+
+    private static final String SELECT_AVAILABLE_FOR_UPDATE =
+            "SELECT quantity_available FROM inventory_items WHERE product_id = ? FOR UPDATE";
+
+    private static final String CLAIM_ALLOTMENT = """
+            UPDATE inventory_items
+            SET quantity_available = quantity_available - ?, quantity_reserved = quantity_reserved + ?,
+                version = version + 1
+            WHERE product_id = ?
+            """;
+
+    private static final String RETURN_ALLOTMENT = """
+            UPDATE inventory_items
+            SET quantity_available = quantity_available + ?, quantity_reserved = quantity_reserved - ?,
+                version = version + 1
+            WHERE product_id = ? AND quantity_reserved >= ?
+            """;
+
+    private static final String INSERT_RESERVATION = """
+            INSERT IGNORE INTO stock_reservations
+                (id, order_id, product_id, quantity, status, expires_at, created_at, version)
+            VALUES (?, ?, ?, ?, 'ACTIVE', ?, NOW(), 0)
+            """;
+
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private static final String METRIC_PREFIX = "inventory.ledger";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final StockLedgerProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, LongAdder> attempts = new ConcurrentHashMap<>();
+    private final Queue<PendingReservation> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    /**
+     * Grants journaled by transactions that are committing now.
+     */
+    private final Set<PendingReservation> committing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Reservations written by an order lookup whose transaction has not completed yet.
+     */
+    private final Set<PendingReservation> writing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Held while reservations are taken from the queue and inserted, so an order lookup never
+     * misses a batch the flusher has taken but not inserted yet.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Counters that were demoted while transactions still held units from them.
+     */
+    private final List<Map.Entry<UUID, StripedStockCounter>> retired = new CopyOnWriteArrayList<>();
+
+    private Map<UUID, StripedStockCounter>[] shards;
+    private StockLedgerJournal journal;
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService maintenance;
+    private volatile boolean running;
+
+    private Counter grantedCounter;
+    private Counter fallbackCounter;
+    private Counter promotedCounter;
+    private Counter demotedCounter;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void init() {
+        shards = new Map[properties.getShards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        journal = new StockLedgerJournal(Path.of(properties.getJournalDir()));
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        grantedCounter = reservationCounter("granted");
+        fallbackCounter = reservationCounter("fallback");
+        promotedCounter = Counter.builder(METRIC_PREFIX + ".promotions").register(meterRegistry);
+        demotedCounter = Counter.builder(METRIC_PREFIX + ".demotions").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hot-products", this, StockLedger::hotProductCount).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending-reservations", pendingCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // ========== Lifecycle ==========
+
+    @Override
+    public void start() {
+        recover();
+        journal.open();
+
+        maintenance = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("stock-ledger").daemon(true).factory());
+        maintenance.scheduleWithFixedDelay(this::detectContention,
+                properties.getDetectionInterval().toMillis(),
+                properties.getDetectionInterval().toMillis(), TimeUnit.MILLISECONDS);
+        maintenance.scheduleWithFixedDelay(this::flush,
+                properties.getFlushInterval().toMillis(),
+                properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+        log.info("Stock ledger started with {} shards of {} stripes", shards.length, properties.getStripes());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (maintenance != null) {
+            maintenance.shutdown();
+            try {
+                maintenance.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Whatever is still held by unfinished transactions stays in the journal for the next start
+        for (Map<UUID, StripedStockCounter> shard : shards) {
+            for (UUID productId : List.copyOf(shard.keySet())) {
+                demote(productId);
+            }
+        }
+        drainRetired();
+        flushPending();
+        journal.close();
+        log.info("Stock ledger stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ========== Reservations ==========
+
+    /**
+     * Count a reservation attempt for the contention detector.
+     */
+    void recordAttempt(UUID productId) {
+        attempts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * The open counter of a hot product, or null if the product goes to the database.
+     */
+    StripedStockCounter hotCounter(UUID productId) {
+        if (!running) {
+            return null;
+        }
+        StripedStockCounter counter = shardOf(productId).get(productId);
+        return counter != null && counter.isOpen() ? counter : null;
+    }
+
+    /**
+     * Units of a product's allotment on this instance that no reservation has taken yet.
+     */
+    int unusedAllotment(UUID productId) {
+        StripedStockCounter counter = shardOf(productId).get(productId);
+        return counter != null ? counter.available() : 0;
+    }
+
+    /**
+     * Take units of a hot product from memory.
+     *
+     * @return true if the counter had enough units
+     */
+    boolean tryReserve(StripedStockCounter counter, int quantity) {
+        if (counter.tryAcquire(quantity)) {
+            grantedCounter.increment();
+            return true;
+        }
+        counter.setRefillRequested(true);
+        fallbackCounter.increment();
+        return false;
+    }
+
+    /**
+     * Journal reservations granted from memory before their transaction commits; a failure
+     * propagates and rolls the transaction back. The journal record and the held count change
+     * together under the journal's monitor, so a compaction never sees one without the other.
+     *
+     * @param counters the counter each product's units were taken from
+     */
+    void granting(Collection<PendingReservation> reservations, Map<UUID, StripedStockCounter> counters) {
+        synchronized (journal) {
+            try {
+                journal.granted(reservations);
+            } catch (RuntimeException e) {
+                // Part of the records may have reached the file
+                voidQuietly(reservations);
+                throw e;
+            }
+            for (PendingReservation reservation : reservations) {
+                counters.get(reservation.getProductId()).granted(reservation.getQuantity());
+            }
+            committing.addAll(reservations);
+        }
+    }
+
+    /**
+     * Queue journaled reservations for the flusher once their transaction committed.
+     */
+    void granted(Collection<PendingReservation> reservations) {
+        synchronized (journal) {
+            committing.removeAll(reservations);
+            pending.addAll(reservations);
+            pendingCount.addAndGet(reservations.size());
+        }
+    }
+
+    /**
+     * Take back journaled reservations whose transaction did not commit after all.
+     */
+    void voided(Collection<PendingReservation> reservations, Map<UUID, StripedStockCounter> counters) {
+        synchronized (journal) {
+            committing.removeAll(reservations);
+            voidQuietly(reservations);
+            for (PendingReservation reservation : reservations) {
+                counters.get(reservation.getProductId()).voided(reservation.getQuantity());
+            }
+        }
+    }
+
+    /**
+     * Write the pending reservations of an order now, in the caller's transaction, so a lookup
+     * by order sees them and a delete by order removes them for good. They leave the flush queue
+     * until that transaction completes: on commit they count as flushed, on rollback they are
+     * queued again.
+     */
+    void flushOrder(UUID orderId) {
+        flushLock.lock();
+        try {
+            List<PendingReservation> reservations = new ArrayList<>();
+            synchronized (journal) {
+                Iterator<PendingReservation> it = pending.iterator();
+                while (it.hasNext()) {
+                    PendingReservation reservation = it.next();
+                    if (reservation.getOrderId().equals(orderId)) {
+                        it.remove();
+                        reservations.add(reservation);
+                    }
+                }
+                writing.addAll(reservations);
+            }
+            if (reservations.isEmpty()) {
+                return;
+            }
+
+            try {
+                insertReservations(reservations);
+            } catch (RuntimeException e) {
+                requeue(reservations);
+                throw e;
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            writing.removeAll(reservations);
+                            flushed(reservations);
+                        } else {
+                            requeue(reservations);
+                        }
+                    }
+                });
+            } else {
+                writing.removeAll(reservations);
+                flushed(reservations);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // ========== Contention detection ==========
+
+    private void detectContention() {
+        try {
+            Map<UUID, Long> counts = new HashMap<>();
+            Iterator<Map.Entry<UUID, LongAdder>> it = attempts.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<UUID, LongAdder> entry = it.next();
+                long count = entry.getValue().sumThenReset();
+                if (count == 0) {
+                    it.remove();
+                } else {
+                    counts.put(entry.getKey(), count);
+                }
+            }
+
+            for (Map<UUID, StripedStockCounter> shard : shards) {
+                for (Map.Entry<UUID, StripedStockCounter> entry : shard.entrySet()) {
+                    long count = counts.getOrDefault(entry.getKey(), 0L);
+                    if (count >= properties.getDemoteThreshold()) {
+                        entry.getValue().resetCoolIntervals();
+                    } else if (entry.getValue().incrementCoolIntervals() >= properties.getCooldownIntervals()) {
+                        demote(entry.getKey());
+                    }
+                }
+            }
+
+            counts.forEach((productId, count) -> {
+                if (count >= properties.getPromoteThreshold() && shardOf(productId).get(productId) == null) {
+                    promote(productId);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Stock ledger contention detection failed", e);
+        }
+    }
+
+    private void promote(UUID productId) {
+        StripedStockCounter counter = new StripedStockCounter(properties.getStripes());
+        int allotted = claimAllotment(productId, counter);
+        if (allotted == 0) {
+            // Nothing to serve from memory; the database path reports the shortage
+            return;
+        }
+        shardOf(productId).put(productId, counter);
+        promotedCounter.increment();
+        log.info("Product {} is hot: serving reservations from memory with {} units", productId, allotted);
+    }
+
+    private void demote(UUID productId) {
+        StripedStockCounter counter = shardOf(productId).remove(productId);
+        if (counter == null) {
+            return;
+        }
+        returnUnits(productId, counter, counter.closeAndDrain());
+        if (counter.held() > 0) {
+            retired.add(Map.entry(productId, counter));
+        }
+        demotedCounter.increment();
+        log.info("Product {} cooled down: back to database reservations", productId);
+    }
+
+    // ========== Allotments ==========
+
+    private void refill() {
+        int threshold = (int) (properties.getAllotmentSize() * properties.getRefillThreshold());
+        for (Map<UUID, StripedStockCounter> shard : shards) {
+            for (Map.Entry<UUID, StripedStockCounter> entry : shard.entrySet()) {
+                StripedStockCounter counter = entry.getValue();
+                if (counter.isRefillRequested() || counter.available() < threshold) {
+                    counter.setRefillRequested(false);
+                    claimAllotment(entry.getKey(), counter);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move up to one allotment from the row's available quantity to its reserved quantity and
+     * into the counter. Journaled after the commit: a crash in between strands the units in
+     * quantity_reserved instead of letting them be sold twice.
+     */
+    private int claimAllotment(UUID productId, StripedStockCounter counter) {
+        byte[] id = UuidUtils.toBytes(productId);
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<Integer> available = jdbcTemplate.queryForList(SELECT_AVAILABLE_FOR_UPDATE, Integer.class, id);
+            int take = available.isEmpty() ? 0 : Math.min(available.get(0), properties.getAllotmentSize());
+            if (take > 0) {
+                jdbcTemplate.update(CLAIM_ALLOTMENT, take, take, id);
+            }
+            return take;
+        });
+
+        int allotted = claimed == null ? 0 : claimed;
+        if (allotted > 0) {
+            synchronized (journal) {
+                journal.allotted(productId, allotted);
+                counter.addAllotment(allotted);
+            }
+        }
+        return allotted;
+    }
+
+    /**
+     * Give units back to the row. Journaled and synced first: a crash in between strands the
+     * units rather than returning them twice after the replay.
+     */
+    private void returnUnits(UUID productId, StripedStockCounter counter, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        synchronized (journal) {
+            journal.returned(productId, quantity);
+            if (counter != null) {
+                counter.returned(quantity);
+            }
+        }
+        int updated = jdbcTemplate.update(RETURN_ALLOTMENT, quantity, quantity, UuidUtils.toBytes(productId), quantity);
+        if (updated == 0) {
+            log.warn("Could not return {} units of product {}: reserved quantity is lower", quantity, productId);
+        }
+    }
+
+    /**
+     * Return the units that unfinished transactions gave back to demoted counters.
+     */
+    private void drainRetired() {
+        for (Map.Entry<UUID, StripedStockCounter> entry : retired) {
+            StripedStockCounter counter = entry.getValue();
+            returnUnits(entry.getKey(), counter, counter.closeAndDrain());
+            if (counter.held() <= 0) {
+                retired.remove(entry);
+            }
+        }
+    }
+
+    // ========== Write-behind ==========
+
+    private void flush() {
+        try {
+            refill();
+            drainRetired();
+            flushPending();
+            journal.sync();
+            if (journal.size() > properties.getJournalCompactBytes()) {
+                compact();
+            }
+        } catch (Exception e) {
+            log.error("Stock ledger flush failed", e);
+        }
+    }
+
+    private void flushPending() {
+        boolean more = true;
+        while (more) {
+            flushLock.lock();
+            try {
+                List<PendingReservation> batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+                PendingReservation reservation;
+                while (batch.size() < FLUSH_BATCH_SIZE && (reservation = pending.poll()) != null) {
+                    batch.add(reservation);
+                }
+                more = batch.size() == FLUSH_BATCH_SIZE;
+                if (!batch.isEmpty()) {
+                    flushBatch(batch);
+                }
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    private void flushBatch(List<PendingReservation> batch) {
+        try {
+            insertReservations(batch);
+        } catch (RuntimeException e) {
+            // Keep them for the next cycle
+            pending.addAll(batch);
+            throw e;
+        }
+        flushed(batch);
+    }
+
+    private void flushed(List<PendingReservation> reservations) {
+        pendingCount.addAndGet(-reservations.size());
+        journal.flushed(reservations);
+    }
+
+    private void requeue(List<PendingReservation> reservations) {
+        synchronized (journal) {
+            writing.removeAll(reservations);
+            pending.addAll(reservations);
+        }
+    }
+
+    private void insertReservations(List<PendingReservation> reservations) {
+        List<Object[]> args = new ArrayList<>(reservations.size());
+        for (PendingReservation reservation : reservations) {
+            args.add(new Object[]{
+                    UuidUtils.toBytes(reservation.getReservationId()),
+                    UuidUtils.toBytes(reservation.getOrderId()),
+                    UuidUtils.toBytes(reservation.getProductId()),
+                    reservation.getQuantity(),
+                    Timestamp.from(reservation.getExpiresAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESERVATION, args);
+    }
+
+    // ========== Journal ==========
+
+    private void compact() {
+        synchronized (journal) {
+            Map<UUID, Integer> held = new HashMap<>();
+            for (Map<UUID, StripedStockCounter> shard : shards) {
+                shard.forEach((productId, counter) -> held.merge(productId, counter.held(), Integer::sum));
+            }
+            retired.forEach(entry -> held.merge(entry.getKey(), entry.getValue().held(), Integer::sum));
+            held.values().removeIf(quantity -> quantity <= 0);
+
+            List<PendingReservation> unflushed = new ArrayList<>(pending);
+            unflushed.addAll(committing);
+            unflushed.addAll(writing);
+            journal.compact(held, unflushed);
+        }
+    }
+
+    private void voidQuietly(Collection<PendingReservation> reservations) {
+        try {
+            journal.voided(reservations);
+        } catch (RuntimeException e) {
+            log.error("Failed to void {} journaled reservations; a restart will write them", reservations.size(), e);
+        }
+    }
+
+    /**
+     * Finish what the previous run left: write its pending reservations and return its held
+     * units, journaling each step so a crash during recovery does not repeat a return.
+     */
+    private void recover() {
+        StockLedgerJournal.Recovered recovered = journal.replay();
+        if (recovered.getHeldByProduct().isEmpty() && recovered.getUnflushed().isEmpty()) {
+            return;
+        }
+
+        journal.open();
+        List<PendingReservation> unflushed = List.copyOf(recovered.getUnflushed());
+        if (!unflushed.isEmpty()) {
+            insertReservations(unflushed);
+            journal.flushed(unflushed);
+        }
+        recovered.getHeldByProduct().forEach((productId, quantity) -> returnUnits(productId, null, quantity));
+        journal.compact(Map.of(), List.of());
+        journal.close();
+        log.info("Stock ledger recovered {} reservations and returned stock of {} products",
+                unflushed.size(), recovered.getHeldByProduct().size());
+    }
+
+    // ========== Helpers ==========
+
+    private Map<UUID, StripedStockCounter> shardOf(UUID productId) {
+        return shards[Math.floorMod(productId.hashCode(), shards.length)];
+    }
+
+    private int hotProductCount() {
+        int count = 0;
+        for (Map<UUID, StripedStockCounter> shard : shards) {
+            count += shard.size();
+        }
+        return count;
+    }
+
+    private Counter reservationCounter(String outcome) {
+        return Counter.builder(METRIC_PREFIX + ".reservations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
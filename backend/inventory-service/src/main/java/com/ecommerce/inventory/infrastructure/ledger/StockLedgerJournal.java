@@ -0,0 +1,248 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Append-only journal of the ledger's state changes, replayed after a restart.
+ *
+ * Line format, one record per line:
+ * <pre>
+ * A,productId,quantity                                  units taken from inventory_items
+ * T,productId,quantity                                  units returned to inventory_items
+ * R,reservationId,orderId,productId,quantity,expiresAt  reservation granted from memory
+ * V,reservationId                                       grant voided: its transaction rolled back
+ * F,reservationId                                       reservation written to stock_reservations
+ * </pre>
+ *
+ * Records are written before the database change they describe when a crash in between
+ * would otherwise oversell (returns), and after it when it would only strand units in
+ * quantity_reserved (allotments), so recovery errs on the side of not selling stock twice.
+ * Grants are forced to disk before their transaction commits, returns before the row is
+ * updated; everything else goes to the OS immediately and to disk on every flush cycle.
+ */
+@Slf4j
+class StockLedgerJournal {
+
+    private static final String FILE_NAME = "stock-ledger.journal";
+
+    private final Path file;
+    private FileChannel channel;
+
+    StockLedgerJournal(Path directory) {
+        this.file = directory.resolve(FILE_NAME);
+    }
+
+    /**
+     * State recovered from the journal.
+     */
+    @Value
+    static class Recovered {
+
+        /**
+         * Units taken from the database and neither returned nor granted.
+         */
+        Map<UUID, Integer> heldByProduct;
+
+        /**
+         * Granted reservations not yet written to the database.
+         */
+        Collection<PendingReservation> unflushed;
+    }
+
+    Recovered replay() {
+        Map<UUID, Integer> held = new HashMap<>();
+        Map<UUID, PendingReservation> unflushed = new LinkedHashMap<>();
+        if (!Files.exists(file)) {
+            return new Recovered(held, unflushed.values());
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                try {
+                    switch (fields[0]) {
+                        case "A" -> held.merge(UUID.fromString(fields[1]), Integer.parseInt(fields[2]), Integer::sum);
+                        case "T" -> held.merge(UUID.fromString(fields[1]), -Integer.parseInt(fields[2]), Integer::sum);
+                        case "R" -> {
+                            PendingReservation reservation = new PendingReservation(
+                                    UUID.fromString(fields[1]),
+                                    UUID.fromString(fields[2]),
+                                    UUID.fromString(fields[3]),
+                                    Integer.parseInt(fields[4]),
+                                    Instant.ofEpochMilli(Long.parseLong(fields[5])));
+                            held.merge(reservation.getProductId(), -reservation.getQuantity(), Integer::sum);
+                            unflushed.put(reservation.getReservationId(), reservation);
+                        }
+                        case "V" -> {
+                            PendingReservation reservation = unflushed.remove(UUID.fromString(fields[1]));
+                            if (reservation != null) {
+                                held.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+                            }
+                        }
+                        case "F" -> unflushed.remove(UUID.fromString(fields[1]));
+                        default -> log.warn("Skipping unknown ledger journal record: {}", line);
+                    }
+                } catch (RuntimeException e) {
+                    // A torn last line after a crash; everything before it is intact
+                    log.warn("Skipping unreadable ledger journal record: {}", line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ledger journal " + file, e);
+        }
+
+        held.values().removeIf(quantity -> quantity <= 0);
+        return new Recovered(held, unflushed.values());
+    }
+
+    synchronized void open() {
+        try {
+            Files.createDirectories(file.getParent());
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open ledger journal " + file, e);
+        }
+    }
+
+    void allotted(UUID productId, int quantity) {
+        append("A," + productId + "," + quantity + "\n");
+    }
+
+    void returned(UUID productId, int quantity) {
+        append("T," + productId + "," + quantity + "\n");
+        sync();
+    }
+
+    void granted(Collection<PendingReservation> reservations) {
+        append(grantLines(reservations));
+        sync();
+    }
+
+    void voided(Collection<PendingReservation> reservations) {
+        append(idLines('V', reservations));
+    }
+
+    void flushed(Collection<PendingReservation> reservations) {
+        append(idLines('F', reservations));
+    }
+
+    synchronized void sync() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot sync ledger journal " + file, e);
+        }
+    }
+
+    synchronized long size() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read ledger journal size " + file, e);
+        }
+    }
+
+    /**
+     * Replace the journal with a snapshot of the current state.
+     * Callers hold the journal's monitor while reading the state, so no record is lost in between.
+     */
+    synchronized void compact(Map<UUID, Integer> heldByProduct, Collection<PendingReservation> unflushed) {
+        // Replay subtracts each R record from its product, so the snapshot allots those units back first
+        Map<UUID, Integer> allotted = new HashMap<>(heldByProduct);
+        for (PendingReservation reservation : unflushed) {
+            allotted.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        allotted.forEach((productId, quantity) ->
+                lines.append("A,").append(productId).append(',').append(quantity).append('\n'));
+        lines.append(grantLines(unflushed));
+
+        Path snapshot = file.resolveSibling(FILE_NAME + ".tmp");
+        try (FileChannel out = FileChannel.open(snapshot, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, lines.toString());
+            out.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write ledger journal snapshot " + snapshot, e);
+        }
+
+        try {
+            channel.close();
+            Files.move(snapshot, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replace ledger journal " + file, e);
+        }
+    }
+
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close ledger journal: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void append(String lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            writeFully(channel, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to ledger journal " + file, e);
+        }
+    }
+
+    private static String grantLines(Collection<PendingReservation> reservations) {
+        StringBuilder lines = new StringBuilder();
+        for (PendingReservation reservation : reservations) {
+            lines.append("R,").append(reservation.getReservationId())
+                    .append(',').append(reservation.getOrderId())
+                    .append(',').append(reservation.getProductId())
+                    .append(',').append(reservation.getQuantity())
+                    .append(',').append(reservation.getExpiresAt().toEpochMilli())
+                    .append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static String idLines(char type, Collection<PendingReservation> reservations) {
+        StringBuilder lines = new StringBuilder();
+        for (PendingReservation reservation : reservations) {
+            lines.append(type).append(',').append(reservation.getReservationId()).append('\n');
+        }
+        return lines.toString();
+    }
+
+    private static void writeFully(FileChannel channel, String lines) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(lines.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Units of one product held in memory, split over several CAS counters.
+ *
+ * Reservations start at a random stripe, so concurrent callers mostly update different
+ * counters. Stripes are padded to separate cache lines. A reservation larger than a single
+ * stripe takes units from several stripes and puts them back if the total is not enough.
+ */
+class StripedStockCounter {
+
+    /**
+     * Ints per stripe slot: 16 ints = 64 bytes, one cache line per stripe.
+     */
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray counters;
+
+    /**
+     * Units taken from the database and not yet granted to a committed reservation.
+     * Survives in the journal so a restart can return them.
+     */
+    private final AtomicInteger held = new AtomicInteger();
+
+    private volatile boolean open = true;
+    private volatile int coolIntervals;
+    private volatile boolean refillRequested;
+
+    StripedStockCounter(int stripes) {
+        this.stripes = stripes;
+        this.counters = new AtomicIntegerArray(stripes * PADDING);
+    }
+
+    /**
+     * Take units without touching the database.
+     *
+     * @return true if all units were taken
+     */
+    boolean tryAcquire(int quantity) {
+        if (!open) {
+            return false;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        int remaining = quantity;
+        for (int i = 0; i < stripes && remaining > 0; i++) {
+            remaining -= takeFromStripe((start + i) % stripes, remaining);
+        }
+
+        if (remaining > 0) {
+            add(quantity - remaining);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Put units back, spread onto a random stripe.
+     */
+    void add(int quantity) {
+        if (quantity > 0) {
+            counters.addAndGet(ThreadLocalRandom.current().nextInt(stripes) * PADDING, quantity);
+        }
+    }
+
+    /**
+     * Spread newly allotted units evenly over the stripes.
+     */
+    void addAllotment(int quantity) {
+        held.addAndGet(quantity);
+        int perStripe = quantity / stripes;
+        int extra = quantity % stripes;
+        for (int i = 0; i < stripes; i++) {
+            counters.addAndGet(i * PADDING, perStripe + (i < extra ? 1 : 0));
+        }
+    }
+
+    /**
+     * Close the counter and take out every unit left in it.
+     */
+    int closeAndDrain() {
+        open = false;
+        int drained = 0;
+        for (int i = 0; i < stripes; i++) {
+            drained += counters.getAndSet(i * PADDING, 0);
+        }
+        return drained;
+    }
+
+    /**
+     * Units currently available in memory (a moving estimate under concurrent updates).
+     */
+    int available() {
+        int total = 0;
+        for (int i = 0; i < stripes; i++) {
+            total += counters.get(i * PADDING);
+        }
+        return total;
+    }
+
+    int held() {
+        return held.get();
+    }
+
+    void granted(int quantity) {
+        held.addAndGet(-quantity);
+    }
+
+    /**
+     * Units of a grant whose transaction failed to commit are held again.
+     */
+    void voided(int quantity) {
+        held.addAndGet(quantity);
+    }
+
+    void returned(int quantity) {
+        held.addAndGet(-quantity);
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    int incrementCoolIntervals() {
+        return ++coolIntervals;
+    }
+
+    void resetCoolIntervals() {
+        coolIntervals = 0;
+    }
+
+    boolean isRefillRequested() {
+        return refillRequested;
+    }
+
+    void setRefillRequested(boolean refillRequested) {
+        this.refillRequested = refillRequested;
+    }
+
+    private int takeFromStripe(int stripe, int wanted) {
+        int index = stripe * PADDING;
+        while (true) {
+            int current = counters.get(index);
+            if (current == 0) {
+                return 0;
+            }
+            int taken = Math.min(current, wanted);
+            if (counters.compareAndSet(index, current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+}
@@ -1,19 +1,42 @@
 package com.ecommerce.inventory.infrastructure.persistence;
 
+import com.ecommerce.common.util.UuidUtils;
 import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.LowStockItem;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class InventoryRepositoryAdapter implements InventoryRepository {
 
+    private static final String RESERVE_STOCK = """
+            UPDATE inventory_items
+            SET quantity_available = quantity_available - ?, quantity_reserved = quantity_reserved + ?,
+                version = version + 1
+            WHERE product_id = ? AND quantity_available >= ?
+            """;
+
+    private static final String RELEASE_STOCK = """
+            UPDATE inventory_items
+            SET quantity_available = quantity_available + ?, quantity_reserved = quantity_reserved - ?,
+                version = version + 1
+            WHERE product_id = ? AND quantity_reserved >= ?
+            """;
+
     private final JpaInventoryRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public InventoryItem save(InventoryItem item) {
@@ -40,9 +63,39 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         return jpaRepository.findByProductIdIn(productIds);
     }
 
+    /**
+     * Conditional updates sent as one JDBC batch; the update count of each statement
+     * tells whether that product had enough stock. Connector/J reports per-statement counts
+     * for UPDATE batches, also when rewriteBatchedStatements sends them as one multi-statement.
+     */
+    @Override
+    public Set<UUID> reserveStock(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> productIds = new ArrayList<>(quantities.keySet());
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_STOCK, toBatchArgs(quantities));
+
+        Set<UUID> reserved = new HashSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                reserved.add(productIds.get(i));
+            }
+        }
+        return reserved;
+    }
+
     @Override
-    public List<InventoryItem> findLowStock() {
-        return jpaRepository.findLowStock();
+    public void releaseStock(Map<UUID, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RELEASE_STOCK, toBatchArgs(quantities));
+    }
+
+    @Override
+    public Stream<LowStockItem> streamLowStock() {
+        return jpaRepository.streamLowStock();
     }
 
     @Override
@@ -54,4 +107,11 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
     }
+
+    private List<Object[]> toBatchArgs(Map<UUID, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) ->
+                args.add(new Object[]{quantity, quantity, UuidUtils.toBytes(productId), quantity}));
+        return args;
+    }
 }
@@ -1,13 +1,19 @@
 package com.ecommerce.inventory.infrastructure.persistence;
 
 import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface JpaInventoryRepository extends JpaRepository<InventoryItem, UUID> {
@@ -18,8 +24,19 @@ public interface JpaInventoryRepository extends JpaRepository<InventoryItem, UUI
 
     List<InventoryItem> findByProductIdIn(List<UUID> productIds);
 
-    @Query("SELECT i FROM InventoryItem i WHERE (i.quantityAvailable + i.quantityReserved) <= i.reorderLevel")
-    List<InventoryItem> findLowStock();
+    /**
+     * Low-stock items as read-only views, so the persistence context stays empty however many
+     * rows are read. The fetch size makes Connector/J stream rows instead of buffering the result.
+     */
+    @Query("""
+            SELECT new com.ecommerce.inventory.domain.model.LowStockItem(
+                i.productId, i.sku, i.quantityAvailable, i.quantityReserved,
+                i.reorderLevel, i.reorderQuantity, i.warehouseLocation)
+            FROM InventoryItem i
+            WHERE i.reorderGap <= 0
+            """)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<LowStockItem> streamLowStock();
 
     boolean existsByProductId(UUID productId);
 }
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -18,8 +19,11 @@ public interface JpaStockReservationRepository extends JpaRepository<StockReserv
     @Query("SELECT r FROM StockReservation r WHERE r.orderId = :orderId AND r.status = 'ACTIVE'")
     List<StockReservation> findActiveByOrderId(@Param("orderId") UUID orderId);
 
-    @Query("SELECT r FROM StockReservation r WHERE r.status = 'ACTIVE' AND r.expiresAt < :before")
-    List<StockReservation> findExpiredReservations(@Param("before") Instant before);
+    @Query("SELECT COUNT(r) FROM StockReservation r WHERE r.status = 'ACTIVE' AND r.expiresAt < :before")
+    long countExpired(@Param("before") Instant before);
+
+    @Query("SELECT MIN(r.expiresAt) FROM StockReservation r WHERE r.status = 'ACTIVE' AND r.expiresAt < :before")
+    Optional<Instant> findOldestExpiresAt(@Param("before") Instant before);
 
     void deleteByOrderId(UUID orderId);
 }
@@ -0,0 +1,69 @@
+package com.ecommerce.inventory.infrastructure.persistence;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.inventory.domain.repository.ReorderRequestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to reorder_requests, which has no entity of its own.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReorderRequestRepositoryAdapter implements ReorderRequestRepository {
+
+    private static final String DELETE_FULFILLED_OR_REQUESTED_BEFORE = """
+            DELETE r FROM reorder_requests r
+            LEFT JOIN inventory_items i ON i.product_id = r.product_id
+            WHERE i.product_id IS NULL OR i.reorder_gap > 0 OR r.requested_at < ?
+            """;
+
+    private static final String FIND_PRODUCT_IDS_IN = "SELECT product_id FROM reorder_requests WHERE product_id IN (%s)";
+
+    private static final String UPSERT = """
+            INSERT INTO reorder_requests (product_id, requested_at) VALUES (?, NOW(6))
+            ON DUPLICATE KEY UPDATE requested_at = NOW(6)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int deleteFulfilledOrRequestedBefore(Instant requestedBefore) {
+        return jdbcTemplate.update(DELETE_FULFILLED_OR_REQUESTED_BEFORE, Timestamp.from(requestedBefore));
+    }
+
+    @Override
+    public Set<UUID> findOutstandingAmong(Collection<UUID> productIds) {
+        Set<UUID> outstanding = new HashSet<>();
+        if (productIds.isEmpty()) {
+            return outstanding;
+        }
+        Object[] args = productIds.stream().map(UuidUtils::toBytes).toArray();
+        String sql = FIND_PRODUCT_IDS_IN.formatted(String.join(", ", Collections.nCopies(args.length, "?")));
+        jdbcTemplate.query(sql, rs -> {
+            outstanding.add(UuidUtils.fromBytes(rs.getBytes("product_id")));
+        }, args);
+        return outstanding;
+    }
+
+    @Override
+    public void saveAll(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = productIds.stream()
+                .map(productId -> new Object[]{UuidUtils.toBytes(productId)})
+                .toList();
+        jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+}
@@ -2,10 +2,16 @@ package com.ecommerce.inventory.infrastructure.persistence;
 
 import com.ecommerce.inventory.domain.model.StockReservation;
 import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.common.util.UuidUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +20,82 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class StockReservationRepositoryAdapter implements StockReservationRepository {
 
+    private static final String CLAIM_EXPIRED = """
+            SELECT id, order_id, product_id, warehouse_code, quantity, expires_at
+            FROM stock_reservations
+            WHERE status = 'ACTIVE' AND expires_at < ?
+            ORDER BY expires_at, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String CLAIM_EXPIRED_AFTER = """
+            SELECT id, order_id, product_id, warehouse_code, quantity, expires_at
+            FROM stock_reservations
+            WHERE status = 'ACTIVE' AND expires_at < ?
+              AND (expires_at > ? OR (expires_at = ? AND id > ?))
+            ORDER BY expires_at, id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String CLAIM_EXPIRED_BY_IDS = """
+            SELECT id, order_id, product_id, warehouse_code, quantity, expires_at
+            FROM stock_reservations
+            WHERE status = 'ACTIVE' AND expires_at < ? AND id IN (%s)
+            ORDER BY expires_at, id
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String FIND_ACTIVE = """
+            SELECT id, order_id, product_id, warehouse_code, quantity, expires_at
+            FROM stock_reservations
+            WHERE status = 'ACTIVE'
+            ORDER BY expires_at, id
+            LIMIT ?
+            """;
+
+    private static final String FIND_ACTIVE_AFTER = """
+            SELECT id, order_id, product_id, warehouse_code, quantity, expires_at
+            FROM stock_reservations
+            WHERE status = 'ACTIVE'
+              AND (expires_at > ? OR (expires_at = ? AND id > ?))
+            ORDER BY expires_at, id
+            LIMIT ?
+            """;
+
+    private static final String MARK_EXPIRED = """
+            UPDATE stock_reservations
+            SET status = 'EXPIRED', released_at = NOW(), version = version + 1
+            WHERE status = 'ACTIVE' AND id IN (%s)
+            """;
+
+    private static final RowMapper<StockReservation> ACTIVE_ROW_MAPPER = (rs, rowNum) -> {
+        StockReservation reservation = StockReservation.builder()
+                .orderId(UuidUtils.fromBytes(rs.getBytes("order_id")))
+                .productId(UuidUtils.fromBytes(rs.getBytes("product_id")))
+                .warehouseCode(rs.getString("warehouse_code"))
+                .quantity(rs.getInt("quantity"))
+                .expiresAt(rs.getTimestamp("expires_at").toInstant())
+                .build();
+        reservation.setId(UuidUtils.fromBytes(rs.getBytes("id")));
+        return reservation;
+    };
+
     private final JpaStockReservationRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public StockReservation save(StockReservation reservation) {
         return jpaRepository.save(reservation);
     }
 
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        // Inserted in JDBC batches on flush (hibernate.jdbc.batch_size, order_inserts)
+        return jpaRepository.saveAll(reservations);
+    }
+
     @Override
     public Optional<StockReservation> findById(UUID id) {
         return jpaRepository.findById(id);
@@ -36,9 +111,63 @@ public class StockReservationRepositoryAdapter implements StockReservationReposi
         return jpaRepository.findActiveByOrderId(orderId);
     }
 
+    /**
+     * Plain JDBC rather than JPQL: the row lock clause and the keyset predicate have to be
+     * exactly these for the (status, expires_at, id) index to serve the scan.
+     */
     @Override
-    public List<StockReservation> findExpiredReservations(Instant before) {
-        return jpaRepository.findExpiredReservations(before);
+    public List<StockReservation> claimExpired(Instant before, Instant afterExpiresAt, UUID afterId, int limit) {
+        if (afterExpiresAt == null || afterId == null) {
+            return jdbcTemplate.query(CLAIM_EXPIRED, ACTIVE_ROW_MAPPER, Timestamp.from(before), limit);
+        }
+        Timestamp after = Timestamp.from(afterExpiresAt);
+        return jdbcTemplate.query(CLAIM_EXPIRED_AFTER, ACTIVE_ROW_MAPPER,
+                Timestamp.from(before), after, after, UuidUtils.toBytes(afterId), limit);
+    }
+
+    @Override
+    public List<StockReservation> claimExpiredByIds(List<UUID> ids, Instant before) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(Timestamp.from(before));
+        ids.forEach(id -> args.add(UuidUtils.toBytes(id)));
+        return jdbcTemplate.query(CLAIM_EXPIRED_BY_IDS.formatted(placeholders(ids.size())),
+                ACTIVE_ROW_MAPPER, args.toArray());
+    }
+
+    @Override
+    public List<StockReservation> findActive(Instant afterExpiresAt, UUID afterId, int limit) {
+        if (afterExpiresAt == null || afterId == null) {
+            return jdbcTemplate.query(FIND_ACTIVE, ACTIVE_ROW_MAPPER, limit);
+        }
+        Timestamp after = Timestamp.from(afterExpiresAt);
+        return jdbcTemplate.query(FIND_ACTIVE_AFTER, ACTIVE_ROW_MAPPER, after, after, UuidUtils.toBytes(afterId), limit);
+    }
+
+    @Override
+    public int markExpired(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(ids.size());
+        ids.forEach(id -> args.add(UuidUtils.toBytes(id)));
+        return jdbcTemplate.update(MARK_EXPIRED.formatted(placeholders(ids.size())), args.toArray());
+    }
+
+    @Override
+    public long countExpired(Instant before) {
+        return jpaRepository.countExpired(before);
+    }
+
+    @Override
+    public Optional<Instant> findOldestExpiresAt(Instant before) {
+        return jpaRepository.findOldestExpiresAt(before);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
     }
 
     @Override
@@ -0,0 +1,143 @@
+package com.ecommerce.inventory.infrastructure.persistence;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.inventory.domain.model.GeoLocation;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
+import com.ecommerce.inventory.domain.repository.WarehouseStockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Plain JDBC access to warehouse_stock: the reservation path needs conditional batch updates,
+ * and the rest are reads and set-based updates that have no use for entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarehouseStockRepositoryAdapter implements WarehouseStockRepository {
+
+    private static final String FIND_BY_PRODUCT_IDS = """
+            SELECT ws.product_id, ws.warehouse_code, ws.quantity_available, w.latitude, w.longitude, w.active
+            FROM warehouse_stock ws
+            JOIN warehouses w ON w.code = ws.warehouse_code
+            WHERE ws.product_id IN (%s)
+            """;
+
+    private static final String RESERVE_STOCK = """
+            UPDATE warehouse_stock
+            SET quantity_available = quantity_available - ?, quantity_reserved = quantity_reserved + ?,
+                version = version + 1
+            WHERE product_id = ? AND warehouse_code = ? AND quantity_available >= ?
+            """;
+
+    private static final String RELEASE_STOCK = """
+            UPDATE warehouse_stock
+            SET quantity_available = quantity_available + ?, quantity_reserved = quantity_reserved - ?,
+                version = version + 1
+            WHERE product_id = ? AND warehouse_code = ? AND quantity_reserved >= ?
+            """;
+
+    private static final String ROLL_UP_TOTALS = """
+            UPDATE inventory_items i
+            JOIN (
+                SELECT ws.product_id,
+                       SUM(ws.quantity_available) AS available,
+                       SUM(ws.quantity_reserved) AS reserved
+                FROM warehouse_stock ws
+                WHERE ws.product_id IN (SELECT product_id FROM warehouse_stock WHERE updated_at >= ?)
+                GROUP BY ws.product_id
+            ) totals ON totals.product_id = i.product_id
+            SET i.quantity_available = totals.available, i.quantity_reserved = totals.reserved,
+                i.version = i.version + 1
+            WHERE i.quantity_available <> totals.available OR i.quantity_reserved <> totals.reserved
+            """;
+
+    private static final Comparator<StockAllocation> ROW_ORDER = Comparator
+            .comparing(StockAllocation::getProductId)
+            .thenComparing(StockAllocation::getWarehouseCode);
+
+    private static final RowMapper<WarehouseStockLevel> LEVEL_ROW_MAPPER = (rs, rowNum) -> {
+        double latitude = rs.getDouble("latitude");
+        boolean located = !rs.wasNull();
+        double longitude = rs.getDouble("longitude");
+        located &= !rs.wasNull();
+        return new WarehouseStockLevel(
+                UuidUtils.fromBytes(rs.getBytes("product_id")),
+                rs.getString("warehouse_code"),
+                rs.getInt("quantity_available"),
+                located ? new GeoLocation(latitude, longitude) : null,
+                rs.getBoolean("active"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<WarehouseStockLevel> findByProductIdIn(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] args = productIds.stream().map(UuidUtils::toBytes).toArray();
+        return jdbcTemplate.query(FIND_BY_PRODUCT_IDS.formatted(placeholders(args.length)), LEVEL_ROW_MAPPER, args);
+    }
+
+    /**
+     * Same scheme as the product-level reservation: one conditional update per row, sent as one
+     * batch, with the update counts telling which rows had enough stock. Rows are updated in
+     * key order so concurrent reservations lock them in the same order.
+     */
+    @Override
+    public List<StockAllocation> reserveStock(List<StockAllocation> allocations) {
+        if (allocations.isEmpty()) {
+            return List.of();
+        }
+        List<StockAllocation> ordered = allocations.stream().sorted(ROW_ORDER).toList();
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_STOCK, toBatchArgs(ordered));
+
+        List<StockAllocation> reserved = new ArrayList<>(ordered.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                reserved.add(ordered.get(i));
+            }
+        }
+        return reserved;
+    }
+
+    @Override
+    public void releaseStock(List<StockAllocation> allocations) {
+        if (allocations.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RELEASE_STOCK, toBatchArgs(allocations.stream().sorted(ROW_ORDER).toList()));
+    }
+
+    @Override
+    public int rollUpInventoryTotals(Instant changedSince) {
+        Instant since = changedSince != null ? changedSince : Instant.EPOCH;
+        return jdbcTemplate.update(ROLL_UP_TOTALS, Timestamp.from(since));
+    }
+
+    private List<Object[]> toBatchArgs(List<StockAllocation> allocations) {
+        List<Object[]> args = new ArrayList<>(allocations.size());
+        for (StockAllocation allocation : allocations) {
+            int quantity = allocation.getQuantity();
+            args.add(new Object[]{quantity, quantity, UuidUtils.toBytes(allocation.getProductId()),
+                    allocation.getWarehouseCode(), quantity});
+        }
+        return args;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hierarchical timing wheel of reservation deadlines.
+ *
+ * Level 0 has one slot per tick; each higher level has one slot per full turn of the level
+ * below. An entry sits in the lowest level whose current turn contains its deadline and moves
+ * down a level each time the slot it sits in comes round, until it fires from level 0.
+ * Adding is O(1); advancing costs one slot per tick plus the entries moved.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+class HierarchicalTimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+
+    /**
+     * Ticks covered by one slot of each level: wheelSize^level.
+     */
+    private final long[] slotSpans;
+
+    private final ArrayDeque<Entry>[][] buckets;
+    private final List<Entry> overflow = new ArrayList<>();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.slotSpans = new long[levels + 1];
+        this.buckets = new ArrayDeque[levels][wheelSize];
+
+        long span = 1;
+        for (int level = 0; level <= levels; level++) {
+            slotSpans[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                buckets[level][slot] = new ArrayDeque<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Track a reservation; an ID already tracked is left as it is.
+     *
+     * @return true if the deadline already passed and the caller should fire it now
+     */
+    boolean add(UUID reservationId, long deadlineMillis) {
+        if (entries.containsKey(reservationId)) {
+            return false;
+        }
+        Entry entry = new Entry(reservationId, Math.ceilDiv(deadlineMillis, tickMillis));
+        if (entry.tick <= currentTick) {
+            return true;
+        }
+        entries.put(reservationId, entry);
+        place(entry);
+        return false;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Move the wheel forward to the given time.
+     *
+     * @return the reservations whose deadline was reached
+     */
+    List<UUID> advanceTo(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<UUID> due = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Highest level first, so entries cascading into a lower slot that is due
+            // on this same tick are handled when that slot is visited below
+            if (currentTick % slotSpans[levels] == 0) {
+                List<Entry> pending = new ArrayList<>(overflow);
+                overflow.clear();
+                pending.forEach(this::place);
+            }
+            for (int level = levels - 1; level > 0; level--) {
+                if (currentTick % slotSpans[level] == 0) {
+                    ArrayDeque<Entry> bucket = buckets[level][slotOf(currentTick, level)];
+                    Entry entry;
+                    while ((entry = bucket.poll()) != null) {
+                        place(entry);
+                    }
+                }
+            }
+
+            ArrayDeque<Entry> bucket = buckets[0][slotOf(currentTick, 0)];
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                entries.remove(entry.reservationId);
+                due.add(entry.reservationId);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Put an entry in the lowest level whose current turn contains its tick.
+     */
+    private void place(Entry entry) {
+        for (int level = 0; level < levels; level++) {
+            if (entry.tick / slotSpans[level + 1] == currentTick / slotSpans[level + 1]) {
+                buckets[level][slotOf(entry.tick, level)].add(entry);
+                return;
+            }
+        }
+        overflow.add(entry);
+    }
+
+    private int slotOf(long tick, int level) {
+        return (int) ((tick / slotSpans[level]) % wheelSize);
+    }
+
+    private static final class Entry {
+
+        private final UUID reservationId;
+        private final long tick;
+
+        private Entry(UUID reservationId, long tick) {
+            this.reservationId = reservationId;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cluster-wide lock for scheduled jobs, one job_locks row per job.
+ *
+ * An instance runs a job only after it moved the row's locked_until into the future. The lock
+ * expires on its own when the holder dies; on completion it is held until at least
+ * lockAtLeastFor after the run started, so instances whose clocks fire the same cron slightly
+ * later do not run it again. All times are database times.
+ */
+@Slf4j
+@Component
+public class JdbcJobLock {
+
+    private static final String INSERT_LOCK = "INSERT IGNORE INTO job_locks (name) VALUES (?)";
+
+    private static final String CLAIM_LOCK = """
+            UPDATE job_locks
+            SET locked_by = ?, locked_at = NOW(6), locked_until = DATE_ADD(NOW(6), INTERVAL ? MICROSECOND)
+            WHERE name = ? AND (locked_until IS NULL OR locked_until < NOW(6))
+            """;
+
+    private static final String RELEASE_LOCK = """
+            UPDATE job_locks
+            SET locked_until = GREATEST(NOW(6), DATE_ADD(locked_at, INTERVAL ? MICROSECOND))
+            WHERE name = ? AND locked_by = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public JdbcJobLock(JdbcTemplate jdbcTemplate,
+                       @Value("${spring.application.name:unknown}") String serviceName) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = serviceName + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * Take the lock of the given job unless another instance holds it.
+     *
+     * @param lockAtMostFor how long the lock is held if this instance never releases it
+     * @return whether this instance now holds the lock
+     */
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        jdbcTemplate.update(INSERT_LOCK, name);
+        boolean locked = jdbcTemplate.update(CLAIM_LOCK, owner, toMicros(lockAtMostFor), name) == 1;
+        if (locked) {
+            log.debug("Job lock {} taken by {}", name, owner);
+        }
+        return locked;
+    }
+
+    /**
+     * Release the lock of the given job, keeping it until lockAtLeastFor after it was taken.
+     */
+    public void unlock(String name, Duration lockAtLeastFor) {
+        jdbcTemplate.update(RELEASE_LOCK, toMicros(lockAtLeastFor), name, owner);
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
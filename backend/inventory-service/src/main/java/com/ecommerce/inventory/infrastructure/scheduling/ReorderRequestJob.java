@@ -0,0 +1,68 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+import com.ecommerce.inventory.application.usecase.RequestReordersUseCase;
+import com.ecommerce.inventory.config.ReorderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically requests a restock of every item at or below its reorder level.
+ *
+ * The job may be enabled on several instances; each run first takes the job lock in the
+ * database and the instances that do not get it skip the run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.reorder", name = "enabled", havingValue = "true")
+public class ReorderRequestJob {
+
+    private static final String METRIC_PREFIX = "inventory.reorder";
+    static final String LOCK_NAME = "reorder-request-job";
+
+    private final RequestReordersUseCase requestReordersUseCase;
+    private final JdbcJobLock jobLock;
+    private final ReorderProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private Counter requestedCounter;
+
+    @PostConstruct
+    public void init() {
+        requestedCounter = Counter.builder(METRIC_PREFIX + ".requested")
+                .description("Items for which a reorder was requested")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.inventory.reorder.cron:0 0 2 * * *}")
+    public void run() {
+        try {
+            if (!jobLock.tryLock(LOCK_NAME, properties.getLockAtMostFor())) {
+                log.debug("Reorder request job is running on another instance");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to take the reorder request job lock", e);
+            return;
+        }
+        try {
+            RequestReordersResponse response = requestReordersUseCase.execute(properties.getBatchSize());
+            requestedCounter.increment(response.getRequestedItems());
+        } catch (Exception e) {
+            log.error("Reorder request job failed", e);
+        } finally {
+            try {
+                jobLock.unlock(LOCK_NAME, properties.getLockAtLeastFor());
+            } catch (Exception e) {
+                log.warn("Failed to release the reorder request job lock: {}", e.getMessage());
+            }
+        }
+    }
+}
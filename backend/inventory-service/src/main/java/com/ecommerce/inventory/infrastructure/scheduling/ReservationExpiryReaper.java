@@ -0,0 +1,106 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import com.ecommerce.inventory.application.dto.request.ExpireReservationsRequest;
+import com.ecommerce.inventory.application.dto.response.ExpireReservationsResponse;
+import com.ecommerce.inventory.application.usecase.ExpireReservationsUseCase;
+import com.ecommerce.inventory.config.ReservationExpiryProperties;
+import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically expires reservations that were not confirmed in time, so their stock
+ * becomes available again.
+ *
+ * Each sweep walks the expired reservations in batches, one transaction per batch, carrying a
+ * keyset cursor from batch to batch. Every instance runs the reaper; SKIP LOCKED hands each
+ * one different rows. After a sweep the remaining backlog and the age of its oldest entry are
+ * published as gauges.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.inventory.reservation-expiry", name = "enabled", havingValue = "true")
+public class ReservationExpiryReaper {
+
+    private static final String METRIC_PREFIX = "inventory.reservations.expiry";
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+    private final StockReservationRepository reservationRepository;
+    private final ReservationExpiryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private Counter expiredCounter;
+
+    @PostConstruct
+    public void init() {
+        expiredCounter = Counter.builder(METRIC_PREFIX + ".expired")
+                .tag("source", "sweep")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicLong::get)
+                .description("Expired reservations still active after the last sweep")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Time since the oldest still-active reservation expired")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.reservation-expiry.sweep-interval:5s}")
+    public void sweep() {
+        Instant now = Instant.now();
+        int expired = 0;
+        try {
+            Instant afterExpiresAt = null;
+            UUID afterReservationId = null;
+            for (int batch = 0; batch < properties.getMaxBatchesPerSweep(); batch++) {
+                ExpireReservationsResponse response = expireReservationsUseCase.execute(ExpireReservationsRequest.builder()
+                        .expiredBefore(now)
+                        .batchSize(properties.getBatchSize())
+                        .afterExpiresAt(afterExpiresAt)
+                        .afterReservationId(afterReservationId)
+                        .build());
+                expired += response.getExpiredCount();
+                expiredCounter.increment(response.getExpiredCount());
+                if (!response.isHasMore()) {
+                    break;
+                }
+                afterExpiresAt = response.getLastExpiresAt();
+                afterReservationId = response.getLastReservationId();
+            }
+            if (expired > 0) {
+                log.info("Expired {} stock reservations", expired);
+            }
+        } catch (Exception e) {
+            log.error("Reservation expiry sweep failed after {} reservations", expired, e);
+        }
+        updateBacklog();
+    }
+
+    private void updateBacklog() {
+        try {
+            Instant now = Instant.now();
+            backlog.set(reservationRepository.countExpired(now));
+            lagMillis.set(reservationRepository.findOldestExpiresAt(now)
+                    .map(oldest -> Duration.between(oldest, now).toMillis())
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("Failed to measure reservation expiry backlog: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import com.ecommerce.inventory.application.dto.request.ExpireReservationsRequest;
+import com.ecommerce.inventory.application.dto.response.ExpireReservationsResponse;
+import com.ecommerce.inventory.application.usecase.ExpireReservationsUseCase;
+import com.ecommerce.inventory.config.ReservationExpiryProperties;
+import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.domain.service.ReservationExpiryScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires reservations close to their deadline from an in-memory timing wheel instead of
+ * waiting for the next sweep.
+ *
+ * On start the wheel is loaded with the active reservations, page by page. Reservations created
+ * afterwards are added when their transaction commits. Every tick the wheel advances and the
+ * reservations that came due are expired in batches through ExpireReservationsUseCase, which
+ * still checks that each one is active and expired, so a fire for a reservation that left the
+ * active state in the meantime, or one already expired by another instance, does nothing.
+ *
+ * The wheel is per instance and not persisted; the periodic sweep expires whatever it misses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimingWheelExpiryScheduler implements ReservationExpiryScheduler, SmartLifecycle {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final String METRIC_PREFIX = "inventory.reservations.expiry";
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+    private final StockReservationRepository reservationRepository;
+    private final ReservationExpiryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Reservations that came due and are waiting for the worker; guarded by this.
+     */
+    private final List<UUID> due = new ArrayList<>();
+
+    private HierarchicalTimingWheel wheel;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    private Counter expiredCounter;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HierarchicalTimingWheel(
+                properties.getWheelTick().toMillis(),
+                properties.getWheelSize(),
+                properties.getWheelLevels(),
+                System.currentTimeMillis());
+
+        expiredCounter = Counter.builder(METRIC_PREFIX + ".expired")
+                .tag("source", "wheel")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".scheduled", this, TimingWheelExpiryScheduler::scheduledCount)
+                .description("Reservations waiting in the timing wheel")
+                .register(meterRegistry);
+    }
+
+    // ========== ReservationExpiryScheduler ==========
+
+    @Override
+    public void schedule(Collection<StockReservation> reservations) {
+        if (!running || reservations.isEmpty()) {
+            return;
+        }
+        List<StockReservation> toSchedule = List.copyOf(reservations);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(toSchedule);
+                }
+            });
+        } else {
+            add(toSchedule);
+        }
+    }
+
+    // ========== Lifecycle ==========
+
+    @Override
+    public void start() {
+        if (!properties.isWheelEnabled()) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("reservation-expiry-wheel")
+                .daemon(true)
+                .start(this::run);
+        log.info("Reservation expiry wheel started with a {} ms tick", properties.getWheelTick().toMillis());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ========== Worker ==========
+
+    private void run() {
+        try {
+            load();
+        } catch (Exception e) {
+            // Reservations that are not loaded are left to the sweep
+            log.error("Failed to load active reservations into the expiry wheel", e);
+        }
+
+        long tickMillis = properties.getWheelTick().toMillis();
+        while (running) {
+            try {
+                Thread.sleep(tickMillis);
+                List<UUID> fired;
+                synchronized (this) {
+                    due.addAll(wheel.advanceTo(System.currentTimeMillis()));
+                    fired = List.copyOf(due);
+                    due.clear();
+                }
+                expire(fired);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Reservation expiry wheel tick failed", e);
+            }
+        }
+    }
+
+    private void load() {
+        Instant afterExpiresAt = null;
+        UUID afterId = null;
+        int loaded = 0;
+        List<StockReservation> page;
+        do {
+            page = reservationRepository.findActive(afterExpiresAt, afterId, LOAD_PAGE_SIZE);
+            add(page);
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                StockReservation last = page.get(page.size() - 1);
+                afterExpiresAt = last.getExpiresAt();
+                afterId = last.getId();
+            }
+        } while (running && page.size() == LOAD_PAGE_SIZE);
+        log.info("Loaded {} active reservations into the expiry wheel", loaded);
+    }
+
+    private synchronized void add(Collection<StockReservation> reservations) {
+        long graceMillis = properties.getWheelGrace().toMillis();
+        for (StockReservation reservation : reservations) {
+            if (reservation.getId() == null || reservation.getExpiresAt() == null) {
+                continue;
+            }
+            if (wheel.add(reservation.getId(), reservation.getExpiresAt().toEpochMilli() + graceMillis)) {
+                due.add(reservation.getId());
+            }
+        }
+    }
+
+    private void expire(List<UUID> fired) {
+        int batchSize = properties.getBatchSize();
+        for (int from = 0; from < fired.size(); from += batchSize) {
+            List<UUID> batch = fired.subList(from, Math.min(from + batchSize, fired.size()));
+            try {
+                ExpireReservationsResponse response = expireReservationsUseCase.execute(ExpireReservationsRequest.builder()
+                        .expiredBefore(Instant.now())
+                        .reservationIds(batch)
+                        .build());
+                expiredCounter.increment(response.getExpiredCount());
+            } catch (Exception e) {
+                log.warn("Failed to expire {} reservations from the wheel, leaving them to the sweep: {}",
+                        batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private synchronized int scheduledCount() {
+        return wheel.size();
+    }
+}
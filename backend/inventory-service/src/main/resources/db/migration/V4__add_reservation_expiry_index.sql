@@ -0,0 +1,4 @@
+-- V4: Add index for the reservation expiry reaper
+
+-- Keyset scan of active reservations in expiry order
+CREATE INDEX idx_reservations_status_expires ON stock_reservations (status, expires_at, id);
@@ -0,0 +1,8 @@
+-- V5: Add indexed reorder gap for the low-stock scan
+
+-- Stock left above the reorder level; an item needs reordering when this is zero or below.
+-- Virtual, so adding it does not rebuild the table; the index stores the computed values.
+ALTER TABLE inventory_items
+    ADD COLUMN reorder_gap INT AS (quantity_available + quantity_reserved - reorder_level) VIRTUAL;
+
+CREATE INDEX idx_inventory_reorder_gap ON inventory_items (reorder_gap);
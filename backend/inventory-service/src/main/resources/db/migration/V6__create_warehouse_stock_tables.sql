@@ -0,0 +1,33 @@
+-- V6: Create per-warehouse stock tables
+
+-- Locations stock can be allocated from
+CREATE TABLE warehouses (
+    code VARCHAR(50) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NULL ON UPDATE CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Stock of a product at one warehouse. A product with rows here is reserved from them, and its
+-- inventory_items quantities become totals rolled up from these rows.
+-- updated_at is set on insert too, so the rollup finds new rows by it.
+CREATE TABLE warehouse_stock (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    product_id BINARY(16) NOT NULL,
+    warehouse_code VARCHAR(50) NOT NULL,
+    quantity_available INT NOT NULL DEFAULT 0,
+    quantity_reserved INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+
+    UNIQUE KEY uk_warehouse_stock_product_warehouse (product_id, warehouse_code),
+    INDEX idx_warehouse_stock_updated (updated_at),
+    CONSTRAINT fk_warehouse_stock_warehouse FOREIGN KEY (warehouse_code) REFERENCES warehouses (code)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Warehouse a reservation was allocated from; NULL for products reserved from inventory_items
+ALTER TABLE stock_reservations ADD COLUMN warehouse_code VARCHAR(50) NULL;
@@ -0,0 +1,18 @@
+-- V7: Create job lock and outstanding reorder tables
+
+-- One row per cluster-wide job; an instance must hold the lock to run the job
+CREATE TABLE job_locks (
+    name VARCHAR(100) NOT NULL PRIMARY KEY,
+    locked_by VARCHAR(100),
+    locked_at TIMESTAMP(6) NULL,
+    locked_until TIMESTAMP(6) NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Products with a restock requested and not yet received; they are not requested again until
+-- their stock is back above the reorder level or the request is stale
+CREATE TABLE reorder_requests (
+    product_id BINARY(16) NOT NULL PRIMARY KEY,
+    requested_at TIMESTAMP(6) NOT NULL,
+
+    INDEX idx_reorder_requests_requested_at (requested_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,179 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.request.ExpireReservationsRequest;
+import com.ecommerce.inventory.application.dto.response.ExpireReservationsResponse;
+import com.ecommerce.inventory.application.usecase.impl.ExpireReservationsUseCaseImpl;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.domain.repository.WarehouseStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExpireReservationsUseCase Tests")
+class ExpireReservationsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private StockReservationRepository stockReservationRepository;
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
+    @InjectMocks
+    private ExpireReservationsUseCaseImpl expireReservationsUseCase;
+
+    private Instant now;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.now();
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should expire batch and release quantities summed per product")
+    void shouldExpireBatchAndReleaseAggregatedQuantities() {
+        // Given
+        UUID otherProductId = UUID.randomUUID();
+        StockReservation first = expiredReservation(productId, 2, now.minus(3, ChronoUnit.MINUTES));
+        StockReservation second = expiredReservation(productId, 3, now.minus(2, ChronoUnit.MINUTES));
+        StockReservation third = expiredReservation(otherProductId, 4, now.minus(1, ChronoUnit.MINUTES));
+        when(stockReservationRepository.claimExpired(now, null, null, 3))
+                .thenReturn(List.of(first, second, third));
+        when(stockReservationRepository.markExpired(anyList())).thenReturn(3);
+
+        ExpireReservationsRequest request = ExpireReservationsRequest.builder()
+                .expiredBefore(now)
+                .batchSize(3)
+                .build();
+
+        // When
+        ExpireReservationsResponse response = expireReservationsUseCase.execute(request);
+
+        // Then
+        assertThat(response.getExpiredCount()).isEqualTo(3);
+        assertThat(response.getReleasedProducts()).isEqualTo(2);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getLastReservationId()).isEqualTo(third.getId());
+        assertThat(response.getLastExpiresAt()).isEqualTo(third.getExpiresAt());
+        verify(stockReservationRepository).markExpired(List.of(first.getId(), second.getId(), third.getId()));
+        verify(inventoryRepository).releaseStock(Map.of(productId, 5, otherProductId, 4));
+        verify(inventoryCache).evict(Set.of(productId, otherProductId));
+    }
+
+    @Test
+    @DisplayName("Should expire only the given reservations when IDs are passed")
+    void shouldExpireGivenReservations() {
+        // Given
+        StockReservation reservation = expiredReservation(productId, 2, now.minus(1, ChronoUnit.SECONDS));
+        UUID confirmedId = UUID.randomUUID();
+        List<UUID> ids = List.of(reservation.getId(), confirmedId);
+        when(stockReservationRepository.claimExpiredByIds(ids, now)).thenReturn(List.of(reservation));
+        when(stockReservationRepository.markExpired(anyList())).thenReturn(1);
+
+        ExpireReservationsRequest request = ExpireReservationsRequest.builder()
+                .expiredBefore(now)
+                .reservationIds(ids)
+                .build();
+
+        // When
+        ExpireReservationsResponse response = expireReservationsUseCase.execute(request);
+
+        // Then
+        assertThat(response.getExpiredCount()).isEqualTo(1);
+        assertThat(response.isHasMore()).isFalse();
+        verify(stockReservationRepository, never()).claimExpired(any(), any(), any(), anyInt());
+        verify(stockReservationRepository).markExpired(List.of(reservation.getId()));
+        verify(inventoryRepository).releaseStock(Map.of(productId, 2));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no reservation has expired")
+    void shouldDoNothingWhenNothingExpired() {
+        // Given
+        UUID afterId = UUID.randomUUID();
+        Instant afterExpiresAt = now.minus(1, ChronoUnit.MINUTES);
+        when(stockReservationRepository.claimExpired(now, afterExpiresAt, afterId, 100)).thenReturn(List.of());
+
+        ExpireReservationsRequest request = ExpireReservationsRequest.builder()
+                .expiredBefore(now)
+                .batchSize(100)
+                .afterExpiresAt(afterExpiresAt)
+                .afterReservationId(afterId)
+                .build();
+
+        // When
+        ExpireReservationsResponse response = expireReservationsUseCase.execute(request);
+
+        // Then
+        assertThat(response.getExpiredCount()).isZero();
+        assertThat(response.isHasMore()).isFalse();
+        verify(stockReservationRepository, never()).markExpired(anyList());
+        verify(inventoryRepository, never()).releaseStock(any());
+        verify(inventoryCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("Should return warehouse reservations to their warehouse")
+    void shouldReleaseWarehouseReservationsToTheirWarehouse() {
+        // Given
+        StockReservation productLevel = expiredReservation(productId, 2, now.minus(3, ChronoUnit.MINUTES));
+        UUID warehouseProductId = UUID.randomUUID();
+        StockReservation east = StockReservation.create(UUID.randomUUID(), warehouseProductId, "WH-EAST", 3,
+                now.minus(2, ChronoUnit.MINUTES));
+        east.setId(UUID.randomUUID());
+        StockReservation west = StockReservation.create(UUID.randomUUID(), warehouseProductId, "WH-WEST", 1,
+                now.minus(1, ChronoUnit.MINUTES));
+        west.setId(UUID.randomUUID());
+        when(stockReservationRepository.claimExpired(now, null, null, 10))
+                .thenReturn(List.of(productLevel, east, west));
+        when(stockReservationRepository.markExpired(anyList())).thenReturn(3);
+
+        ExpireReservationsRequest request = ExpireReservationsRequest.builder()
+                .expiredBefore(now)
+                .batchSize(10)
+                .build();
+
+        // When
+        ExpireReservationsResponse response = expireReservationsUseCase.execute(request);
+
+        // Then
+        assertThat(response.getReleasedProducts()).isEqualTo(2);
+        verify(inventoryRepository).releaseStock(Map.of(productId, 2));
+        verify(warehouseStockRepository).releaseStock(List.of(
+                new StockAllocation(warehouseProductId, "WH-EAST", 3),
+                new StockAllocation(warehouseProductId, "WH-WEST", 1)));
+    }
+
+    private StockReservation expiredReservation(UUID productId, int quantity, Instant expiresAt) {
+        StockReservation reservation = StockReservation.create(UUID.randomUUID(), productId, quantity, expiresAt);
+        reservation.setId(UUID.randomUUID());
+        return reservation;
+    }
+}
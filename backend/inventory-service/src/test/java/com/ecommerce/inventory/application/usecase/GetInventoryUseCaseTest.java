@@ -0,0 +1,119 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.impl.GetInventoryUseCaseImpl;
+import com.ecommerce.inventory.domain.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GetInventoryUseCase Tests")
+class GetInventoryUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
+    @Spy
+    private InventoryMapper inventoryMapper = Mappers.getMapper(InventoryMapper.class);
+
+    @InjectMocks
+    private GetInventoryUseCaseImpl getInventoryUseCase;
+
+    private UUID productId;
+    private InventoryItem inventoryItem;
+
+    @BeforeEach
+    void setUp() {
+        productId = UUID.randomUUID();
+        inventoryItem = InventoryItem.builder()
+                .productId(productId)
+                .sku("TEST-SKU-001")
+                .quantityAvailable(100)
+                .quantityReserved(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should load a cache miss from the repository")
+    @SuppressWarnings("unchecked")
+    void shouldLoadCacheMiss() {
+        // Given
+        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryCache.getAll(any(), any())).thenAnswer(invocation -> {
+            Function<Set<UUID>, Map<UUID, InventoryResponse>> loader = invocation.getArgument(1);
+            return loader.apply(Set.of(productId));
+        });
+
+        // When
+        InventoryResponse result = getInventoryUseCase.execute(productId, false);
+
+        // Then
+        assertThat(result.getSku()).isEqualTo("TEST-SKU-001");
+        assertThat(result.getQuantityAvailable()).isEqualTo(100);
+        assertThat(result.isInStock()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should bypass the cache for consistent reads")
+    void shouldBypassCacheForConsistentReads() {
+        // Given
+        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.of(inventoryItem));
+
+        // When
+        InventoryResponse result = getInventoryUseCase.execute(productId, true);
+
+        // Then
+        assertThat(result.getQuantityReserved()).isEqualTo(10);
+        verifyNoInteractions(inventoryCache);
+    }
+
+    @Test
+    @DisplayName("should move allotted units no order holds yet from reserved to available")
+    void shouldAddUnusedAllotmentToAvailable() {
+        // Given
+        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryRepository.findUnusedAllotments(Set.of(productId))).thenReturn(Map.of(productId, 8));
+
+        // When
+        InventoryResponse result = getInventoryUseCase.execute(productId, true);
+
+        // Then
+        assertThat(result.getQuantityAvailable()).isEqualTo(108);
+        assertThat(result.getQuantityReserved()).isEqualTo(2);
+        assertThat(result.isInStock()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should throw when the product has no inventory")
+    void shouldThrowWhenNotFound() {
+        // Given
+        when(inventoryCache.getAll(any(), any())).thenReturn(Map.of());
+
+        // When / Then
+        assertThatThrownBy(() -> getInventoryUseCase.execute(productId, false))
+                .isInstanceOf(InventoryNotFoundException.class);
+    }
+}
@@ -0,0 +1,136 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.cache.InventoryCache;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.application.dto.response.StockAvailabilityResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.impl.GetStockAvailabilityUseCaseImpl;
+import com.ecommerce.inventory.domain.model.InventoryItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GetStockAvailabilityUseCase Tests")
+class GetStockAvailabilityUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
+    @Spy
+    private InventoryMapper inventoryMapper = Mappers.getMapper(InventoryMapper.class);
+
+    @InjectMocks
+    private GetStockAvailabilityUseCaseImpl getStockAvailabilityUseCase;
+
+    private UUID productId;
+    private InventoryItem inventoryItem;
+
+    @BeforeEach
+    void setUp() {
+        productId = UUID.randomUUID();
+        inventoryItem = InventoryItem.builder()
+                .productId(productId)
+                .sku("TEST-SKU-001")
+                .quantityAvailable(100)
+                .quantityReserved(10)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should load cache misses with one query and keep request order")
+    @SuppressWarnings("unchecked")
+    void shouldLoadMissesWithOneQuery() {
+        // Given
+        UUID cachedProductId = UUID.randomUUID();
+        UUID unknownProductId = UUID.randomUUID();
+        InventoryResponse cached = InventoryResponse.builder()
+                .productId(cachedProductId)
+                .quantityAvailable(0)
+                .inStock(false)
+                .build();
+        when(inventoryRepository.findByProductIdIn(anyList())).thenReturn(List.of(inventoryItem));
+        when(inventoryCache.getAll(any(), any())).thenAnswer(invocation -> {
+            Collection<UUID> requested = invocation.getArgument(0);
+            Function<Set<UUID>, Map<UUID, InventoryResponse>> loader = invocation.getArgument(1);
+            Map<UUID, InventoryResponse> result = new HashMap<>(loader.apply(Set.of(productId, unknownProductId)));
+            result.put(cachedProductId, cached);
+            assertThat(requested).containsExactly(productId, cachedProductId, unknownProductId);
+            return result;
+        });
+
+        // When
+        List<StockAvailabilityResponse> result = getStockAvailabilityUseCase.execute(
+                List.of(productId, cachedProductId, unknownProductId, productId));
+
+        // Then
+        assertThat(result).extracting(StockAvailabilityResponse::getProductId)
+                .containsExactly(productId, cachedProductId);
+        assertThat(result.get(0).getQuantityAvailable()).isEqualTo(100);
+        assertThat(result.get(0).isInStock()).isTrue();
+        assertThat(result.get(1).isInStock()).isFalse();
+        verify(inventoryRepository, times(1)).findByProductIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("should count allotted units no order holds yet as available without changing the cache")
+    void shouldAddUnusedAllotmentToAvailable() {
+        // Given: a hot product whose row shows all units reserved, 15 of them only allotted
+        InventoryResponse cached = InventoryResponse.builder()
+                .productId(productId)
+                .quantityAvailable(0)
+                .quantityReserved(20)
+                .inStock(false)
+                .build();
+        when(inventoryCache.getAll(any(), any())).thenReturn(Map.of(productId, cached));
+        when(inventoryRepository.findUnusedAllotments(Set.of(productId))).thenReturn(Map.of(productId, 15));
+
+        // When
+        List<StockAvailabilityResponse> result = getStockAvailabilityUseCase.execute(List.of(productId));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getQuantityAvailable()).isEqualTo(15);
+        assertThat(result.get(0).isInStock()).isTrue();
+        assertThat(cached.getQuantityAvailable()).isZero();
+        assertThat(cached.getQuantityReserved()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("should reject more than the maximum number of products")
+    void shouldRejectTooManyProducts() {
+        // Given
+        List<UUID> productIds = IntStream.range(0, GetStockAvailabilityUseCase.MAX_PRODUCTS + 1)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+
+        // When / Then
+        assertThatThrownBy(() -> getStockAvailabilityUseCase.execute(productIds))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(inventoryCache, inventoryRepository);
+    }
+}
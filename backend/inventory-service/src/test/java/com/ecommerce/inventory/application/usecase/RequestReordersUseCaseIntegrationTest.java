@@ -0,0 +1,203 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.impl.RequestReordersUseCaseImpl;
+import com.ecommerce.inventory.config.ReorderProperties;
+import com.ecommerce.inventory.domain.event.ReorderRequestedEvent;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.domain.repository.ReorderRequestRepository;
+import com.ecommerce.inventory.infrastructure.persistence.ReorderRequestRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the job against an in-memory database in MySQL mode with more than one batch of
+ * low-stock rows. The datasource enforces Connector/J's rule that no other statement may be
+ * issued on a connection while a streaming result set is open on it.
+ */
+@DisplayName("RequestReordersUseCase integration Tests")
+class RequestReordersUseCaseIntegrationTest {
+
+    private static final String LOW_STOCK = """
+            SELECT product_id, sku, quantity_available, quantity_reserved,
+                   reorder_level, reorder_quantity, warehouse_location
+            FROM inventory_items
+            WHERE quantity_available + quantity_reserved <= reorder_level
+            ORDER BY sku
+            """;
+
+    private final List<ReorderRequestedEvent> published = new ArrayList<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private RequestReordersUseCaseImpl requestReordersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = streamingGuard(new DriverManagerDataSource(
+                "jdbc:h2:mem:reorders-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE inventory_items (
+                    product_id BINARY(16) NOT NULL PRIMARY KEY,
+                    sku VARCHAR(100) NOT NULL,
+                    quantity_available INT NOT NULL,
+                    quantity_reserved INT NOT NULL,
+                    reorder_level INT NOT NULL,
+                    reorder_quantity INT NOT NULL,
+                    warehouse_location VARCHAR(100)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE reorder_requests (
+                    product_id BINARY(16) NOT NULL PRIMARY KEY,
+                    requested_at TIMESTAMP(6) NOT NULL
+                )
+                """);
+
+        // Streams the low-stock rows the way the JPA query does, with Connector/J's streaming fetch size
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+        InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+        when(inventoryRepository.streamLowStock()).thenAnswer(invocation -> streamingTemplate.queryForStream(LOW_STOCK,
+                (rs, rowNum) -> new LowStockItem(UuidUtils.fromBytes(rs.getBytes("product_id")), rs.getString("sku"),
+                        rs.getInt("quantity_available"), rs.getInt("quantity_reserved"), rs.getInt("reorder_level"),
+                        rs.getInt("reorder_quantity"), rs.getString("warehouse_location"))));
+
+        // H2 has no multi-table DELETE, so only the clean-up statement is stubbed
+        ReorderRequestRepository reorderRequestRepository = spy(new ReorderRequestRepositoryAdapter(jdbcTemplate));
+        doReturn(0).when(reorderRequestRepository).deleteFulfilledOrRequestedBefore(any());
+
+        requestReordersUseCase = new RequestReordersUseCaseImpl(inventoryRepository,
+                Mappers.getMapper(InventoryMapper.class), reorderRequestRepository,
+                event -> published.add((ReorderRequestedEvent) event), new ReorderProperties(),
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("should look up outstanding requests while the low-stock cursor is open")
+    void shouldRequestReordersAcrossBatches() {
+        // Given: five low-stock items, one of them already requested, and one item in stock
+        List<UUID> lowStock = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lowStock.add(insertItem("SKU-" + i, 2));
+        }
+        insertItem("SKU-9", 100);
+        jdbcTemplate.update("INSERT INTO reorder_requests (product_id, requested_at) VALUES (?, ?)",
+                UuidUtils.toBytes(lowStock.get(1)), Timestamp.from(Instant.now()));
+
+        // When
+        RequestReordersResponse response = requestReordersUseCase.execute(2);
+
+        // Then
+        assertThat(response.getRequestedItems()).isEqualTo(4);
+        assertThat(response.getPublishedEvents()).isEqualTo(2);
+        assertThat(published).flatExtracting(ReorderRequestedEvent::getItems)
+                .extracting(ReorderRequestedEvent.Item::getProductId)
+                .containsExactly(lowStock.get(0), lowStock.get(2), lowStock.get(3), lowStock.get(4));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reorder_requests", Integer.class))
+                .isEqualTo(5);
+    }
+
+    private UUID insertItem(String sku, int quantityAvailable) {
+        UUID productId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO inventory_items (product_id, sku, quantity_available, quantity_reserved,
+                    reorder_level, reorder_quantity) VALUES (?, ?, ?, 0, 10, 50)
+                """, UuidUtils.toBytes(productId), sku, quantityAvailable);
+        return productId;
+    }
+
+    /**
+     * Statements with the streaming fetch size occupy their connection until their result set
+     * or the statement itself is closed, and any other statement issued on it meanwhile fails
+     * as it does with Connector/J. H2 does not take a negative fetch size, so it is not passed on.
+     */
+    private static DataSource streamingGuard(DataSource target) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return method.getName().equals("getConnection") ? guard((Connection) result) : result;
+        });
+    }
+
+    private static Connection guard(Connection connection) {
+        AtomicReference<Statement> streaming = new AtomicReference<>();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return result instanceof Statement statement ? guard(statement, streaming) : result;
+        });
+    }
+
+    private static Statement guard(Statement statement, AtomicReference<Statement> streaming) {
+        boolean[] streamingFetch = new boolean[1];
+        Class<? extends Statement> type = statement instanceof PreparedStatement
+                ? PreparedStatement.class : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("setFetchSize") && (int) args[0] == Integer.MIN_VALUE) {
+                streamingFetch[0] = true;
+                return null;
+            }
+            if (name.equals("close")) {
+                streaming.compareAndSet((Statement) proxy, null);
+            } else if (name.startsWith("execute")) {
+                if (streaming.get() != null) {
+                    throw new SQLException("Streaming result set is still active. No statements may be issued "
+                            + "when any streaming result sets are open and in use on a given connection.");
+                }
+                if (streamingFetch[0] && name.equals("executeQuery")) {
+                    streaming.set((Statement) proxy);
+                    ResultSet resultSet = (ResultSet) invoke(statement, method, args);
+                    return proxy(ResultSet.class, (rsProxy, rsMethod, rsArgs) -> {
+                        if (rsMethod.getName().equals("close")) {
+                            streaming.compareAndSet((Statement) proxy, null);
+                        }
+                        return invoke(resultSet, rsMethod, rsArgs);
+                    });
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+import com.ecommerce.inventory.application.mapper.InventoryMapper;
+import com.ecommerce.inventory.application.usecase.impl.RequestReordersUseCaseImpl;
+import com.ecommerce.inventory.config.ReorderProperties;
+import com.ecommerce.inventory.domain.event.ReorderRequestedEvent;
+import com.ecommerce.inventory.domain.model.LowStockItem;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.domain.repository.ReorderRequestRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RequestReordersUseCase Tests")
+class RequestReordersUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private ReorderRequestRepository reorderRequestRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private InventoryMapper inventoryMapper = Mappers.getMapper(InventoryMapper.class);
+
+    @Spy
+    private ReorderProperties reorderProperties = new ReorderProperties();
+
+    @InjectMocks
+    private RequestReordersUseCaseImpl requestReordersUseCase;
+
+    @Test
+    @DisplayName("should publish one event per batch of low-stock items")
+    void shouldPublishOneEventPerBatch() {
+        // Given
+        List<LowStockItem> lowStock = IntStream.range(0, 5)
+                .mapToObj(i -> new LowStockItem(UUID.randomUUID(), "SKU-" + i, 2, 1, 10, 50, null))
+                .toList();
+        when(inventoryRepository.streamLowStock()).thenReturn(lowStock.stream());
+
+        // When
+        RequestReordersResponse response = requestReordersUseCase.execute(2);
+
+        // Then
+        assertThat(response.getRequestedItems()).isEqualTo(5);
+        assertThat(response.getPublishedEvents()).isEqualTo(3);
+
+        ArgumentCaptor<ReorderRequestedEvent> captor = ArgumentCaptor.forClass(ReorderRequestedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues()).extracting(event -> event.getItems().size())
+                .containsExactly(2, 2, 1);
+
+        ReorderRequestedEvent.Item first = captor.getAllValues().get(0).getItems().get(0);
+        assertThat(first.getProductId()).isEqualTo(lowStock.get(0).getProductId());
+        assertThat(first.getQuantityOnHand()).isEqualTo(3);
+        assertThat(first.getReorderQuantity()).isEqualTo(50);
+
+        verify(reorderRequestRepository).saveAll(List.of(
+                lowStock.get(0).getProductId(), lowStock.get(1).getProductId()));
+        verify(reorderRequestRepository).saveAll(List.of(lowStock.get(4).getProductId()));
+    }
+
+    @Test
+    @DisplayName("should skip products whose previous request is still outstanding")
+    void shouldSkipOutstandingRequests() {
+        // Given
+        LowStockItem outstanding = new LowStockItem(UUID.randomUUID(), "SKU-1", 2, 1, 10, 50, null);
+        LowStockItem fresh = new LowStockItem(UUID.randomUUID(), "SKU-2", 2, 1, 10, 50, null);
+        when(reorderRequestRepository.findOutstandingAmong(List.of(outstanding.getProductId(), fresh.getProductId())))
+                .thenReturn(Set.of(outstanding.getProductId()));
+        when(inventoryRepository.streamLowStock()).thenReturn(Stream.of(outstanding, fresh));
+
+        // When
+        RequestReordersResponse response = requestReordersUseCase.execute(100);
+
+        // Then
+        assertThat(response.getRequestedItems()).isEqualTo(1);
+        ArgumentCaptor<ReorderRequestedEvent> captor = ArgumentCaptor.forClass(ReorderRequestedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getItems()).extracting(ReorderRequestedEvent.Item::getProductId)
+                .containsExactly(fresh.getProductId());
+        verify(reorderRequestRepository).saveAll(List.of(fresh.getProductId()));
+    }
+
+    @Test
+    @DisplayName("should look up outstanding requests per batch and fill batches past skipped products")
+    void shouldLookUpOutstandingRequestsPerBatch() {
+        // Given: five low-stock products, the second of which was already requested
+        List<LowStockItem> lowStock = IntStream.range(0, 5)
+                .mapToObj(i -> new LowStockItem(UUID.randomUUID(), "SKU-" + i, 2, 1, 10, 50, null))
+                .toList();
+        List<UUID> ids = lowStock.stream().map(LowStockItem::getProductId).toList();
+        when(inventoryRepository.streamLowStock()).thenReturn(lowStock.stream());
+        when(reorderRequestRepository.findOutstandingAmong(any())).thenAnswer(invocation -> {
+            Collection<UUID> productIds = invocation.getArgument(0);
+            return productIds.contains(ids.get(1)) ? Set.of(ids.get(1)) : Set.of();
+        });
+
+        // When
+        RequestReordersResponse response = requestReordersUseCase.execute(2);
+
+        // Then
+        assertThat(response.getRequestedItems()).isEqualTo(4);
+        assertThat(response.getPublishedEvents()).isEqualTo(2);
+        verify(reorderRequestRepository).findOutstandingAmong(List.of(ids.get(0), ids.get(1)));
+        verify(reorderRequestRepository).findOutstandingAmong(List.of(ids.get(2), ids.get(3)));
+        verify(reorderRequestRepository).findOutstandingAmong(List.of(ids.get(4)));
+        verify(reorderRequestRepository).saveAll(List.of(ids.get(0), ids.get(2)));
+        verify(reorderRequestRepository).saveAll(List.of(ids.get(3), ids.get(4)));
+    }
+
+    @Test
+    @DisplayName("should clear fulfilled and stale requests before reading low-stock items")
+    void shouldClearFulfilledAndStaleRequestsFirst() {
+        // Given
+        reorderProperties.setOutstandingTimeout(Duration.ofDays(3));
+        when(inventoryRepository.streamLowStock()).thenReturn(Stream.empty());
+        Instant before = Instant.now().minus(Duration.ofDays(3));
+
+        // When
+        requestReordersUseCase.execute(100);
+
+        // Then
+        ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
+        InOrder inOrder = inOrder(reorderRequestRepository, inventoryRepository);
+        inOrder.verify(reorderRequestRepository).deleteFulfilledOrRequestedBefore(captor.capture());
+        inOrder.verify(inventoryRepository).streamLowStock();
+        assertThat(captor.getValue()).isBetween(before, Instant.now().minus(Duration.ofDays(3)));
+    }
+
+    @Test
+    @DisplayName("should publish nothing when no item is low on stock")
+    void shouldPublishNothingWhenNoLowStock() {
+        // Given
+        when(inventoryRepository.streamLowStock()).thenReturn(Stream.empty());
+
+        // When
+        RequestReordersResponse response = requestReordersUseCase.execute(100);
+
+        // Then
+        assertThat(response.getPublishedEvents()).isZero();
+        verifyNoInteractions(eventPublisher);
+        verify(reorderRequestRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("should reject a non-positive batch size")
+    void shouldRejectInvalidBatchSize() {
+        // When / Then
+        assertThatThrownBy(() -> requestReordersUseCase.execute(0))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(inventoryRepository, reorderRequestRepository, eventPublisher);
+    }
+}
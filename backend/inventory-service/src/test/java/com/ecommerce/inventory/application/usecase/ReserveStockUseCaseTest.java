@@ -1,25 +1,38 @@
 package com.ecommerce.inventory.application.usecase;
 
 import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.cache.InventoryCache;
 import com.ecommerce.inventory.application.dto.request.ReserveStockRequest;
 import com.ecommerce.inventory.application.dto.response.ReservationResponse;
 import com.ecommerce.inventory.application.usecase.impl.ReserveStockUseCaseImpl;
+import com.ecommerce.inventory.config.WarehouseProperties;
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
 import com.ecommerce.inventory.domain.model.InventoryItem;
-import com.ecommerce.inventory.domain.model.StockReservation;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
 import com.ecommerce.inventory.domain.repository.StockReservationRepository;
+import com.ecommerce.inventory.domain.repository.WarehouseStockRepository;
+import com.ecommerce.inventory.domain.service.ReservationExpiryScheduler;
+import com.ecommerce.inventory.domain.service.StockAllocationService;
+import com.ecommerce.inventory.domain.service.impl.StockAllocationServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @DisplayName("ReserveStockUseCase Tests")
@@ -31,6 +44,21 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
     @Mock
     private StockReservationRepository stockReservationRepository;
 
+    @Mock
+    private ReservationExpiryScheduler expiryScheduler;
+
+    @Mock
+    private WarehouseStockRepository warehouseStockRepository;
+
+    @Spy
+    private StockAllocationService allocationService = new StockAllocationServiceImpl();
+
+    @Mock
+    private WarehouseProperties warehouseProperties;
+
+    @Mock
+    private InventoryCache inventoryCache;
+
     @InjectMocks
     private ReserveStockUseCaseImpl reserveStockUseCase;
 
@@ -67,9 +95,7 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
     @DisplayName("should reserve stock successfully when sufficient quantity available")
     void shouldReserveStockSuccessfully() {
         // Given
-        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryRepository.save(any(InventoryItem.class))).thenAnswer(inv -> inv.getArgument(0));
-        when(stockReservationRepository.save(any(StockReservation.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(inventoryRepository.reserveStock(Map.of(productId, 5))).thenReturn(Set.of(productId));
 
         // When
         ReservationResponse result = reserveStockUseCase.execute(request);
@@ -79,9 +105,11 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
         assertThat(result.isSuccess()).isTrue();
         assertThat(result.getItems()).hasSize(1);
 
-        verify(inventoryRepository).findByProductId(productId);
-        verify(inventoryRepository).save(any(InventoryItem.class));
-        verify(stockReservationRepository).save(any(StockReservation.class));
+        verify(inventoryRepository).reserveStock(Map.of(productId, 5));
+        verify(inventoryRepository, never()).save(any(InventoryItem.class));
+        verify(stockReservationRepository).saveAll(argThat(reservations -> reservations.size() == 1));
+        verify(expiryScheduler).schedule(argThat(reservations -> reservations.size() == 1));
+        verify(inventoryCache).evict(Set.of(productId));
     }
 
     @Test
@@ -94,7 +122,8 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
                 .quantityReserved(0)
                 .build();
         lowStockItem.setId(UUID.randomUUID());
-        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.of(lowStockItem));
+        when(inventoryRepository.reserveStock(Map.of(productId, 5))).thenReturn(Set.of());
+        when(inventoryRepository.findByProductIdIn(List.of(productId))).thenReturn(List.of(lowStockItem));
 
         // When
         ReservationResponse result = reserveStockUseCase.execute(request);
@@ -102,15 +131,17 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems().get(0).getFailureReason()).contains("available 3");
 
-        verify(stockReservationRepository, never()).save(any());
+        verify(stockReservationRepository, never()).saveAll(any());
     }
 
     @Test
     @DisplayName("should fail reservation when product not found in inventory")
     void shouldFailWhenProductNotFound() {
         // Given
-        when(inventoryRepository.findByProductId(productId)).thenReturn(Optional.empty());
+        when(inventoryRepository.reserveStock(Map.of(productId, 5))).thenReturn(Set.of());
+        when(inventoryRepository.findByProductIdIn(List.of(productId))).thenReturn(List.of());
 
         // When
         ReservationResponse result = reserveStockUseCase.execute(request);
@@ -119,4 +150,143 @@ class ReserveStockUseCaseTest extends BaseUnitTest {
         assertThat(result).isNotNull();
         assertThat(result.isSuccess()).isFalse();
     }
+
+    @Test
+    @DisplayName("should release reserved items when another item fails in all-or-nothing mode")
+    void shouldRollbackWhenAnyItemFails() {
+        // Given
+        UUID otherProductId = UUID.randomUUID();
+        request.setItems(List.of(
+                ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(5).build(),
+                ReserveStockRequest.ReservationItem.builder().productId(otherProductId).quantity(2).build()));
+        when(inventoryRepository.reserveStock(Map.of(productId, 5, otherProductId, 2))).thenReturn(Set.of(productId));
+        when(inventoryRepository.findByProductIdIn(List.of(otherProductId))).thenReturn(List.of());
+
+        // When
+        ReservationResponse result = reserveStockUseCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems()).noneMatch(ReservationResponse.ReservedItem::isReserved);
+
+        verify(inventoryRepository).releaseStock(Map.of(productId, 5));
+        verify(stockReservationRepository, never()).saveAll(any());
+        verify(expiryScheduler, never()).schedule(any());
+        verify(inventoryCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("should keep reserved items and merge repeated products when partial reservation is allowed")
+    void shouldKeepReservedItemsWhenPartialAllowed() {
+        // Given
+        UUID otherProductId = UUID.randomUUID();
+        request.setAllowPartial(true);
+        request.setItems(List.of(
+                ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(5).build(),
+                ReserveStockRequest.ReservationItem.builder().productId(otherProductId).quantity(2).build(),
+                ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(1).build()));
+        when(inventoryRepository.reserveStock(Map.of(productId, 6, otherProductId, 2))).thenReturn(Set.of(productId));
+        when(inventoryRepository.findByProductIdIn(List.of(otherProductId))).thenReturn(List.of(inventoryItem));
+
+        // When
+        ReservationResponse result = reserveStockUseCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems()).filteredOn(ReservationResponse.ReservedItem::isReserved)
+                .singleElement()
+                .satisfies(item -> assertThat(item.getQuantityReserved()).isEqualTo(6));
+
+        verify(inventoryRepository, never()).releaseStock(any());
+        verify(stockReservationRepository).saveAll(argThat(reservations -> reservations.size() == 1));
+        verify(inventoryCache).evict(Set.of(productId));
+    }
+
+    @Test
+    @DisplayName("should spread a warehouse-stocked product over warehouses and report the locations")
+    void shouldAllocateAcrossWarehouses() {
+        // Given
+        request.setItems(List.of(ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(8).build()));
+        when(warehouseProperties.isEnabled()).thenReturn(true);
+        when(warehouseProperties.getDefaultStrategy()).thenReturn(AllocationStrategy.MOST_STOCK);
+        when(warehouseProperties.getMaxAllocationAttempts()).thenReturn(3);
+        when(warehouseStockRepository.findByProductIdIn(any())).thenReturn(List.of(
+                new WarehouseStockLevel(productId, "WH-EAST", 3, null, true),
+                new WarehouseStockLevel(productId, "WH-WEST", 6, null, true)));
+        when(warehouseStockRepository.reserveStock(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationResponse result = reserveStockUseCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getItems().get(0).getLocations())
+                .extracting(ReservationResponse.AllocatedLocation::getWarehouseCode,
+                        ReservationResponse.AllocatedLocation::getQuantity)
+                .containsExactly(tuple("WH-WEST", 6), tuple("WH-EAST", 2));
+
+        verify(inventoryRepository).reserveStock(Map.of());
+        verify(stockReservationRepository).saveAll(argThat(reservations -> reservations.size() == 2
+                && reservations.stream().allMatch(reservation -> reservation.getWarehouseCode() != null)));
+    }
+
+    @Test
+    @DisplayName("should re-allocate when a concurrent reservation took the planned warehouse stock")
+    void shouldReallocateAfterLosingRace() {
+        // Given
+        request.setItems(List.of(ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(4).build()));
+        when(warehouseProperties.isEnabled()).thenReturn(true);
+        when(warehouseProperties.getDefaultStrategy()).thenReturn(AllocationStrategy.MOST_STOCK);
+        when(warehouseProperties.getMaxAllocationAttempts()).thenReturn(3);
+        when(warehouseStockRepository.findByProductIdIn(any()))
+                .thenReturn(List.of(
+                        new WarehouseStockLevel(productId, "WH-EAST", 5, null, true),
+                        new WarehouseStockLevel(productId, "WH-WEST", 4, null, true)))
+                .thenReturn(List.of(
+                        new WarehouseStockLevel(productId, "WH-EAST", 1, null, true),
+                        new WarehouseStockLevel(productId, "WH-WEST", 4, null, true)));
+        when(warehouseStockRepository.reserveStock(anyList()))
+                .thenReturn(List.of())
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ReservationResponse result = reserveStockUseCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getItems().get(0).getLocations())
+                .extracting(ReservationResponse.AllocatedLocation::getWarehouseCode)
+                .containsExactly("WH-WEST");
+        verify(warehouseStockRepository).reserveStock(List.of(new StockAllocation(productId, "WH-EAST", 4)));
+        verify(warehouseStockRepository).reserveStock(List.of(new StockAllocation(productId, "WH-WEST", 4)));
+    }
+
+    @Test
+    @DisplayName("should give back a partial warehouse allocation when the product cannot be covered")
+    void shouldReleasePartialWarehouseAllocation() {
+        // Given
+        request.setItems(List.of(ReserveStockRequest.ReservationItem.builder().productId(productId).quantity(6).build()));
+        when(warehouseProperties.isEnabled()).thenReturn(true);
+        when(warehouseProperties.getDefaultStrategy()).thenReturn(AllocationStrategy.MOST_STOCK);
+        when(warehouseProperties.getMaxAllocationAttempts()).thenReturn(2);
+        StockAllocation east = new StockAllocation(productId, "WH-EAST", 4);
+        when(warehouseStockRepository.findByProductIdIn(any()))
+                .thenReturn(List.of(
+                        new WarehouseStockLevel(productId, "WH-EAST", 4, null, true),
+                        new WarehouseStockLevel(productId, "WH-WEST", 2, null, true)))
+                .thenReturn(List.of(
+                        new WarehouseStockLevel(productId, "WH-EAST", 0, null, true),
+                        new WarehouseStockLevel(productId, "WH-WEST", 0, null, true)));
+        when(warehouseStockRepository.reserveStock(anyList())).thenReturn(List.of(east));
+
+        // When
+        ReservationResponse result = reserveStockUseCase.execute(request);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getItems().get(0).getFailureReason()).contains("across warehouses");
+        verify(warehouseStockRepository).releaseStock(List.of(east));
+        verify(stockReservationRepository, never()).saveAll(any());
+    }
 }
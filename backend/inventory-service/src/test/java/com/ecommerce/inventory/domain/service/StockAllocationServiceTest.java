@@ -0,0 +1,77 @@
+package com.ecommerce.inventory.domain.service;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.domain.model.AllocationStrategy;
+import com.ecommerce.inventory.domain.model.GeoLocation;
+import com.ecommerce.inventory.domain.model.StockAllocation;
+import com.ecommerce.inventory.domain.model.WarehouseStockLevel;
+import com.ecommerce.inventory.domain.service.impl.StockAllocationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockAllocationService Tests")
+class StockAllocationServiceTest extends BaseUnitTest {
+
+    private static final GeoLocation NEW_YORK = new GeoLocation(40.71, -74.01);
+    private static final GeoLocation CHICAGO = new GeoLocation(41.88, -87.63);
+    private static final GeoLocation LOS_ANGELES = new GeoLocation(34.05, -118.24);
+
+    private final StockAllocationService allocationService = new StockAllocationServiceImpl();
+
+    private UUID productId;
+    private List<WarehouseStockLevel> levels;
+
+    @BeforeEach
+    void setUp() {
+        productId = UUID.randomUUID();
+        levels = List.of(
+                new WarehouseStockLevel(productId, "WH-LA", 10, LOS_ANGELES, true),
+                new WarehouseStockLevel(productId, "WH-CHI", 3, CHICAGO, true),
+                new WarehouseStockLevel(productId, "WH-NY", 50, NEW_YORK, false));
+    }
+
+    @Test
+    @DisplayName("should draw from the nearest active warehouse first")
+    void shouldAllocateNearestFirst() {
+        // When
+        Map<UUID, List<StockAllocation>> result = allocationService.allocate(
+                Map.of(productId, 5), levels, AllocationStrategy.NEAREST, new GeoLocation(40.0, -75.0));
+
+        // Then
+        assertThat(result.get(productId)).containsExactly(
+                new StockAllocation(productId, "WH-CHI", 3),
+                new StockAllocation(productId, "WH-LA", 2));
+    }
+
+    @Test
+    @DisplayName("should draw from the warehouse with most stock first")
+    void shouldAllocateMostStockFirst() {
+        // When
+        Map<UUID, List<StockAllocation>> result = allocationService.allocate(
+                Map.of(productId, 5), levels, AllocationStrategy.MOST_STOCK, null);
+
+        // Then
+        assertThat(result.get(productId)).containsExactly(new StockAllocation(productId, "WH-LA", 5));
+    }
+
+    @Test
+    @DisplayName("should leave out products the active warehouses cannot cover")
+    void shouldLeaveOutUncoveredProducts() {
+        // Given
+        UUID unknownProductId = UUID.randomUUID();
+
+        // When
+        Map<UUID, List<StockAllocation>> result = allocationService.allocate(
+                Map.of(productId, 14, unknownProductId, 1), levels, AllocationStrategy.MOST_STOCK, null);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+}
@@ -0,0 +1,213 @@
+package com.ecommerce.inventory.infrastructure.cache;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.dto.response.InventoryResponse;
+import com.ecommerce.inventory.config.InventoryCacheProperties;
+import com.ecommerce.inventory.domain.event.StockUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CaffeineInventoryCache Tests")
+class CaffeineInventoryCacheTest extends BaseUnitTest {
+
+    @Mock
+    private ObjectProvider<RedisInventoryStore> redisStoreProvider;
+
+    @Mock
+    private RedisInventoryStore redisStore;
+
+    private CaffeineInventoryCache cache;
+    private UUID productId;
+    private AtomicInteger loads;
+    private Function<Set<UUID>, Map<UUID, InventoryResponse>> loader;
+
+    @BeforeEach
+    void setUp() {
+        productId = UUID.randomUUID();
+        loads = new AtomicInteger();
+        loader = productIds -> {
+            loads.incrementAndGet();
+            Map<UUID, InventoryResponse> loaded = new HashMap<>();
+            productIds.forEach(id -> loaded.put(id, response(id, 100)));
+            return loaded;
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a cached entry without loading it again")
+    void getAll_WhenCached_ShouldNotLoadAgain() {
+        // Given
+        startCache(null);
+        cache.getAll(Set.of(productId), loader);
+
+        // When
+        Map<UUID, InventoryResponse> result = cache.getAll(Set.of(productId), loader);
+
+        // Then
+        assertThat(result).containsKey(productId);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the entry once the stock change commits")
+    void evict_WhenTransactionCommits_ShouldEvictAfterCommit() {
+        // Given
+        startCache(null);
+        cache.getAll(Set.of(productId), loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict(Set.of(productId));
+
+        // Then
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(1);
+
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the entry when the stock change rolls back")
+    void evict_WhenTransactionRollsBack_ShouldKeepEntry() {
+        // Given
+        startCache(null);
+        cache.getAll(Set.of(productId), loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evict(Set.of(productId));
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should evict right away outside of a transaction")
+    void evict_WhenNoTransaction_ShouldEvictImmediately() {
+        // Given
+        startCache(null);
+        cache.getAll(Set.of(productId), loader);
+
+        // When
+        cache.evict(Set.of(productId));
+
+        // Then
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should evict the product of a committed StockUpdatedEvent")
+    void onStockUpdated_ShouldEvictProduct() {
+        // Given
+        startCache(null);
+        cache.getAll(Set.of(productId), loader);
+
+        // When
+        cache.onStockUpdated(new StockUpdatedEvent(productId, 90, 10));
+
+        // Then
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should evict all products from Redis in one call")
+    void evict_WhenRedisEnabled_ShouldEvictFromRedisOnce() {
+        // Given
+        startCache(redisStore);
+        UUID otherProductId = UUID.randomUUID();
+
+        // When
+        cache.evict(Set.of(productId, otherProductId));
+
+        // Then
+        verify(redisStore).evict(Set.of(productId, otherProductId));
+    }
+
+    @Test
+    @DisplayName("Should load only the products Redis does not have and write them back")
+    void getAll_WhenRedisEnabled_ShouldLoadRedisMissesOnly() {
+        // Given
+        startCache(redisStore);
+        UUID otherProductId = UUID.randomUUID();
+        when(redisStore.getAll(Set.of(productId, otherProductId)))
+                .thenReturn(Map.of(productId, response(productId, 42)));
+
+        // When
+        Map<UUID, InventoryResponse> result = cache.getAll(Set.of(productId, otherProductId), loader);
+
+        // Then
+        assertThat(result.get(productId).getQuantityAvailable()).isEqualTo(42);
+        assertThat(result.get(otherProductId).getQuantityAvailable()).isEqualTo(100);
+        verify(redisStore).putAll(Map.of(otherProductId, response(otherProductId, 100)));
+    }
+
+    @Test
+    @DisplayName("Should drop the local entry when another instance broadcasts an eviction")
+    @SuppressWarnings("unchecked")
+    void invalidation_WhenBroadcast_ShouldDropLocalEntry() {
+        // Given
+        startCache(redisStore);
+        ArgumentCaptor<Consumer<UUID>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisStore).onInvalidation(listener.capture());
+        when(redisStore.getAll(any())).thenReturn(Map.of());
+        cache.getAll(Set.of(productId), loader);
+
+        // When
+        listener.getValue().accept(productId);
+
+        // Then
+        cache.getAll(Set.of(productId), loader);
+        assertThat(loads).hasValue(2);
+    }
+
+    private void startCache(RedisInventoryStore store) {
+        when(redisStoreProvider.getIfAvailable()).thenReturn(store);
+        cache = new CaffeineInventoryCache(new InventoryCacheProperties(), redisStoreProvider, new SimpleMeterRegistry());
+        cache.init();
+    }
+
+    private InventoryResponse response(UUID id, int quantityAvailable) {
+        return InventoryResponse.builder()
+                .productId(id)
+                .quantityAvailable(quantityAvailable)
+                .inStock(quantityAvailable > 0)
+                .build();
+    }
+}
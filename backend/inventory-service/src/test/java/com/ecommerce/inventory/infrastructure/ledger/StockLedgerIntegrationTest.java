@@ -0,0 +1,333 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.inventory.config.StockLedgerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs the ledger against an in-memory database in MySQL mode: promotion of a hot product,
+ * reservations from memory, the write-behind flush and recovery from the journal after a crash.
+ */
+@DisplayName("StockLedger integration Tests")
+class StockLedgerIntegrationTest {
+
+    private static final int ALLOTMENT = 20;
+    private static final int STOCK = 100;
+
+    @TempDir
+    Path journalDir;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private TransactionTemplate transactionTemplate;
+    private UUID productId;
+    private Instant expiresAt;
+    private final List<StockLedger> started = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:ledger-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        jdbcTemplate.execute("""
+                CREATE TABLE inventory_items (
+                    product_id BINARY(16) NOT NULL PRIMARY KEY,
+                    quantity_available INT NOT NULL,
+                    quantity_reserved INT NOT NULL,
+                    version BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE stock_reservations (
+                    id BINARY(16) NOT NULL PRIMARY KEY,
+                    order_id BINARY(16) NOT NULL,
+                    product_id BINARY(16) NOT NULL,
+                    quantity INT NOT NULL,
+                    status VARCHAR(20) NOT NULL,
+                    expires_at TIMESTAMP NULL,
+                    created_at TIMESTAMP NOT NULL,
+                    version BIGINT NOT NULL
+                )
+                """);
+
+        productId = UUID.randomUUID();
+        expiresAt = Instant.now().plus(15, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+        jdbcTemplate.update("INSERT INTO inventory_items (product_id, quantity_available, quantity_reserved) VALUES (?, ?, 0)",
+                UuidUtils.toBytes(productId), STOCK);
+    }
+
+    @AfterEach
+    void tearDown() {
+        started.forEach(this::crash);
+    }
+
+    @Test
+    @DisplayName("Should take an allotment when a product turns hot and return the rest on stop")
+    void promote_ShouldClaimAllotmentAndReturnItOnStop() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofMillis(50));
+
+        // When
+        promote(ledger);
+
+        // Then
+        assertThat(available()).isEqualTo(STOCK - ALLOTMENT);
+        assertThat(reserved()).isEqualTo(ALLOTMENT);
+
+        stop(ledger);
+        assertThat(available()).isEqualTo(STOCK);
+        assertThat(reserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should report the part of the allotment that no reservation has taken")
+    void unusedAllotment_ShouldShrinkWithGrants() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        assertThat(ledger.unusedAllotment(productId)).isZero();
+        promote(ledger);
+
+        // When
+        reserve(ledger, UUID.randomUUID(), 3);
+
+        // Then: available plus unused allotment is what an order could still get
+        assertThat(ledger.unusedAllotment(productId)).isEqualTo(ALLOTMENT - 3);
+        assertThat(available() + ledger.unusedAllotment(productId)).isEqualTo(STOCK - 3);
+        assertThat(ledger.unusedAllotment(UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should write committed reservations in the background and keep their units reserved")
+    void reserve_WhenCommitted_ShouldBeFlushed() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofMillis(50));
+        promote(ledger);
+        UUID orderId = UUID.randomUUID();
+
+        // When
+        reserve(ledger, orderId, 3);
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).until(() -> reservationCount(orderId) == 1);
+        stop(ledger);
+        assertThat(available()).isEqualTo(STOCK - 3);
+        assertThat(reserved()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should give the units back when the reserving transaction rolls back")
+    void reserve_WhenRolledBack_ShouldNotGrant() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        promote(ledger);
+        UUID orderId = UUID.randomUUID();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            reserveInTransaction(ledger, orderId, 3);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(ledger.hotCounter(productId).available()).isEqualTo(ALLOTMENT);
+        stop(ledger);
+        assertThat(reservationCount(orderId)).isZero();
+        assertThat(available()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("Should roll the transaction back instead of granting when the journal cannot be written")
+    void reserve_WhenJournalFails_ShouldRollBack() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        promote(ledger);
+        StripedStockCounter counter = ledger.hotCounter(productId);
+        crash(ledger);
+        ((StockLedgerJournal) ReflectionTestUtils.getField(ledger, "journal")).close();
+
+        // When / Then
+        assertThatThrownBy(() -> reserve(ledger, UUID.randomUUID(), 3)).isInstanceOf(RuntimeException.class);
+        assertThat(counter.available()).isEqualTo(ALLOTMENT);
+        assertThat(counter.held()).isEqualTo(ALLOTMENT);
+    }
+
+    @Test
+    @DisplayName("Should write an order's pending reservations in the caller's transaction on lookup")
+    void flushOrder_ShouldWritePendingReservationsOfOrder() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        promote(ledger);
+        UUID orderId = UUID.randomUUID();
+        UUID otherOrderId = UUID.randomUUID();
+        reserve(ledger, orderId, 2);
+        reserve(ledger, otherOrderId, 1);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> ledger.flushOrder(orderId));
+
+        // Then
+        assertThat(reservationCount(orderId)).isEqualTo(1);
+        assertThat(reservationCount(otherOrderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not bring back reservations deleted by order")
+    void flushOrder_WhenDeletedInSameTransaction_ShouldNotBeFlushedAgain() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        promote(ledger);
+        UUID orderId = UUID.randomUUID();
+        reserve(ledger, orderId, 2);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            ledger.flushOrder(orderId);
+            jdbcTemplate.update("DELETE FROM stock_reservations WHERE order_id = ?", UuidUtils.toBytes(orderId));
+        });
+        stop(ledger);
+
+        // Then
+        assertThat(reservationCount(orderId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should queue an order's reservations again when the lookup transaction rolls back")
+    void flushOrder_WhenRolledBack_ShouldStillBeFlushed() {
+        // Given
+        StockLedger ledger = startLedger(Duration.ofHours(1));
+        promote(ledger);
+        UUID orderId = UUID.randomUUID();
+        reserve(ledger, orderId, 2);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            ledger.flushOrder(orderId);
+            status.setRollbackOnly();
+        });
+        assertThat(reservationCount(orderId)).isZero();
+        stop(ledger);
+
+        // Then
+        assertThat(reservationCount(orderId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write unflushed reservations and return held units after a crash")
+    void start_AfterCrash_ShouldRecoverFromJournal() {
+        // Given
+        StockLedger crashed = startLedger(Duration.ofHours(1));
+        promote(crashed);
+        UUID orderId = UUID.randomUUID();
+        reserve(crashed, orderId, 4);
+        crash(crashed);
+        assertThat(reservationCount(orderId)).isZero();
+
+        // When
+        StockLedger restarted = startLedger(Duration.ofHours(1));
+
+        // Then
+        assertThat(reservationCount(orderId)).isEqualTo(1);
+        assertThat(available()).isEqualTo(STOCK - 4);
+        assertThat(reserved()).isEqualTo(4);
+
+        stop(restarted);
+        assertThat(available()).isEqualTo(STOCK - 4);
+    }
+
+    private StockLedger startLedger(Duration flushInterval) {
+        StockLedgerProperties properties = new StockLedgerProperties();
+        properties.setEnabled(true);
+        properties.setShards(2);
+        properties.setStripes(4);
+        properties.setAllotmentSize(ALLOTMENT);
+        properties.setRefillThreshold(0);
+        properties.setPromoteThreshold(3);
+        properties.setCooldownIntervals(Integer.MAX_VALUE);
+        properties.setDetectionInterval(Duration.ofMillis(50));
+        properties.setFlushInterval(flushInterval);
+        properties.setJournalDir(journalDir.toString());
+
+        StockLedger ledger = new StockLedger(jdbcTemplate, transactionManager, properties, new SimpleMeterRegistry());
+        ledger.init();
+        ledger.start();
+        started.add(ledger);
+        return ledger;
+    }
+
+    private void promote(StockLedger ledger) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            for (int i = 0; i < 3; i++) {
+                ledger.recordAttempt(productId);
+            }
+            return ledger.hotCounter(productId) != null;
+        });
+    }
+
+    private void reserve(StockLedger ledger, UUID orderId, int quantity) {
+        transactionTemplate.executeWithoutResult(status -> reserveInTransaction(ledger, orderId, quantity));
+    }
+
+    /**
+     * What the ledger repositories do for a hot product.
+     */
+    private void reserveInTransaction(StockLedger ledger, UUID orderId, int quantity) {
+        StripedStockCounter counter = ledger.hotCounter(productId);
+        assertThat(ledger.tryReserve(counter, quantity)).isTrue();
+        LedgerTransaction transaction = LedgerTransaction.current(ledger);
+        transaction.acquired(productId, counter, quantity);
+        transaction.reserved(new PendingReservation(UUID.randomUUID(), orderId, productId, quantity, expiresAt));
+    }
+
+    private void stop(StockLedger ledger) {
+        ledger.stop();
+        started.remove(ledger);
+    }
+
+    /**
+     * Stop the background work without any of the shutdown steps.
+     */
+    private void crash(StockLedger ledger) {
+        ((ScheduledExecutorService) ReflectionTestUtils.getField(ledger, "maintenance")).shutdownNow();
+    }
+
+    private int available() {
+        return jdbcTemplate.queryForObject("SELECT quantity_available FROM inventory_items WHERE product_id = ?",
+                Integer.class, UuidUtils.toBytes(productId));
+    }
+
+    private int reserved() {
+        return jdbcTemplate.queryForObject("SELECT quantity_reserved FROM inventory_items WHERE product_id = ?",
+                Integer.class, UuidUtils.toBytes(productId));
+    }
+
+    private int reservationCount(UUID orderId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stock_reservations WHERE order_id = ?",
+                Integer.class, UuidUtils.toBytes(orderId));
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StockLedgerJournal Tests")
+class StockLedgerJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private StockLedgerJournal journal;
+    private UUID productId;
+    private Instant expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        journal = new StockLedgerJournal(directory);
+        productId = UUID.randomUUID();
+        expiresAt = Instant.now().plus(15, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    @Test
+    @DisplayName("Should recover nothing when there is no journal")
+    void replay_WhenNoJournal_ShouldRecoverNothing() {
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).isEmpty();
+        assertThat(recovered.getUnflushed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should recover held units and unflushed reservations")
+    void replay_ShouldRecoverHeldUnitsAndUnflushedReservations() {
+        // Given
+        PendingReservation flushed = reservation(3);
+        PendingReservation unflushed = reservation(2);
+        journal.open();
+        journal.allotted(productId, 20);
+        journal.granted(List.of(flushed, unflushed));
+        journal.flushed(List.of(flushed));
+        journal.returned(productId, 5);
+        journal.close();
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).containsExactly(Map.entry(productId, 10));
+        assertThat(recovered.getUnflushed()).containsExactly(unflushed);
+    }
+
+    @Test
+    @DisplayName("Should give the units of a voided grant back to the held count")
+    void replay_WhenGrantVoided_ShouldHoldUnitsAgain() {
+        // Given
+        PendingReservation voided = reservation(4);
+        journal.open();
+        journal.allotted(productId, 10);
+        journal.granted(List.of(voided));
+        journal.voided(List.of(voided));
+        journal.close();
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).containsExactly(Map.entry(productId, 10));
+        assertThat(recovered.getUnflushed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore a void of a grant that never reached the journal")
+    void replay_WhenVoidWithoutGrant_ShouldIgnoreIt() {
+        // Given
+        journal.open();
+        journal.allotted(productId, 10);
+        journal.voided(List.of(reservation(4)));
+        journal.close();
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).containsExactly(Map.entry(productId, 10));
+    }
+
+    @Test
+    @DisplayName("Should skip a torn last record")
+    void replay_WhenLastRecordTorn_ShouldKeepEverythingBefore() throws IOException {
+        // Given
+        journal.open();
+        journal.allotted(productId, 10);
+        journal.close();
+        Files.writeString(directory.resolve("stock-ledger.journal"), "R," + UUID.randomUUID() + ",12",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).containsExactly(Map.entry(productId, 10));
+        assertThat(recovered.getUnflushed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should leave products whose units were all returned out of the held count")
+    void replay_WhenAllReturned_ShouldNotHoldProduct() {
+        // Given
+        journal.open();
+        journal.allotted(productId, 10);
+        journal.returned(productId, 10);
+        journal.close();
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replay a compacted journal to the same state")
+    void compact_ShouldReplayToSameState() {
+        // Given
+        PendingReservation unflushed = reservation(2);
+        journal.open();
+        journal.allotted(productId, 50);
+        journal.granted(List.of(reservation(5), unflushed));
+        journal.returned(productId, 3);
+        journal.compact(Map.of(productId, 40), List.of(unflushed));
+        long compactedSize = journal.size();
+        journal.close();
+
+        // When
+        StockLedgerJournal.Recovered recovered = journal.replay();
+
+        // Then
+        assertThat(recovered.getHeldByProduct()).containsExactly(Map.entry(productId, 40));
+        assertThat(recovered.getUnflushed()).containsExactly(unflushed);
+        assertThat(compactedSize).isPositive();
+    }
+
+    private PendingReservation reservation(int quantity) {
+        return new PendingReservation(UUID.randomUUID(), UUID.randomUUID(), productId, quantity, expiresAt);
+    }
+}
@@ -0,0 +1,132 @@
+package com.ecommerce.inventory.infrastructure.ledger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StripedStockCounter Tests")
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("Should spread an allotment over the stripes and count it as held")
+    void addAllotment_ShouldMakeUnitsAvailableAndHeld() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(4);
+
+        // When
+        counter.addAllotment(10);
+
+        // Then
+        assertThat(counter.available()).isEqualTo(10);
+        assertThat(counter.held()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should take a quantity larger than one stripe from several stripes")
+    void tryAcquire_WhenQuantitySpansStripes_ShouldTakeAll() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.addAllotment(10);
+
+        // When
+        boolean acquired = counter.tryAcquire(9);
+
+        // Then
+        assertThat(acquired).isTrue();
+        assertThat(counter.available()).isEqualTo(1);
+        assertThat(counter.held()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should put partially taken units back when the total is not enough")
+    void tryAcquire_WhenNotEnough_ShouldPutUnitsBack() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.addAllotment(5);
+
+        // When
+        boolean acquired = counter.tryAcquire(6);
+
+        // Then
+        assertThat(acquired).isFalse();
+        assertThat(counter.available()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should refuse reservations once closed and hand out what was left")
+    void closeAndDrain_ShouldCloseAndReturnRemainingUnits() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.addAllotment(8);
+        counter.tryAcquire(3);
+
+        // When
+        int drained = counter.closeAndDrain();
+
+        // Then
+        assertThat(drained).isEqualTo(5);
+        assertThat(counter.isOpen()).isFalse();
+        assertThat(counter.available()).isZero();
+        assertThat(counter.tryAcquire(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should track held units through grants, voids and returns")
+    void held_ShouldFollowGrantsVoidsAndReturns() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(2);
+        counter.addAllotment(10);
+
+        // When
+        counter.granted(4);
+        counter.voided(1);
+        counter.returned(2);
+
+        // Then
+        assertThat(counter.held()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should never hand out more units than allotted under concurrent reservations")
+    void tryAcquire_WhenConcurrent_ShouldNotOversell() throws Exception {
+        // Given
+        int threads = 8;
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.addAllotment(1_000);
+        AtomicInteger taken = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (counter.tryAcquire(3)) {
+                    taken.addAndGet(3);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(taken.get()).isLessThanOrEqualTo(1_000);
+        assertThat(taken.get() + counter.available()).isEqualTo(1_000);
+        assertThat(counter.available()).isLessThan(3 * threads + 3);
+    }
+}
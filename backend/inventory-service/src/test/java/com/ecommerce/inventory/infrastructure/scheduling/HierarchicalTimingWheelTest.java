@@ -0,0 +1,143 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A 10 ms tick with 4 slots and 2 levels: level 0 covers 4 ticks, level 1 covers 16 ticks and
+ * anything later waits in the overflow.
+ */
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private HierarchicalTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HierarchicalTimingWheel(10, 4, 2, 0);
+    }
+
+    @Test
+    @DisplayName("Should ask the caller to fire a deadline that already passed")
+    void add_WhenDeadlinePassed_ShouldReturnTrueAndNotTrack() {
+        // Given
+        wheel.advanceTo(50);
+        UUID reservationId = UUID.randomUUID();
+
+        // When
+        boolean due = wheel.add(reservationId, 40);
+
+        // Then
+        assertThat(due).isTrue();
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advanceTo(1_000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fire on the tick of the deadline and not before")
+    void advanceTo_ShouldFireOnExactTick() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 30);
+
+        // When / Then
+        assertThat(wheel.advanceTo(29)).isEmpty();
+        assertThat(wheel.advanceTo(30)).containsExactly(reservationId);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should round a deadline inside a tick up to the next tick")
+    void advanceTo_WhenDeadlineInsideTick_ShouldFireOnNextTick() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 25);
+
+        // When / Then
+        assertThat(wheel.advanceTo(29)).isEmpty();
+        assertThat(wheel.advanceTo(30)).containsExactly(reservationId);
+    }
+
+    @Test
+    @DisplayName("Should cascade an entry from a higher level down to its exact tick")
+    void advanceTo_WhenEntryInHigherLevel_ShouldCascadeAndFireOnTime() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 110);
+
+        // When / Then
+        assertThat(wheel.advanceTo(80)).isEmpty();
+        assertThat(wheel.advanceTo(109)).isEmpty();
+        assertThat(wheel.advanceTo(110)).containsExactly(reservationId);
+    }
+
+    @Test
+    @DisplayName("Should fire an entry on the tick where its higher-level slot comes round")
+    void advanceTo_WhenDeadlineOnSlotBoundary_ShouldFireWhileCascading() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 80);
+
+        // When / Then
+        assertThat(wheel.advanceTo(79)).isEmpty();
+        assertThat(wheel.advanceTo(80)).containsExactly(reservationId);
+    }
+
+    @Test
+    @DisplayName("Should keep a deadline beyond the top level in the overflow until it is in range")
+    void advanceTo_WhenDeadlineBeyondWheel_ShouldFireFromOverflow() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 430);
+
+        // When / Then
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(160)).isEmpty();
+        assertThat(wheel.advanceTo(429)).isEmpty();
+        assertThat(wheel.advanceTo(430)).containsExactly(reservationId);
+    }
+
+    @Test
+    @DisplayName("Should fire everything due when advancing over many ticks at once, in deadline order")
+    void advanceTo_WhenJumpingAhead_ShouldFireAllDueInOrder() {
+        // Given
+        UUID late = UUID.randomUUID();
+        UUID middle = UUID.randomUUID();
+        UUID early = UUID.randomUUID();
+        UUID notYet = UUID.randomUUID();
+        wheel.add(late, 500);
+        wheel.add(middle, 120);
+        wheel.add(early, 20);
+        wheel.add(notYet, 900);
+
+        // When
+        List<UUID> due = wheel.advanceTo(600);
+
+        // Then
+        assertThat(due).containsExactly(early, middle, late);
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should leave an ID that is already tracked at its first deadline")
+    void add_WhenAlreadyTracked_ShouldKeepFirstDeadline() {
+        // Given
+        UUID reservationId = UUID.randomUUID();
+        wheel.add(reservationId, 30);
+
+        // When
+        boolean due = wheel.add(reservationId, 300);
+
+        // Then
+        assertThat(due).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advanceTo(30)).containsExactly(reservationId);
+        assertThat(wheel.advanceTo(300)).isEmpty();
+    }
+}
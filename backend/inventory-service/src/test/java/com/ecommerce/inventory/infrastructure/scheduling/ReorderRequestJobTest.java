@@ -0,0 +1,87 @@
+package com.ecommerce.inventory.infrastructure.scheduling;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.inventory.application.dto.response.RequestReordersResponse;
+import com.ecommerce.inventory.application.usecase.RequestReordersUseCase;
+import com.ecommerce.inventory.config.ReorderProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReorderRequestJob Tests")
+class ReorderRequestJobTest extends BaseUnitTest {
+
+    @Mock
+    private RequestReordersUseCase requestReordersUseCase;
+
+    @Mock
+    private JdbcJobLock jobLock;
+
+    private final ReorderProperties properties = new ReorderProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReorderRequestJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties.setLockAtMostFor(Duration.ofMinutes(30));
+        properties.setLockAtLeastFor(Duration.ofMinutes(2));
+        job = new ReorderRequestJob(requestReordersUseCase, jobLock, properties, meterRegistry);
+        job.init();
+    }
+
+    @Test
+    @DisplayName("should run the use case while holding the job lock")
+    void shouldRunWhileHoldingLock() {
+        // Given
+        when(jobLock.tryLock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(30))).thenReturn(true);
+        when(requestReordersUseCase.execute(properties.getBatchSize()))
+                .thenReturn(RequestReordersResponse.builder().requestedItems(7).publishedEvents(1).build());
+
+        // When
+        job.run();
+
+        // Then
+        InOrder inOrder = inOrder(jobLock, requestReordersUseCase);
+        inOrder.verify(jobLock).tryLock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(30));
+        inOrder.verify(requestReordersUseCase).execute(properties.getBatchSize());
+        inOrder.verify(jobLock).unlock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(2));
+        assertThat(meterRegistry.counter("inventory.reorder.requested").count()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("should skip the run when another instance holds the job lock")
+    void shouldSkipWhenLockHeldElsewhere() {
+        // Given
+        when(jobLock.tryLock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(30))).thenReturn(false);
+
+        // When
+        job.run();
+
+        // Then
+        verifyNoInteractions(requestReordersUseCase);
+        verify(jobLock, never()).unlock(any(), any());
+    }
+
+    @Test
+    @DisplayName("should release the job lock when the use case fails")
+    void shouldReleaseLockWhenUseCaseFails() {
+        // Given
+        when(jobLock.tryLock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(30))).thenReturn(true);
+        when(requestReordersUseCase.execute(anyInt())).thenThrow(new IllegalStateException("boom"));
+
+        // When
+        job.run();
+
+        // Then
+        verify(jobLock).unlock(ReorderRequestJob.LOCK_NAME, Duration.ofMinutes(2));
+    }
+}
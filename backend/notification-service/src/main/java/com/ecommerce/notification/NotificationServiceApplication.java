@@ -2,10 +2,12 @@ package com.ecommerce.notification;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
+@ComponentScan(basePackages = {"com.ecommerce.notification", "com.ecommerce.common.messaging"})
 @EnableJpaAuditing
 @EnableAsync
 public class NotificationServiceApplication {
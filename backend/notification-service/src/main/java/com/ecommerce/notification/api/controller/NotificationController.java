@@ -1,7 +1,9 @@
 package com.ecommerce.notification.api.controller;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.common.response.PageResponse;
+import com.ecommerce.common.response.SliceResponse;
 import com.ecommerce.notification.application.dto.request.SendNotificationRequest;
 import com.ecommerce.notification.application.dto.response.NotificationResponse;
 import com.ecommerce.notification.application.usecase.GetNotificationUseCase;
@@ -10,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -40,9 +43,16 @@ public class NotificationController {
     }
 
     @GetMapping("/user/{userId}")
-    public ResponseEntity<ApiResponse<PageResponse<NotificationResponse>>> getUserNotifications(
+    public ResponseEntity<ApiResponse<?>> getUserNotifications(
             @PathVariable UUID userId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            Slice<NotificationResponse> slice = getNotificationUseCase.getByUserId(userId, KeysetCursor.decode(cursor),
+                    pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(SliceResponse.from(slice,
+                    notification -> new KeysetCursor(notification.getCreatedAt(), notification.getId()))));
+        }
         Page<NotificationResponse> page = getNotificationUseCase.getByUserId(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
@@ -1,8 +1,10 @@
 package com.ecommerce.notification.application.usecase;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.notification.application.dto.response.NotificationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -14,4 +16,9 @@ public interface GetNotificationUseCase {
     NotificationResponse getById(UUID id);
 
     Page<NotificationResponse> getByUserId(UUID userId, Pageable pageable);
+
+    /**
+     * Get a user's notifications newest first, starting after the cursor, without counting the total.
+     */
+    Slice<NotificationResponse> getByUserId(UUID userId, KeysetCursor after, int size);
 }
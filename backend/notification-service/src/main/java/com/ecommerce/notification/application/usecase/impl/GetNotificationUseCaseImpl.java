@@ -1,6 +1,7 @@
 package com.ecommerce.notification.application.usecase.impl;
 
 import com.ecommerce.common.exception.ResourceNotFoundException;
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.notification.application.dto.response.NotificationResponse;
 import com.ecommerce.notification.application.mapper.NotificationMapper;
 import com.ecommerce.notification.application.usecase.GetNotificationUseCase;
@@ -9,6 +10,7 @@ import com.ecommerce.notification.domain.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,4 +39,10 @@ public class GetNotificationUseCaseImpl implements GetNotificationUseCase {
         return notificationRepository.findByUserId(userId, pageable)
                 .map(notificationMapper::toResponse);
     }
+
+    @Override
+    public Slice<NotificationResponse> getByUserId(UUID userId, KeysetCursor after, int size) {
+        return notificationRepository.findByUserId(userId, after, size)
+                .map(notificationMapper::toResponse);
+    }
 }
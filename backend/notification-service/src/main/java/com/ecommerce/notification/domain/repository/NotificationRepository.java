@@ -1,9 +1,11 @@
 package com.ecommerce.notification.domain.repository;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.notification.domain.model.Notification;
 import com.ecommerce.notification.domain.model.NotificationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,6 +19,12 @@ public interface NotificationRepository {
 
     Page<Notification> findByUserId(UUID userId, Pageable pageable);
 
+    /**
+     * Find up to {@code size} of a user's notifications created before the cursor position, newest
+     * first. A null cursor starts from the newest notification. No count query is run.
+     */
+    Slice<Notification> findByUserId(UUID userId, KeysetCursor after, int size);
+
     List<Notification> findByStatus(NotificationStatus status);
 
     List<Notification> findPendingRetries();
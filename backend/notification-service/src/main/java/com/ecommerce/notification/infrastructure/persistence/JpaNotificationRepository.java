@@ -4,7 +4,10 @@ import com.ecommerce.notification.domain.model.NotificationStatus;
 import com.ecommerce.notification.infrastructure.persistence.entity.NotificationJpaEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
@@ -16,6 +19,14 @@ public interface JpaNotificationRepository extends JpaRepository<NotificationJpa
 
     Page<NotificationJpaEntity> findByUserId(UUID userId, Pageable pageable);
 
+    Slice<NotificationJpaEntity> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Pageable pageable);
+
+    @Query("SELECT n FROM NotificationJpaEntity n WHERE n.userId = :userId "
+            + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+            + "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<NotificationJpaEntity> findByUserIdAfter(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                                   @Param("id") UUID id, Pageable pageable);
+
     Page<NotificationJpaEntity> findByStatus(NotificationStatus status, Pageable pageable);
 
     List<NotificationJpaEntity> findByStatusAndRetryCountLessThan(NotificationStatus status, int maxRetries);
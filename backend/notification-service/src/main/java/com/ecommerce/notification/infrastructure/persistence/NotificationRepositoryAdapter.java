@@ -1,12 +1,15 @@
 package com.ecommerce.notification.infrastructure.persistence;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.notification.domain.model.Notification;
 import com.ecommerce.notification.domain.model.NotificationStatus;
 import com.ecommerce.notification.domain.repository.NotificationRepository;
 import com.ecommerce.notification.infrastructure.persistence.entity.NotificationJpaEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -40,6 +43,15 @@ public class NotificationRepositoryAdapter implements NotificationRepository {
         return jpaRepository.findByUserId(userId, pageable).map(mapper::toDomain);
     }
 
+    @Override
+    public Slice<Notification> findByUserId(UUID userId, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        Slice<NotificationJpaEntity> slice = after == null
+                ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : jpaRepository.findByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+        return slice.map(mapper::toDomain);
+    }
+
     @Override
     public List<Notification> findByStatus(NotificationStatus status) {
         return jpaRepository.findByStatus(status, Pageable.unpaged())
@@ -0,0 +1,4 @@
+-- V3: Index notifications by user and creation time
+
+-- A user's notifications are read newest first, by page or by (created_at, id) cursor
+CREATE INDEX idx_notifications_user_created_at ON notifications (user_id, created_at);
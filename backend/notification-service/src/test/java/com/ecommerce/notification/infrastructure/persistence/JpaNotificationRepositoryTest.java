@@ -0,0 +1,119 @@
+package com.ecommerce.notification.infrastructure.persistence;
+
+import com.ecommerce.notification.domain.model.NotificationChannel;
+import com.ecommerce.notification.domain.model.NotificationStatus;
+import com.ecommerce.notification.domain.model.NotificationType;
+import com.ecommerce.notification.infrastructure.persistence.entity.NotificationJpaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages through a user's notifications with the (createdAt, id) seek query, including rows that
+ * share a creation time and fall on both sides of a slice boundary.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaNotificationRepositoryTest.Config.class)
+@DisplayName("JpaNotificationRepository keyset Tests")
+class JpaNotificationRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-05-01T10:00:00Z");
+    private static final PageRequest SLICE = PageRequest.of(0, 2);
+
+    @Autowired
+    private JpaNotificationRepository notificationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    /**
+     * Newest first: 5, then 3, 2 and 1 created at the same time, then 4; 6 belongs to another user.
+     */
+    @BeforeEach
+    void setUp() {
+        persist(1, userId, CREATED_AT);
+        persist(2, userId, CREATED_AT);
+        persist(3, userId, CREATED_AT);
+        persist(4, userId, CREATED_AT.minusSeconds(60));
+        persist(5, userId, CREATED_AT.plusSeconds(60));
+        persist(6, UUID.randomUUID(), CREATED_AT.minusSeconds(30));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should visit each of the user's notifications once, breaking creation time ties by ID")
+    void findByUserIdAfter_ShouldBreakTiesById() {
+        // Given
+        List<UUID> visited = new ArrayList<>();
+        Slice<NotificationJpaEntity> slice =
+                notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, SLICE);
+        slice.forEach(notification -> visited.add(notification.getId()));
+
+        // When
+        while (slice.hasNext()) {
+            NotificationJpaEntity last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = notificationRepository.findByUserIdAfter(userId, last.getCreatedAt(), last.getId(), SLICE);
+            slice.forEach(notification -> visited.add(notification.getId()));
+        }
+
+        // Then
+        assertThat(visited).containsExactly(id(5), id(3), id(2), id(1), id(4));
+    }
+
+    @Test
+    @DisplayName("should resume after the cursor within a group of equal creation times")
+    void findByUserIdAfter_ShouldResumeInsideTie() {
+        // When
+        Slice<NotificationJpaEntity> rest =
+                notificationRepository.findByUserIdAfter(userId, CREATED_AT, id(2), SLICE);
+
+        // Then
+        assertThat(rest.getContent()).extracting(NotificationJpaEntity::getId).containsExactly(id(1), id(4));
+        assertThat(rest.hasNext()).isFalse();
+    }
+
+    private void persist(int n, UUID owner, Instant createdAt) {
+        entityManager.persist(NotificationJpaEntity.builder()
+                .id(id(n))
+                .userId(owner)
+                .type(NotificationType.ORDER_CONFIRMATION)
+                .channel(NotificationChannel.EMAIL)
+                .recipient("user@example.com")
+                .status(NotificationStatus.SENT)
+                .retryCount(0)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    /**
+     * IDs that sort the same way as UUIDs and as the bytes the database compares.
+     */
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+
+    @EntityScan(basePackageClasses = NotificationJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = JpaNotificationRepository.class)
+    static class Config {
+    }
+}
@@ -1,7 +1,9 @@
 package com.ecommerce.order.api.controller;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.common.response.PageResponse;
+import com.ecommerce.common.response.SliceResponse;
 import com.ecommerce.order.application.dto.request.CreateOrderRequest;
 import com.ecommerce.order.application.dto.response.OrderResponse;
 import com.ecommerce.order.application.usecase.CancelOrderUseCase;
@@ -15,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -63,11 +66,21 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Offset pages by default; with a {@code cursor} parameter (empty for the first slice),
+     * cursor-paginated slices without a count query.
+     */
     @GetMapping("/my-orders")
     @Operation(summary = "List current user's orders")
-    public ResponseEntity<ApiResponse<PageResponse<OrderResponse>>> getMyOrders(
+    public ResponseEntity<ApiResponse<?>> getMyOrders(
             @AuthenticationPrincipal UUID userId,  // TODO: Replace with actual UserPrincipal
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            Slice<OrderResponse> slice = getOrderUseCase.listByUser(userId, KeysetCursor.decode(cursor),
+                    pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(toSliceResponse(slice)));
+        }
         Page<OrderResponse> page = getOrderUseCase.listByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
@@ -75,8 +88,13 @@ public class OrderController {
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "List all orders (Admin only)")
-    public ResponseEntity<ApiResponse<PageResponse<OrderResponse>>> listAllOrders(
-            @PageableDefault(size = 20) Pageable pageable) {
+    public ResponseEntity<ApiResponse<?>> listAllOrders(
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            Slice<OrderResponse> slice = getOrderUseCase.listAll(KeysetCursor.decode(cursor), pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(toSliceResponse(slice)));
+        }
         Page<OrderResponse> page = getOrderUseCase.listAll(pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
@@ -125,4 +143,8 @@ public class OrderController {
         OrderResponse response = updateOrderStatusUseCase.deliverOrder(id);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    private static SliceResponse<OrderResponse> toSliceResponse(Slice<OrderResponse> slice) {
+        return SliceResponse.from(slice, order -> new KeysetCursor(order.getCreatedAt(), order.getId()));
+    }
 }
@@ -1,8 +1,10 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.order.application.dto.response.OrderResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -26,8 +28,18 @@ public interface GetOrderUseCase {
      */
     Page<OrderResponse> listByUser(UUID userId, Pageable pageable);
 
+    /**
+     * List a user's orders newest first, starting after the cursor, without counting the total.
+     */
+    Slice<OrderResponse> listByUser(UUID userId, KeysetCursor after, int size);
+
     /**
      * List all orders (admin only).
      */
     Page<OrderResponse> listAll(Pageable pageable);
+
+    /**
+     * List all orders newest first, starting after the cursor (admin only).
+     */
+    Slice<OrderResponse> listAll(KeysetCursor after, int size);
 }
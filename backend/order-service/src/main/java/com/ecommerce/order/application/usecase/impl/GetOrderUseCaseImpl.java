@@ -1,5 +1,6 @@
 package com.ecommerce.order.application.usecase.impl;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.order.application.dto.response.OrderResponse;
 import com.ecommerce.order.application.mapper.OrderMapper;
 import com.ecommerce.order.application.usecase.GetOrderUseCase;
@@ -9,6 +10,7 @@ import com.ecommerce.order.domain.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -53,10 +55,22 @@ public class GetOrderUseCaseImpl implements GetOrderUseCase {
                 .map(orderMapper::toResponse);
     }
 
+    @Override
+    public Slice<OrderResponse> listByUser(UUID userId, KeysetCursor after, int size) {
+        return orderRepository.findByUserId(userId, after, size)
+                .map(orderMapper::toResponse);
+    }
+
     @Override
     public Page<OrderResponse> listAll(Pageable pageable) {
         // TODO: Verify current user is admin
         return orderRepository.findAll(pageable)
                 .map(orderMapper::toResponse);
     }
+
+    @Override
+    public Slice<OrderResponse> listAll(KeysetCursor after, int size) {
+        return orderRepository.findAll(after, size)
+                .map(orderMapper::toResponse);
+    }
 }
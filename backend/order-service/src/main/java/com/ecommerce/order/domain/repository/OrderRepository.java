@@ -1,9 +1,11 @@
 package com.ecommerce.order.domain.repository;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +26,17 @@ public interface OrderRepository {
 
     Page<Order> findByUserId(UUID userId, Pageable pageable);
 
+    /**
+     * Find up to {@code size} orders created before the cursor position, newest first.
+     * A null cursor starts from the newest order. No count query is run.
+     */
+    Slice<Order> findAll(KeysetCursor after, int size);
+
+    /**
+     * Find up to {@code size} of a user's orders after the cursor position, newest first.
+     */
+    Slice<Order> findByUserId(UUID userId, KeysetCursor after, int size);
+
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
 
     Page<Order> findByUserIdAndStatus(UUID userId, OrderStatus status, Pageable pageable);
@@ -4,6 +4,7 @@ import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -28,6 +29,20 @@ public interface JpaOrderRepository extends JpaRepository<Order, UUID> {
 
     Page<Order> findByUserIdAndStatus(UUID userId, OrderStatus status, Pageable pageable);
 
+    Slice<Order> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    @Query("SELECT o FROM Order o WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<Order> findAllAfter(@Param("createdAt") Instant createdAt, @Param("id") UUID id, Pageable pageable);
+
+    Slice<Order> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Pageable pageable);
+
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+            + "ORDER BY o.createdAt DESC, o.id DESC")
+    Slice<Order> findByUserIdAfter(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                   @Param("id") UUID id, Pageable pageable);
+
     @Query("SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC")
     List<Order> findRecentByUserId(@Param("userId") UUID userId, Pageable pageable);
 
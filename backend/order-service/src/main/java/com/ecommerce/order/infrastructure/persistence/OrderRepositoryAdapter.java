@@ -1,11 +1,14 @@
 package com.ecommerce.order.infrastructure.persistence;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -52,6 +55,22 @@ public class OrderRepositoryAdapter implements OrderRepository {
         return jpaRepository.findAll(pageable);
     }
 
+    @Override
+    public Slice<Order> findAll(KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        return after == null
+                ? jpaRepository.findAllByOrderByCreatedAtDescIdDesc(limit)
+                : jpaRepository.findAllAfter(after.getCreatedAt(), after.getId(), limit);
+    }
+
+    @Override
+    public Slice<Order> findByUserId(UUID userId, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        return after == null
+                ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : jpaRepository.findByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+    }
+
     @Override
     public List<Order> findByStatusAndCreatedBefore(OrderStatus status, Instant before) {
         return jpaRepository.findByStatusAndCreatedBefore(status, before);
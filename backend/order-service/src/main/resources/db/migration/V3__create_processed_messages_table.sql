@@ -0,0 +1,11 @@
+-- V3: Create processed messages table for idempotent event consumption
+
+-- Keyed by envelope message ID; event_id catches the same event republished in a new envelope
+CREATE TABLE processed_messages (
+    message_id BINARY(16) NOT NULL PRIMARY KEY,
+    event_id BINARY(16),
+    expires_at TIMESTAMP NOT NULL,
+
+    UNIQUE INDEX idx_processed_messages_event_id (event_id),
+    INDEX idx_processed_messages_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
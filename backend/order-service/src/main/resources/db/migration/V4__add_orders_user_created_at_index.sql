@@ -0,0 +1,4 @@
+-- V4: Index orders by user and creation time
+
+-- A user's order history is read newest first, by page or by (created_at, id) cursor
+CREATE INDEX idx_orders_user_created_at ON orders (user_id, created_at);
@@ -0,0 +1,124 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.domain.model.Order;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages through orders with the (createdAt, id) seek queries, including rows that share a
+ * creation time and fall on both sides of a slice boundary.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaOrderRepositoryTest.Config.class)
+@DisplayName("JpaOrderRepository keyset Tests")
+class JpaOrderRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-05-01T10:00:00Z");
+    private static final PageRequest SLICE = PageRequest.of(0, 2);
+
+    @Autowired
+    private JpaOrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final UUID userId = UUID.randomUUID();
+
+    /**
+     * Newest first: 5, then 3, 2 and 1 created at the same time, then 4; 6 belongs to another user.
+     */
+    @BeforeEach
+    void setUp() {
+        persist(1, userId, CREATED_AT);
+        persist(2, userId, CREATED_AT);
+        persist(3, userId, CREATED_AT);
+        persist(4, userId, CREATED_AT.minusSeconds(60));
+        persist(5, userId, CREATED_AT.plusSeconds(60));
+        persist(6, UUID.randomUUID(), CREATED_AT.minusSeconds(30));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("should visit every order once, breaking creation time ties by ID")
+    void findAllAfter_ShouldBreakTiesById() {
+        // When
+        List<UUID> visited = walk(orderRepository.findAllByOrderByCreatedAtDescIdDesc(SLICE),
+                (createdAt, id) -> orderRepository.findAllAfter(createdAt, id, SLICE));
+
+        // Then
+        assertThat(visited).containsExactly(id(5), id(3), id(2), id(1), id(6), id(4));
+    }
+
+    @Test
+    @DisplayName("should seek within one user's orders only")
+    void findByUserIdAfter_ShouldSeekWithinUser() {
+        // When
+        List<UUID> visited = walk(orderRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, SLICE),
+                (createdAt, id) -> orderRepository.findByUserIdAfter(userId, createdAt, id, SLICE));
+
+        // Then
+        assertThat(visited).containsExactly(id(5), id(3), id(2), id(1), id(4));
+    }
+
+    @Test
+    @DisplayName("should resume after the cursor within a group of equal creation times")
+    void findByUserIdAfter_ShouldResumeInsideTie() {
+        // When
+        Slice<Order> rest = orderRepository.findByUserIdAfter(userId, CREATED_AT, id(2), SLICE);
+
+        // Then
+        assertThat(rest.getContent()).extracting(Order::getId).containsExactly(id(1), id(4));
+        assertThat(rest.hasNext()).isFalse();
+    }
+
+    private List<UUID> walk(Slice<Order> first, BiFunction<Instant, UUID, Slice<Order>> next) {
+        List<UUID> visited = new ArrayList<>();
+        Slice<Order> slice = first;
+        slice.forEach(order -> visited.add(order.getId()));
+        while (slice.hasNext()) {
+            Order last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            slice = next.apply(last.getCreatedAt(), last.getId());
+            slice.forEach(order -> visited.add(order.getId()));
+        }
+        return visited;
+    }
+
+    private void persist(int n, UUID owner, Instant createdAt) {
+        Order order = Order.create(owner, "ORD-" + n, List.of(), null, null);
+        order.setId(id(n));
+        order.setCreatedAt(createdAt);
+        entityManager.persist(order);
+    }
+
+    /**
+     * IDs that sort the same way as UUIDs and as the bytes the database compares.
+     */
+    private static UUID id(int n) {
+        return new UUID(0L, n);
+    }
+
+    @EntityScan(basePackageClasses = Order.class)
+    @EnableJpaRepositories(basePackageClasses = JpaOrderRepository.class)
+    static class Config {
+    }
+}
@@ -2,9 +2,11 @@ package com.ecommerce.payment;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
+@ComponentScan(basePackages = {"com.ecommerce.payment", "com.ecommerce.common.messaging"})
 @EnableJpaAuditing
 public class PaymentServiceApplication {
 
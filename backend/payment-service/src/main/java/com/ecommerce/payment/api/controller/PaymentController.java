@@ -1,7 +1,9 @@
 package com.ecommerce.payment.api.controller;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.common.response.PageResponse;
+import com.ecommerce.common.response.SliceResponse;
 import com.ecommerce.payment.application.dto.request.ProcessPaymentRequest;
 import com.ecommerce.payment.application.dto.request.RefundRequest;
 import com.ecommerce.payment.application.dto.response.PaymentResponse;
@@ -15,6 +17,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -60,9 +63,16 @@ public class PaymentController {
 
     @GetMapping("/my-payments")
     @Operation(summary = "List current user's payments")
-    public ResponseEntity<ApiResponse<PageResponse<PaymentResponse>>> getMyPayments(
+    public ResponseEntity<ApiResponse<?>> getMyPayments(
             @AuthenticationPrincipal UUID userId,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            Slice<PaymentResponse> slice = getPaymentUseCase.listByUser(userId, KeysetCursor.decode(cursor),
+                    pageable.getPageSize());
+            return ResponseEntity.ok(ApiResponse.success(
+                    SliceResponse.from(slice, payment -> new KeysetCursor(payment.getCreatedAt(), payment.getId()))));
+        }
         Page<PaymentResponse> page = getPaymentUseCase.listByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
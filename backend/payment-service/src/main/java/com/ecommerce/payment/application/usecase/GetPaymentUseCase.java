@@ -1,8 +1,10 @@
 package com.ecommerce.payment.application.usecase;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.payment.application.dto.response.PaymentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.UUID;
 
@@ -16,4 +18,9 @@ public interface GetPaymentUseCase {
     PaymentResponse getByOrderId(UUID orderId);
 
     Page<PaymentResponse> listByUser(UUID userId, Pageable pageable);
+
+    /**
+     * List a user's payments newest first, starting after the cursor, without counting the total.
+     */
+    Slice<PaymentResponse> listByUser(UUID userId, KeysetCursor after, int size);
 }
@@ -1,5 +1,6 @@
 package com.ecommerce.payment.application.usecase.impl;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.payment.application.dto.response.PaymentResponse;
 import com.ecommerce.payment.application.mapper.PaymentMapper;
 import com.ecommerce.payment.application.usecase.GetPaymentUseCase;
@@ -9,6 +10,7 @@ import com.ecommerce.payment.domain.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,4 +51,10 @@ public class GetPaymentUseCaseImpl implements GetPaymentUseCase {
         return paymentRepository.findByUserId(userId, pageable)
                 .map(paymentMapper::toResponse);
     }
+
+    @Override
+    public Slice<PaymentResponse> listByUser(UUID userId, KeysetCursor after, int size) {
+        return paymentRepository.findByUserId(userId, after, size)
+                .map(paymentMapper::toResponse);
+    }
 }
@@ -1,9 +1,11 @@
 package com.ecommerce.payment.domain.repository;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.payment.domain.model.Payment;
 import com.ecommerce.payment.domain.model.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +24,12 @@ public interface PaymentRepository {
 
     Page<Payment> findByUserId(UUID userId, Pageable pageable);
 
+    /**
+     * Find up to {@code size} of a user's payments created before the cursor position, newest first.
+     * A null cursor starts from the newest payment. No count query is run.
+     */
+    Slice<Payment> findByUserId(UUID userId, KeysetCursor after, int size);
+
     Page<Payment> findByStatus(PaymentStatus status, Pageable pageable);
 
     List<Payment> findByOrderIdIn(List<UUID> orderIds);
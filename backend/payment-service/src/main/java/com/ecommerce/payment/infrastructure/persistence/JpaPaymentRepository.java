@@ -4,9 +4,13 @@ import com.ecommerce.payment.domain.model.Payment;
 import com.ecommerce.payment.domain.model.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +22,14 @@ public interface JpaPaymentRepository extends JpaRepository<Payment, UUID> {
 
     Page<Payment> findByUserId(UUID userId, Pageable pageable);
 
+    Slice<Payment> findByUserIdOrderByCreatedAtDescIdDesc(UUID userId, Pageable pageable);
+
+    @Query("SELECT p FROM Payment p WHERE p.userId = :userId "
+            + "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Payment> findByUserIdAfter(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                     @Param("id") UUID id, Pageable pageable);
+
     Page<Payment> findByStatus(PaymentStatus status, Pageable pageable);
 
     List<Payment> findByOrderIdIn(List<UUID> orderIds);
@@ -1,11 +1,14 @@
 package com.ecommerce.payment.infrastructure.persistence;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.payment.domain.model.Payment;
 import com.ecommerce.payment.domain.model.PaymentStatus;
 import com.ecommerce.payment.domain.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -38,6 +41,14 @@ public class PaymentRepositoryAdapter implements PaymentRepository {
         return jpaRepository.findByUserId(userId, pageable);
     }
 
+    @Override
+    public Slice<Payment> findByUserId(UUID userId, KeysetCursor after, int size) {
+        Pageable limit = PageRequest.of(0, size);
+        return after == null
+                ? jpaRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : jpaRepository.findByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+    }
+
     @Override
     public Page<Payment> findByStatus(PaymentStatus status, Pageable pageable) {
         return jpaRepository.findByStatus(status, pageable);
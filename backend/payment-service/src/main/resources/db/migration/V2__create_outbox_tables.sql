@@ -0,0 +1,44 @@
+-- V2: Create transactional outbox tables
+
+-- Domain events written in the same transaction as the aggregate, relayed to SNS
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    shard SMALLINT NOT NULL,
+    event_id BINARY(16) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id BINARY(16),
+    aggregate_type VARCHAR(100),
+    correlation_id VARCHAR(100),
+    topic VARCHAR(255) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+
+    INDEX idx_outbox_events_shard_id (shard, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Events SNS rejected for good or that failed every relay attempt, moved out of the way of
+-- their shard; copy a row back into outbox_events to relay it again
+CREATE TABLE outbox_dead_letters (
+    id BIGINT NOT NULL PRIMARY KEY,
+    shard SMALLINT NOT NULL,
+    event_id BINARY(16) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id BINARY(16),
+    aggregate_type VARCHAR(100),
+    correlation_id VARCHAR(100),
+    topic VARCHAR(255) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(1000),
+    failed_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- One lease row per shard; a relay instance must hold the lease to publish the shard
+CREATE TABLE outbox_leases (
+    shard SMALLINT NOT NULL PRIMARY KEY,
+    owner VARCHAR(100),
+    leased_until TIMESTAMP(6) NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,4 @@
+-- V4: Index payments by user and creation time
+
+-- A user's payment history is read newest first, by page or by (created_at, id) cursor
+CREATE INDEX idx_payments_user_created_at ON payments (user_id, created_at);
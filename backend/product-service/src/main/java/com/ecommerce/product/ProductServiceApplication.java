@@ -3,9 +3,13 @@ package com.ecommerce.product;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.ecommerce.product", "com.ecommerce.common"})
+@EnableJpaAuditing
+@EnableScheduling
 public class ProductServiceApplication {
 
     public static void main(String[] args) {
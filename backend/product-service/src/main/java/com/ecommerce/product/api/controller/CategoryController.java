@@ -1,12 +1,13 @@
 package com.ecommerce.product.api.controller;
 
 import com.ecommerce.common.response.ApiResponse;
+import com.ecommerce.common.web.HttpCacheable;
+import com.ecommerce.product.application.cache.CategoryTree;
 import com.ecommerce.product.application.dto.request.CreateCategoryRequest;
 import com.ecommerce.product.application.dto.response.CategoryResponse;
-import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.usecase.GetCategoriesUseCase;
+import com.ecommerce.product.application.usecase.ManageCategoryUseCase;
 import com.ecommerce.product.domain.exception.CategoryNotFoundException;
-import com.ecommerce.product.domain.model.Category;
-import com.ecommerce.product.domain.repository.CategoryRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -22,54 +23,61 @@ import java.util.UUID;
 
 /**
  * REST controller for category management.
+ *
+ * Reads are answered from the in-memory category tree snapshot and carry its ETag; a request
+ * whose If-None-Match still matches gets a 304 without a body. They are public, so browsers and
+ * the CDN may cache them.
  */
 @RestController
 @RequestMapping("/api/v1/categories")
 @RequiredArgsConstructor
 @Tag(name = "Categories", description = "Category management endpoints")
+@HttpCacheable
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
-    private final CategoryMapper categoryMapper;
+    private final GetCategoriesUseCase getCategoriesUseCase;
+    private final ManageCategoryUseCase manageCategoryUseCase;
 
     @GetMapping
     @Operation(summary = "List all categories")
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> listCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponseList(categories)));
+        CategoryTree tree = getCategoriesUseCase.getTree();
+        return ResponseEntity.ok().eTag(tree.getEtag()).body(ApiResponse.success(tree.getCategories()));
     }
 
     @GetMapping("/tree")
     @Operation(summary = "Get category tree (root categories with children)")
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategoryTree() {
-        List<Category> rootCategories = categoryRepository.findRootCategories();
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponseList(rootCategories)));
+        CategoryTree tree = getCategoriesUseCase.getTree();
+        return ResponseEntity.ok().eTag(tree.getEtag()).body(ApiResponse.success(tree.getRoots()));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get category by ID")
     public ResponseEntity<ApiResponse<CategoryResponse>> getCategory(@PathVariable UUID id) {
-        Category category = categoryRepository.findById(id)
+        CategoryTree tree = getCategoriesUseCase.getTree();
+        CategoryResponse category = tree.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException(id));
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponse(category)));
+        return ResponseEntity.ok().eTag(tree.getEtag()).body(ApiResponse.success(category));
     }
 
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Get category by slug")
     public ResponseEntity<ApiResponse<CategoryResponse>> getCategoryBySlug(@PathVariable String slug) {
-        Category category = categoryRepository.findBySlug(slug)
+        CategoryTree tree = getCategoriesUseCase.getTree();
+        CategoryResponse category = tree.findBySlug(slug)
                 .orElseThrow(() -> new CategoryNotFoundException(slug));
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponse(category)));
+        return ResponseEntity.ok().eTag(tree.getEtag()).body(ApiResponse.success(category));
     }
 
     @GetMapping("/{id}/children")
     @Operation(summary = "Get subcategories of a category")
     public ResponseEntity<ApiResponse<List<CategoryResponse>>> getSubcategories(@PathVariable UUID id) {
-        if (categoryRepository.findById(id).isEmpty()) {
+        CategoryTree tree = getCategoriesUseCase.getTree();
+        if (tree.findById(id).isEmpty()) {
             throw new CategoryNotFoundException(id);
         }
-        List<Category> children = categoryRepository.findByParentId(id);
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponseList(children)));
+        return ResponseEntity.ok().eTag(tree.getEtag()).body(ApiResponse.success(tree.getChildren(id)));
     }
 
     @PostMapping
@@ -78,19 +86,8 @@ public class CategoryController {
     @Operation(summary = "Create a new category", description = "Admin only")
     public ResponseEntity<ApiResponse<CategoryResponse>> createCategory(
             @Valid @RequestBody CreateCategoryRequest request) {
-
-        Category category = categoryMapper.toEntity(request);
-        category.setId(UUID.randomUUID());
-
-        if (request.getParentId() != null) {
-            Category parent = categoryRepository.findById(request.getParentId())
-                    .orElseThrow(() -> new CategoryNotFoundException(request.getParentId()));
-            category.setParent(parent);
-        }
-
-        Category saved = categoryRepository.save(category);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success(categoryMapper.toResponse(saved)));
+        CategoryResponse response = manageCategoryUseCase.create(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
     }
 
     @PutMapping("/{id}")
@@ -100,27 +97,8 @@ public class CategoryController {
     public ResponseEntity<ApiResponse<CategoryResponse>> updateCategory(
             @PathVariable UUID id,
             @Valid @RequestBody CreateCategoryRequest request) {
-
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
-
-        category.setName(request.getName());
-        category.setSlug(request.getSlug());
-        category.setDescription(request.getDescription());
-        category.setImageUrl(request.getImageUrl());
-
-        if (request.getDisplayOrder() != null) {
-            category.setDisplayOrder(request.getDisplayOrder());
-        }
-
-        if (request.getParentId() != null && !request.getParentId().equals(category.getId())) {
-            Category parent = categoryRepository.findById(request.getParentId())
-                    .orElseThrow(() -> new CategoryNotFoundException(request.getParentId()));
-            category.setParent(parent);
-        }
-
-        Category saved = categoryRepository.save(category);
-        return ResponseEntity.ok(ApiResponse.success(categoryMapper.toResponse(saved)));
+        CategoryResponse response = manageCategoryUseCase.update(id, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @DeleteMapping("/{id}")
@@ -128,10 +106,7 @@ public class CategoryController {
     @SecurityRequirement(name = "bearerAuth")
     @Operation(summary = "Delete a category", description = "Admin only")
     public ResponseEntity<ApiResponse<Void>> deleteCategory(@PathVariable UUID id) {
-        if (categoryRepository.findById(id).isEmpty()) {
-            throw new CategoryNotFoundException(id);
-        }
-        categoryRepository.deleteById(id);
+        manageCategoryUseCase.delete(id);
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 }
@@ -1,13 +1,22 @@
 package com.ecommerce.product.api.controller;
 
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.common.response.ApiResponse;
 import com.ecommerce.common.response.PageResponse;
+import com.ecommerce.common.response.SliceResponse;
+import com.ecommerce.common.web.HttpCacheable;
 import com.ecommerce.product.application.dto.request.CreateProductRequest;
 import com.ecommerce.product.application.dto.request.UpdateProductRequest;
 import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.dto.response.ProductSearchResponse;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
+import com.ecommerce.product.application.dto.response.SuggestionResponse;
 import com.ecommerce.product.application.usecase.CreateProductUseCase;
 import com.ecommerce.product.application.usecase.GetProductUseCase;
 import com.ecommerce.product.application.usecase.ListProductsUseCase;
+import com.ecommerce.product.application.usecase.SearchProductsUseCase;
+import com.ecommerce.product.application.usecase.SuggestProductsUseCase;
 import com.ecommerce.product.domain.model.ProductStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -16,6 +25,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,31 +38,48 @@ import java.util.UUID;
 /**
  * REST controller for product management.
  * Delegates to use cases for business logic.
+ *
+ * Reads are public, so browsers and the CDN may cache them; they carry an ETag derived from
+ * their content, and a request whose If-None-Match still matches gets a 304 without a body.
  */
 @RestController
 @RequestMapping("/api/v1/products")
 @RequiredArgsConstructor
 @Tag(name = "Products", description = "Product management endpoints")
+@HttpCacheable
 public class ProductController {
 
     private final CreateProductUseCase createProductUseCase;
     private final GetProductUseCase getProductUseCase;
     private final ListProductsUseCase listProductsUseCase;
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final SuggestProductsUseCase suggestProductsUseCase;
     // TODO: Add UpdateProductUseCase, DeleteProductUseCase, PublishProductUseCase
 
+    /**
+     * Offset pages by default. With a {@code cursor} parameter (empty for the first slice) the
+     * listing comes as cursor-paginated slices instead, newest first and without a count query.
+     * A category listing includes its subcategories' products and can be narrowed by status.
+     */
     @GetMapping
-    @Operation(summary = "List all products with pagination")
-    public ResponseEntity<ApiResponse<PageResponse<ProductResponse>>> listProducts(
+    @Operation(summary = "List all products with page or cursor pagination")
+    public ResponseEntity<ApiResponse<?>> listProducts(
             @PageableDefault(size = 20) Pageable pageable,
             @RequestParam(required = false) ProductStatus status,
             @RequestParam(required = false) UUID categoryId,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String cursor) {
 
-        Page<ProductResponse> page;
-        if (status != null) {
+        if (cursor != null) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    listProductSlice(status, categoryId, search, KeysetCursor.decode(cursor), pageable.getPageSize())));
+        }
+
+        Page<ProductSummaryResponse> page;
+        if (categoryId != null) {
+            page = listProductsUseCase.listByCategory(categoryId, status, pageable);
+        } else if (status != null) {
             page = listProductsUseCase.listByStatus(status, pageable);
-        } else if (categoryId != null) {
-            page = listProductsUseCase.listByCategory(categoryId, pageable);
         } else if (search != null && !search.isBlank()) {
             page = listProductsUseCase.search(search, pageable);
         } else {
@@ -62,6 +89,26 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.from(page)));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search products by relevance, with category and brand counts")
+    public ResponseEntity<ApiResponse<ProductSearchResponse>> searchProducts(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String brand,
+            @PageableDefault(size = 20) Pageable pageable) {
+        ProductSearchResponse response = searchProductsUseCase.search(q, category, brand, pageable);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/suggestions")
+    @Operation(summary = "Suggest product names, brands and categories completing the input")
+    public ResponseEntity<ApiResponse<List<SuggestionResponse>>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<SuggestionResponse> suggestions = suggestProductsUseCase.suggest(q, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable UUID id) {
@@ -107,4 +154,20 @@ public class ProductController {
     //
     // @DeleteMapping("/{id}")
     // public ResponseEntity<ApiResponse<Void>> deleteProduct(@PathVariable UUID id)
+
+    private SliceResponse<ProductSummaryResponse> listProductSlice(ProductStatus status, UUID categoryId,
+                                                                   String search, KeysetCursor after, int size) {
+        Slice<ProductSummaryResponse> slice;
+        if (categoryId != null) {
+            slice = listProductsUseCase.listByCategory(categoryId, status, after, size);
+        } else if (status != null) {
+            slice = listProductsUseCase.listByStatus(status, after, size);
+        } else if (search != null && !search.isBlank()) {
+            // Search results are ranked by relevance, which has no stable position to resume from
+            throw new ValidationException("cursor", "Cursor pagination is not supported for search");
+        } else {
+            slice = listProductsUseCase.list(after, size);
+        }
+        return SliceResponse.from(slice, product -> new KeysetCursor(product.getCreatedAt(), product.getId()));
+    }
 }
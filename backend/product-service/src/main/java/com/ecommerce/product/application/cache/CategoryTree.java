@@ -0,0 +1,90 @@
+package com.ecommerce.product.application.cache;
+
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the whole category tree.
+ *
+ * Categories are held in tree order, each followed by its subtree, with their full paths and
+ * children resolved, and with the IDs of every category's subtree precomputed. The ETag
+ * identifies the snapshot's content, so clients can revalidate what they have for free.
+ * The responses are shared by every reader and must not be modified.
+ */
+@Getter
+public class CategoryTree {
+
+    private final List<CategoryResponse> categories;
+    private final List<CategoryResponse> roots;
+    private final String etag;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, CategoryResponse> byId;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CategoryResponse> bySlug;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, List<CategoryResponse>> childrenById;
+    @Getter(AccessLevel.NONE)
+    private final Map<UUID, Set<UUID>> subtreeIds;
+
+    /**
+     * @param categories every category, in tree order
+     * @param subtreeIds every category's ID mapped to its own and its descendants' IDs
+     * @param etag       identifier of the snapshot's content
+     */
+    public CategoryTree(List<CategoryResponse> categories, Map<UUID, Set<UUID>> subtreeIds, String etag) {
+        this.categories = List.copyOf(categories);
+        this.etag = etag;
+        this.byId = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::getId, Function.identity()));
+        this.bySlug = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::getSlug, Function.identity()));
+        this.subtreeIds = Map.copyOf(subtreeIds);
+
+        List<CategoryResponse> rootList = new ArrayList<>();
+        Map<UUID, List<CategoryResponse>> children = new LinkedHashMap<>();
+        for (CategoryResponse category : categories) {
+            if (category.getParentId() == null) {
+                rootList.add(category);
+            } else {
+                children.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+        this.roots = List.copyOf(rootList);
+        this.childrenById = children.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    public Optional<CategoryResponse> findById(UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<CategoryResponse> findBySlug(String slug) {
+        return Optional.ofNullable(bySlug.get(slug));
+    }
+
+    /**
+     * Get the direct children of a category, in display order.
+     */
+    public List<CategoryResponse> getChildren(UUID id) {
+        return childrenById.getOrDefault(id, List.of());
+    }
+
+    /**
+     * Get the IDs of a category and all categories below it; empty for an unknown category.
+     */
+    public Set<UUID> getSubtreeIds(UUID id) {
+        return subtreeIds.getOrDefault(id, Set.of());
+    }
+}
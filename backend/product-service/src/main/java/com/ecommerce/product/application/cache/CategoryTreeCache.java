@@ -0,0 +1,23 @@
+package com.ecommerce.product.application.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the current category tree snapshot in memory.
+ *
+ * A snapshot is rebuilt after a category changes, on this instance or another, and once it
+ * reaches its maximum age. One caller rebuilds at a time while the others keep being served
+ * the previous snapshot, which the new one replaces in a single swap.
+ */
+public interface CategoryTreeCache {
+
+    /**
+     * Get the current snapshot, building a new one with the loader if it is missing or stale.
+     */
+    CategoryTree get(Supplier<CategoryTree> loader);
+
+    /**
+     * Mark the current snapshot stale, so the next read rebuilds it.
+     */
+    void invalidate();
+}
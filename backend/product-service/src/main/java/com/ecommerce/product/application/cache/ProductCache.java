@@ -0,0 +1,38 @@
+package com.ecommerce.product.application.cache;
+
+import com.ecommerce.product.application.dto.response.ProductResponse;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the catalog's read models: products by ID and SKU, and the featured list.
+ *
+ * Loads are coalesced per key, so a miss on a popular product reaches the database once per
+ * instance rather than once per request. A loader that throws caches nothing and its exception
+ * reaches the caller. Entries are evicted when their product is updated or its stock changes;
+ * other changes show up when they expire.
+ */
+public interface ProductCache {
+
+    /**
+     * Get a product by ID, loading it on a miss.
+     */
+    ProductResponse getById(UUID id, Supplier<ProductResponse> loader);
+
+    /**
+     * Get a product by SKU, loading it on a miss.
+     */
+    ProductResponse getBySku(String sku, Supplier<ProductResponse> loader);
+
+    /**
+     * Get the featured products, loading them on a miss.
+     */
+    List<ProductResponse> getFeatured(Supplier<List<ProductResponse>> loader);
+
+    /**
+     * Evict a product's entries, and the featured list it may be part of.
+     */
+    void evict(UUID productId, String sku);
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.product.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response DTO for a page of product search results.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResponse {
+
+    private List<ProductResponse> products;
+    private long totalHits;
+    private int page;
+    private int size;
+
+    /**
+     * Counts of all matches per category and brand, keyed by facet name.
+     */
+    private Map<String, List<FacetCount>> facets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ecommerce.product.application.dto.response;
+
+import com.ecommerce.product.domain.model.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Response DTO for a product in a listing.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryResponse {
+
+    private UUID id;
+    private String sku;
+    private String name;
+    private BigDecimal price;
+    private BigDecimal compareAtPrice;
+    private ProductResponse.CategorySummary category;
+    private String brand;
+    private ProductStatus status;
+    private Integer stockQuantity;
+    private Boolean featured;
+    private String imageUrl;
+    private Instant createdAt;
+    private Instant updatedAt;
+}
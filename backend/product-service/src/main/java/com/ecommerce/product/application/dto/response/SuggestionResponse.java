@@ -0,0 +1,20 @@
+package com.ecommerce.product.application.dto.response;
+
+import com.ecommerce.product.domain.model.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for an autocomplete suggestion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+
+    private String text;
+    private SuggestionType type;
+}
@@ -30,6 +30,17 @@ public interface CategoryMapper {
 
     List<CategoryResponse> toResponseList(List<Category> categories);
 
+    /**
+     * Map a category for the tree snapshot, which resolves the parent name, children and full
+     * path from the other categories instead of lazily loading them.
+     */
+    @Named("treeNode")
+    @Mapping(target = "parentId", source = "parent.id")
+    @Mapping(target = "parentName", ignore = true)
+    @Mapping(target = "children", ignore = true)
+    @Mapping(target = "fullPath", ignore = true)
+    CategoryResponse toTreeNode(Category category);
+
     default List<CategoryResponse.CategorySummary> mapChildren(Category category) {
         if (category.getChildren() == null || category.getChildren().isEmpty()) {
             return List.of();
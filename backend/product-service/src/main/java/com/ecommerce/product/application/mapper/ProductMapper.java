@@ -2,10 +2,15 @@ package com.ecommerce.product.application.mapper;
 
 import com.ecommerce.product.application.dto.request.CreateProductRequest;
 import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
+import com.ecommerce.product.application.search.ProductSearchDocument;
 import com.ecommerce.product.domain.model.Category;
 import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.domain.model.ProductSummary;
 import org.mapstruct.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -27,6 +32,14 @@ public interface ProductMapper {
 
     List<ProductResponse> toResponseList(List<Product> products);
 
+    @Mapping(target = "category", source = ".", qualifiedByName = "summaryCategory")
+    ProductSummaryResponse toSummaryResponse(ProductSummary summary);
+
+    List<ProductSummaryResponse> toSummaryResponseList(List<ProductSummary> summaries);
+
+    @Mapping(target = "categoryPath", source = "category", qualifiedByName = "categoryPath")
+    ProductSearchDocument toSearchDocument(Product product);
+
     @Named("categoryToSummary")
     default ProductResponse.CategorySummary categoryToSummary(Category category) {
         if (category == null) {
@@ -38,4 +51,29 @@ public interface ProductMapper {
                 .slug(category.getSlug())
                 .build();
     }
+
+    @Named("summaryCategory")
+    default ProductResponse.CategorySummary summaryCategory(ProductSummary summary) {
+        if (summary.getCategoryId() == null) {
+            return null;
+        }
+        return ProductResponse.CategorySummary.builder()
+                .id(summary.getCategoryId())
+                .name(summary.getCategoryName())
+                .slug(summary.getCategorySlug())
+                .build();
+    }
+
+    /**
+     * Names of the category and its ancestors, root first.
+     */
+    @Named("categoryPath")
+    default List<String> categoryPath(Category category) {
+        List<String> path = new ArrayList<>();
+        for (Category current = category; current != null; current = current.getParent()) {
+            path.add(current.getName());
+        }
+        Collections.reverse(path);
+        return path;
+    }
 }
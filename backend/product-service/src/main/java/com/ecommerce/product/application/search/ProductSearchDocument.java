@@ -0,0 +1,27 @@
+package com.ecommerce.product.application.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The searchable content of a product.
+ */
+@Value
+@Builder
+public class ProductSearchDocument {
+
+    UUID id;
+    String name;
+    String description;
+    String brand;
+    Set<String> tags;
+
+    /**
+     * Category names from the root category down to the product's own.
+     */
+    List<String> categoryPath;
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.product.application.search;
+
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A page of search results with the facet counts of all matches.
+ */
+@Value
+public class ProductSearchHits {
+
+    public static final String CATEGORY_FACET = "category";
+    public static final String BRAND_FACET = "brand";
+
+    /**
+     * IDs of the products on the requested page, best match first.
+     */
+    List<UUID> productIds;
+
+    long totalHits;
+
+    /**
+     * Match counts per facet value, keyed by facet name and ordered by count.
+     */
+    Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.product.application.search;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text index of the product catalog.
+ *
+ * The index is a derived copy of the products table: it is updated as products change and
+ * rebuilt from scratch periodically, so a lost update only lasts until the next rebuild.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * Search the index, ranked by relevance.
+     */
+    ProductSearchHits search(ProductSearchQuery query);
+
+    /**
+     * Add or replace the given products' documents and make them searchable.
+     */
+    void upsert(List<ProductSearchDocument> documents);
+
+    /**
+     * Remove the given products' documents, if there are any, and make the removal searchable.
+     */
+    void delete(Collection<UUID> productIds);
+
+    /**
+     * Start a full rebuild. Documents upserted from now on belong to the returned generation.
+     */
+    long startRebuild();
+
+    /**
+     * Finish a full rebuild by removing the documents not upserted since it started, i.e.
+     * those of products that no longer exist.
+     */
+    void finishRebuild(long generation);
+
+    /**
+     * Point in time up to which product changes are known to be in the durable index.
+     *
+     * @return the watermark of the last commit, or null if the index was never committed
+     */
+    Instant getWatermark();
+
+    /**
+     * Make the index durable, recording the given watermark with it.
+     */
+    void commit(Instant watermark);
+}
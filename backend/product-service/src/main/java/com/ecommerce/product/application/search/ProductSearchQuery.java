@@ -0,0 +1,31 @@
+package com.ecommerce.product.application.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A product search: free text, optionally narrowed to a category and brand.
+ */
+@Value
+@Builder
+public class ProductSearchQuery {
+
+    /**
+     * Words to match; every word must match a field, the last one also as a prefix.
+     * Blank matches every product.
+     */
+    String text;
+
+    /**
+     * Name of the product's own category to narrow to, or null.
+     */
+    String category;
+
+    /**
+     * Brand to narrow to, or null.
+     */
+    String brand;
+
+    int offset;
+    int limit;
+}
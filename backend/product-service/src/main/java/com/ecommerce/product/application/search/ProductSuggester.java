@@ -0,0 +1,26 @@
+package com.ecommerce.product.application.search;
+
+import com.ecommerce.product.domain.model.Suggestion;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * In-memory autocomplete over product names, brands and category names.
+ */
+public interface ProductSuggester {
+
+    /**
+     * Suggest completions of the given input, heaviest first. The input matches the start
+     * of a suggestion or of any word in it, ignoring case.
+     */
+    List<Suggestion> suggest(String input, int limit);
+
+    /**
+     * Build a new set of suggestions and replace the current one with it. Suggestions with the
+     * same text and type are merged, adding up their weights.
+     *
+     * @return the number of distinct suggestions
+     */
+    int rebuild(Iterator<Suggestion> suggestions);
+}
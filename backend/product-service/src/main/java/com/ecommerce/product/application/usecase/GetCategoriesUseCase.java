@@ -0,0 +1,14 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.product.application.cache.CategoryTree;
+
+/**
+ * Use case for reading categories.
+ */
+public interface GetCategoriesUseCase {
+
+    /**
+     * Get the current snapshot of the category tree.
+     */
+    CategoryTree getTree();
+}
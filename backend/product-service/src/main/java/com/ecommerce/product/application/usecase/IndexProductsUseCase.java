@@ -0,0 +1,30 @@
+package com.ecommerce.product.application.usecase;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Use case for keeping the product search index in line with the catalog.
+ */
+public interface IndexProductsUseCase {
+
+    /**
+     * Index the given products as they are now, removing those that no longer exist.
+     */
+    void index(Collection<UUID> productIds);
+
+    /**
+     * Index the products changed since the index was last committed, then commit it.
+     * Rebuilds the index if it was never committed.
+     *
+     * @return the number of products indexed
+     */
+    int syncChanges();
+
+    /**
+     * Index every product and drop the documents of products that no longer exist.
+     *
+     * @return the number of products indexed
+     */
+    int rebuild();
+}
@@ -1,37 +1,58 @@
 package com.ecommerce.product.application.usecase;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
 import com.ecommerce.product.domain.model.ProductStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
 
 /**
  * Use case for listing products.
+ *
+ * Listings return product summaries with only what a listing card shows; featured products
+ * come with their full details.
  */
 public interface ListProductsUseCase {
 
     /**
      * List all products with pagination.
      */
-    Page<ProductResponse> list(Pageable pageable);
+    Page<ProductSummaryResponse> list(Pageable pageable);
 
     /**
      * List products by status.
      */
-    Page<ProductResponse> listByStatus(ProductStatus status, Pageable pageable);
+    Page<ProductSummaryResponse> listByStatus(ProductStatus status, Pageable pageable);
 
     /**
-     * List products by category.
+     * List products in a category or any of its subcategories, with the given status unless it is null.
      */
-    Page<ProductResponse> listByCategory(UUID categoryId, Pageable pageable);
+    Page<ProductSummaryResponse> listByCategory(UUID categoryId, ProductStatus status, Pageable pageable);
+
+    /**
+     * List products newest first, starting after the cursor, without counting the total.
+     */
+    Slice<ProductSummaryResponse> list(KeysetCursor after, int size);
+
+    /**
+     * List products by status, newest first, starting after the cursor.
+     */
+    Slice<ProductSummaryResponse> listByStatus(ProductStatus status, KeysetCursor after, int size);
+
+    /**
+     * List products in a category or any of its subcategories, newest first, starting after the cursor.
+     */
+    Slice<ProductSummaryResponse> listByCategory(UUID categoryId, ProductStatus status, KeysetCursor after, int size);
 
     /**
      * Search products by name.
      */
-    Page<ProductResponse> search(String query, Pageable pageable);
+    Page<ProductSummaryResponse> search(String query, Pageable pageable);
 
     /**
      * Get featured products.
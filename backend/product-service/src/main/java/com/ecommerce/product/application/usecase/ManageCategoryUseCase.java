@@ -0,0 +1,27 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.product.application.dto.request.CreateCategoryRequest;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+
+import java.util.UUID;
+
+/**
+ * Use case for creating, updating and deleting categories.
+ */
+public interface ManageCategoryUseCase {
+
+    /**
+     * Create a category, below its parent if one is given.
+     */
+    CategoryResponse create(CreateCategoryRequest request);
+
+    /**
+     * Update a category, moving it with its subcategories if the parent changed.
+     */
+    CategoryResponse update(UUID id, CreateCategoryRequest request);
+
+    /**
+     * Delete a category.
+     */
+    void delete(UUID id);
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.product.application.dto.response.ProductSearchResponse;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Use case for full-text product search.
+ */
+public interface SearchProductsUseCase {
+
+    /**
+     * Search products by relevance, with brand and category counts of all matches.
+     *
+     * @param query    words to search for; blank matches every product
+     * @param category category name to narrow to, or null
+     * @param brand    brand to narrow to, or null
+     * @param pageable page to return; its sort is ignored, results are ordered by relevance
+     */
+    ProductSearchResponse search(String query, String category, String brand, Pageable pageable);
+}
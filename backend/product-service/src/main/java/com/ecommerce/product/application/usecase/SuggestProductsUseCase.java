@@ -0,0 +1,24 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.product.application.dto.response.SuggestionResponse;
+
+import java.util.List;
+
+/**
+ * Use case for search-as-you-type suggestions.
+ */
+public interface SuggestProductsUseCase {
+
+    /**
+     * Suggest product names, brands and categories completing the given input, most
+     * popular first. Served from memory.
+     */
+    List<SuggestionResponse> suggest(String input, int limit);
+
+    /**
+     * Rebuild the suggestions from the active catalog.
+     *
+     * @return the number of distinct suggestions
+     */
+    int rebuild();
+}
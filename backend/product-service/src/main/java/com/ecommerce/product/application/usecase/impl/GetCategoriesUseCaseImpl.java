@@ -0,0 +1,129 @@
+package com.ecommerce.product.application.usecase.impl;
+
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.application.cache.CategoryTreeCache;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.usecase.GetCategoriesUseCase;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.CategoryLink;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of GetCategoriesUseCase.
+ *
+ * Reads are served from the CategoryTreeCache. A snapshot is built from two queries, all
+ * categories and all closure rows, in one read-only transaction: full paths and subtrees come
+ * from the closure, so no parent or children association is ever loaded. The ETag is a hash of
+ * every category's ID and version, which change with any update, move or delete.
+ */
+@Service
+public class GetCategoriesUseCaseImpl implements GetCategoriesUseCase {
+
+    private static final Comparator<CategoryResponse> DISPLAY_ORDER = Comparator
+            .comparing((CategoryResponse category) -> Objects.requireNonNullElse(category.getDisplayOrder(), 0))
+            .thenComparing(CategoryResponse::getName);
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final CategoryTreeCache categoryTreeCache;
+    private final TransactionTemplate readTransaction;
+
+    public GetCategoriesUseCaseImpl(CategoryRepository categoryRepository,
+                                    CategoryMapper categoryMapper,
+                                    CategoryTreeCache categoryTreeCache,
+                                    PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+        this.categoryTreeCache = categoryTreeCache;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public CategoryTree getTree() {
+        return categoryTreeCache.get(() -> readTransaction.execute(status -> buildTree()));
+    }
+
+    private CategoryTree buildTree() {
+        List<Category> categories = categoryRepository.findAll();
+        List<CategoryLink> links = categoryRepository.findAllLinks();
+
+        Map<UUID, CategoryResponse> nodes = new HashMap<>();
+        for (Category category : categories) {
+            nodes.put(category.getId(), categoryMapper.toTreeNode(category));
+        }
+
+        Map<UUID, Set<UUID>> subtreeIds = links.stream().collect(Collectors.groupingBy(
+                CategoryLink::getAncestorId, Collectors.mapping(CategoryLink::getDescendantId, Collectors.toSet())));
+        Map<UUID, List<CategoryLink>> pathLinks = links.stream()
+                .collect(Collectors.groupingBy(CategoryLink::getDescendantId));
+
+        Map<UUID, List<CategoryResponse>> children = new HashMap<>();
+        List<CategoryResponse> roots = new ArrayList<>();
+        for (CategoryResponse node : nodes.values()) {
+            node.setFullPath(pathLinks.getOrDefault(node.getId(), List.of()).stream()
+                    .sorted(Comparator.comparingInt(CategoryLink::getDepth).reversed())
+                    .map(link -> nodes.get(link.getAncestorId()))
+                    .filter(Objects::nonNull)
+                    .map(CategoryResponse::getSlug)
+                    .collect(Collectors.joining("/")));
+
+            CategoryResponse parent = node.getParentId() != null ? nodes.get(node.getParentId()) : null;
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                node.setParentName(parent.getName());
+                children.computeIfAbsent(parent.getId(), id -> new ArrayList<>()).add(node);
+            }
+        }
+
+        List<CategoryResponse> ordered = new ArrayList<>(nodes.size());
+        appendInTreeOrder(roots, children, ordered);
+        return new CategoryTree(ordered, subtreeIds, etag(categories));
+    }
+
+    private static void appendInTreeOrder(List<CategoryResponse> siblings, Map<UUID, List<CategoryResponse>> children,
+                                          List<CategoryResponse> ordered) {
+        siblings.sort(DISPLAY_ORDER);
+        for (CategoryResponse node : siblings) {
+            List<CategoryResponse> nodeChildren = children.getOrDefault(node.getId(), new ArrayList<>());
+            node.setChildren(nodeChildren.stream()
+                    .sorted(DISPLAY_ORDER)
+                    .map(child -> CategoryResponse.CategorySummary.builder()
+                            .id(child.getId())
+                            .name(child.getName())
+                            .slug(child.getSlug())
+                            .build())
+                    .toList());
+            ordered.add(node);
+            appendInTreeOrder(nodeChildren, children, ordered);
+        }
+    }
+
+    private static String etag(List<Category> categories) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        categories.stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .forEach(category -> hasher
+                        .putLong(category.getId().getMostSignificantBits())
+                        .putLong(category.getId().getLeastSignificantBits())
+                        .putLong(Objects.requireNonNullElse(category.getVersion(), -1L)));
+        return hasher.hash().toString();
+    }
+}
@@ -1,26 +1,43 @@
 package com.ecommerce.product.application.usecase.impl;
 
+import com.ecommerce.common.pagination.KeysetCursor;
+import com.ecommerce.product.application.cache.ProductCache;
 import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
 import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.search.ProductSearchQuery;
+import com.ecommerce.product.application.usecase.GetCategoriesUseCase;
 import com.ecommerce.product.application.usecase.ListProductsUseCase;
 import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
 import com.ecommerce.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ListProductsUseCase.
  *
+ * Listings are read as ProductSummary projections rather than Product aggregates, so the
+ * description, tags and costs are never loaded and nothing is added to the persistence context.
+ * The read-only transaction also puts the Hibernate session in FlushMode.MANUAL, so listing
+ * queries never trigger a dirty check or flush.
+ *
  * TODO: Implement additional business logic:
  * - Filter out inactive products for non-admin users
  * - Add Redis caching for product listings
- * - Implement Elasticsearch for full-text search (optional)
  * - Add personalization based on user preferences (optional)
  */
 @Service
@@ -30,39 +47,87 @@ public class ListProductsUseCaseImpl implements ListProductsUseCase {
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final GetCategoriesUseCase getCategoriesUseCase;
 
     @Override
-    public Page<ProductResponse> list(Pageable pageable) {
+    public Page<ProductSummaryResponse> list(Pageable pageable) {
         // TODO: Add caching
         // TODO: Filter by status=ACTIVE for non-admin users
-        return productRepository.findAll(pageable).map(productMapper::toResponse);
+        return productRepository.findSummaries(null, null, pageable).map(productMapper::toSummaryResponse);
     }
 
     @Override
-    public Page<ProductResponse> listByStatus(ProductStatus status, Pageable pageable) {
+    public Page<ProductSummaryResponse> listByStatus(ProductStatus status, Pageable pageable) {
         // TODO: Validate user has permission to view products with this status
-        return productRepository.findByStatus(status, pageable).map(productMapper::toResponse);
+        return productRepository.findSummaries(null, status, pageable).map(productMapper::toSummaryResponse);
+    }
+
+    /**
+     * The category's subtree comes from the category tree snapshot, so the listing is a single
+     * query on an IN list of category IDs.
+     */
+    @Override
+    public Page<ProductSummaryResponse> listByCategory(UUID categoryId, ProductStatus status, Pageable pageable) {
+        return productRepository.findSummaries(subtreeIds(categoryId), status, pageable)
+                .map(productMapper::toSummaryResponse);
+    }
+
+    @Override
+    public Slice<ProductSummaryResponse> list(KeysetCursor after, int size) {
+        return productRepository.findSummaries(null, null, after, size).map(productMapper::toSummaryResponse);
+    }
+
+    @Override
+    public Slice<ProductSummaryResponse> listByStatus(ProductStatus status, KeysetCursor after, int size) {
+        return productRepository.findSummaries(null, status, after, size).map(productMapper::toSummaryResponse);
     }
 
     @Override
-    public Page<ProductResponse> listByCategory(UUID categoryId, Pageable pageable) {
-        // TODO: Validate category exists
-        // TODO: Include products from child categories (optional)
-        return productRepository.findByCategoryId(categoryId, pageable).map(productMapper::toResponse);
+    public Slice<ProductSummaryResponse> listByCategory(UUID categoryId, ProductStatus status,
+                                                       KeysetCursor after, int size) {
+        return productRepository.findSummaries(subtreeIds(categoryId), status, after, size)
+                .map(productMapper::toSummaryResponse);
     }
 
+    /**
+     * Ranked by relevance through the search index; the pageable's sort is ignored.
+     */
     @Override
-    public Page<ProductResponse> search(String query, Pageable pageable) {
-        // TODO: Implement full-text search with Elasticsearch
+    public Page<ProductSummaryResponse> search(String query, Pageable pageable) {
         // TODO: Add search analytics tracking
-        return productRepository.findByNameContainingIgnoreCase(query.trim(), pageable)
-                .map(productMapper::toResponse);
+        ProductSearchHits hits = productSearchIndex.search(ProductSearchQuery.builder()
+                .text(query.trim())
+                .offset(Math.toIntExact(pageable.getOffset()))
+                .limit(pageable.getPageSize())
+                .build());
+        List<ProductSummary> products = productRepository.findSummariesById(hits.getProductIds());
+        if (products.size() < hits.getProductIds().size()) {
+            // Deleted, possibly on another instance; later searches no longer count them
+            Set<UUID> found = products.stream().map(ProductSummary::getId).collect(Collectors.toSet());
+            productSearchIndex.delete(hits.getProductIds().stream().filter(id -> !found.contains(id)).toList());
+        }
+        return new PageImpl<>(productMapper.toSummaryResponseList(products), pageable, hits.getTotalHits());
     }
 
+    /**
+     * Served from the ProductCache, which loads in a transaction of its own; SUPPORTS keeps
+     * cache hits from opening one.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<ProductResponse> getFeatured() {
-        // TODO: Add Redis caching for featured products (high traffic endpoint)
         // TODO: Limit results and order by some criteria (e.g., popularity)
-        return productMapper.toResponseList(productRepository.findByFeatured(true));
+        return productCache.getFeatured(() -> productMapper.toResponseList(productRepository.findByFeatured(true)));
+    }
+
+    /**
+     * A category missing from the snapshot may have been created on another instance since it
+     * was built, so it is listed on its own rather than rejected.
+     */
+    private Set<UUID> subtreeIds(UUID categoryId) {
+        Set<UUID> ids = getCategoriesUseCase.getTree().getSubtreeIds(categoryId);
+        return ids.isEmpty() ? Set.of(categoryId) : ids;
     }
 }
@@ -0,0 +1,91 @@
+package com.ecommerce.product.application.usecase.impl;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.product.application.dto.request.CreateCategoryRequest;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.usecase.ManageCategoryUseCase;
+import com.ecommerce.product.domain.event.CategoryChangedEvent;
+import com.ecommerce.product.domain.exception.CategoryNotFoundException;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Implementation of ManageCategoryUseCase.
+ *
+ * Every write publishes a CategoryChangedEvent, which has the category tree snapshot rebuilt
+ * once the transaction committed. Updates and deletes also touch the products below the
+ * category, since a rename, a move or a deleted parent changes their category paths in the
+ * search index.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ManageCategoryUseCaseImpl implements ManageCategoryUseCase {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public CategoryResponse create(CreateCategoryRequest request) {
+        Category category = categoryMapper.toEntity(request);
+        category.setId(UUID.randomUUID());
+
+        if (request.getParentId() != null) {
+            Category parent = categoryRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new CategoryNotFoundException(request.getParentId()));
+            category.setParent(parent);
+        }
+
+        Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+        return categoryMapper.toResponse(saved);
+    }
+
+    @Override
+    public CategoryResponse update(UUID id, CreateCategoryRequest request) {
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new CategoryNotFoundException(id));
+
+        category.setName(request.getName());
+        category.setSlug(request.getSlug());
+        category.setDescription(request.getDescription());
+        category.setImageUrl(request.getImageUrl());
+
+        if (request.getDisplayOrder() != null) {
+            category.setDisplayOrder(request.getDisplayOrder());
+        }
+
+        if (request.getParentId() != null && !request.getParentId().equals(category.getId())) {
+            if (categoryRepository.findSubtreeIds(id).contains(request.getParentId())) {
+                throw new ValidationException("parentId", "A category cannot be moved below its own subcategory");
+            }
+            Category parent = categoryRepository.findById(request.getParentId())
+                    .orElseThrow(() -> new CategoryNotFoundException(request.getParentId()));
+            category.setParent(parent);
+        }
+
+        Category saved = categoryRepository.save(category);
+        categoryRepository.touchSubtreeProducts(saved.getId());
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+        return categoryMapper.toResponse(saved);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        if (categoryRepository.findById(id).isEmpty()) {
+            throw new CategoryNotFoundException(id);
+        }
+        // Before the delete, while the closure still lists the subtree
+        categoryRepository.touchSubtreeProducts(id);
+        categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.product.application.usecase.impl;
+
+import com.ecommerce.product.application.dto.response.ProductSearchResponse;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.search.ProductSearchQuery;
+import com.ecommerce.product.application.usecase.SearchProductsUseCase;
+import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of SearchProductsUseCase.
+ *
+ * The index returns the IDs of the requested page, which are loaded by primary key, so the
+ * database does no searching. Hits that are no longer in the database were deleted, possibly
+ * on another instance, and are removed from the index so later searches do not count them.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchProductsUseCaseImpl implements SearchProductsUseCase {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+
+    @Override
+    public ProductSearchResponse search(String query, String category, String brand, Pageable pageable) {
+        ProductSearchHits hits = productSearchIndex.search(ProductSearchQuery.builder()
+                .text(query != null ? query.trim() : null)
+                .category(blankToNull(category))
+                .brand(blankToNull(brand))
+                .offset(Math.toIntExact(pageable.getOffset()))
+                .limit(pageable.getPageSize())
+                .build());
+
+        Map<String, List<ProductSearchResponse.FacetCount>> facets = new LinkedHashMap<>();
+        hits.getFacets().forEach((facet, counts) -> facets.put(facet, counts.entrySet().stream()
+                .map(count -> new ProductSearchResponse.FacetCount(count.getKey(), count.getValue()))
+                .toList()));
+
+        List<Product> products = productRepository.findAllById(hits.getProductIds());
+        if (products.size() < hits.getProductIds().size()) {
+            Set<UUID> found = products.stream().map(Product::getId).collect(Collectors.toSet());
+            productSearchIndex.delete(hits.getProductIds().stream().filter(id -> !found.contains(id)).toList());
+        }
+
+        return ProductSearchResponse.builder()
+                .products(productMapper.toResponseList(products))
+                .totalHits(hits.getTotalHits())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .facets(facets)
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
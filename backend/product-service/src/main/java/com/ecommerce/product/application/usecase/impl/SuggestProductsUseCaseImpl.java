@@ -0,0 +1,59 @@
+package com.ecommerce.product.application.usecase.impl;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.product.application.dto.response.SuggestionResponse;
+import com.ecommerce.product.application.search.ProductSuggester;
+import com.ecommerce.product.application.usecase.SuggestProductsUseCase;
+import com.ecommerce.product.domain.model.Suggestion;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of SuggestProductsUseCase.
+ *
+ * Suggestions are answered by the in-memory ProductSuggester only. A rebuild streams the
+ * catalog in one read-only transaction; the suggester keeps serving the previous suggestions
+ * until the new ones are complete.
+ */
+@Service
+public class SuggestProductsUseCaseImpl implements SuggestProductsUseCase {
+
+    private static final int MAX_LIMIT = 20;
+
+    private final ProductRepository productRepository;
+    private final ProductSuggester productSuggester;
+    private final TransactionTemplate readTransaction;
+
+    public SuggestProductsUseCaseImpl(ProductRepository productRepository,
+                                      ProductSuggester productSuggester,
+                                      PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productSuggester = productSuggester;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String input, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("limit", "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return productSuggester.suggest(input, limit).stream()
+                .map(suggestion -> new SuggestionResponse(suggestion.getText(), suggestion.getType()))
+                .toList();
+    }
+
+    @Override
+    public int rebuild() {
+        return readTransaction.execute(status -> {
+            try (Stream<Suggestion> suggestions = productRepository.streamSuggestions()) {
+                return productSuggester.rebuild(suggestions.iterator());
+            }
+        });
+    }
+}
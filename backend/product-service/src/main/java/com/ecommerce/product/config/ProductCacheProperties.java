@@ -0,0 +1,58 @@
+package com.ecommerce.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the product catalog read cache.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product.cache")
+public class ProductCacheProperties {
+
+    /**
+     * How long a loaded entry is served, from either level; bounds the staleness of
+     * changes that do not evict it.
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of entries cached locally.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Weight of the probabilistic early refresh. Higher values refresh hot entries earlier;
+     * 0 disables it, so entries are only reloaded once they expired.
+     */
+    private double earlyRefreshBeta = 1.0;
+
+    /**
+     * How long the in-memory category tree is served before it is rebuilt; bounds how long
+     * category changes made on other instances take to show up when their broadcast is lost.
+     */
+    private Duration categoryTreeMaxAge = Duration.ofMinutes(5);
+
+    /**
+     * Shared second-level cache in Redis.
+     */
+    private Redis redis = new Redis();
+
+    @Data
+    public static class Redis {
+
+        /**
+         * Whether local misses are looked up in Redis before the database.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Pub/sub channel on which evictions are broadcast to the other instances.
+         */
+        private String channel = "product:cache:invalidate";
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the product search index.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.product.search")
+public class ProductSearchProperties {
+
+    /**
+     * Directory of the index. Each instance needs its own; it survives restarts, after which
+     * only the products changed since its last commit are indexed again.
+     */
+    private Path indexPath = Path.of(System.getProperty("java.io.tmpdir"), "product-search-index");
+
+    /**
+     * How often products changed on any instance are picked up and the index committed.
+     */
+    private Duration syncInterval = Duration.ofSeconds(30);
+
+    /**
+     * When the index is rebuilt from the whole catalog, dropping products that no longer exist.
+     */
+    private String rebuildCron = "0 30 3 * * *";
+
+    /**
+     * Number of products loaded and indexed at a time.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Autocomplete suggestions.
+     */
+    private Suggestions suggestions = new Suggestions();
+
+    @Data
+    public static class Suggestions {
+
+        /**
+         * How often the job checks whether the suggestions need rebuilding.
+         */
+        private Duration checkInterval = Duration.ofSeconds(10);
+
+        /**
+         * Age after which the suggestions are rebuilt even without a local catalog change,
+         * to pick up changes made on other instances.
+         */
+        private Duration maxAge = Duration.ofMinutes(10);
+    }
+}
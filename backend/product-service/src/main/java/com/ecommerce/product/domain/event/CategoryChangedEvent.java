@@ -0,0 +1,17 @@
+package com.ecommerce.product.domain.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a category is created, updated, moved or deleted.
+ *
+ * It only serves this instance's listeners and is deliberately not a DomainEvent, so the
+ * outbox does not ship it to other services.
+ */
+@Value
+public class CategoryChangedEvent {
+
+    UUID categoryId;
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.product.domain.event;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Application event published when a product is deleted.
+ *
+ * Like CategoryChangedEvent, it only serves this instance's listeners and is not a
+ * DomainEvent, so the outbox does not ship it to other services.
+ */
+@Value
+public class ProductDeletedEvent {
+
+    UUID productId;
+}
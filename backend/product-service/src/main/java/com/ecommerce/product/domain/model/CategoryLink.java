@@ -0,0 +1,17 @@
+package com.ecommerce.product.domain.model;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * A row of the category closure: the descendant lies {@code depth} levels below the ancestor.
+ * Every category is linked to itself at depth 0.
+ */
+@Value
+public class CategoryLink {
+
+    UUID ancestorId;
+    UUID descendantId;
+    int depth;
+}
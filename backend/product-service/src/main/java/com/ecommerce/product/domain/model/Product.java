@@ -2,10 +2,12 @@ package com.ecommerce.product.domain.model;
 
 import com.ecommerce.common.domain.AggregateRoot;
 import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
 import com.ecommerce.product.domain.event.ProductUpdatedEvent;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.util.HashSet;
@@ -14,6 +16,10 @@ import java.util.UUID;
 
 /**
  * Product aggregate root.
+ *
+ * Images and tags are batch-loaded: the first collection accessed loads that collection for
+ * up to BATCH_SIZE products of the persistence context at once, so mapping a page of products
+ * costs one query per collection rather than one per product.
  */
 @Entity
 @Table(name = "products")
@@ -24,6 +30,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class Product extends AggregateRoot {
 
+    private static final int BATCH_SIZE = 100;
+
     @Column(nullable = false, unique = true, length = 100)
     private String sku;
 
@@ -75,12 +83,14 @@ public class Product extends AggregateRoot {
     @ElementCollection
     @CollectionTable(name = "product_images", joinColumns = @JoinColumn(name = "product_id"))
     @Column(name = "image_url")
+    @BatchSize(size = BATCH_SIZE)
     @Builder.Default
     private Set<String> imageUrls = new HashSet<>();
 
     @ElementCollection
     @CollectionTable(name = "product_tags", joinColumns = @JoinColumn(name = "product_id"))
     @Column(name = "tag")
+    @BatchSize(size = BATCH_SIZE)
     @Builder.Default
     private Set<String> tags = new HashSet<>();
 
@@ -134,20 +144,24 @@ public class Product extends AggregateRoot {
      * Mark product as out of stock.
      */
     public void markOutOfStock() {
+        int previousQuantity = this.stockQuantity;
         this.status = ProductStatus.OUT_OF_STOCK;
         this.stockQuantity = 0;
+        registerStockChange(previousQuantity);
     }
 
     /**
      * Update stock quantity.
      */
     public void updateStock(int quantity) {
+        int previousQuantity = this.stockQuantity;
         this.stockQuantity = quantity;
         if (quantity <= 0) {
             this.status = ProductStatus.OUT_OF_STOCK;
         } else if (this.status == ProductStatus.OUT_OF_STOCK) {
             this.status = ProductStatus.ACTIVE;
         }
+        registerStockChange(previousQuantity);
     }
 
     /**
@@ -158,6 +172,11 @@ public class Product extends AggregateRoot {
                 && stockQuantity <= lowStockThreshold;
     }
 
+    private void registerStockChange(int previousQuantity) {
+        registerEvent(new ProductStockChangedEvent(this.getId(), this.sku, previousQuantity,
+                this.stockQuantity, isLowStock()));
+    }
+
     /**
      * Add an image URL.
      */
@@ -0,0 +1,38 @@
+package com.ecommerce.product.domain.model;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A product as shown on a listing card: no description, tags or costs, and a single image.
+ *
+ * Loaded by projection rather than from the aggregate, so it is never managed by the
+ * persistence context.
+ */
+@Value
+public class ProductSummary {
+
+    UUID id;
+    String sku;
+    String name;
+    BigDecimal price;
+    BigDecimal compareAtPrice;
+    String brand;
+    ProductStatus status;
+    Integer stockQuantity;
+    Boolean featured;
+    UUID categoryId;
+    String categoryName;
+    String categorySlug;
+
+    /**
+     * The product's image URL that sorts first, or null without images.
+     */
+    String imageUrl;
+    Instant createdAt;
+    Instant updatedAt;
+    Long version;
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.product.domain.model;
+
+import lombok.Value;
+
+/**
+ * An autocomplete suggestion and its popularity weight; heavier suggestions are offered first.
+ */
+@Value
+public class Suggestion {
+
+    String text;
+    SuggestionType type;
+    long weight;
+}
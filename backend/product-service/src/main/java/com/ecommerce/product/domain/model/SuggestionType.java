@@ -0,0 +1,10 @@
+package com.ecommerce.product.domain.model;
+
+/**
+ * What an autocomplete suggestion completes to.
+ */
+public enum SuggestionType {
+    PRODUCT,
+    BRAND,
+    CATEGORY
+}
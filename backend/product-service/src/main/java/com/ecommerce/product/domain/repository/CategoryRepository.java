@@ -1,6 +1,7 @@
 package com.ecommerce.product.domain.repository;
 
 import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.CategoryLink;
 
 import java.util.List;
 import java.util.Optional;
@@ -8,6 +9,9 @@ import java.util.UUID;
 
 /**
  * Repository port for Category entity.
+ *
+ * Saves and deletes keep the category closure in step with the parent links, in the same
+ * transaction.
  */
 public interface CategoryRepository {
 
@@ -23,6 +27,24 @@ public interface CategoryRepository {
 
     List<Category> findByParentId(UUID parentId);
 
+    /**
+     * Find every row of the category closure.
+     */
+    List<CategoryLink> findAllLinks();
+
+    /**
+     * Find the IDs of the given category and all categories below it.
+     */
+    List<UUID> findSubtreeIds(UUID categoryId);
+
+    /**
+     * Mark the products of the given category and all categories below it as updated now, so
+     * the search index sync picks up their new category paths on every instance.
+     *
+     * @return the number of products marked
+     */
+    int touchSubtreeProducts(UUID categoryId);
+
     boolean existsBySlug(String slug);
 
     void deleteById(UUID id);
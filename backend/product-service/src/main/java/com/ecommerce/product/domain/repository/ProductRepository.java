@@ -1,13 +1,20 @@
 package com.ecommerce.product.domain.repository;
 
+import com.ecommerce.common.pagination.KeysetCursor;
 import com.ecommerce.product.domain.model.Product;
 import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
+import com.ecommerce.product.domain.model.Suggestion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository port for Product aggregate.
@@ -20,13 +27,46 @@ public interface ProductRepository {
 
     Optional<Product> findBySku(String sku);
 
-    Page<Product> findAll(Pageable pageable);
+    /**
+     * Find the given products with their categories, in the order of the given IDs.
+     * IDs of products that do not exist are skipped.
+     */
+    List<Product> findAllById(List<UUID> ids);
 
-    Page<Product> findByStatus(ProductStatus status, Pageable pageable);
+    /**
+     * Find up to {@code limit} product IDs following the given one, in ID order.
+     */
+    List<UUID> findIdsAfter(UUID afterId, int limit);
 
-    Page<Product> findByCategoryId(UUID categoryId, Pageable pageable);
+    /**
+     * Find the IDs of products updated at or after the given time.
+     */
+    List<UUID> findIdsUpdatedSince(Instant since);
 
-    Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    /**
+     * Stream autocomplete suggestions for the active catalog: every product name, and every
+     * brand and category weighted by its number of products. Must be closed, within a transaction.
+     */
+    Stream<Suggestion> streamSuggestions();
+
+    /**
+     * Find summaries of products in any of the given categories, or in any category when they are
+     * null, with the given status unless it is null.
+     */
+    Page<ProductSummary> findSummaries(Collection<UUID> categoryIds, ProductStatus status, Pageable pageable);
+
+    /**
+     * Find up to {@code size} product summaries after the cursor position, newest first, with the
+     * same filters as the page variant. No count query is run.
+     */
+    Slice<ProductSummary> findSummaries(Collection<UUID> categoryIds, ProductStatus status,
+                                        KeysetCursor after, int size);
+
+    /**
+     * Find summaries of the given products, in the order of the given IDs.
+     * IDs of products that do not exist are skipped.
+     */
+    List<ProductSummary> findSummariesById(List<UUID> ids);
 
     List<Product> findByFeatured(boolean featured);
 
@@ -34,6 +74,10 @@ public interface ProductRepository {
 
     boolean existsBySku(String sku);
 
+    /**
+     * Delete a product and publish a ProductDeletedEvent, so the search index drops it once
+     * the transaction committed.
+     */
     void deleteById(UUID id);
 
     long count();
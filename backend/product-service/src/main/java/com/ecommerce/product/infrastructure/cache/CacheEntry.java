@@ -0,0 +1,49 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A cached value with what is needed to expire and refresh it, stored as is in both levels.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry<T> {
+
+    private T value;
+
+    /**
+     * How long the value took to load, in milliseconds.
+     */
+    private long loadMillis;
+
+    /**
+     * When the value expires, in epoch milliseconds.
+     */
+    private long expiresAt;
+
+    long remainingMillis(long nowMillis) {
+        return Math.max(0, expiresAt - nowMillis);
+    }
+
+    /**
+     * Probabilistic early expiration (XFetch): a read refreshes the entry ahead of time with a
+     * probability that grows as it nears expiry and with how long it took to load, so a hot
+     * entry is reloaded by one reader before it expires for all of them.
+     */
+    boolean shouldRefresh(long nowMillis, double beta) {
+        return shouldRefresh(nowMillis, beta, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * XFetch with the given uniform random number in [0, 1); smaller numbers refresh earlier.
+     */
+    boolean shouldRefresh(long nowMillis, double beta, double random) {
+        double headStart = loadMillis * beta * -Math.log(random);
+        return nowMillis + headStart >= expiresAt;
+    }
+}
@@ -0,0 +1,212 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.common.constant.AppConstants;
+import com.ecommerce.product.application.cache.ProductCache;
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.ecommerce.product.domain.event.ProductStockChangedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Local Caffeine cache of product read models, optionally backed by Redis.
+ *
+ * A local miss is computed once per key while concurrent readers of that key wait for it; it
+ * is served from Redis when enabled and still fresh there, and otherwise loaded from the
+ * database and written to both levels. Loaders run in a read-only transaction of their own,
+ * so hits never touch the database.
+ *
+ * A hit may also start a background refresh of its entry ahead of expiry (see
+ * {@link CacheEntry#shouldRefresh}), at most one per key at a time; the reader still gets the
+ * cached value. ProductUpdatedEvent and ProductStockChangedEvent, which Product registers and
+ * the repository publishes when it is saved, evict the product's entries and the featured list
+ * once the change committed, from Redis and every instance.
+ *
+ * Hits, misses and evictions are published as the cache.* meters tagged cache=product, with
+ * the local hit ratio as product.cache.hit.ratio and early refreshes as
+ * product.cache.early.refreshes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaffeineProductCache implements ProductCache {
+
+    private static final String CACHE_NAME = "product";
+    private static final String ID_KEY_PREFIX = AppConstants.CACHE_PRODUCT_PREFIX + "id:";
+    private static final String SKU_KEY_PREFIX = AppConstants.CACHE_PRODUCT_PREFIX + "sku:";
+    private static final String FEATURED_KEY = AppConstants.CACHE_PRODUCT_PREFIX + "featured";
+
+    private final ProductCacheProperties properties;
+    private final ObjectProvider<RedisProductStore> redisStoreProvider;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private Cache<String, CacheEntry<?>> cache;
+    private RedisProductStore redisStore;
+    private TransactionTemplate readTransaction;
+    private ExecutorService refreshExecutor;
+    private JavaType productType;
+    private JavaType productListType;
+    private Counter earlyRefreshes;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(Expiry.creating((String key, CacheEntry<?> entry) ->
+                        Duration.ofMillis(entry.remainingMillis(System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("product.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of product lookups served from the local cache")
+                .register(meterRegistry);
+        earlyRefreshes = Counter.builder("product.cache.early.refreshes")
+                .description("Product cache entries refreshed ahead of expiry")
+                .register(meterRegistry);
+
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        refreshExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-cache-refresh-", 0).factory());
+        productType = objectMapper.constructType(ProductResponse.class);
+        productListType = objectMapper.getTypeFactory().constructCollectionType(List.class, ProductResponse.class);
+
+        redisStore = redisStoreProvider.getIfAvailable();
+        if (redisStore != null) {
+            redisStore.onInvalidation(cache::invalidate);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public ProductResponse getById(UUID id, Supplier<ProductResponse> loader) {
+        return get(ID_KEY_PREFIX + id, productType, loader);
+    }
+
+    @Override
+    public ProductResponse getBySku(String sku, Supplier<ProductResponse> loader) {
+        return get(SKU_KEY_PREFIX + sku, productType, loader);
+    }
+
+    @Override
+    public List<ProductResponse> getFeatured(Supplier<List<ProductResponse>> loader) {
+        return get(FEATURED_KEY, productListType, loader);
+    }
+
+    /**
+     * Local entries are invalidated first: Caffeine waits for a load of the same key in
+     * progress, so the Redis entry it may have written is deleted after it.
+     */
+    @Override
+    public void evict(UUID productId, String sku) {
+        List<String> keys = List.of(ID_KEY_PREFIX + productId, SKU_KEY_PREFIX + sku, FEATURED_KEY);
+        cache.invalidateAll(keys);
+        if (redisStore != null) {
+            redisStore.evict(keys);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductUpdated(ProductUpdatedEvent event) {
+        evict(event.getProductId(), event.getSku());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductStockChanged(ProductStockChangedEvent event) {
+        evict(event.getProductId(), event.getSku());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, JavaType valueType, Supplier<T> loader) {
+        CacheEntry<T> entry = (CacheEntry<T>) cache.get(key, k -> loadShared(k, valueType, loader));
+        if (entry.shouldRefresh(System.currentTimeMillis(), properties.getEarlyRefreshBeta())) {
+            refreshAsync(key, entry, loader);
+        }
+        return entry.getValue();
+    }
+
+    private <T> CacheEntry<T> loadShared(String key, JavaType valueType, Supplier<T> loader) {
+        if (redisStore != null) {
+            CacheEntry<T> shared = redisStore.get(key, valueType);
+            if (shared != null && shared.remainingMillis(System.currentTimeMillis()) > 0) {
+                return shared;
+            }
+        }
+        CacheEntry<T> loaded = load(loader);
+        if (redisStore != null) {
+            redisStore.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Reload an entry in the background. The new entry only replaces the one it refreshes, so
+     * a refresh that finishes after an eviction does not bring the old state back.
+     */
+    private <T> void refreshAsync(String key, CacheEntry<T> current, Supplier<T> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CacheEntry<T> refreshed = load(loader);
+                    if (cache.asMap().replace(key, current, refreshed) && redisStore != null) {
+                        redisStore.put(key, refreshed);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh product cache entry {}: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+            earlyRefreshes.increment();
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private <T> CacheEntry<T> load(Supplier<T> loader) {
+        long start = System.nanoTime();
+        T value = readTransaction.execute(status -> loader.get());
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new CacheEntry<>(value, loadMillis, System.currentTimeMillis() + properties.getTtl().toMillis());
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.common.constant.AppConstants;
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.application.cache.CategoryTreeCache;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.ecommerce.product.domain.event.CategoryChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Category tree snapshot held in a volatile field and replaced as a whole.
+ *
+ * Only the first build makes readers wait. Later rebuilds run on the reader that found the
+ * snapshot stale while concurrent readers get the previous one, and a failed rebuild keeps
+ * serving it. A CategoryChangedEvent marks the snapshot stale once the change committed, and
+ * is broadcast over the Redis product cache channel, when there is one, so the other
+ * instances mark theirs stale too. The maximum age only bounds staleness when a broadcast is
+ * lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InMemoryCategoryTreeCache implements CategoryTreeCache {
+
+    static final String CATEGORY_TREE_KEY = AppConstants.CACHE_PRODUCT_PREFIX + "category-tree";
+
+    private final ProductCacheProperties properties;
+    private final ObjectProvider<RedisProductStore> redisStoreProvider;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile CategoryTree tree;
+    private volatile Instant builtAt = Instant.EPOCH;
+    private volatile boolean stale = true;
+
+    private RedisProductStore redisStore;
+
+    @PostConstruct
+    public void init() {
+        redisStore = redisStoreProvider.getIfAvailable();
+        if (redisStore != null) {
+            redisStore.onInvalidation(key -> {
+                if (CATEGORY_TREE_KEY.equals(key)) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    @Override
+    public CategoryTree get(Supplier<CategoryTree> loader) {
+        CategoryTree current = tree;
+        if (current != null && isFresh()) {
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return current;
+        }
+        try {
+            if (tree == null || !isFresh()) {
+                rebuild(loader);
+            }
+            return tree;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+        if (redisStore != null) {
+            redisStore.evict(List.of(CATEGORY_TREE_KEY));
+        }
+    }
+
+    private boolean isFresh() {
+        return !stale && builtAt.plus(properties.getCategoryTreeMaxAge()).isAfter(Instant.now());
+    }
+
+    private void rebuild(Supplier<CategoryTree> loader) {
+        Instant now = Instant.now();
+        // Cleared before loading, so a change committed during the load marks the result stale
+        stale = false;
+        try {
+            tree = loader.get();
+            builtAt = now;
+        } catch (RuntimeException e) {
+            stale = true;
+            if (tree == null) {
+                throw e;
+            }
+            log.warn("Failed to rebuild the category tree, serving the previous one: {}", e.getMessage());
+        }
+    }
+}
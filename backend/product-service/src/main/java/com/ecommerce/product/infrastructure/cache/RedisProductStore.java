@@ -0,0 +1,153 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Second-level product cache in Redis, shared by all instances.
+ *
+ * Entries are stored as JSON, expiring in Redis when they expire for readers. Evictions are
+ * deleted here and broadcast on a pub/sub channel, one key per line, so every instance drops
+ * its local entries too; keys of local-only caches, like the category tree, are broadcast the
+ * same way. Redis errors are logged and treated as misses.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.product.cache.redis", name = "enabled", havingValue = "true")
+public class RedisProductStore implements MessageListener, SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "product.cache.redis";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final ProductCacheProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Consumer<String>> invalidationListeners = new CopyOnWriteArrayList<>();
+    private volatile RedisMessageListenerContainer listenerContainer;
+
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        hits = Counter.builder(METRIC_PREFIX + ".gets")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder(METRIC_PREFIX + ".gets")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up an entry.
+     *
+     * @param valueType type of the entry's value
+     * @return the entry, or null if there is none
+     */
+    public <T> CacheEntry<T> get(String key, JavaType valueType) {
+        CacheEntry<T> entry = null;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                entry = objectMapper.readValue(value,
+                        objectMapper.getTypeFactory().constructParametricType(CacheEntry.class, valueType));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read product cache entry {} from Redis: {}", key, e.getMessage());
+        }
+        (entry != null ? hits : misses).increment();
+        return entry;
+    }
+
+    /**
+     * Store an entry until it expires.
+     */
+    public void put(String key, CacheEntry<?> entry) {
+        long ttlMillis = entry.remainingMillis(System.currentTimeMillis());
+        if (ttlMillis == 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(entry), Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            log.warn("Failed to write product cache entry {} to Redis: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the given entries and tell the other instances to drop theirs.
+     */
+    public void evict(List<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+            redisTemplate.convertAndSend(properties.getRedis().getChannel(), String.join("\n", keys));
+        } catch (Exception e) {
+            log.warn("Failed to evict product cache entries {} from Redis: {}", keys, e.getMessage());
+        }
+    }
+
+    /**
+     * Register a callback run for every key of an eviction broadcast, including this
+     * instance's own. Every registered callback sees every key.
+     */
+    public void onInvalidation(Consumer<String> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        new String(message.getBody(), StandardCharsets.UTF_8).lines()
+                .filter(key -> !key.isEmpty())
+                .forEach(key -> invalidationListeners.forEach(listener -> listener.accept(key)));
+    }
+
+    @Override
+    public void start() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getRedis().getChannel()));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.warn("Failed to stop product cache invalidation listener", e);
+            }
+            listenerContainer = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return listenerContainer != null;
+    }
+}
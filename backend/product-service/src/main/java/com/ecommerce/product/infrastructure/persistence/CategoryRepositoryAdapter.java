@@ -1,26 +1,117 @@
 package com.ecommerce.product.infrastructure.persistence;
 
+import com.ecommerce.common.util.UuidUtils;
 import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.CategoryLink;
 import com.ecommerce.product.domain.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Adapter implementing CategoryRepository port using JPA.
+ *
+ * The category_closure table is maintained here with plain JDBC: a new category is linked below
+ * its parent's ancestors, and a category whose parent changed has its whole subtree unlinked
+ * from the old ancestors and linked below the new ones. Deletes need nothing extra, as the
+ * closure rows cascade with their categories.
  */
 @Component
 @RequiredArgsConstructor
 public class CategoryRepositoryAdapter implements CategoryRepository {
 
+    private static final String FIND_PARENT_LINKS = """
+            SELECT ancestor_id, depth FROM category_closure WHERE descendant_id = ? AND depth <= 1
+            """;
+
+    private static final String LINK_SELF = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)
+            """;
+
+    private static final String LINK_BELOW_ANCESTORS = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT ancestor_id, ?, depth + 1 FROM category_closure WHERE descendant_id = ?
+            """;
+
+    /**
+     * The subqueries read category_closure through derived tables, which MySQL materializes
+     * before deleting, as it does not allow a DELETE to read its own table directly.
+     */
+    private static final String UNLINK_SUBTREE = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (
+                SELECT subtree.descendant_id FROM (
+                    SELECT descendant_id FROM category_closure WHERE ancestor_id = ?
+                ) subtree
+            )
+            AND ancestor_id IN (
+                SELECT above.ancestor_id FROM (
+                    SELECT ancestor_id FROM category_closure WHERE descendant_id = ? AND depth > 0
+                ) above
+            )
+            """;
+
+    private static final String LINK_SUBTREE = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT above.ancestor_id, subtree.descendant_id, above.depth + subtree.depth + 1
+            FROM category_closure above
+            JOIN category_closure subtree ON subtree.ancestor_id = ?
+            WHERE above.descendant_id = ?
+            """;
+
+    private static final String FIND_ALL_LINKS = """
+            SELECT ancestor_id, descendant_id, depth FROM category_closure
+            """;
+
+    private static final String FIND_SUBTREE_IDS = """
+            SELECT descendant_id FROM category_closure WHERE ancestor_id = ?
+            """;
+
+    private static final String TOUCH_SUBTREE_PRODUCTS = """
+            UPDATE products SET updated_at = ?
+            WHERE category_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = ?)
+            """;
+
     private final JpaCategoryRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
+    @Transactional
     public Category save(Category category) {
-        return jpaRepository.save(category);
+        Category saved = jpaRepository.saveAndFlush(category);
+        UUID parentId = saved.getParent() != null ? saved.getParent().getId() : null;
+        byte[] id = UuidUtils.toBytes(saved.getId());
+
+        List<CategoryLink> links = jdbcTemplate.query(FIND_PARENT_LINKS, (rs, rowNum) -> new CategoryLink(
+                UuidUtils.fromBytes(rs.getBytes("ancestor_id")), saved.getId(), rs.getInt("depth")), id);
+        if (links.isEmpty()) {
+            jdbcTemplate.update(LINK_SELF, id, id);
+            if (parentId != null) {
+                jdbcTemplate.update(LINK_BELOW_ANCESTORS, id, UuidUtils.toBytes(parentId));
+            }
+            return saved;
+        }
+
+        UUID currentParentId = links.stream()
+                .filter(link -> link.getDepth() == 1)
+                .map(CategoryLink::getAncestorId)
+                .findFirst()
+                .orElse(null);
+        if (!Objects.equals(currentParentId, parentId)) {
+            jdbcTemplate.update(UNLINK_SUBTREE, id, id);
+            if (parentId != null) {
+                jdbcTemplate.update(LINK_SUBTREE, id, UuidUtils.toBytes(parentId));
+            }
+        }
+        return saved;
     }
 
     @Override
@@ -48,6 +139,25 @@ public class CategoryRepositoryAdapter implements CategoryRepository {
         return jpaRepository.findByParentId(parentId);
     }
 
+    @Override
+    public List<CategoryLink> findAllLinks() {
+        return jdbcTemplate.query(FIND_ALL_LINKS, (rs, rowNum) -> new CategoryLink(
+                UuidUtils.fromBytes(rs.getBytes("ancestor_id")),
+                UuidUtils.fromBytes(rs.getBytes("descendant_id")),
+                rs.getInt("depth")));
+    }
+
+    @Override
+    public List<UUID> findSubtreeIds(UUID categoryId) {
+        return jdbcTemplate.query(FIND_SUBTREE_IDS, (rs, rowNum) -> UuidUtils.fromBytes(rs.getBytes("descendant_id")),
+                UuidUtils.toBytes(categoryId));
+    }
+
+    @Override
+    public int touchSubtreeProducts(UUID categoryId) {
+        return jdbcTemplate.update(TOUCH_SUBTREE_PRODUCTS, Timestamp.from(Instant.now()), UuidUtils.toBytes(categoryId));
+    }
+
     @Override
     public boolean existsBySlug(String slug) {
         return jpaRepository.existsBySlug(slug);
@@ -1,32 +1,35 @@
 package com.ecommerce.product.infrastructure.persistence;
 
 import com.ecommerce.product.domain.model.Product;
-import com.ecommerce.product.domain.model.ProductStatus;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * JPA repository for Product entity.
+ *
+ * Lookups by ID fetch the category with the products; images and tags are batch-loaded
+ * by the entity itself. Listings read ProductSummary projections through
+ * JpaProductSummaryRepository instead.
  */
 @Repository
 public interface JpaProductRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findBySku(String sku);
 
-    Page<Product> findByStatus(ProductStatus status, Pageable pageable);
-
-    Page<Product> findByCategoryId(UUID categoryId, Pageable pageable);
-
-    Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     List<Product> findByFeatured(boolean featured);
 
     @Query("SELECT p FROM Product p WHERE p.stockQuantity <= p.lowStockThreshold AND p.status = 'ACTIVE'")
@@ -36,4 +39,23 @@ public interface JpaProductRepository extends JpaRepository<Product, UUID> {
 
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id = :id")
     Optional<Product> findByIdWithCategory(@Param("id") UUID id);
+
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findAllByIdWithCategory(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Product p WHERE p.updatedAt >= :since")
+    List<UUID> findIdsUpdatedSince(@Param("since") Instant since);
+
+    @Query("SELECT p.brand, COUNT(p) FROM Product p WHERE p.status = 'ACTIVE' AND p.brand IS NOT NULL GROUP BY p.brand")
+    List<Object[]> countActiveByBrand();
+
+    @Query("SELECT c.name, COUNT(p) FROM Product p JOIN p.category c WHERE p.status = 'ACTIVE' GROUP BY c.name")
+    List<Object[]> countActiveByCategoryName();
+
+    @Query("SELECT p.name, p.featured FROM Product p WHERE p.status = 'ACTIVE'")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    Stream<Object[]> streamActiveNames();
 }
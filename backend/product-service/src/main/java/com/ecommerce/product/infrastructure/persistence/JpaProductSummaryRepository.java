@@ -0,0 +1,139 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.pagination.KeysetCursor;
+import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product listing queries selecting ProductSummary projections through a JPQL constructor
+ * expression: only the card columns are read, and no entity is loaded or registered with the
+ * persistence context.
+ *
+ * The filters vary per listing, so the query is assembled here instead of being declared once
+ * per combination on JpaProductRepository. Queries run with FlushMode.MANUAL, since a projection
+ * has no use for pending changes being flushed before it.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaProductSummaryRepository {
+
+    /**
+     * Products keep their images as an unordered set with no primary image, so the card shows
+     * the URL that sorts first: stable across requests and instances, but not chosen by anyone.
+     */
+    private static final String SELECT_SUMMARY = """
+            SELECT new com.ecommerce.product.domain.model.ProductSummary(
+                p.id, p.sku, p.name, p.price, p.compareAtPrice, p.brand, p.status, p.stockQuantity, p.featured,
+                c.id, c.name, c.slug, (SELECT MIN(i) FROM p.imageUrls i), p.createdAt, p.updatedAt, p.version)
+            FROM Product p LEFT JOIN p.category c""";
+
+    private static final String COUNT = "SELECT COUNT(p) FROM Product p";
+
+    private static final String AFTER_CURSOR =
+            "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))";
+
+    private static final String NEWEST_FIRST = " ORDER BY p.createdAt DESC, p.id DESC";
+
+    private final EntityManager entityManager;
+
+    /**
+     * Find a page of summaries, in any of the given categories unless they are null and with the
+     * given status unless it is null.
+     */
+    public Page<ProductSummary> findAll(Collection<UUID> categoryIds, ProductStatus status, Pageable pageable) {
+        String where = where(categoryIds, status, null);
+        TypedQuery<ProductSummary> query = query(
+                QueryUtils.applySorting(SELECT_SUMMARY + where, pageable.getSort(), "p"),
+                ProductSummary.class, categoryIds, status, null);
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable,
+                () -> query(COUNT + where, Long.class, categoryIds, status, null).getSingleResult());
+    }
+
+    /**
+     * Find up to {@code size} summaries after the cursor position, newest first, with the same
+     * filters as {@link #findAll(Collection, ProductStatus, Pageable)}. One extra row is read to
+     * tell whether another slice follows.
+     */
+    public Slice<ProductSummary> findAll(Collection<UUID> categoryIds, ProductStatus status,
+                                         KeysetCursor after, int size) {
+        List<ProductSummary> content = query(SELECT_SUMMARY + where(categoryIds, status, after) + NEWEST_FIRST,
+                ProductSummary.class, categoryIds, status, after)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Find the summaries of the given products, in the order of the given IDs.
+     */
+    public List<ProductSummary> findAllById(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProductSummary> byId = entityManager
+                .createQuery(SELECT_SUMMARY + " WHERE p.id IN :ids", ProductSummary.class)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static String where(Collection<UUID> categoryIds, ProductStatus status, KeysetCursor after) {
+        List<String> conditions = new ArrayList<>();
+        if (categoryIds != null) {
+            conditions.add("p.category.id IN :categoryIds");
+        }
+        if (status != null) {
+            conditions.add("p.status = :status");
+        }
+        if (after != null) {
+            conditions.add(AFTER_CURSOR);
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private <T> TypedQuery<T> query(String jpql, Class<T> type, Collection<UUID> categoryIds,
+                                    ProductStatus status, KeysetCursor after) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, type)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        if (categoryIds != null) {
+            query.setParameter("categoryIds", categoryIds);
+        }
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (after != null) {
+            query.setParameter("createdAt", after.getCreatedAt());
+            query.setParameter("id", after.getId());
+        }
+        return query;
+    }
+}
@@ -1,16 +1,32 @@
 package com.ecommerce.product.infrastructure.persistence;
 
+import com.ecommerce.common.pagination.KeysetCursor;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
 import com.ecommerce.product.domain.model.Product;
 import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
+import com.ecommerce.product.domain.model.Suggestion;
+import com.ecommerce.product.domain.model.SuggestionType;
 import com.ecommerce.product.domain.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Adapter implementing ProductRepository port using JPA.
@@ -19,7 +35,12 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    private static final long PRODUCT_WEIGHT = 1;
+    private static final long FEATURED_PRODUCT_WEIGHT = 10;
+
     private final JpaProductRepository jpaRepository;
+    private final JpaProductSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Product save(Product product) {
@@ -37,23 +58,58 @@ public class ProductRepositoryAdapter implements ProductRepository {
     }
 
     @Override
-    public Page<Product> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable);
+    public List<Product> findAllById(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Product> byId = jpaRepository.findAllByIdWithCategory(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Starts from the lowest ID when {@code afterId} is null.
+     */
+    @Override
+    public List<UUID> findIdsAfter(UUID afterId, int limit) {
+        return jpaRepository.findIdsAfter(afterId != null ? afterId : new UUID(0, 0), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<UUID> findIdsUpdatedSince(Instant since) {
+        return jpaRepository.findIdsUpdatedSince(since);
+    }
+
+    /**
+     * The grouped brand and category counts are read before the names are streamed, since a
+     * streaming result set must be the only one open on its connection.
+     */
+    @Override
+    public Stream<Suggestion> streamSuggestions() {
+        List<Suggestion> groups = new ArrayList<>();
+        jpaRepository.countActiveByBrand().forEach(row ->
+                groups.add(new Suggestion((String) row[0], SuggestionType.BRAND, (Long) row[1])));
+        jpaRepository.countActiveByCategoryName().forEach(row ->
+                groups.add(new Suggestion((String) row[0], SuggestionType.CATEGORY, (Long) row[1])));
+        Stream<Suggestion> names = jpaRepository.streamActiveNames().map(row -> new Suggestion((String) row[0],
+                SuggestionType.PRODUCT, Boolean.TRUE.equals(row[1]) ? FEATURED_PRODUCT_WEIGHT : PRODUCT_WEIGHT));
+        return Stream.concat(groups.stream(), names);
     }
 
     @Override
-    public Page<Product> findByStatus(ProductStatus status, Pageable pageable) {
-        return jpaRepository.findByStatus(status, pageable);
+    public Page<ProductSummary> findSummaries(Collection<UUID> categoryIds, ProductStatus status, Pageable pageable) {
+        return summaryRepository.findAll(categoryIds, status, pageable);
     }
 
     @Override
-    public Page<Product> findByCategoryId(UUID categoryId, Pageable pageable) {
-        return jpaRepository.findByCategoryId(categoryId, pageable);
+    public Slice<ProductSummary> findSummaries(Collection<UUID> categoryIds, ProductStatus status,
+                                               KeysetCursor after, int size) {
+        return summaryRepository.findAll(categoryIds, status, after, size);
     }
 
     @Override
-    public Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable) {
-        return jpaRepository.findByNameContainingIgnoreCase(name, pageable);
+    public List<ProductSummary> findSummariesById(List<UUID> ids) {
+        return summaryRepository.findAllById(ids);
     }
 
     @Override
@@ -74,6 +130,7 @@ public class ProductRepositoryAdapter implements ProductRepository {
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProductDeletedEvent(id));
     }
 
     @Override
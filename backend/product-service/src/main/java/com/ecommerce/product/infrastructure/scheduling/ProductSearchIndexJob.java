@@ -0,0 +1,40 @@
+package com.ecommerce.product.infrastructure.scheduling;
+
+import com.ecommerce.product.application.usecase.IndexProductsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the product search index in line with the catalog.
+ *
+ * The sync runs once at startup, rebuilding an empty index or catching up with the changes
+ * made while the instance was down, and then periodically for changes made on other
+ * instances. Both jobs run on the single scheduler thread, so they never overlap.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexJob {
+
+    private final IndexProductsUseCase indexProductsUseCase;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.product.search.sync-interval:30s}")
+    public void syncChanges() {
+        try {
+            indexProductsUseCase.syncChanges();
+        } catch (Exception e) {
+            log.warn("Failed to sync the product search index: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.product.search.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        try {
+            indexProductsUseCase.rebuild();
+        } catch (Exception e) {
+            log.error("Failed to rebuild the product search index", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.product.infrastructure.scheduling;
+
+import com.ecommerce.product.application.usecase.SuggestProductsUseCase;
+import com.ecommerce.product.config.ProductSearchProperties;
+import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Rebuilds the autocomplete suggestions in the background.
+ *
+ * A product created or updated on this instance marks the suggestions stale, and the next
+ * check rebuilds them, so a burst of changes costs one rebuild. Suggestions older than the
+ * configured maximum age are rebuilt too, which picks up changes made on other instances.
+ * The first check, at startup, builds them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestionRebuildJob {
+
+    private final SuggestProductsUseCase suggestProductsUseCase;
+    private final ProductSearchProperties properties;
+
+    private volatile boolean stale = true;
+    private volatile Instant builtAt = Instant.EPOCH;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductCreated(ProductCreatedEvent event) {
+        stale = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductUpdated(ProductUpdatedEvent event) {
+        stale = true;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.product.search.suggestions.check-interval:10s}")
+    public void rebuildIfStale() {
+        Instant now = Instant.now();
+        if (!stale && builtAt.plus(properties.getSuggestions().getMaxAge()).isAfter(now)) {
+            return;
+        }
+        stale = false;
+        try {
+            suggestProductsUseCase.rebuild();
+            builtAt = now;
+        } catch (Exception e) {
+            stale = true;
+            log.warn("Failed to rebuild product suggestions: {}", e.getMessage());
+        }
+    }
+}
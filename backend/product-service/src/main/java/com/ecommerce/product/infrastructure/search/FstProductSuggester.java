@@ -0,0 +1,177 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.application.search.ProductSuggester;
+import com.ecommerce.product.domain.model.Suggestion;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.search.suggest.InputIterator;
+import org.apache.lucene.search.suggest.Lookup;
+import org.apache.lucene.search.suggest.fst.WFSTCompletionLookup;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Autocomplete over a weighted finite state transducer (Lucene's WFSTCompletionLookup).
+ *
+ * Every suggestion is entered once per word start, up to a few words, so "gal" completes
+ * "Samsung Galaxy" as well as "Galaxy Tab". Entry keys are the normalized text followed by a
+ * separator and the suggestion's ordinal, which keeps them unique and points back to the
+ * original text. A lookup walks the transducer along the input and then follows the heaviest
+ * paths, so it takes microseconds whatever the number of suggestions, and never leaves memory.
+ *
+ * A rebuild constructs a complete new snapshot while lookups keep using the current one, and
+ * then replaces it with a single volatile write.
+ */
+@Slf4j
+@Component
+public class FstProductSuggester implements ProductSuggester {
+
+    private static final char KEY_SEPARATOR = '\u001F';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern CONTROL = Pattern.compile("\\p{Cntrl}");
+    private static final int MAX_WORD_ENTRIES = 4;
+    private static final int MAX_INPUT_LENGTH = 100;
+
+    /**
+     * Extra results fetched per requested one, since a suggestion matching at several word
+     * starts comes back once per match.
+     */
+    private static final int OVERFETCH = 3;
+
+    private volatile Snapshot snapshot = new Snapshot(null, List.of());
+
+    @Override
+    public List<Suggestion> suggest(String input, int limit) {
+        String prefix = normalize(input);
+        Snapshot current = snapshot;
+        if (prefix.isEmpty() || current.getLookup() == null || limit <= 0) {
+            return List.of();
+        }
+        List<Lookup.LookupResult> results = current.getLookup().lookup(prefix, null, false, limit * OVERFETCH);
+        Set<Integer> ordinals = new LinkedHashSet<>();
+        for (Lookup.LookupResult result : results) {
+            String key = result.key.toString();
+            ordinals.add(Integer.parseInt(key.substring(key.lastIndexOf(KEY_SEPARATOR) + 1)));
+            if (ordinals.size() == limit) {
+                break;
+            }
+        }
+        return ordinals.stream().map(current.getSuggestions()::get).toList();
+    }
+
+    @Override
+    public int rebuild(Iterator<Suggestion> suggestions) {
+        Map<String, Suggestion> merged = new LinkedHashMap<>();
+        while (suggestions.hasNext()) {
+            Suggestion suggestion = suggestions.next();
+            String text = normalize(suggestion.getText());
+            if (!text.isEmpty()) {
+                merged.merge(suggestion.getType() + ":" + text, suggestion, (existing, added) ->
+                        new Suggestion(existing.getText(), existing.getType(), existing.getWeight() + added.getWeight()));
+            }
+        }
+
+        List<Suggestion> ordered = List.copyOf(merged.values());
+        List<Entry> entries = new ArrayList<>(ordered.size() * 2);
+        for (int ordinal = 0; ordinal < ordered.size(); ordinal++) {
+            Suggestion suggestion = ordered.get(ordinal);
+            String text = normalize(suggestion.getText());
+            long weight = Math.min(Math.max(suggestion.getWeight(), 0), Integer.MAX_VALUE);
+            int start = 0;
+            for (int words = 0; words < MAX_WORD_ENTRIES && start >= 0; words++) {
+                entries.add(new Entry(new BytesRef(text.substring(start) + KEY_SEPARATOR + ordinal), weight));
+                int space = text.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+
+        try {
+            WFSTCompletionLookup lookup = new WFSTCompletionLookup(new ByteBuffersDirectory(), "suggest", false);
+            lookup.build(new EntryIterator(entries.iterator()));
+            snapshot = new Snapshot(lookup, ordered);
+            log.info("Built {} suggestions, {} KB", ordered.size(), lookup.ramBytesUsed() / 1024);
+            return ordered.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to build suggestions", e);
+        }
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = WHITESPACE.matcher(CONTROL.matcher(text).replaceAll(" ")).replaceAll(" ")
+                .strip()
+                .toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_INPUT_LENGTH ? normalized.substring(0, MAX_INPUT_LENGTH) : normalized;
+    }
+
+    @Value
+    private static class Snapshot {
+        WFSTCompletionLookup lookup;
+        List<Suggestion> suggestions;
+    }
+
+    @Value
+    private static class Entry {
+        BytesRef key;
+        long weight;
+    }
+
+    private static class EntryIterator implements InputIterator {
+
+        private final Iterator<Entry> entries;
+        private Entry current;
+
+        EntryIterator(Iterator<Entry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public BytesRef next() {
+            if (!entries.hasNext()) {
+                return null;
+            }
+            current = entries.next();
+            return current.getKey();
+        }
+
+        @Override
+        public long weight() {
+            return current.getWeight();
+        }
+
+        @Override
+        public BytesRef payload() {
+            return null;
+        }
+
+        @Override
+        public boolean hasPayloads() {
+            return false;
+        }
+
+        @Override
+        public Set<BytesRef> contexts() {
+            return null;
+        }
+
+        @Override
+        public boolean hasContexts() {
+            return false;
+        }
+    }
+}
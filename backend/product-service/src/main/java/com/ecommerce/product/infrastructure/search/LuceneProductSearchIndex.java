@@ -0,0 +1,411 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.product.application.search.ProductSearchDocument;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.search.ProductSearchQuery;
+import com.ecommerce.product.config.ProductSearchProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.Facets;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Product search index in an embedded Lucene directory on local disk.
+ *
+ * Name, brand, tags and category path are matched term by term with BM25, with a typo
+ * tolerance of one or two edits depending on the word's length, and the last word also as a
+ * prefix so partial input matches; descriptions only match exact terms. Fields are boosted so
+ * that a name match outranks a description match. Brand and category counts come from doc
+ * values, and every search only visits the postings of its terms, so its cost depends on the
+ * number of matches rather than on the size of the catalog.
+ *
+ * Upserts and deletes are visible to searches right away through a near-real-time reader; they become
+ * durable on the next commit, which also records the watermark the incremental sync resumes
+ * from after a restart.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LuceneProductSearchIndex implements ProductSearchIndex {
+
+    private static final String ID_FIELD = "id";
+    private static final String NAME_FIELD = "name";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String BRAND_FIELD = "brand";
+    private static final String TAGS_FIELD = "tags";
+    private static final String CATEGORY_FIELD = "category";
+    private static final String GENERATION_FIELD = "generation";
+    private static final String WATERMARK_KEY = "watermark";
+
+    /**
+     * Boosts of the fields matched with typo tolerance and as a prefix.
+     */
+    private static final Map<String, Float> FUZZY_FIELD_BOOSTS = Map.of(
+            NAME_FIELD, 3.0f,
+            BRAND_FIELD, 2.0f,
+            TAGS_FIELD, 2.0f,
+            CATEGORY_FIELD, 1.5f);
+    private static final float DESCRIPTION_BOOST = 1.0f;
+    private static final float FUZZY_WEIGHT = 0.5f;
+    private static final float PREFIX_WEIGHT = 0.7f;
+    private static final int FUZZY_PREFIX_LENGTH = 1;
+    private static final int MAX_QUERY_TERMS = 10;
+    private static final int MAX_FACET_VALUES = 20;
+
+    /**
+     * Deepest result a search may page to; deeper pages cost as much as collecting all of
+     * the hits before them.
+     */
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final ProductSearchProperties properties;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile long generation;
+    private volatile Instant watermark;
+    private volatile FacetState facetState;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = FSDirectory.open(properties.getIndexPath());
+        if (DirectoryReader.indexExists(directory)) {
+            String committed = SegmentInfos.readLatestCommit(directory).getUserData().get(WATERMARK_KEY);
+            watermark = committed != null ? Instant.parse(committed) : null;
+        }
+
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setSimilarity(new BM25Similarity())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(new BM25Similarity());
+                return searcher;
+            }
+        });
+        generation = System.currentTimeMillis();
+        log.info("Opened product search index at {} with {} documents, watermark {}",
+                properties.getIndexPath(), writer.getDocStats().numDocs, watermark);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    @Override
+    public ProductSearchHits search(ProductSearchQuery query) {
+        if (query.getOffset() + query.getLimit() > MAX_RESULT_WINDOW) {
+            throw new ValidationException("page", "Search results are limited to the first " + MAX_RESULT_WINDOW);
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                FacetsCollectorManager.FacetsResult result = FacetsCollectorManager.search(searcher,
+                        buildQuery(query), Math.max(1, query.getOffset() + query.getLimit()),
+                        new FacetsCollectorManager());
+                TopDocs topDocs = result.topDocs();
+
+                List<UUID> productIds = new ArrayList<>(query.getLimit());
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = query.getOffset(); i < scoreDocs.length && productIds.size() < query.getLimit(); i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc, Set.of(ID_FIELD));
+                    productIds.add(UUID.fromString(document.get(ID_FIELD)));
+                }
+
+                Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+                SortedSetDocValuesReaderState state = facetState(searcher.getIndexReader());
+                if (state != null) {
+                    Facets counts = new SortedSetDocValuesFacetCounts(state, result.facetsCollector());
+                    facets.put(ProductSearchHits.CATEGORY_FACET, topValues(counts, ProductSearchHits.CATEGORY_FACET));
+                    facets.put(ProductSearchHits.BRAND_FACET, topValues(counts, ProductSearchHits.BRAND_FACET));
+                }
+                return new ProductSearchHits(productIds, topDocs.totalHits.value, facets);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Product search failed", e);
+        }
+    }
+
+    @Override
+    public void upsert(List<ProductSearchDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        try {
+            long currentGeneration = generation;
+            for (ProductSearchDocument document : documents) {
+                writer.updateDocument(new Term(ID_FIELD, document.getId().toString()),
+                        facetsConfig.build(toDocument(document, currentGeneration)));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index " + documents.size() + " products", e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        try {
+            writer.deleteDocuments(productIds.stream()
+                    .map(productId -> new Term(ID_FIELD, productId.toString()))
+                    .toArray(Term[]::new));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove " + productIds.size() + " products from the search index", e);
+        }
+    }
+
+    @Override
+    public synchronized long startRebuild() {
+        generation = Math.max(generation + 1, System.currentTimeMillis());
+        return generation;
+    }
+
+    @Override
+    public void finishRebuild(long rebuildGeneration) {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION_FIELD, Long.MIN_VALUE, rebuildGeneration - 1));
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove stale products from the search index", e);
+        }
+    }
+
+    @Override
+    public Instant getWatermark() {
+        return watermark;
+    }
+
+    @Override
+    public synchronized void commit(Instant newWatermark) {
+        try {
+            writer.setLiveCommitData(Map.of(WATERMARK_KEY, newWatermark.toString()).entrySet());
+            writer.commit();
+            watermark = newWatermark;
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit the product search index", e);
+        }
+    }
+
+    // ========== Indexing ==========
+
+    private Document toDocument(ProductSearchDocument product, long documentGeneration) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, product.getId().toString(), Field.Store.YES));
+        document.add(new LongPoint(GENERATION_FIELD, documentGeneration));
+        addText(document, NAME_FIELD, product.getName());
+        addText(document, DESCRIPTION_FIELD, product.getDescription());
+        addText(document, BRAND_FIELD, product.getBrand());
+        if (product.getTags() != null) {
+            product.getTags().forEach(tag -> addText(document, TAGS_FIELD, tag));
+        }
+
+        List<String> categoryPath = product.getCategoryPath();
+        if (categoryPath != null && !categoryPath.isEmpty()) {
+            addText(document, CATEGORY_FIELD, String.join(" ", categoryPath));
+            document.add(new SortedSetDocValuesFacetField(ProductSearchHits.CATEGORY_FACET,
+                    categoryPath.get(categoryPath.size() - 1)));
+        }
+        if (product.getBrand() != null && !product.getBrand().isBlank()) {
+            document.add(new SortedSetDocValuesFacetField(ProductSearchHits.BRAND_FACET, product.getBrand()));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    // ========== Querying ==========
+
+    private Query buildQuery(ProductSearchQuery query) throws IOException {
+        List<String> terms = analyze(query.getText());
+        Query textQuery;
+        if (terms.isEmpty()) {
+            textQuery = new MatchAllDocsQuery();
+        } else {
+            BooleanQuery.Builder builder = new BooleanQuery.Builder();
+            for (int i = 0; i < terms.size(); i++) {
+                builder.add(termQuery(terms.get(i), i == terms.size() - 1), BooleanClause.Occur.MUST);
+            }
+            textQuery = builder.build();
+        }
+
+        if (query.getCategory() == null && query.getBrand() == null) {
+            return textQuery;
+        }
+        DrillDownQuery drillDown = new DrillDownQuery(facetsConfig, textQuery);
+        if (query.getCategory() != null) {
+            drillDown.add(ProductSearchHits.CATEGORY_FACET, query.getCategory());
+        }
+        if (query.getBrand() != null) {
+            drillDown.add(ProductSearchHits.BRAND_FACET, query.getBrand());
+        }
+        return drillDown;
+    }
+
+    /**
+     * Match one query word in any field: exactly, within the edit distance its length allows,
+     * and for the last word of the query as a prefix.
+     */
+    private static Query termQuery(String term, boolean last) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        builder.add(new BoostQuery(new TermQuery(new Term(DESCRIPTION_FIELD, term)), DESCRIPTION_BOOST),
+                BooleanClause.Occur.SHOULD);
+
+        int maxEdits = maxEdits(term);
+        FUZZY_FIELD_BOOSTS.forEach((field, boost) -> {
+            Term fieldTerm = new Term(field, term);
+            builder.add(new BoostQuery(new TermQuery(fieldTerm), boost), BooleanClause.Occur.SHOULD);
+            if (maxEdits > 0) {
+                builder.add(new BoostQuery(new FuzzyQuery(fieldTerm, maxEdits, FUZZY_PREFIX_LENGTH),
+                        boost * FUZZY_WEIGHT), BooleanClause.Occur.SHOULD);
+            }
+            if (last) {
+                builder.add(new BoostQuery(new PrefixQuery(fieldTerm), boost * PREFIX_WEIGHT),
+                        BooleanClause.Occur.SHOULD);
+            }
+        });
+        return builder.build();
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() < 4) {
+            return 0;
+        }
+        return term.length() < 8 ? 1 : 2;
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        try (TokenStream stream = analyzer.tokenStream(NAME_FIELD, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    // ========== Facets ==========
+
+    private static Map<String, Long> topValues(Facets counts, String dimension) throws IOException {
+        Map<String, Long> values = new LinkedHashMap<>();
+        try {
+            FacetResult result = counts.getTopChildren(MAX_FACET_VALUES, dimension);
+            if (result != null) {
+                for (LabelAndValue labelAndValue : result.labelValues) {
+                    values.put(labelAndValue.label, labelAndValue.value.longValue());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // No document has a value for this dimension yet
+        }
+        return values;
+    }
+
+    /**
+     * The ordinal map of the facet values is built once per reader, not per search.
+     *
+     * @return the state of the given reader, or null if no document has facet values
+     */
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        FacetState current = facetState;
+        if (current != null && current.getReader() == reader) {
+            return current.getState();
+        }
+        SortedSetDocValuesReaderState state;
+        try {
+            state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+        } catch (IllegalArgumentException e) {
+            state = null;
+        }
+        facetState = new FacetState(reader, state);
+        return state;
+    }
+
+    @Value
+    private static class FacetState {
+        IndexReader reader;
+        SortedSetDocValuesReaderState state;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.application.usecase.IndexProductsUseCase;
+import com.ecommerce.product.domain.event.ProductCreatedEvent;
+import com.ecommerce.product.domain.event.ProductDeletedEvent;
+import com.ecommerce.product.domain.event.ProductUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Indexes products created, updated or deleted on this instance as soon as the change
+ * committed; indexing a deleted product removes its document.
+ *
+ * Failures are only logged: the periodic sync picks up a changed product again, as it does for
+ * changes made on other instances. A deleted product that stays in the index is dropped by the
+ * first search that finds it, or by the next rebuild.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndexListener {
+
+    private final IndexProductsUseCase indexProductsUseCase;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductCreated(ProductCreatedEvent event) {
+        index(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductUpdated(ProductUpdatedEvent event) {
+        index(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductDeleted(ProductDeletedEvent event) {
+        index(event.getProductId());
+    }
+
+    private void index(UUID productId) {
+        try {
+            indexProductsUseCase.index(List.of(productId));
+        } catch (Exception e) {
+            log.warn("Failed to index product {}: {}", productId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- V5: Index products by last update
+
+-- The search index sync looks up the products changed since its last run
+CREATE INDEX idx_products_updated_at ON products (updated_at);
@@ -0,0 +1,9 @@
+-- V6: Index products for cursor pagination
+
+-- Cursor listings seek on (created_at, id), newest first; InnoDB appends the id to every
+-- secondary index, so created_at alone serves the unfiltered listing
+CREATE INDEX idx_products_created_at ON products (created_at);
+CREATE INDEX idx_products_status_created_at ON products (status, created_at);
+
+-- Category listings filter on a category subtree and usually a status, newest first
+CREATE INDEX idx_products_category_status_created_at ON products (category_id, status, created_at);
@@ -0,0 +1,25 @@
+-- V7: Create category closure table
+
+-- One row per (ancestor, descendant) pair, including each category paired with itself at
+-- depth 0, so a subtree or a path to the root is one indexed lookup instead of a walk
+CREATE TABLE category_closure (
+    ancestor_id BINARY(16) NOT NULL,
+    descendant_id BINARY(16) NOT NULL,
+    depth INT NOT NULL,
+
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_category_closure_descendant (descendant_id, depth),
+    CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES categories(id) ON DELETE CASCADE,
+    CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id) REFERENCES categories(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Backfill from the existing parent links
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE tree (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM categories
+    UNION ALL
+    SELECT tree.ancestor_id, c.id, tree.depth + 1
+    FROM tree
+    JOIN categories c ON c.parent_id = tree.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM tree;
@@ -0,0 +1,202 @@
+package com.ecommerce.product.api.controller;
+
+import com.ecommerce.common.exception.GlobalExceptionHandler;
+import com.ecommerce.common.exception.ResourceNotFoundException;
+import com.ecommerce.common.response.ApiResponse;
+import com.ecommerce.common.web.HttpCacheConfig;
+import com.ecommerce.common.web.HttpCacheEtagFilter;
+import com.ecommerce.common.web.HttpCacheResponseAdvice;
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.usecase.CreateProductUseCase;
+import com.ecommerce.product.application.usecase.GetCategoriesUseCase;
+import com.ecommerce.product.application.usecase.GetProductUseCase;
+import com.ecommerce.product.application.usecase.ListProductsUseCase;
+import com.ecommerce.product.application.usecase.ManageCategoryUseCase;
+import com.ecommerce.product.application.usecase.SearchProductsUseCase;
+import com.ecommerce.product.application.usecase.SuggestProductsUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Web tests for the HTTP caching of the public catalog reads, through the ETag filter that
+ * the application registers.
+ */
+@WebMvcTest(controllers = {ProductController.class, CategoryController.class})
+@ContextConfiguration(classes = HttpCachingControllerTest.Config.class)
+@DisplayName("HTTP caching Tests")
+class HttpCachingControllerTest {
+
+    private static final String CACHE_CONTROL = "max-age=60, public, stale-while-revalidate=300";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private FilterRegistrationBean<HttpCacheEtagFilter> etagFilter;
+
+    @MockitoBean
+    private CreateProductUseCase createProductUseCase;
+
+    @MockitoBean
+    private GetProductUseCase getProductUseCase;
+
+    @MockitoBean
+    private ListProductsUseCase listProductsUseCase;
+
+    @MockitoBean
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @MockitoBean
+    private SuggestProductsUseCase suggestProductsUseCase;
+
+    @MockitoBean
+    private GetCategoriesUseCase getCategoriesUseCase;
+
+    @MockitoBean
+    private ManageCategoryUseCase manageCategoryUseCase;
+
+    private MockMvc mockMvc;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(etagFilter.getFilter())
+                .build();
+        productId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("should send Cache-Control and a content ETag without the envelope timestamp")
+    void shouldSendCacheHeaders() throws Exception {
+        // Given
+        when(getProductUseCase.getById(productId)).thenReturn(product("Phone"));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data.name").value("Phone"))
+                .andExpect(jsonPath("$.timestamp").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("should answer 304 without a body when If-None-Match matches")
+    void shouldAnswerNotModifiedWhenEtagMatches() throws Exception {
+        // Given
+        when(getProductUseCase.getById(productId)).thenReturn(product("Phone"));
+        String etag = etagOf(get("/api/v1/products/{id}", productId));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("should send the full response when the content changed")
+    void shouldSendResponseWhenContentChanged() throws Exception {
+        // Given
+        when(getProductUseCase.getById(productId)).thenReturn(product("Phone"), product("Phone 2"));
+        String etag = etagOf(get("/api/v1/products/{id}", productId));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("Phone 2"));
+    }
+
+    @Test
+    @DisplayName("should mark error responses no-store without an ETag")
+    void shouldNotCacheErrors() throws Exception {
+        // Given
+        when(getProductUseCase.getById(productId))
+                .thenThrow(new ResourceNotFoundException("Product", "id", productId));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/products/{id}", productId))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("should keep the handler's ETag and Cache-Control on Spring's own 304")
+    void shouldSendCacheControlOnHandlerNotModified() throws Exception {
+        // Given
+        when(getCategoriesUseCase.getTree()).thenReturn(new CategoryTree(List.of(), Map.of(), "tree-1"));
+
+        // When / Then
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, "\"tree-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"tree-1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("should leave endpoints that are not cacheable alone")
+    void shouldLeaveOtherEndpointsAlone() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/plain"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data[0]").value("plain"))
+                .andExpect(jsonPath("$.timestamp").exists());
+    }
+
+    private String etagOf(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return result.getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private ProductResponse product(String name) {
+        return ProductResponse.builder().id(productId).name(name).build();
+    }
+
+    @Import({ProductController.class, CategoryController.class, PlainController.class,
+            HttpCacheConfig.class, HttpCacheResponseAdvice.class, GlobalExceptionHandler.class})
+    static class Config {
+    }
+
+    @RestController
+    static class PlainController {
+
+        @GetMapping("/plain")
+        ResponseEntity<ApiResponse<List<String>>> plain() {
+            return ResponseEntity.ok(ApiResponse.success(List.of("plain")));
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.application.cache.CategoryTreeCache;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.usecase.impl.GetCategoriesUseCaseImpl;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.CategoryLink;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GetCategoriesUseCase Tests")
+class GetCategoriesUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
+    @InjectMocks
+    private GetCategoriesUseCaseImpl getCategoriesUseCase;
+
+    private Category electronics;
+    private Category phones;
+    private Category smartphones;
+    private Category books;
+
+    @BeforeEach
+    void setUp() {
+        electronics = Category.createRoot("Electronics", "electronics", null);
+        electronics.setDisplayOrder(1);
+        phones = electronics.createSubcategory("Phones", "phones", null);
+        smartphones = phones.createSubcategory("Smartphones", "smartphones", null);
+        books = Category.createRoot("Books", "books", null);
+        books.setDisplayOrder(2);
+
+        when(categoryRepository.findAll()).thenReturn(List.of(smartphones, books, phones, electronics));
+        when(categoryRepository.findAllLinks()).thenReturn(List.of(
+                new CategoryLink(electronics.getId(), electronics.getId(), 0),
+                new CategoryLink(electronics.getId(), phones.getId(), 1),
+                new CategoryLink(electronics.getId(), smartphones.getId(), 2),
+                new CategoryLink(phones.getId(), phones.getId(), 0),
+                new CategoryLink(phones.getId(), smartphones.getId(), 1),
+                new CategoryLink(smartphones.getId(), smartphones.getId(), 0),
+                new CategoryLink(books.getId(), books.getId(), 0)));
+        lenient().when(categoryTreeCache.get(any())).thenAnswer(invocation ->
+                invocation.<Supplier<CategoryTree>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("should build the tree in display order with paths, children and subtrees")
+    void shouldBuildTree() {
+        // When
+        CategoryTree tree = getCategoriesUseCase.getTree();
+
+        // Then
+        assertThat(tree.getCategories()).extracting(CategoryResponse::getSlug)
+                .containsExactly("electronics", "phones", "smartphones", "books");
+        assertThat(tree.getRoots()).extracting(CategoryResponse::getSlug).containsExactly("electronics", "books");
+
+        CategoryResponse leaf = tree.findById(smartphones.getId()).orElseThrow();
+        assertThat(leaf.getFullPath()).isEqualTo("electronics/phones/smartphones");
+        assertThat(leaf.getParentName()).isEqualTo("Phones");
+        assertThat(tree.findBySlug("electronics").orElseThrow().getChildren())
+                .extracting(CategoryResponse.CategorySummary::getSlug).containsExactly("phones");
+        assertThat(tree.getSubtreeIds(electronics.getId()))
+                .containsExactlyInAnyOrder(electronics.getId(), phones.getId(), smartphones.getId());
+        assertThat(tree.getSubtreeIds(books.getId())).containsExactly(books.getId());
+    }
+
+    @Test
+    @DisplayName("should change the ETag only when a category changed")
+    void shouldChangeEtagOnlyOnChange() {
+        // Given
+        electronics.setVersion(0L);
+        String first = getCategoriesUseCase.getTree().getEtag();
+
+        // When
+        String unchanged = getCategoriesUseCase.getTree().getEtag();
+        electronics.setVersion(1L);
+        String changed = getCategoriesUseCase.getTree().getEtag();
+
+        // Then
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(changed).isNotEqualTo(first);
+    }
+}
@@ -2,6 +2,7 @@ package com.ecommerce.product.application.usecase;
 
 import com.ecommerce.common.exception.ResourceNotFoundException;
 import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.cache.ProductCache;
 import com.ecommerce.product.application.dto.response.ProductResponse;
 import com.ecommerce.product.application.mapper.ProductMapper;
 import com.ecommerce.product.application.usecase.impl.GetProductUseCaseImpl;
@@ -17,10 +18,13 @@ import org.mockito.Mock;
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @DisplayName("GetProductUseCase Tests")
 class GetProductUseCaseTest extends BaseUnitTest {
@@ -31,6 +35,9 @@ class GetProductUseCaseTest extends BaseUnitTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ProductCache productCache;
+
     @InjectMocks
     private GetProductUseCaseImpl getProductUseCase;
 
@@ -54,6 +61,11 @@ class GetProductUseCaseTest extends BaseUnitTest {
         expectedResponse = new ProductResponse();
         expectedResponse.setId(productId);
         expectedResponse.setName("Test Product");
+
+        lenient().when(productCache.getById(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ProductResponse>>getArgument(1).get());
+        lenient().when(productCache.getBySku(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ProductResponse>>getArgument(1).get());
     }
 
     @Test
@@ -98,4 +110,18 @@ class GetProductUseCaseTest extends BaseUnitTest {
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Test Product");
     }
+
+    @Test
+    @DisplayName("should serve a cached product without reading the repository")
+    void shouldServeCachedProduct() {
+        // Given
+        doReturn(expectedResponse).when(productCache).getById(eq(productId), any());
+
+        // When
+        ProductResponse result = getProductUseCase.getById(productId);
+
+        // Then
+        assertThat(result).isSameAs(expectedResponse);
+        verifyNoInteractions(productRepository, productMapper);
+    }
 }
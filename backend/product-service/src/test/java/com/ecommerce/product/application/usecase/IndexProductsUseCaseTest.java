@@ -0,0 +1,146 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.application.search.ProductSearchDocument;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.usecase.impl.IndexProductsUseCaseImpl;
+import com.ecommerce.product.config.ProductSearchProperties;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IndexProductsUseCase Tests")
+class IndexProductsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IndexProductsUseCaseImpl indexProductsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        ProductSearchProperties properties = new ProductSearchProperties();
+        properties.setBatchSize(2);
+        indexProductsUseCase = new IndexProductsUseCaseImpl(productRepository,
+                Mappers.getMapper(ProductMapper.class), productSearchIndex, properties, transactionManager);
+    }
+
+    @Test
+    @DisplayName("should index a product with its category path")
+    @SuppressWarnings("unchecked")
+    void shouldIndexWithCategoryPath() {
+        // Given
+        Category electronics = Category.createRoot("Electronics", "electronics", null);
+        Category phones = electronics.createSubcategory("Phones", "phones", null);
+        Product product = Product.create("SKU-1", "Galaxy", "A phone", new BigDecimal("499.00"), phones, UUID.randomUUID());
+        when(productRepository.findAllById(List.of(product.getId()))).thenReturn(List.of(product));
+
+        // When
+        indexProductsUseCase.index(List.of(product.getId()));
+
+        // Then
+        ArgumentCaptor<List<ProductSearchDocument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(productSearchIndex).upsert(captor.capture());
+        ProductSearchDocument document = captor.getValue().get(0);
+        assertThat(document.getName()).isEqualTo("Galaxy");
+        assertThat(document.getCategoryPath()).containsExactly("Electronics", "Phones");
+    }
+
+    @Test
+    @DisplayName("should remove the documents of products that no longer exist")
+    void shouldRemoveDeletedProducts() {
+        // Given
+        Product product = Product.create("SKU-1", "Galaxy", null, new BigDecimal("499.00"), null, UUID.randomUUID());
+        UUID deleted = UUID.randomUUID();
+        when(productRepository.findAllById(List.of(product.getId(), deleted))).thenReturn(List.of(product));
+
+        // When
+        indexProductsUseCase.index(List.of(product.getId(), deleted));
+
+        // Then
+        verify(productSearchIndex).upsert(argThat(documents -> documents.size() == 1));
+        verify(productSearchIndex).delete(List.of(deleted));
+    }
+
+    @Test
+    @DisplayName("should rebuild in ID batches and drop stale documents")
+    void shouldRebuildInBatches() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(productSearchIndex.startRebuild()).thenReturn(7L);
+        when(productRepository.findIdsAfter(null, 2)).thenReturn(List.of(first, second));
+        when(productRepository.findIdsAfter(second, 2)).thenReturn(List.of(third));
+
+        // When
+        int indexed = indexProductsUseCase.rebuild();
+
+        // Then
+        assertThat(indexed).isEqualTo(3);
+        verify(productRepository).findAllById(List.of(first, second));
+        verify(productRepository).findAllById(List.of(third));
+        verify(productSearchIndex).finishRebuild(7L);
+        verify(productSearchIndex).commit(any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should only index products changed since the watermark")
+    void shouldSyncChangesSinceWatermark() {
+        // Given
+        Instant watermark = Instant.now().minusSeconds(60);
+        UUID changed = UUID.randomUUID();
+        when(productSearchIndex.getWatermark()).thenReturn(watermark);
+        when(productRepository.findIdsUpdatedSince(any())).thenReturn(List.of(changed));
+
+        // When
+        int indexed = indexProductsUseCase.syncChanges();
+
+        // Then
+        assertThat(indexed).isEqualTo(1);
+        verify(productRepository).findAllById(List.of(changed));
+        verify(productSearchIndex, never()).startRebuild();
+        verify(productSearchIndex).commit(any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("should rebuild an index that was never committed")
+    void shouldRebuildEmptyIndex() {
+        // Given
+        when(productSearchIndex.getWatermark()).thenReturn(null);
+        when(productRepository.findIdsAfter(null, 2)).thenReturn(List.of());
+
+        // When
+        indexProductsUseCase.syncChanges();
+
+        // Then
+        verify(productSearchIndex).startRebuild();
+        verify(productSearchIndex, never()).upsert(anyList());
+        verify(productRepository, never()).findIdsUpdatedSince(any());
+    }
+}
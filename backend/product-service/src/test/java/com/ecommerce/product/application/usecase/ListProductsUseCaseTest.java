@@ -0,0 +1,170 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.common.pagination.KeysetCursor;
+import com.ecommerce.common.response.SliceResponse;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.application.cache.ProductCache;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.usecase.impl.ListProductsUseCaseImpl;
+import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ListProductsUseCase Tests")
+class ListProductsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private GetCategoriesUseCase getCategoriesUseCase;
+
+    @Spy
+    private ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+    @InjectMocks
+    private ListProductsUseCaseImpl listProductsUseCase;
+
+    @Test
+    @DisplayName("should resume a cursor listing after the last product of the previous slice")
+    void shouldResumeAfterLastProduct() {
+        // Given
+        Instant now = Instant.parse("2025-01-15T10:00:00Z");
+        ProductSummary newest = summary("SKU-1", now);
+        ProductSummary older = summary("SKU-2", now.minusSeconds(60));
+        when(productRepository.findSummaries(null, null, null, 2))
+                .thenReturn(new SliceImpl<>(List.of(newest, older), PageRequest.of(0, 2), true));
+
+        // When
+        Slice<ProductSummaryResponse> slice = listProductsUseCase.list(null, 2);
+        SliceResponse<ProductSummaryResponse> response = SliceResponse.from(slice,
+                product -> new KeysetCursor(product.getCreatedAt(), product.getId()));
+
+        // Then
+        assertThat(response.getContent()).extracting("sku").containsExactly("SKU-1", "SKU-2");
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(response.getNextCursor()))
+                .isEqualTo(new KeysetCursor(older.getCreatedAt(), older.getId()));
+    }
+
+    @Test
+    @DisplayName("should not hand out a cursor on the last slice")
+    void shouldNotHandOutCursorOnLastSlice() {
+        // Given
+        KeysetCursor after = new KeysetCursor(Instant.parse("2025-01-15T10:00:00Z"), UUID.randomUUID());
+        ProductSummary last = summary("SKU-3", after.getCreatedAt().minusSeconds(1));
+        when(productRepository.findSummaries(null, null, after, 2))
+                .thenReturn(new SliceImpl<>(List.of(last), PageRequest.of(0, 2), false));
+
+        // When
+        SliceResponse<ProductSummaryResponse> response = SliceResponse.from(listProductsUseCase.list(after, 2),
+                product -> new KeysetCursor(product.getCreatedAt(), product.getId()));
+
+        // Then
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("should list a category together with its subcategories")
+    void shouldListCategorySubtree() {
+        // Given
+        UUID parentId = UUID.randomUUID();
+        UUID childId = UUID.randomUUID();
+        when(getCategoriesUseCase.getTree()).thenReturn(
+                new CategoryTree(List.of(), Map.of(parentId, Set.of(parentId, childId)), "etag"));
+        PageRequest pageable = PageRequest.of(0, 20);
+        ProductSummary product = summary("SKU-4", Instant.parse("2025-01-15T10:00:00Z"));
+        when(productRepository.findSummaries(Set.of(parentId, childId), ProductStatus.ACTIVE, pageable))
+                .thenReturn(new PageImpl<>(List.of(product), pageable, 1));
+
+        // When
+        Page<ProductSummaryResponse> page = listProductsUseCase.listByCategory(parentId, ProductStatus.ACTIVE, pageable);
+
+        // Then
+        assertThat(page.getContent()).extracting("sku").containsExactly("SKU-4");
+        assertThat(page.getContent().get(0).getCategory().getSlug()).isEqualTo("phones");
+    }
+
+    @Test
+    @DisplayName("should list a category missing from the snapshot on its own")
+    void shouldListUnknownCategoryOnItsOwn() {
+        // Given
+        UUID categoryId = UUID.randomUUID();
+        when(getCategoriesUseCase.getTree()).thenReturn(new CategoryTree(List.of(), Map.of(), "etag"));
+        when(productRepository.findSummaries(Set.of(categoryId), null, null, 20))
+                .thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        Slice<ProductSummaryResponse> slice = listProductsUseCase.listByCategory(categoryId, null, null, 20);
+
+        // Then
+        assertThat(slice.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        // When / Then
+        assertThat(KeysetCursor.decode("")).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @DisplayName("should remove search hits of deleted products from the index")
+    void shouldRemoveDeletedProductsFromIndex() {
+        // Given
+        ProductSummary kept = summary("SKU-5", Instant.parse("2025-01-15T10:00:00Z"));
+        UUID deleted = UUID.randomUUID();
+        when(productSearchIndex.search(any())).thenReturn(new ProductSearchHits(List.of(kept.getId(), deleted), 2, Map.of()));
+        when(productRepository.findSummariesById(List.of(kept.getId(), deleted))).thenReturn(List.of(kept));
+
+        // When
+        Page<ProductSummaryResponse> page = listProductsUseCase.search("galaxy", PageRequest.of(0, 2));
+
+        // Then
+        assertThat(page.getContent()).extracting("sku").containsExactly("SKU-5");
+        verify(productSearchIndex).delete(List.of(deleted));
+    }
+
+    private static ProductSummary summary(String sku, Instant createdAt) {
+        return new ProductSummary(UUID.randomUUID(), sku, sku, new BigDecimal("10.00"), null, null,
+                ProductStatus.ACTIVE, 5, false, UUID.randomUUID(), "Phones", "phones", null,
+                createdAt, createdAt, 0L);
+    }
+}
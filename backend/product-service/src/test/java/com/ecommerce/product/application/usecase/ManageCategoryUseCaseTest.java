@@ -0,0 +1,122 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.common.exception.ValidationException;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.dto.request.CreateCategoryRequest;
+import com.ecommerce.product.application.dto.response.CategoryResponse;
+import com.ecommerce.product.application.mapper.CategoryMapper;
+import com.ecommerce.product.application.usecase.impl.ManageCategoryUseCaseImpl;
+import com.ecommerce.product.domain.event.CategoryChangedEvent;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ManageCategoryUseCase Tests")
+class ManageCategoryUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private CategoryMapper categoryMapper = Mappers.getMapper(CategoryMapper.class);
+
+    @InjectMocks
+    private ManageCategoryUseCaseImpl manageCategoryUseCase;
+
+    @Test
+    @DisplayName("should create a subcategory and publish the change")
+    void shouldCreateSubcategory() {
+        // Given
+        Category parent = Category.createRoot("Electronics", "electronics", null);
+        when(categoryRepository.findById(parent.getId())).thenReturn(Optional.of(parent));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        CreateCategoryRequest request = CreateCategoryRequest.builder()
+                .name("Phones")
+                .slug("phones")
+                .parentId(parent.getId())
+                .build();
+
+        // When
+        CategoryResponse response = manageCategoryUseCase.create(request);
+
+        // Then
+        assertThat(response.getFullPath()).isEqualTo("electronics/phones");
+        verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("should touch the products below an updated category so the search index picks them up")
+    void shouldTouchSubtreeProductsOnUpdate() {
+        // Given
+        Category phones = Category.createRoot("Phones", "phones", null);
+        when(categoryRepository.findById(phones.getId())).thenReturn(Optional.of(phones));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        CreateCategoryRequest request = CreateCategoryRequest.builder()
+                .name("Mobile phones")
+                .slug("phones")
+                .build();
+
+        // When
+        manageCategoryUseCase.update(phones.getId(), request);
+
+        // Then
+        verify(categoryRepository).touchSubtreeProducts(phones.getId());
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(phones.getId()));
+    }
+
+    @Test
+    @DisplayName("should touch the products below a category before deleting it")
+    void shouldTouchSubtreeProductsBeforeDelete() {
+        // Given
+        Category phones = Category.createRoot("Phones", "phones", null);
+        when(categoryRepository.findById(phones.getId())).thenReturn(Optional.of(phones));
+
+        // When
+        manageCategoryUseCase.delete(phones.getId());
+
+        // Then
+        InOrder inOrder = inOrder(categoryRepository);
+        inOrder.verify(categoryRepository).touchSubtreeProducts(phones.getId());
+        inOrder.verify(categoryRepository).deleteById(phones.getId());
+    }
+
+    @Test
+    @DisplayName("should reject moving a category below its own subcategory")
+    void shouldRejectMoveBelowOwnSubcategory() {
+        // Given
+        Category electronics = Category.createRoot("Electronics", "electronics", null);
+        Category phones = electronics.createSubcategory("Phones", "phones", null);
+        when(categoryRepository.findById(electronics.getId())).thenReturn(Optional.of(electronics));
+        when(categoryRepository.findSubtreeIds(electronics.getId()))
+                .thenReturn(List.of(electronics.getId(), phones.getId()));
+        CreateCategoryRequest request = CreateCategoryRequest.builder()
+                .name("Electronics")
+                .slug("electronics")
+                .parentId(phones.getId())
+                .build();
+
+        // When / Then
+        assertThatThrownBy(() -> manageCategoryUseCase.update(electronics.getId(), request))
+                .isInstanceOf(ValidationException.class);
+        verify(categoryRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
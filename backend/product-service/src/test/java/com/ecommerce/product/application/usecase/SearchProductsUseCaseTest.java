@@ -0,0 +1,92 @@
+package com.ecommerce.product.application.usecase;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.dto.response.ProductSearchResponse;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchIndex;
+import com.ecommerce.product.application.search.ProductSearchQuery;
+import com.ecommerce.product.application.usecase.impl.SearchProductsUseCaseImpl;
+import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SearchProductsUseCase Tests")
+class SearchProductsUseCaseTest extends BaseUnitTest {
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Spy
+    private ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+    @InjectMocks
+    private SearchProductsUseCaseImpl searchProductsUseCase;
+
+    @Test
+    @DisplayName("should return the ranked page with facet counts")
+    void shouldReturnRankedPageWithFacets() {
+        // Given
+        Product best = Product.create("SKU-1", "Galaxy", null, new BigDecimal("499.00"), null, UUID.randomUUID());
+        Product next = Product.create("SKU-2", "Galaxy Case", null, new BigDecimal("19.00"), null, UUID.randomUUID());
+        Map<String, Long> brands = new LinkedHashMap<>();
+        brands.put("Acme", 2L);
+        when(productSearchIndex.search(any())).thenReturn(new ProductSearchHits(
+                List.of(best.getId(), next.getId()), 12, Map.of(ProductSearchHits.BRAND_FACET, brands)));
+        when(productRepository.findAllById(List.of(best.getId(), next.getId()))).thenReturn(List.of(best, next));
+
+        // When
+        ProductSearchResponse response = searchProductsUseCase.search(" galaxy ", "", "Acme", PageRequest.of(1, 2));
+
+        // Then
+        ArgumentCaptor<ProductSearchQuery> captor = ArgumentCaptor.forClass(ProductSearchQuery.class);
+        verify(productSearchIndex).search(captor.capture());
+        assertThat(captor.getValue().getText()).isEqualTo("galaxy");
+        assertThat(captor.getValue().getCategory()).isNull();
+        assertThat(captor.getValue().getOffset()).isEqualTo(2);
+
+        assertThat(response.getProducts()).extracting("sku").containsExactly("SKU-1", "SKU-2");
+        assertThat(response.getTotalHits()).isEqualTo(12);
+        assertThat(response.getFacets().get(ProductSearchHits.BRAND_FACET))
+                .containsExactly(new ProductSearchResponse.FacetCount("Acme", 2L));
+        verify(productSearchIndex, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("should remove hits of deleted products from the index")
+    void shouldRemoveDeletedProductsFromIndex() {
+        // Given
+        Product kept = Product.create("SKU-1", "Galaxy", null, new BigDecimal("499.00"), null, UUID.randomUUID());
+        UUID deleted = UUID.randomUUID();
+        when(productSearchIndex.search(any())).thenReturn(new ProductSearchHits(
+                List.of(deleted, kept.getId()), 2, Map.of()));
+        when(productRepository.findAllById(List.of(deleted, kept.getId()))).thenReturn(List.of(kept));
+
+        // When
+        ProductSearchResponse response = searchProductsUseCase.search("galaxy", null, null, PageRequest.of(0, 2));
+
+        // Then
+        assertThat(response.getProducts()).extracting("sku").containsExactly("SKU-1");
+        verify(productSearchIndex).delete(List.of(deleted));
+    }
+}
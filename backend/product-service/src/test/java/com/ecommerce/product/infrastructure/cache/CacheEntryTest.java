@@ -0,0 +1,69 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheEntry Tests")
+class CacheEntryTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    @DisplayName("Should report the time left until expiry, never negative")
+    void remainingMillis_ShouldNotGoBelowZero() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 10, NOW + 500);
+
+        // When / Then
+        assertThat(entry.remainingMillis(NOW)).isEqualTo(500);
+        assertThat(entry.remainingMillis(NOW + 500)).isZero();
+        assertThat(entry.remainingMillis(NOW + 900)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should always refresh an entry that has expired")
+    void shouldRefresh_WhenExpired_ShouldRefresh() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 0, NOW);
+
+        // When / Then
+        assertThat(entry.shouldRefresh(NOW, 1.0, 0.999)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should refresh within the head start given by load time, beta and the random draw")
+    void shouldRefresh_ShouldUseLoadTimeAsHeadStart() {
+        // Given: -ln(e^-1) = 1, so the head start is loadMillis * beta = 200ms
+        CacheEntry<String> entry = new CacheEntry<>("value", 100, NOW + 1_000);
+        double random = Math.exp(-1);
+
+        // When / Then
+        assertThat(entry.shouldRefresh(NOW + 799, 2.0, random)).isFalse();
+        assertThat(entry.shouldRefresh(NOW + 801, 2.0, random)).isTrue();
+        assertThat(entry.shouldRefresh(NOW + 801, 1.0, random)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refresh earlier for smaller random draws")
+    void shouldRefresh_ShouldRefreshEarlierForSmallerDraws() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 100, NOW + 1_000);
+
+        // When / Then
+        assertThat(entry.shouldRefresh(NOW, 1.0, 0.9)).isFalse();
+        assertThat(entry.shouldRefresh(NOW, 1.0, 0.00001)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not refresh early when beta is zero")
+    void shouldRefresh_WhenBetaZero_ShouldOnlyRefreshOnExpiry() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 100, NOW + 1_000);
+
+        // When / Then
+        assertThat(entry.shouldRefresh(NOW + 999, 0.0, 0.0001)).isFalse();
+        assertThat(entry.shouldRefresh(NOW + 1_000, 0.0, 0.0001)).isTrue();
+    }
+}
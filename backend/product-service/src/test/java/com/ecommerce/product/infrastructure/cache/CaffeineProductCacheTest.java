@@ -0,0 +1,307 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.common.constant.AppConstants;
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CaffeineProductCache Tests")
+class CaffeineProductCacheTest extends BaseUnitTest {
+
+    private static final String SKU = "SKU-1";
+
+    @Mock
+    private ObjectProvider<RedisProductStore> redisStoreProvider;
+
+    @Mock
+    private RedisProductStore redisStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ProductCacheProperties properties = new ProductCacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CaffeineProductCache cache;
+    private UUID productId;
+    private String idKey;
+
+    @BeforeEach
+    void setUp() {
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setEarlyRefreshBeta(0);
+        productId = UUID.randomUUID();
+        idKey = AppConstants.CACHE_PRODUCT_PREFIX + "id:" + productId;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load a missing entry once while concurrent readers wait for it")
+    void getById_WhenConcurrentMisses_ShouldLoadOnce() throws Exception {
+        // Given
+        cache = newCache(null);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ProductResponse> loader = () -> {
+            loads.incrementAndGet();
+            sleep(100);
+            return product("Phone");
+        };
+        int readers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ProductResponse>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < readers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return cache.getById(productId, loader);
+                }));
+            }
+            start.countDown();
+
+            // Then
+            ProductResponse first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<ProductResponse> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve a cached entry without loading it again")
+    void getById_WhenCached_ShouldNotLoad() {
+        // Given
+        cache = newCache(null);
+        ProductResponse cached = cache.getById(productId, () -> product("Phone"));
+
+        // When
+        ProductResponse result = cache.getById(productId, () -> {
+            throw new AssertionError("loader must not run");
+        });
+
+        // Then
+        assertThat(result).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("Should load again after the product was evicted")
+    void evict_ShouldDropIdSkuAndFeaturedEntries() {
+        // Given
+        cache = newCache(null);
+        cache.getById(productId, () -> product("Old"));
+        cache.getBySku(SKU, () -> product("Old"));
+        cache.getFeatured(() -> List.of(product("Old")));
+
+        // When
+        cache.evict(productId, SKU);
+
+        // Then
+        assertThat(cache.getById(productId, () -> product("New")).getName()).isEqualTo("New");
+        assertThat(cache.getBySku(SKU, () -> product("New")).getName()).isEqualTo("New");
+        assertThat(cache.getFeatured(() -> List.of(product("New")))).extracting(ProductResponse::getName)
+                .containsExactly("New");
+    }
+
+    @Test
+    @DisplayName("Should refresh an entry ahead of expiry and serve the refreshed value")
+    void getById_WhenShouldRefresh_ShouldReplaceEntryInBackground() {
+        // Given: a slow load and a huge beta make every hit refresh its entry
+        properties.setEarlyRefreshBeta(1e12);
+        cache = newCache(null);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ProductResponse> loader = () -> {
+            sleep(5);
+            return product("v" + loads.incrementAndGet());
+        };
+
+        // When
+        ProductResponse first = cache.getById(productId, loader);
+
+        // Then
+        assertThat(first.getName()).isEqualTo("v1");
+        await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() >= 2 && refreshing().isEmpty());
+        assertThat(cache.getById(productId, loader).getName()).isNotEqualTo("v1");
+        assertThat(meterRegistry.counter("product.cache.early.refreshes").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a refresh that finishes after the entry was evicted")
+    void getById_WhenEvictedDuringRefresh_ShouldNotRestoreRefreshedValue() throws Exception {
+        // Given
+        properties.setEarlyRefreshBeta(1e12);
+        cache = newCache(null);
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<ProductResponse> loader = () -> {
+            if (loads.incrementAndGet() == 1) {
+                sleep(5);
+                return product("Old");
+            }
+            refreshStarted.countDown();
+            awaitLatch(releaseRefresh);
+            return product("Refreshed");
+        };
+        cache.getById(productId, loader);
+        assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        cache.evict(productId, SKU);
+        releaseRefresh.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> refreshing().isEmpty());
+
+        // Then
+        assertThat(cache.getById(productId, () -> product("Reloaded")).getName()).isEqualTo("Reloaded");
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh Redis entry without loading it")
+    void getById_WhenFreshInRedis_ShouldNotLoad() {
+        // Given
+        cache = newCache(redisStore);
+        CacheEntry<ProductResponse> shared = new CacheEntry<>(product("Shared"), 1,
+                System.currentTimeMillis() + 60_000);
+        when(redisStore.<ProductResponse>get(eq(idKey), any(JavaType.class))).thenReturn(shared);
+
+        // When
+        ProductResponse result = cache.getById(productId, () -> {
+            throw new AssertionError("loader must not run");
+        });
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Shared");
+        verify(redisStore, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should load and write back to Redis when the Redis entry expired")
+    void getById_WhenExpiredInRedis_ShouldLoadAndStore() {
+        // Given
+        cache = newCache(redisStore);
+        CacheEntry<ProductResponse> expired = new CacheEntry<>(product("Stale"), 1,
+                System.currentTimeMillis() - 1);
+        when(redisStore.<ProductResponse>get(eq(idKey), any(JavaType.class))).thenReturn(expired);
+
+        // When
+        ProductResponse result = cache.getById(productId, () -> product("Fresh"));
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Fresh");
+        ArgumentCaptor<CacheEntry<?>> captor = ArgumentCaptor.forClass(CacheEntry.class);
+        verify(redisStore).put(eq(idKey), captor.capture());
+        assertThat(captor.getValue().getValue()).isSameAs(result);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the loader when Redis has no entry")
+    void getById_WhenMissingInRedis_ShouldLoadAndStore() {
+        // Given
+        cache = newCache(redisStore);
+        when(redisStore.<ProductResponse>get(eq(idKey), any(JavaType.class))).thenReturn(null);
+
+        // When
+        ProductResponse result = cache.getById(productId, () -> product("Loaded"));
+
+        // Then
+        assertThat(result.getName()).isEqualTo("Loaded");
+        verify(redisStore).put(eq(idKey), any());
+    }
+
+    @Test
+    @DisplayName("Should evict from Redis and drop local entries on an invalidation broadcast")
+    void evict_WithRedis_ShouldBroadcastAndApplyInvalidations() {
+        // Given
+        cache = newCache(redisStore);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisStore).onInvalidation(listener.capture());
+        cache.getById(productId, () -> product("Old"));
+
+        // When
+        cache.evict(productId, SKU);
+        cache.getById(productId, () -> product("Other instance"));
+        listener.getValue().accept(idKey);
+
+        // Then
+        verify(redisStore).evict(List.of(idKey, AppConstants.CACHE_PRODUCT_PREFIX + "sku:" + SKU,
+                AppConstants.CACHE_PRODUCT_PREFIX + "featured"));
+        assertThat(cache.getById(productId, () -> product("New")).getName()).isEqualTo("New");
+    }
+
+    private CaffeineProductCache newCache(RedisProductStore store) {
+        when(redisStoreProvider.getIfAvailable()).thenReturn(store);
+        CaffeineProductCache productCache = new CaffeineProductCache(properties, redisStoreProvider,
+                transactionManager, new ObjectMapper(), meterRegistry);
+        productCache.init();
+        return productCache;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> refreshing() {
+        return (Set<String>) ReflectionTestUtils.getField(cache, "refreshing");
+    }
+
+    private static ProductResponse product(String name) {
+        return ProductResponse.builder().name(name).sku(SKU).build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.application.cache.CategoryTree;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.ecommerce.product.domain.event.CategoryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InMemoryCategoryTreeCache Tests")
+class InMemoryCategoryTreeCacheTest extends BaseUnitTest {
+
+    @Mock
+    private ObjectProvider<RedisProductStore> redisStoreProvider;
+
+    @Mock
+    private RedisProductStore redisStore;
+
+    private final ProductCacheProperties properties = new ProductCacheProperties();
+    private final AtomicInteger builds = new AtomicInteger();
+    private final Supplier<CategoryTree> loader = () ->
+            new CategoryTree(List.of(), Map.of(), "etag-" + builds.incrementAndGet());
+
+    private InMemoryCategoryTreeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryCategoryTreeCache(properties, redisStoreProvider);
+    }
+
+    @Test
+    @DisplayName("Should serve the same snapshot until a category changes")
+    void get_ShouldRebuildOnlyAfterChange() {
+        // Given
+        cache.init();
+        CategoryTree first = cache.get(loader);
+
+        // When
+        CategoryTree second = cache.get(loader);
+        cache.onCategoryChanged(new CategoryChangedEvent(UUID.randomUUID()));
+        CategoryTree third = cache.get(loader);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third.getEtag()).isEqualTo("etag-2");
+    }
+
+    @Test
+    @DisplayName("Should broadcast a local category change to the other instances")
+    void onCategoryChanged_ShouldBroadcast() {
+        // Given
+        when(redisStoreProvider.getIfAvailable()).thenReturn(redisStore);
+        cache.init();
+
+        // When
+        cache.onCategoryChanged(new CategoryChangedEvent(UUID.randomUUID()));
+
+        // Then
+        verify(redisStore).evict(List.of(InMemoryCategoryTreeCache.CATEGORY_TREE_KEY));
+    }
+
+    @Test
+    @DisplayName("Should rebuild when another instance broadcasts a category change, and only then")
+    @SuppressWarnings("unchecked")
+    void onBroadcast_ShouldMarkSnapshotStale() {
+        // Given
+        when(redisStoreProvider.getIfAvailable()).thenReturn(redisStore);
+        cache.init();
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisStore).onInvalidation(listener.capture());
+        CategoryTree first = cache.get(loader);
+
+        // When: a product eviction, then a category tree broadcast
+        listener.getValue().accept("product:id:1");
+        CategoryTree afterProductEviction = cache.get(loader);
+        listener.getValue().accept(InMemoryCategoryTreeCache.CATEGORY_TREE_KEY);
+        CategoryTree afterBroadcast = cache.get(loader);
+
+        // Then
+        assertThat(afterProductEviction).isSameAs(first);
+        assertThat(afterBroadcast.getEtag()).isEqualTo("etag-2");
+    }
+}
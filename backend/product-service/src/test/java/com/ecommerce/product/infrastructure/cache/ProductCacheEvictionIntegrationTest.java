@@ -0,0 +1,145 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.infrastructure.persistence.JpaCategoryRepository;
+import com.ecommerce.product.infrastructure.persistence.JpaProductSummaryRepository;
+import com.ecommerce.product.infrastructure.persistence.ProductJpaTest;
+import com.ecommerce.product.infrastructure.persistence.ProductRepositoryAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Changes a product through the repository in a committing transaction and checks that the
+ * events it registered reach the cache and evict its entries.
+ */
+@ProductJpaTest
+@EnableConfigurationProperties(ProductCacheProperties.class)
+@Import({ProductRepositoryAdapter.class, JpaProductSummaryRepository.class, CaffeineProductCache.class,
+        ProductCacheEvictionIntegrationTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Product cache eviction integration Tests")
+class ProductCacheEvictionIntegrationTest {
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private JpaCategoryRepository categoryRepository;
+
+    @Autowired
+    private CaffeineProductCache productCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        Category category = categoryRepository.save(Category.createRoot("Phones", "phones", null));
+        product = transaction.execute(status -> productRepository.save(
+                Product.create("SKU-1", "Phone", "A phone", new BigDecimal("99.00"), category, UUID.randomUUID())));
+        productCache.getById(product.getId(), () -> response("Cached"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCache.evict(product.getId(), product.getSku());
+        jdbcTemplate.update("DELETE FROM product_images");
+        jdbcTemplate.update("DELETE FROM product_tags");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+    }
+
+    @Test
+    @DisplayName("Should evict the product once a details update commits")
+    void save_WhenDetailsUpdated_ShouldEvictProduct() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            Product loaded = productRepository.findById(product.getId()).orElseThrow();
+            loaded.updateDetails("Phone 2", "A newer phone", new BigDecimal("199.00"));
+            productRepository.save(loaded);
+        });
+
+        // Then
+        assertThat(productCache.getById(product.getId(), () -> response("Reloaded")).getName())
+                .isEqualTo("Reloaded");
+    }
+
+    @Test
+    @DisplayName("Should evict the product once a stock change commits")
+    void save_WhenStockChanged_ShouldEvictProduct() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            Product loaded = productRepository.findById(product.getId()).orElseThrow();
+            loaded.updateStock(0);
+            productRepository.save(loaded);
+        });
+
+        // Then
+        assertThat(productCache.getById(product.getId(), () -> response("Reloaded")).getName())
+                .isEqualTo("Reloaded");
+    }
+
+    @Test
+    @DisplayName("Should keep the cached product when the update rolls back")
+    void save_WhenRolledBack_ShouldKeepCachedProduct() {
+        // When
+        transaction.executeWithoutResult(status -> {
+            Product loaded = productRepository.findById(product.getId()).orElseThrow();
+            loaded.updateDetails("Phone 2", "A newer phone", new BigDecimal("199.00"));
+            productRepository.save(loaded);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(productCache.getById(product.getId(), () -> response("Reloaded")).getName())
+                .isEqualTo("Cached");
+    }
+
+    private static ProductResponse response(String name) {
+        return ProductResponse.builder().name(name).build();
+    }
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.ecommerce.product.infrastructure.cache;
+
+import com.ecommerce.common.test.base.BaseUnitTest;
+import com.ecommerce.product.config.ProductCacheProperties;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisProductStore Tests")
+class RedisProductStoreTest extends BaseUnitTest {
+
+    private static final String KEY = "product:id:1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductCacheProperties properties = new ProductCacheProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisProductStore store;
+    private JavaType stringType;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisProductStore(redisTemplate, connectionFactory, objectMapper, properties, meterRegistry);
+        store.init();
+        stringType = objectMapper.constructType(String.class);
+    }
+
+    @Test
+    @DisplayName("Should read a stored entry and count a hit")
+    void get_WhenPresent_ShouldReturnEntry() throws Exception {
+        // Given
+        CacheEntry<String> stored = new CacheEntry<>("value", 12, 1_000L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(stored));
+
+        // When
+        CacheEntry<String> entry = store.get(KEY, stringType);
+
+        // Then
+        assertThat(entry).isEqualTo(stored);
+        assertThat(gets("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat a Redis failure as a miss")
+    void get_WhenRedisFails_ShouldReturnNull() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        CacheEntry<String> entry = store.get(KEY, stringType);
+
+        // Then
+        assertThat(entry).isNull();
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should treat an unreadable entry as a miss")
+    void get_WhenEntryUnreadable_ShouldReturnNull() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn("{not json");
+
+        // When
+        CacheEntry<String> entry = store.get(KEY, stringType);
+
+        // Then
+        assertThat(entry).isNull();
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should store an entry until it expires")
+    void put_ShouldExpireWithEntry() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 12, System.currentTimeMillis() + 60_000);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        store.put(KEY, entry);
+
+        // Then
+        verify(valueOperations).set(eq(KEY), anyString(),
+                argThat((Duration ttl) -> ttl.toMillis() > 0 && ttl.toMillis() <= 60_000));
+    }
+
+    @Test
+    @DisplayName("Should not store an entry that already expired")
+    void put_WhenExpired_ShouldSkip() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 12, System.currentTimeMillis() - 1);
+
+        // When
+        store.put(KEY, entry);
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should ignore a Redis failure on write")
+    void put_WhenRedisFails_ShouldNotThrow() {
+        // Given
+        CacheEntry<String> entry = new CacheEntry<>("value", 12, System.currentTimeMillis() + 60_000);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        // When / Then
+        assertThatNoException().isThrownBy(() -> store.put(KEY, entry));
+    }
+
+    @Test
+    @DisplayName("Should delete evicted keys and broadcast them one per line")
+    void evict_ShouldDeleteAndBroadcast() {
+        // Given
+        List<String> keys = List.of("product:id:1", "product:sku:A", "product:featured");
+
+        // When
+        store.evict(keys);
+
+        // Then
+        verify(redisTemplate).delete(keys);
+        verify(redisTemplate).convertAndSend(properties.getRedis().getChannel(),
+                "product:id:1\nproduct:sku:A\nproduct:featured");
+    }
+
+    @Test
+    @DisplayName("Should ignore a Redis failure on eviction")
+    void evict_WhenRedisFails_ShouldNotThrow() {
+        // Given
+        when(redisTemplate.delete(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When / Then
+        assertThatNoException().isThrownBy(() -> store.evict(List.of(KEY)));
+    }
+
+    @Test
+    @DisplayName("Should pass every key of a broadcast to the invalidation listener")
+    void onMessage_ShouldInvalidateEveryKey() {
+        // Given
+        List<String> invalidated = new ArrayList<>();
+        store.onInvalidation(invalidated::add);
+        byte[] body = "product:id:1\nproduct:sku:A\n\nproduct:featured".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        store.onMessage(new DefaultMessage(properties.getRedis().getChannel().getBytes(StandardCharsets.UTF_8), body),
+                null);
+
+        // Then
+        assertThat(invalidated).containsExactly("product:id:1", "product:sku:A", "product:featured");
+    }
+
+    @Test
+    @DisplayName("Should pass every key of a broadcast to each registered listener")
+    void onMessage_ShouldNotifyEveryListener() {
+        // Given
+        List<String> products = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        store.onInvalidation(products::add);
+        store.onInvalidation(categories::add);
+        byte[] body = "product:id:1\nproduct:category-tree".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        store.onMessage(new DefaultMessage(properties.getRedis().getChannel().getBytes(StandardCharsets.UTF_8), body),
+                null);
+
+        // Then
+        assertThat(products).containsExactly("product:id:1", "product:category-tree");
+        assertThat(categories).containsExactly("product:id:1", "product:category-tree");
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("product.cache.redis.gets").tag("result", result).counter().count();
+    }
+}
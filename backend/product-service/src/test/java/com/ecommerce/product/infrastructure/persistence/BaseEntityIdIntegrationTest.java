@@ -0,0 +1,87 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.domain.BaseEntity;
+import com.ecommerce.product.domain.model.Category;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persists {@link BaseEntity} subclasses with and without a pre-assigned ID, the two ways
+ * aggregates and plain entities are created across the services.
+ */
+@ProductJpaTest
+@DisplayName("BaseEntity ID generation Tests")
+class BaseEntityIdIntegrationTest {
+
+    @Autowired
+    private JpaCategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should insert an entity under the ID its factory assigned")
+    void save_WhenIdAssigned_ShouldKeepIt() {
+        // Given
+        Category category = Category.createRoot("Phones", "phones", null);
+        UUID assignedId = category.getId();
+
+        // When
+        Category saved = categoryRepository.saveAndFlush(category);
+
+        // Then
+        assertThat(saved.getId()).isEqualTo(assignedId);
+        assertThat(saved.getVersion()).isZero();
+        assertThat(countCategories()).isEqualTo(1);
+        entityManager.clear();
+        assertThat(categoryRepository.findById(assignedId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should generate an ID for an entity created without one")
+    void save_WhenIdMissing_ShouldGenerateIt() {
+        // Given
+        Category category = Category.builder().name("Laptops").slug("laptops").build();
+
+        // When
+        Category saved = categoryRepository.saveAndFlush(category);
+
+        // Then
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getVersion()).isZero();
+        entityManager.clear();
+        assertThat(categoryRepository.findById(saved.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should update rather than insert again when an entity with an assigned ID is saved twice")
+    void save_WhenAlreadyPersisted_ShouldUpdate() {
+        // Given
+        Category saved = categoryRepository.saveAndFlush(Category.createRoot("Phones", "phones", null));
+        entityManager.clear();
+
+        // When
+        Category loaded = categoryRepository.findById(saved.getId()).orElseThrow();
+        loaded.setName("Mobile phones");
+        Category updated = categoryRepository.saveAndFlush(loaded);
+
+        // Then
+        assertThat(updated.getId()).isEqualTo(saved.getId());
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(countCategories()).isEqualTo(1);
+    }
+
+    private int countCategories() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM categories", Integer.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.CategoryLink;
+import com.ecommerce.product.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the category_closure rows that CategoryRepositoryAdapter.save maintains, and the
+ * queries that read them, against H2 in MySQL mode.
+ */
+@ProductJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:category-closure;MODE=MySQL;DB_CLOSE_DELAY=-1")
+@Import(CategoryRepositoryAdapter.class)
+@DisplayName("CategoryRepositoryAdapter Tests")
+class CategoryRepositoryAdapterTest {
+
+    private static final String CREATE_CATEGORY_CLOSURE = """
+            CREATE TABLE IF NOT EXISTS category_closure (
+                ancestor_id BINARY(16) NOT NULL,
+                descendant_id BINARY(16) NOT NULL,
+                depth INT NOT NULL,
+                PRIMARY KEY (ancestor_id, descendant_id),
+                CONSTRAINT fk_category_closure_ancestor FOREIGN KEY (ancestor_id)
+                    REFERENCES categories(id) ON DELETE CASCADE,
+                CONSTRAINT fk_category_closure_descendant FOREIGN KEY (descendant_id)
+                    REFERENCES categories(id) ON DELETE CASCADE
+            )
+            """;
+
+    @Autowired
+    private CategoryRepositoryAdapter categoryRepository;
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category electronics;
+    private Category phones;
+    private Category smartphones;
+    private Category featurePhones;
+    private Category mobile;
+
+    /**
+     * electronics > phones > (smartphones, featurePhones), and mobile as a second root.
+     */
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(CREATE_CATEGORY_CLOSURE);
+        electronics = categoryRepository.save(Category.createRoot("Electronics", "electronics", null));
+        phones = categoryRepository.save(electronics.createSubcategory("Phones", "phones", null));
+        smartphones = categoryRepository.save(phones.createSubcategory("Smartphones", "smartphones", null));
+        featurePhones = categoryRepository.save(phones.createSubcategory("Feature phones", "feature-phones", null));
+        mobile = categoryRepository.save(Category.createRoot("Mobile", "mobile", null));
+    }
+
+    @Test
+    @DisplayName("Should link new categories below all their ancestors")
+    void save_WhenNew_ShouldLinkBelowAncestors() {
+        // When / Then
+        assertThat(categoryRepository.findAllLinks()).containsExactlyInAnyOrder(
+                link(electronics, electronics, 0),
+                link(electronics, phones, 1),
+                link(electronics, smartphones, 2),
+                link(electronics, featurePhones, 2),
+                link(phones, phones, 0),
+                link(phones, smartphones, 1),
+                link(phones, featurePhones, 1),
+                link(smartphones, smartphones, 0),
+                link(featurePhones, featurePhones, 0),
+                link(mobile, mobile, 0));
+    }
+
+    @Test
+    @DisplayName("Should move a subtree below its new parent")
+    void save_WhenParentChanged_ShouldMoveSubtree() {
+        // Given
+        phones.setParent(mobile);
+
+        // When
+        categoryRepository.save(phones);
+
+        // Then
+        assertThat(categoryRepository.findAllLinks()).containsExactlyInAnyOrder(
+                link(electronics, electronics, 0),
+                link(mobile, mobile, 0),
+                link(mobile, phones, 1),
+                link(mobile, smartphones, 2),
+                link(mobile, featurePhones, 2),
+                link(phones, phones, 0),
+                link(phones, smartphones, 1),
+                link(phones, featurePhones, 1),
+                link(smartphones, smartphones, 0),
+                link(featurePhones, featurePhones, 0));
+    }
+
+    @Test
+    @DisplayName("Should move a subtree one level deeper below a sibling's subtree")
+    void save_WhenMovedBelowDeeperParent_ShouldRecomputeDepths() {
+        // Given
+        featurePhones.setParent(smartphones);
+
+        // When
+        categoryRepository.save(featurePhones);
+
+        // Then
+        assertThat(categoryRepository.findAllLinks()).containsExactlyInAnyOrder(
+                link(electronics, electronics, 0),
+                link(electronics, phones, 1),
+                link(electronics, smartphones, 2),
+                link(electronics, featurePhones, 3),
+                link(phones, phones, 0),
+                link(phones, smartphones, 1),
+                link(phones, featurePhones, 2),
+                link(smartphones, smartphones, 0),
+                link(smartphones, featurePhones, 1),
+                link(featurePhones, featurePhones, 0),
+                link(mobile, mobile, 0));
+    }
+
+    @Test
+    @DisplayName("Should unlink a subtree from its former ancestors when it becomes a root")
+    void save_WhenMovedToRoot_ShouldUnlinkFromAncestors() {
+        // Given
+        phones.setParent(null);
+
+        // When
+        categoryRepository.save(phones);
+
+        // Then
+        assertThat(categoryRepository.findAllLinks()).containsExactlyInAnyOrder(
+                link(electronics, electronics, 0),
+                link(phones, phones, 0),
+                link(phones, smartphones, 1),
+                link(phones, featurePhones, 1),
+                link(smartphones, smartphones, 0),
+                link(featurePhones, featurePhones, 0),
+                link(mobile, mobile, 0));
+        assertThat(categoryRepository.findSubtreeIds(phones.getId()))
+                .containsExactlyInAnyOrder(phones.getId(), smartphones.getId(), featurePhones.getId());
+    }
+
+    @Test
+    @DisplayName("Should leave the closure alone when the parent did not change")
+    void save_WhenParentUnchanged_ShouldKeepLinks() {
+        // Given
+        phones.setName("Mobile phones");
+
+        // When
+        categoryRepository.save(phones);
+
+        // Then
+        assertThat(categoryRepository.findAllLinks()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Should touch the products of a category's subtree and no others")
+    void touchSubtreeProducts_ShouldMarkSubtreeProductsUpdated() {
+        // Given: one product below phones, one in another root, both last updated long ago
+        Product smartphone = productRepository.saveAndFlush(
+                Product.create("SKU-1", "Galaxy", null, new BigDecimal("499.00"), smartphones, UUID.randomUUID()));
+        Product other = productRepository.saveAndFlush(
+                Product.create("SKU-2", "Charger", null, new BigDecimal("19.00"), mobile, UUID.randomUUID()));
+        Timestamp longAgo = Timestamp.from(Instant.parse("2020-01-01T00:00:00Z"));
+        jdbcTemplate.update("UPDATE products SET updated_at = ?", longAgo);
+
+        // When
+        int touched = categoryRepository.touchSubtreeProducts(phones.getId());
+
+        // Then
+        assertThat(touched).isEqualTo(1);
+        assertThat(updatedAt(smartphone)).isAfter(longAgo);
+        assertThat(updatedAt(other)).isEqualTo(longAgo);
+    }
+
+    private Timestamp updatedAt(Product product) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM products WHERE id = ?", Timestamp.class,
+                UuidUtils.toBytes(product.getId()));
+    }
+
+    private static CategoryLink link(Category ancestor, Category descendant, int depth) {
+        return new CategoryLink(ancestor.getId(), descendant.getId(), depth);
+    }
+}
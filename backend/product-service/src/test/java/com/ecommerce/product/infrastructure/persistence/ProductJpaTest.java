@@ -0,0 +1,38 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.product.domain.model.Product;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.lang.annotation.*;
+
+/**
+ * Meta-annotation for JPA slice tests of the product service.
+ * Scans the product entities and repositories with auditing enabled, and activates the "test"
+ * profile. Adapters and other beans under test are added with {@code @Import} on the test class.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@ActiveProfiles("test")
+@ContextConfiguration(classes = ProductJpaTest.Config.class)
+public @interface ProductJpaTest {
+
+    /**
+     * Properties added to the environment of the test.
+     */
+    @AliasFor(annotation = DataJpaTest.class)
+    String[] properties() default {};
+
+    @EntityScan(basePackageClasses = Product.class)
+    @EnableJpaRepositories(basePackageClasses = JpaProductRepository.class)
+    @EnableJpaAuditing
+    class Config {
+    }
+}
@@ -0,0 +1,161 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.pagination.KeysetCursor;
+import com.ecommerce.common.test.jpa.QueryCounter;
+import com.ecommerce.product.application.dto.response.ProductResponse;
+import com.ecommerce.product.application.dto.response.ProductSummaryResponse;
+import com.ecommerce.product.application.mapper.ProductMapper;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.Product;
+import com.ecommerce.product.domain.model.ProductStatus;
+import com.ecommerce.product.domain.model.ProductSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of statements a listing costs, so a lazy association read per product shows up
+ * as a failure instead of as N extra queries in production.
+ */
+@ProductJpaTest
+@Import({ProductRepositoryAdapter.class, JpaProductSummaryRepository.class})
+@DisplayName("Product listing query count Tests")
+class ProductListingQueryCountTest {
+
+    private static final int PRODUCTS = 25;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+
+    private QueryCounter queries;
+    private Category category;
+    private List<UUID> productIds;
+
+    @BeforeEach
+    void setUp() {
+        category = entityManager.persist(Category.createRoot("Phones", "phones", null));
+        productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.create("SKU-" + i, "Phone " + i, "A phone", new BigDecimal("99.00"),
+                    category, UUID.randomUUID());
+            product.addImage("https://cdn.example.com/" + i + "/front.jpg");
+            product.addImage("https://cdn.example.com/" + i + "/back.jpg");
+            product.addTag("phone");
+            product.addTag("tag-" + i);
+            productIds.add(entityManager.persist(product).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        queries = QueryCounter.of(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("should map products looked up by ID in a fixed number of statements")
+    void shouldMapProductsByIdInFixedStatements() {
+        // When
+        long statements = queries.count(() -> {
+            List<ProductResponse> products = productRepository.findAllById(productIds).stream()
+                    .map(productMapper::toResponse)
+                    .toList();
+            assertThat(products).hasSize(PRODUCTS);
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should map a product looked up by ID in a fixed number of statements")
+    void shouldMapProductByIdInFixedStatements() {
+        // When
+        long statements = queries.count(() -> {
+            ProductResponse product = productMapper.toResponse(
+                    productRepository.findById(productIds.get(0)).orElseThrow());
+            assertThat(product.getCategory().getName()).isEqualTo("Phones");
+            assertThat(product.getImageUrls()).hasSize(2);
+            assertThat(product.getTags()).hasSize(2);
+        });
+
+        // Then: the product with its category, then its images and its tags
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should map product summaries looked up by ID in one select")
+    void shouldMapSummariesByIdInOneSelect() {
+        // When
+        long statements = queries.count(() -> {
+            List<ProductSummaryResponse> products = productMapper.toSummaryResponseList(
+                    productRepository.findSummariesById(productIds.subList(0, 20)));
+            assertThat(products).extracting(ProductSummaryResponse::getId)
+                    .containsExactlyElementsOf(productIds.subList(0, 20));
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should list product summaries with a select and a count only")
+    void shouldListSummariesInOneSelect() {
+        // When
+        long statements = queries.count(() -> {
+            List<ProductSummaryResponse> page = productRepository
+                    .findSummaries(Set.of(category.getId()), ProductStatus.DRAFT, PageRequest.of(0, 20))
+                    .map(productMapper::toSummaryResponse)
+                    .getContent();
+            assertThat(page).hasSize(20)
+                    .allSatisfy(product -> {
+                        assertThat(product.getCategory().getName()).isEqualTo("Phones");
+                        assertThat(product.getImageUrl()).endsWith("/back.jpg");
+                    });
+        });
+
+        // Then
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should resume a summary slice after the cursor in one select")
+    void shouldResumeSummarySliceInOneSelect() {
+        // Given
+        Slice<ProductSummary> first = productRepository.findSummaries(null, null, null, 20);
+        ProductSummary last = first.getContent().get(first.getNumberOfElements() - 1);
+
+        // When
+        queries.reset();
+        Slice<ProductSummary> rest = productRepository
+                .findSummaries(null, null, new KeysetCursor(last.getCreatedAt(), last.getId()), 20);
+
+        // Then
+        assertThat(queries.count()).isEqualTo(1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(rest.hasNext()).isFalse();
+        assertThat(rest.getContent()).hasSize(PRODUCTS - 20)
+                .extracting(ProductSummary::getId)
+                .doesNotContainAnyElementsOf(first.getContent().stream().map(ProductSummary::getId).toList());
+    }
+}
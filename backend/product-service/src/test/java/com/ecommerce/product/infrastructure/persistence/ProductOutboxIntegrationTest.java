@@ -0,0 +1,138 @@
+package com.ecommerce.product.infrastructure.persistence;
+
+import com.ecommerce.common.messaging.config.OutboxProperties;
+import com.ecommerce.common.messaging.outbox.JdbcOutboxStore;
+import com.ecommerce.common.messaging.outbox.OutboxEventWriter;
+import com.ecommerce.common.util.UuidUtils;
+import com.ecommerce.product.domain.model.Category;
+import com.ecommerce.product.domain.model.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saves aggregates through the repository in a committing transaction and checks that the
+ * events they registered end up in the outbox table.
+ */
+@ProductJpaTest(properties = {
+        "app.messaging.outbox.enabled=true",
+        "app.messaging.outbox.default-topic=product-events"
+})
+@EnableConfigurationProperties(OutboxProperties.class)
+@Import({ProductRepositoryAdapter.class, JpaProductSummaryRepository.class,
+        JdbcOutboxStore.class, OutboxEventWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Product outbox integration Tests")
+class ProductOutboxIntegrationTest {
+
+    private static final String CREATE_OUTBOX_EVENTS = """
+            CREATE TABLE IF NOT EXISTS outbox_events (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                shard SMALLINT NOT NULL,
+                event_id BINARY(16) NOT NULL,
+                event_type VARCHAR(100) NOT NULL,
+                aggregate_id BINARY(16),
+                aggregate_type VARCHAR(100),
+                correlation_id VARCHAR(100),
+                topic VARCHAR(255) NOT NULL,
+                payload CLOB NOT NULL,
+                created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6) NOT NULL
+            )
+            """;
+
+    @Autowired
+    private ProductRepositoryAdapter productRepository;
+
+    @Autowired
+    private JpaCategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute(CREATE_OUTBOX_EVENTS);
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("DELETE FROM product_images");
+        jdbcTemplate.update("DELETE FROM product_tags");
+        jdbcTemplate.update("DELETE FROM products");
+        jdbcTemplate.update("DELETE FROM categories");
+    }
+
+    @Test
+    @DisplayName("Should write the registered event to the outbox when the save commits")
+    void save_WhenCommitted_ShouldWriteOutboxRow() {
+        // Given
+        Category category = categoryRepository.save(Category.createRoot("Phones", "phones", null));
+
+        // When
+        Product product = transaction.execute(status -> productRepository.save(
+                Product.create("SKU-1", "Phone", "A phone", new BigDecimal("99.00"), category, UUID.randomUUID())));
+
+        // Then
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT event_type, aggregate_id, topic FROM outbox_events");
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).get("EVENT_TYPE")).isEqualTo("PRODUCT_CREATED");
+        assertThat(rows.get(0).get("TOPIC")).isEqualTo("product-events");
+        assertThat(UuidUtils.fromBytes((byte[]) rows.get(0).get("AGGREGATE_ID"))).isEqualTo(product.getId());
+    }
+
+    @Test
+    @DisplayName("Should clear the events after they were published")
+    void save_WhenCommitted_ShouldClearRegisteredEvents() {
+        // Given
+        Category category = categoryRepository.save(Category.createRoot("Phones", "phones", null));
+        Product product = Product.create("SKU-1", "Phone", "A phone", new BigDecimal("99.00"),
+                category, UUID.randomUUID());
+
+        // When
+        transaction.executeWithoutResult(status -> productRepository.save(product));
+
+        // Then
+        assertThat(product.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not write to the outbox when the save rolls back")
+    void save_WhenRolledBack_ShouldNotWriteOutboxRow() {
+        // Given
+        Category category = categoryRepository.save(Category.createRoot("Phones", "phones", null));
+
+        // When
+        transaction.executeWithoutResult(status -> {
+            productRepository.save(Product.create("SKU-1", "Phone", "A phone", new BigDecimal("99.00"),
+                    category, UUID.randomUUID()));
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.domain.model.Suggestion;
+import com.ecommerce.product.domain.model.SuggestionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FstProductSuggester Tests")
+class FstProductSuggesterTest {
+
+    private FstProductSuggester suggester;
+
+    @BeforeEach
+    void setUp() {
+        suggester = new FstProductSuggester();
+        suggester.rebuild(List.of(
+                new Suggestion("Samsung Galaxy S23", SuggestionType.PRODUCT, 1),
+                new Suggestion("Galaxy Tab", SuggestionType.PRODUCT, 10),
+                new Suggestion("Samsung", SuggestionType.BRAND, 40),
+                new Suggestion("Smart Home", SuggestionType.CATEGORY, 5)).iterator());
+    }
+
+    @Test
+    @DisplayName("should suggest completions by weight, ignoring case")
+    void shouldSuggestByWeight() {
+        assertThat(suggester.suggest("SAM", 10)).extracting(Suggestion::getText)
+                .containsExactly("Samsung", "Samsung Galaxy S23");
+        assertThat(suggester.suggest("s", 2)).extracting(Suggestion::getText)
+                .containsExactly("Samsung", "Smart Home");
+    }
+
+    @Test
+    @DisplayName("should match the start of any word once per suggestion")
+    void shouldMatchWordStarts() {
+        assertThat(suggester.suggest("gal", 10)).extracting(Suggestion::getText)
+                .containsExactly("Galaxy Tab", "Samsung Galaxy S23");
+        assertThat(suggester.suggest("galaxy s", 10)).extracting(Suggestion::getText)
+                .containsExactly("Samsung Galaxy S23");
+    }
+
+    @Test
+    @DisplayName("should merge duplicates and replace the suggestions on rebuild")
+    void shouldMergeAndReplaceOnRebuild() {
+        suggester.rebuild(List.of(
+                new Suggestion("Galaxy Tab", SuggestionType.PRODUCT, 1),
+                new Suggestion("galaxy  tab", SuggestionType.PRODUCT, 1),
+                new Suggestion("Galaxy Buds", SuggestionType.PRODUCT, 1)).iterator());
+
+        assertThat(suggester.suggest("galaxy", 10)).extracting(Suggestion::getText)
+                .containsExactly("Galaxy Tab", "Galaxy Buds");
+        assertThat(suggester.suggest("sam", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should suggest nothing for blank input")
+    void shouldIgnoreBlankInput() {
+        assertThat(suggester.suggest("  ", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,133 @@
+package com.ecommerce.product.infrastructure.search;
+
+import com.ecommerce.product.application.search.ProductSearchDocument;
+import com.ecommerce.product.application.search.ProductSearchHits;
+import com.ecommerce.product.application.search.ProductSearchQuery;
+import com.ecommerce.product.config.ProductSearchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LuceneProductSearchIndex Tests")
+class LuceneProductSearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    private LuceneProductSearchIndex index;
+
+    private final UUID phoneId = UUID.randomUUID();
+    private final UUID caseId = UUID.randomUUID();
+    private final UUID laptopId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ProductSearchProperties properties = new ProductSearchProperties();
+        properties.setIndexPath(indexPath);
+        index = new LuceneProductSearchIndex(properties);
+        index.open();
+
+        index.upsert(List.of(
+                document(phoneId, "Galaxy Smartphone", "Acme", Set.of("android"), List.of("Electronics", "Phones")),
+                document(caseId, "Leather Case", "Acme", Set.of("smartphone", "accessory"), List.of("Electronics", "Accessories")),
+                document(laptopId, "Ultrabook Laptop", "Globex", Set.of(), List.of("Electronics", "Computers"))));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("should rank a name match above a tag match")
+    void shouldRankNameMatchFirst() {
+        ProductSearchHits hits = index.search(query("smartphone"));
+
+        assertThat(hits.getProductIds()).containsExactly(phoneId, caseId);
+        assertThat(hits.getTotalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should match misspelled words and prefixes")
+    void shouldMatchTyposAndPrefixes() {
+        assertThat(index.search(query("smartphne")).getProductIds()).contains(phoneId);
+        assertThat(index.search(query("ultrab")).getProductIds()).containsExactly(laptopId);
+    }
+
+    @Test
+    @DisplayName("should count matches per brand and category, and narrow by them")
+    void shouldCountAndNarrowByFacets() {
+        ProductSearchHits all = index.search(query("electronics"));
+
+        assertThat(all.getFacets().get(ProductSearchHits.BRAND_FACET))
+                .containsEntry("Acme", 2L)
+                .containsEntry("Globex", 1L);
+        assertThat(all.getFacets().get(ProductSearchHits.CATEGORY_FACET)).containsKeys("Phones", "Accessories", "Computers");
+
+        ProductSearchHits acme = index.search(ProductSearchQuery.builder()
+                .text("electronics").brand("Acme").limit(10).build());
+        assertThat(acme.getProductIds()).containsExactlyInAnyOrder(phoneId, caseId);
+    }
+
+    @Test
+    @DisplayName("should drop products not indexed again during a rebuild")
+    void shouldDropStaleProductsOnRebuild() {
+        long generation = index.startRebuild();
+        index.upsert(List.of(document(phoneId, "Galaxy Smartphone", "Acme", Set.of(), List.of("Phones"))));
+        index.finishRebuild(generation);
+
+        assertThat(index.search(query("")).getProductIds()).containsExactly(phoneId);
+    }
+
+    @Test
+    @DisplayName("should stop finding deleted products right away")
+    void shouldDeleteProducts() {
+        index.delete(List.of(caseId, UUID.randomUUID()));
+
+        ProductSearchHits hits = index.search(query("smartphone"));
+        assertThat(hits.getProductIds()).containsExactly(phoneId);
+        assertThat(hits.getTotalHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should keep the watermark across reopening")
+    void shouldPersistWatermark() throws Exception {
+        Instant watermark = Instant.parse("2026-01-01T00:00:00Z");
+        index.commit(watermark);
+        index.close();
+
+        ProductSearchProperties properties = new ProductSearchProperties();
+        properties.setIndexPath(indexPath);
+        index = new LuceneProductSearchIndex(properties);
+        index.open();
+
+        assertThat(index.getWatermark()).isEqualTo(watermark);
+        assertThat(index.search(query("laptop")).getProductIds()).containsExactly(laptopId);
+    }
+
+    private static ProductSearchQuery query(String text) {
+        return ProductSearchQuery.builder().text(text).limit(10).build();
+    }
+
+    private static ProductSearchDocument document(UUID id, String name, String brand, Set<String> tags,
+                                                  List<String> categoryPath) {
+        return ProductSearchDocument.builder()
+                .id(id)
+                .name(name)
+                .description("Description of " + name)
+                .brand(brand)
+                .tags(tags)
+                .categoryPath(categoryPath)
+                .build();
+    }
+}